@@ -0,0 +1,97 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A node in the immutable syntax tree of a parsed FIQL query.
+ *
+ * The string representation of each node is its normalized FIQL form, which uses the canonical FIQL comparison
+ * operators, only adds parentheses where they are needed and only quotes arguments that contain reserved characters.
+ */
+public sealed interface FiqlExpression permits FiqlExpression.And, FiqlExpression.Or, FiqlExpression.Comparison {
+	/**
+	 * The expressions that must all be true, separated by ";" in FIQL.
+	 *
+	 * @param operands are the expressions, of which there are at least two.
+	 */
+	public record And(List<FiqlExpression> operands) implements FiqlExpression {
+		public static final char SEPARATOR = ';';
+
+		public And {
+			operands = List.copyOf(operands);
+		}
+
+		@Override
+		public String toString() {
+			return operands.stream()
+					.map(operand -> operand instanceof Or ? "(" + operand + ")" : operand.toString())
+					.collect(Collectors.joining(String.valueOf(SEPARATOR)));
+		}
+	}
+
+	/**
+	 * The expressions of which at least one must be true, separated by "," in FIQL.
+	 *
+	 * @param operands are the expressions, of which there are at least two.
+	 */
+	public record Or(List<FiqlExpression> operands) implements FiqlExpression {
+		public static final char SEPARATOR = ',';
+
+		public Or {
+			operands = List.copyOf(operands);
+		}
+
+		@Override
+		public String toString() {
+			return operands.stream()
+					.map(FiqlExpression::toString)
+					.collect(Collectors.joining(String.valueOf(SEPARATOR)));
+		}
+	}
+
+	/**
+	 * The comparison of a selector with one or more arguments.
+	 *
+	 * @param selector is the name of the field that is compared, which may be a nested field separated by dots.
+	 * @param operator is the canonical comparison operator, like "==" or "=gt=".
+	 * @param arguments are the unquoted values with which the field is compared. Only the "=in=" and "=out=" operators,
+	 * or custom operators, can have more than one argument.
+	 */
+	public record Comparison(String selector, String operator, List<String> arguments) implements FiqlExpression {
+		public static final String EQUAL = "==";
+		public static final String NOT_EQUAL = "!=";
+		public static final String LESS_THAN = "=lt=";
+		public static final String LESS_THAN_OR_EQUAL = "=le=";
+		public static final String GREATER_THAN = "=gt=";
+		public static final String GREATER_THAN_OR_EQUAL = "=ge=";
+		public static final String IN = "=in=";
+		public static final String NOT_IN = "=out=";
+
+		public Comparison {
+			arguments = List.copyOf(arguments);
+		}
+
+		/**
+		 * @return the first argument, which is the only argument for most operators.
+		 */
+		public String argument() {
+			return arguments.get(0);
+		}
+
+		@Override
+		public String toString() {
+			String formattedArguments = arguments.size() == 1
+					? quoteIfNeeded(arguments.get(0))
+					: arguments.stream().map(Comparison::quoteIfNeeded).collect(Collectors.joining(",", "(", ")"));
+			return selector + operator + formattedArguments;
+		}
+
+		private static String quoteIfNeeded(String argument) {
+			if (!argument.isEmpty() && argument.chars().noneMatch(FiqlParser::isReserved)) {
+				return argument;
+			}
+			return '"' + argument.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package simplyrestful.api.framework.queryparams;
+
+/**
+ * Thrown when a FIQL query could not be parsed.
+ */
+public class FiqlParseException extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+
+	private final String query;
+	private final int position;
+
+	public FiqlParseException(String message, String query, int position) {
+		super(message + " at position " + position + " of the FIQL query");
+		this.query = query;
+		this.position = position;
+	}
+
+	/**
+	 * @return the query that could not be parsed.
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the position in the query at which parsing failed.
+	 */
+	public int getPosition() {
+		return position;
+	}
+}
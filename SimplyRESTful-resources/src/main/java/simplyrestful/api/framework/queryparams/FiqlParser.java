@@ -0,0 +1,234 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a FIQL query into an immutable syntax tree.
+ *
+ * This supports the FIQL syntax as also supported by RSQL: comparisons like "name==value" or "count=gt=5", combined
+ * with ";" (and) and "," (or), where "and" takes precedence over "or" and parentheses can be used to group them. Like
+ * RSQL, the keywords "and" and "or", surrounded by whitespace, can be used instead of ";" and ",", and whitespace is
+ * allowed around each token, like in "name == value and count=in=(1, 2)". Arguments can be quoted with single or
+ * double quotes, in which a backslash escapes the next character. A comparison can have multiple arguments in
+ * parentheses, like "name=in=(first,second)". The operators "&lt;", "&lt;=", "&gt;" and "&gt;=" are normalized to
+ * their FIQL equivalents.
+ */
+public final class FiqlParser {
+	/**
+	 * The maximum depth of nested parentheses in a query.
+	 */
+	public static final int MAXIMUM_NESTING_DEPTH = 64;
+	private static final String RESERVED_CHARACTERS = "\"'();,=!~<> ";
+	private static final String KEYWORD_AND = "and";
+	private static final String KEYWORD_OR = "or";
+
+	private final String query;
+	private int position;
+	private int depth;
+
+	private FiqlParser(String query) {
+		this.query = query;
+	}
+
+	/**
+	 * Parse a FIQL query.
+	 *
+	 * @param query is the FIQL query. It may be null or blank, in which case the empty query is returned.
+	 * @return the parsed query.
+	 * @throws FiqlParseException if the query is not valid FIQL.
+	 */
+	public static FiqlQuery parse(String query) {
+		if (query == null || query.isBlank()) {
+			return FiqlQuery.EMPTY;
+		}
+		String stripped = query.strip();
+		FiqlParser parser = new FiqlParser(stripped);
+		FiqlExpression expression = parser.parseOr();
+		if (parser.position < stripped.length()) {
+			throw parser.error("Unexpected character '" + stripped.charAt(parser.position) + "'");
+		}
+		return new FiqlQuery(stripped, expression);
+	}
+
+	/**
+	 * Check whether a character may not be used in a selector or unquoted argument.
+	 *
+	 * @param character is the character.
+	 * @return true if the character is reserved in FIQL or is whitespace.
+	 */
+	static boolean isReserved(int character) {
+		return RESERVED_CHARACTERS.indexOf(character) >= 0 || Character.isWhitespace(character);
+	}
+
+	private FiqlExpression parseOr() {
+		List<FiqlExpression> operands = new ArrayList<>();
+		operands.add(parseAnd());
+		while (readSeparator(FiqlExpression.Or.SEPARATOR, KEYWORD_OR)) {
+			operands.add(parseAnd());
+		}
+		return operands.size() == 1 ? operands.get(0) : new FiqlExpression.Or(operands);
+	}
+
+	private FiqlExpression parseAnd() {
+		List<FiqlExpression> operands = new ArrayList<>();
+		operands.add(parseConstraint());
+		while (readSeparator(FiqlExpression.And.SEPARATOR, KEYWORD_AND)) {
+			operands.add(parseConstraint());
+		}
+		return operands.size() == 1 ? operands.get(0) : new FiqlExpression.And(operands);
+	}
+
+	private FiqlExpression parseConstraint() {
+		skipWhitespace();
+		if (peek() != '(') {
+			return parseComparison();
+		}
+		if (++depth > MAXIMUM_NESTING_DEPTH) {
+			throw error("Too many nested parentheses");
+		}
+		position++;
+		FiqlExpression group = parseOr();
+		skipWhitespace();
+		expect(')');
+		depth--;
+		return group;
+	}
+
+	private FiqlExpression.Comparison parseComparison() {
+		String selector = readUnreserved("a selector");
+		skipWhitespace();
+		String operator = readOperator();
+		skipWhitespace();
+		List<String> arguments = new ArrayList<>();
+		if (peek() == '(') {
+			position++;
+			skipWhitespace();
+			arguments.add(readArgument());
+			skipWhitespace();
+			while (peek() == ',') {
+				position++;
+				skipWhitespace();
+				arguments.add(readArgument());
+				skipWhitespace();
+			}
+			expect(')');
+		}
+		else {
+			arguments.add(readArgument());
+		}
+		return new FiqlExpression.Comparison(selector, operator, arguments);
+	}
+
+	private String readOperator() {
+		int start = position;
+		char first = peek();
+		if (first == '<' || first == '>') {
+			position++;
+			boolean orEqual = peek() == '=';
+			if (orEqual) {
+				position++;
+			}
+			if (first == '<') {
+				return orEqual ? FiqlExpression.Comparison.LESS_THAN_OR_EQUAL : FiqlExpression.Comparison.LESS_THAN;
+			}
+			return orEqual ? FiqlExpression.Comparison.GREATER_THAN_OR_EQUAL : FiqlExpression.Comparison.GREATER_THAN;
+		}
+		if (first == '!' || first == '=') {
+			position++;
+			if (first == '=') {
+				while (isAsciiLetter(peek())) {
+					position++;
+				}
+			}
+			if (peek() == '=') {
+				position++;
+				return query.substring(start, position);
+			}
+		}
+		position = start;
+		throw error("Expected a comparison operator");
+	}
+
+	private String readArgument() {
+		char quote = peek();
+		if (quote != '"' && quote != '\'') {
+			return readUnreserved("an argument");
+		}
+		int start = position;
+		position++;
+		StringBuilder argument = new StringBuilder();
+		while (position < query.length()) {
+			char character = query.charAt(position++);
+			if (character == quote) {
+				return argument.toString();
+			}
+			if (character == '\\' && position < query.length()) {
+				character = query.charAt(position++);
+			}
+			argument.append(character);
+		}
+		position = start;
+		throw error("Unterminated quoted argument");
+	}
+
+	private String readUnreserved(String description) {
+		int start = position;
+		while (position < query.length() && !isReserved(query.charAt(position))) {
+			position++;
+		}
+		if (position == start) {
+			throw error("Expected " + description);
+		}
+		return query.substring(start, position);
+	}
+
+	/**
+	 * Read the separator between two constraints, which is either the separator character or the keyword surrounded by
+	 * whitespace.
+	 *
+	 * @param separator is the separator character.
+	 * @param keyword is the keyword that can be used instead of the separator character.
+	 * @return true if the separator was read, false if the position is left unchanged because there is no separator.
+	 */
+	private boolean readSeparator(char separator, String keyword) {
+		int start = position;
+		skipWhitespace();
+		if (peek() == separator) {
+			position++;
+			return true;
+		}
+		int end = position + keyword.length();
+		if (position > start && query.startsWith(keyword, position) && end < query.length() && Character.isWhitespace(query.charAt(end))) {
+			position = end;
+			return true;
+		}
+		position = start;
+		return false;
+	}
+
+	private void skipWhitespace() {
+		while (position < query.length() && Character.isWhitespace(query.charAt(position))) {
+			position++;
+		}
+	}
+
+	private void expect(char expected) {
+		if (peek() != expected) {
+			throw error("Expected '" + expected + "'");
+		}
+		position++;
+	}
+
+	private char peek() {
+		return position < query.length() ? query.charAt(position) : '\0';
+	}
+
+	private static boolean isAsciiLetter(char character) {
+		return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+	}
+
+	private FiqlParseException error(String message) {
+		return new FiqlParseException(message, query, position);
+	}
+}
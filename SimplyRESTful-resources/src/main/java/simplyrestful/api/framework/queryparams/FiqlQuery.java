@@ -0,0 +1,75 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.util.Objects;
+
+/**
+ * A parsed FIQL query, containing both the query as it was provided and its syntax tree.
+ *
+ * An empty query does not filter the collection, so it does not have a syntax tree.
+ */
+public final class FiqlQuery {
+	/**
+	 * The empty query, which does not filter the collection.
+	 */
+	public static final FiqlQuery EMPTY = new FiqlQuery("", null);
+
+	private final String query;
+	private final FiqlExpression expression;
+
+	FiqlQuery(String query, FiqlExpression expression) {
+		this.query = query;
+		this.expression = expression;
+	}
+
+	/**
+	 * @return the query as it was provided, without leading and trailing whitespace.
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the root of the syntax tree of the query, or null if the query is empty.
+	 */
+	public FiqlExpression getExpression() {
+		return expression;
+	}
+
+	/**
+	 * @return true if the query is empty, so it does not filter the collection.
+	 */
+	public boolean isEmpty() {
+		return expression == null;
+	}
+
+	/**
+	 * @return the normalized FIQL form of the query, which is the same for equivalent ways of writing it.
+	 */
+	public String normalized() {
+		return expression == null ? "" : expression.toString();
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(expression);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof FiqlQuery)) {
+			return false;
+		}
+		return Objects.equals(expression, ((FiqlQuery) obj).expression);
+	}
+
+	/**
+	 * @return the query as it was provided.
+	 */
+	@Override
+	public String toString() {
+		return query;
+	}
+}
@@ -0,0 +1,160 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An opaque cursor that points to a position in a sorted collection, for keyset (cursor-based) pagination.
+ *
+ * The cursor contains the values of the sort keys of the item at the boundary of a page, as well as whether the
+ * page should contain the items after or before that item. Since the page is found by seeking to the values of the
+ * sort keys, retrieving a page does not get slower the deeper the client pages into the collection.
+ */
+public final class PageCursor {
+    private static final char AFTER = '>';
+    private static final char BEFORE = '<';
+    private static final char NULL_VALUE = '~';
+    private static final char LENGTH_DELIMITER = ':';
+
+    private final Map<String, String> keys;
+    private final boolean after;
+
+    private PageCursor(Map<String, String> keys, boolean after) {
+        this.keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+        this.after = after;
+    }
+
+    /**
+     * Create a cursor for the page containing the items after the item with the provided sort keys.
+     *
+     * @param keys contains the value of each sort key, in the order in which the collection is sorted.
+     * @return the cursor.
+     */
+    public static PageCursor after(Map<String, String> keys) {
+        return new PageCursor(keys, true);
+    }
+
+    /**
+     * Create a cursor for the page containing the items before the item with the provided sort keys.
+     *
+     * @param keys contains the value of each sort key, in the order in which the collection is sorted.
+     * @return the cursor.
+     */
+    public static PageCursor before(Map<String, String> keys) {
+        return new PageCursor(keys, false);
+    }
+
+    /**
+     * @return the value of each sort key, in the order in which the collection is sorted.
+     */
+    public Map<String, String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return true if the page contains the items after the boundary item, false if it contains the items before it.
+     */
+    public boolean isAfter() {
+        return after;
+    }
+
+    /**
+     * Encode this cursor as an opaque value that can be used in a URI.
+     *
+     * @return the encoded cursor.
+     */
+    public String encode() {
+        StringBuilder cursor = new StringBuilder();
+        cursor.append(after ? AFTER : BEFORE);
+        keys.forEach((field, value) -> {
+            appendToken(cursor, field);
+            appendToken(cursor, value);
+        });
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor that was encoded with encode().
+     *
+     * @param encoded is the encoded cursor.
+     * @return the decoded cursor.
+     * @throws IllegalArgumentException if the provided value is not a valid cursor.
+     */
+    public static PageCursor decode(String encoded) {
+        String cursor;
+        try {
+            cursor = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The page cursor is not valid", e);
+        }
+        if (cursor.isEmpty() || (cursor.charAt(0) != AFTER && cursor.charAt(0) != BEFORE)) {
+            throw new IllegalArgumentException("The page cursor is not valid");
+        }
+        Map<String, String> keys = new LinkedHashMap<>();
+        int[] position = {1};
+        while (position[0] < cursor.length()) {
+            String field = readToken(cursor, position);
+            if (field == null || position[0] >= cursor.length()) {
+                throw new IllegalArgumentException("The page cursor is not valid");
+            }
+            keys.put(field, readToken(cursor, position));
+        }
+        return new PageCursor(keys, cursor.charAt(0) == AFTER);
+    }
+
+    private static void appendToken(StringBuilder cursor, String token) {
+        if (token == null) {
+            cursor.append(NULL_VALUE);
+            return;
+        }
+        cursor.append(token.length()).append(LENGTH_DELIMITER).append(token);
+    }
+
+    private static String readToken(String cursor, int[] position) {
+        if (cursor.charAt(position[0]) == NULL_VALUE) {
+            position[0]++;
+            return null;
+        }
+        int delimiter = cursor.indexOf(LENGTH_DELIMITER, position[0]);
+        if (delimiter < 0) {
+            throw new IllegalArgumentException("The page cursor is not valid");
+        }
+        try {
+            int length = Integer.parseInt(cursor.substring(position[0], delimiter));
+            int end = delimiter + 1 + length;
+            if (length < 0 || end > cursor.length()) {
+                throw new IllegalArgumentException("The page cursor is not valid");
+            }
+            position[0] = end;
+            return cursor.substring(delimiter + 1, end);
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The page cursor is not valid", e);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(after, keys);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof PageCursor))
+            return false;
+        PageCursor other = (PageCursor) obj;
+        return after == other.after && Objects.equals(keys, other.keys);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor [keys=" + keys + ", after=" + after + "]";
+    }
+}
@@ -1,17 +1,23 @@
 package simplyrestful.api.framework.resources;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalInt;
 
 import jakarta.ws.rs.core.MediaType;
 
 public class ApiCollection<T extends ApiResource> implements ApiResource {
 	public static final String MEDIA_TYPE_JSON = "application/x.simplyrestful-collection-v1+json";
+	/**
+	 * The media type of the collection resource, shared so it does not have to be parsed again for every response.
+	 */
+	public static final MediaType MEDIA_TYPE_JSON_TYPE = new MediaType("application", "x.simplyrestful-collection-v1+json");
 	public static final String MEDIA_TYPE_PARAMETER_ITEM_TYPE = "item-type";
 	public static final String FIELDS_VALUE_DEFAULT = "self,first,last,prev,next,total,item.self";
 
 	private Link self;
-	private int total;
+	private Integer total;
 	private Link first;
 	private Link last;
 	private Link prev;
@@ -73,22 +79,34 @@ public class ApiCollection<T extends ApiResource> implements ApiResource {
 		this.item = item;
 	}
 
+	/**
+	 * @return the total amount of resources in the collection, or 0 if the collection was not counted. Use total() to
+	 * find out whether the collection was counted.
+	 */
 	public int getTotal() {
-		return total;
+		return total == null ? 0 : total;
 	}
 
 	public void setTotal(int total) {
 		this.total = total;
 	}
 
+	/**
+	 * @return the total amount of resources in the collection, or an empty OptionalInt if the collection was not
+	 * counted.
+	 */
+	public OptionalInt total() {
+		return total == null ? OptionalInt.empty() : OptionalInt.of(total);
+	}
+
 	@Override
 	public MediaType customJsonMediaType() {
-		return MediaType.valueOf(MEDIA_TYPE_JSON);
+		return MEDIA_TYPE_JSON_TYPE;
 	}
 
 	public MediaType customJsonMediaType(MediaType itemResourceMediaType) {
-		return MediaType.valueOf(MEDIA_TYPE_JSON + ";" + MEDIA_TYPE_PARAMETER_ITEM_TYPE + "=\""
-				+ itemResourceMediaType.toString() + "\"");
+		return new MediaType(MEDIA_TYPE_JSON_TYPE.getType(), MEDIA_TYPE_JSON_TYPE.getSubtype(),
+				Map.of(MEDIA_TYPE_PARAMETER_ITEM_TYPE, itemResourceMediaType.toString()));
 	}
 
 	@Override
@@ -108,7 +126,7 @@ public class ApiCollection<T extends ApiResource> implements ApiResource {
 		ApiCollection<T> other = (ApiCollection<T>) obj;
 		return Objects.equals(self, other.self) && Objects.equals(first, other.first)
 				&& Objects.equals(item, other.item) && Objects.equals(last, other.last)
-				&& Objects.equals(next, other.next) && Objects.equals(prev, other.prev) && total == other.total;
+				&& Objects.equals(next, other.next) && Objects.equals(prev, other.prev) && Objects.equals(total, other.total);
 	}
 
 	@Override
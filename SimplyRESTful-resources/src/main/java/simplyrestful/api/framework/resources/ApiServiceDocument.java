@@ -6,6 +6,10 @@ import jakarta.ws.rs.core.MediaType;
 
 public class ApiServiceDocument implements ApiResource {
 	public static final String MEDIA_TYPE_JSON = "application/x.simplyrestful-servicedocument-v1+json";
+	/**
+	 * The media type of the service document, shared so it does not have to be parsed again for every response.
+	 */
+	public static final MediaType MEDIA_TYPE_JSON_TYPE = new MediaType("application", "x.simplyrestful-servicedocument-v1+json");
 	private Link self;
 	private Link describedBy;
 
@@ -26,7 +30,7 @@ public class ApiServiceDocument implements ApiResource {
 
 	@Override
 	public MediaType customJsonMediaType() {
-		return MediaType.valueOf(MEDIA_TYPE_JSON);
+		return MEDIA_TYPE_JSON_TYPE;
 	}
 
 	public Link getDescribedBy() {
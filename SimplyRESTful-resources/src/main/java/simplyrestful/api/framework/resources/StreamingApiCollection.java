@@ -0,0 +1,127 @@
+package simplyrestful.api.framework.resources;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A collection resource whose items are provided by a stream that is only consumed when the collection is serialized.
+ *
+ * A serializer that supports this collection can write the items from {@link #itemStream()} directly to the response,
+ * so the page never has to be kept in memory entirely. Any other serializer can still use {@link #getItem()}, which
+ * collects the items into a list the first time it is called.
+ *
+ * The stream can only be consumed once, either through {@link #itemStream()} or through {@link #getItem()}.
+ *
+ * @param <T> is the API resource type contained in the collection.
+ */
+public class StreamingApiCollection<T extends ApiResource> extends ApiCollection<T> {
+	private Stream<T> itemStream;
+	private int pageSize = -1;
+	private Link nextIfMoreItems;
+
+	/**
+	 * Create a collection resource for the items in the provided stream.
+	 *
+	 * @param itemStream is the stream of items in this collection, which will be closed once it has been consumed.
+	 */
+	public StreamingApiCollection(Stream<T> itemStream) {
+		this.itemStream = itemStream;
+	}
+
+	/**
+	 * Limit the items to the provided page size and only include the provided link to the next page if the stream
+	 * contains more items than that.
+	 *
+	 * This allows determining whether there is a next page while the items are consumed, without counting the
+	 * collection. The link to the next page is only known after all items have been consumed.
+	 *
+	 * @param pageSize is the maximum amount of items in this collection.
+	 * @param next is the link to the next page.
+	 */
+	public void nextIfMoreItems(int pageSize, Link next) {
+		this.pageSize = pageSize;
+		this.nextIfMoreItems = next;
+	}
+
+	/**
+	 * Provide the items in this collection as a stream.
+	 *
+	 * @return the stream of items, which must be closed by the caller.
+	 * @throws IllegalStateException if the stream of items was already consumed.
+	 */
+	public Stream<T> itemStream() {
+		if (itemStream == null) {
+			List<T> item = super.getItem();
+			if (item == null) {
+				throw new IllegalStateException("The stream of items in this collection has already been consumed");
+			}
+			return item.stream();
+		}
+		Stream<T> items = itemStream;
+		itemStream = null;
+		if (pageSize < 0) {
+			return items;
+		}
+		Iterator<T> page = new PageIterator(items.iterator());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(page, Spliterator.ORDERED), false).onClose(items::close);
+	}
+
+	@Override
+	public List<T> getItem() {
+		if (itemStream != null) {
+			try (Stream<T> items = itemStream()) {
+				setItem(items.collect(Collectors.toList()));
+			}
+		}
+		return super.getItem();
+	}
+
+	@Override
+	public Link getNext() {
+		if (nextIfMoreItems != null) {
+			getItem();
+		}
+		return super.getNext();
+	}
+
+	/**
+	 * Provides the items up to the page size and sets the link to the next page when there are more items.
+	 */
+	private class PageIterator implements Iterator<T> {
+		private final Iterator<T> items;
+		private int provided;
+
+		PageIterator(Iterator<T> items) {
+			this.items = items;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (provided < pageSize) {
+				return items.hasNext();
+			}
+			if (provided == pageSize) {
+				provided++;
+				if (items.hasNext()) {
+					setNext(nextIfMoreItems);
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			provided++;
+			return items.next();
+		}
+	}
+}
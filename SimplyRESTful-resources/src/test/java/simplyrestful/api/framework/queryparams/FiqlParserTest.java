@@ -0,0 +1,128 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.queryparams.FiqlExpression.And;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Or;
+
+public class FiqlParserTest {
+	@Test
+	public void parse_shouldReturnEmptyQuery_whenQueryIsBlank() {
+		Assertions.assertSame(FiqlQuery.EMPTY, FiqlParser.parse(null));
+		Assertions.assertSame(FiqlQuery.EMPTY, FiqlParser.parse("  "));
+		Assertions.assertTrue(FiqlQuery.EMPTY.isEmpty());
+		Assertions.assertNull(FiqlQuery.EMPTY.getExpression());
+	}
+
+	@Test
+	public void parse_shouldCreateComparison_withSingleConstraint() {
+		FiqlQuery query = FiqlParser.parse("name==test");
+		Assertions.assertEquals(new Comparison("name", Comparison.EQUAL, List.of("test")), query.getExpression());
+		Assertions.assertEquals("name==test", query.getQuery());
+	}
+
+	@Test
+	public void parse_shouldGiveAndPrecedenceOverOr() {
+		FiqlExpression expression = FiqlParser.parse("a==1,b==2;c==3").getExpression();
+		Or or = Assertions.assertInstanceOf(Or.class, expression);
+		Assertions.assertEquals(new Comparison("a", Comparison.EQUAL, List.of("1")), or.operands().get(0));
+		And and = Assertions.assertInstanceOf(And.class, or.operands().get(1));
+		Assertions.assertEquals(2, and.operands().size());
+	}
+
+	@Test
+	public void parse_shouldGroupConstraints_withParentheses() {
+		FiqlExpression expression = FiqlParser.parse("(a==1,b==2);c==3").getExpression();
+		And and = Assertions.assertInstanceOf(And.class, expression);
+		Assertions.assertInstanceOf(Or.class, and.operands().get(0));
+		Assertions.assertEquals("(a==1,b==2);c==3", FiqlParser.parse("(a==1,b==2);c==3").normalized());
+	}
+
+	@Test
+	public void parse_shouldNormalizeEquivalentQueries() {
+		FiqlQuery shorthand = FiqlParser.parse(" size>10;size<=20 ");
+		FiqlQuery fiql = FiqlParser.parse("size=gt=10;size=le=20");
+		Assertions.assertEquals(fiql, shorthand);
+		Assertions.assertEquals(fiql.hashCode(), shorthand.hashCode());
+		Assertions.assertEquals("size=gt=10;size=le=20", shorthand.normalized());
+	}
+
+	@Test
+	public void parse_shouldUnescapeQuotedArguments() {
+		FiqlQuery query = FiqlParser.parse("description==\"contains;reserved, \\\"characters\\\"\"");
+		Comparison comparison = Assertions.assertInstanceOf(Comparison.class, query.getExpression());
+		Assertions.assertEquals("contains;reserved, \"characters\"", comparison.argument());
+		Assertions.assertEquals(query, FiqlParser.parse(query.normalized()));
+	}
+
+	@Test
+	public void parse_shouldProvideAllArguments_withArgumentList() {
+		Comparison comparison = (Comparison) FiqlParser.parse("status=in=(open,\"in progress\")").getExpression();
+		Assertions.assertEquals(Comparison.IN, comparison.operator());
+		Assertions.assertEquals(List.of("open", "in progress"), comparison.arguments());
+	}
+
+	@Test
+	public void parse_shouldCombineConstraints_withAndKeyword() {
+		FiqlQuery query = FiqlParser.parse("name==x and age=gt=5");
+		Assertions.assertEquals(FiqlParser.parse("name==x;age=gt=5"), query);
+	}
+
+	@Test
+	public void parse_shouldCombineConstraints_withOrKeyword() {
+		FiqlQuery query = FiqlParser.parse("name==x or age=gt=5");
+		Assertions.assertEquals(FiqlParser.parse("name==x,age=gt=5"), query);
+	}
+
+	@Test
+	public void parse_shouldGiveAndKeywordPrecedenceOverOrKeyword() {
+		FiqlQuery query = FiqlParser.parse("a==1 or b==2 and c==3");
+		Assertions.assertEquals(FiqlParser.parse("a==1,b==2;c==3"), query);
+	}
+
+	@Test
+	public void parse_shouldSkipWhitespaceAroundOperator() {
+		Assertions.assertEquals(FiqlParser.parse("name==x"), FiqlParser.parse("name == x"));
+		Assertions.assertEquals(FiqlParser.parse("age=gt=5"), FiqlParser.parse("age =gt= 5"));
+	}
+
+	@Test
+	public void parse_shouldSkipWhitespaceInsideArgumentList() {
+		Comparison comparison = (Comparison) FiqlParser.parse("age=in=( 1 , 2 )").getExpression();
+		Assertions.assertEquals(List.of("1", "2"), comparison.arguments());
+		Assertions.assertEquals(FiqlParser.parse("age=in=(1,2)"), FiqlParser.parse("age=in=(1, 2)"));
+	}
+
+	@Test
+	public void parse_shouldSkipWhitespaceAroundSeparatorsAndParentheses() {
+		Assertions.assertEquals(FiqlParser.parse("(a==1,b==2);c==3"), FiqlParser.parse("( a==1 , b==2 ) ; c==3"));
+	}
+
+	@Test
+	public void parse_shouldUseKeywordAsSelector_whenNotSurroundedByWhitespace() {
+		Assertions.assertEquals(new Comparison("and", Comparison.EQUAL, List.of("1")), FiqlParser.parse("and==1").getExpression());
+		Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse("a==1 andb==2"));
+	}
+
+	@Test
+	public void parse_shouldThrowFiqlParseExceptionWithPosition_whenQueryIsInvalid() {
+		FiqlParseException exception = Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse("name==test;"));
+		Assertions.assertEquals(11, exception.getPosition());
+		Assertions.assertEquals("name==test;", exception.getQuery());
+		Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse("name"));
+		Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse("name==\"unterminated"));
+		Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse("(name==test"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> FiqlParser.parse("name=test"));
+	}
+
+	@Test
+	public void parse_shouldThrowFiqlParseException_whenNestingIsTooDeep() {
+		int depth = FiqlParser.MAXIMUM_NESTING_DEPTH + 1;
+		String query = "(".repeat(depth) + "a==1" + ")".repeat(depth);
+		Assertions.assertThrows(FiqlParseException.class, () -> FiqlParser.parse(query));
+	}
+}
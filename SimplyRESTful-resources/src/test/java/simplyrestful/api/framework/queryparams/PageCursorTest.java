@@ -0,0 +1,42 @@
+package simplyrestful.api.framework.queryparams;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+public class PageCursorTest {
+	@Test
+	public void pageCursor_shouldBeTheSame_whenEncodedAndDecoded() {
+		Map<String, String> keys = new LinkedHashMap<>();
+		keys.put("description", "contains:delimiters,and.dots");
+		keys.put("number", "42");
+		keys.put("optional", null);
+		PageCursor cursor = PageCursor.before(keys);
+		PageCursor decoded = PageCursor.decode(cursor.encode());
+		Assertions.assertEquals(cursor, decoded);
+		Assertions.assertFalse(decoded.isAfter());
+		Assertions.assertEquals(keys, decoded.getKeys());
+	}
+
+	@Test
+	public void pageCursor_shouldBeUsableInUri_whenEncoded() {
+		String encoded = PageCursor.after(Map.of("name", "non-ascii \u00fc/+?&=")).encode();
+		Assertions.assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+	}
+
+	@Test
+	public void pageCursor_shouldThrowIllegalArgumentException_whenDecodingInvalidCursor() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("eA"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("PjEwOnRvb3Nob3J0"));
+	}
+
+	@Test
+	public void pageCursor_shouldAdhereToEqualsContract() {
+		EqualsVerifier.forClass(PageCursor.class).verify();
+	}
+}
@@ -0,0 +1,76 @@
+package simplyrestful.api.framework.resources;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.resources.test.TestResource;
+
+public class StreamingApiCollectionTest {
+	public static final URI requestURI = URI.create("local://resources/testresources/");
+	private static final Link NEXT_LINK = new Link("local://resources/testresources/?pageStart=2", null);
+
+	private List<TestResource> testResourcesList;
+
+	@BeforeEach
+	public void createTestResources() {
+		testResourcesList = new ArrayList<TestResource>();
+		for (int i = 0; i < 3; i++) {
+			TestResource testResource = new TestResource();
+			testResource.setSelf(new Link(requestURI.resolve(String.valueOf(i)).toString(), null));
+			testResourcesList.add(testResource);
+		}
+	}
+
+	@Test
+	public void getItem_shouldCollectTheStreamOnlyOnce() {
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamingApiCollection<TestResource> collection = new StreamingApiCollection<>(testResourcesList.stream().onClose(() -> closed.set(true)));
+		Assertions.assertEquals(testResourcesList, collection.getItem());
+		Assertions.assertTrue(closed.get());
+		Assertions.assertSame(collection.getItem(), collection.getItem());
+		Assertions.assertEquals(testResourcesList, collection.itemStream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void itemStream_shouldThrowIllegalStateException_whenAlreadyConsumed() {
+		StreamingApiCollection<TestResource> collection = new StreamingApiCollection<>(testResourcesList.stream());
+		try (Stream<TestResource> items = collection.itemStream()) {
+			Assertions.assertEquals(testResourcesList, items.collect(Collectors.toList()));
+		}
+		Assertions.assertThrows(IllegalStateException.class, collection::itemStream);
+	}
+
+	@Test
+	public void itemStream_shouldLimitToPageSizeAndIncludeNext_whenStreamContainsMoreItems() {
+		StreamingApiCollection<TestResource> collection = new StreamingApiCollection<>(testResourcesList.stream());
+		collection.nextIfMoreItems(2, NEXT_LINK);
+		try (Stream<TestResource> items = collection.itemStream()) {
+			Assertions.assertEquals(testResourcesList.subList(0, 2), items.collect(Collectors.toList()));
+		}
+		Assertions.assertEquals(NEXT_LINK, collection.getNext());
+	}
+
+	@Test
+	public void getNext_shouldBeNull_whenStreamContainsNoMoreItemsThanPageSize() {
+		StreamingApiCollection<TestResource> collection = new StreamingApiCollection<>(testResourcesList.stream());
+		collection.nextIfMoreItems(3, NEXT_LINK);
+		Assertions.assertNull(collection.getNext());
+		Assertions.assertEquals(testResourcesList, collection.getItem());
+	}
+
+	@Test
+	public void getNext_shouldCollectTheStream_whenNextDependsOnItems() {
+		StreamingApiCollection<TestResource> collection = new StreamingApiCollection<>(testResourcesList.stream());
+		collection.nextIfMoreItems(2, NEXT_LINK);
+		Assertions.assertEquals(NEXT_LINK, collection.getNext());
+		Assertions.assertEquals(testResourcesList.subList(0, 2), collection.getItem());
+	}
+}
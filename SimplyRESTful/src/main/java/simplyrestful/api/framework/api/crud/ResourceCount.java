@@ -1,5 +1,7 @@
 package simplyrestful.api.framework.api.crud;
 
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+
 /**
  * Interface for counting the amount of API resources in a filtered collection. 
  */
@@ -11,4 +13,17 @@ public interface ResourceCount {
      * @return the total amount of resources that are available
      */
     int count(String query);
+
+    /**
+     * Retrieve how many resources are available after filtering according to the provided parsed query.
+     *
+     * The framework calls this method, with the query parsed only once for each request. By default, it calls
+     * count(String) with the query as it was provided. Override this method to use the parsed query directly.
+     *
+     * @param query is the parsed FIQL query that defines how the resources should be filtered.
+     * @return the total amount of resources that are available
+     */
+    default int count(FiqlQuery query) {
+        return count(query.getQuery());
+    }
 }
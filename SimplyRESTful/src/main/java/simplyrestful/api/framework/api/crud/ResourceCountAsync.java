@@ -0,0 +1,16 @@
+package simplyrestful.api.framework.api.crud;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Interface for asynchronously counting the amount of API resources in a filtered collection.
+ */
+public interface ResourceCountAsync {
+    /**
+     * Asynchronously retrieve how many resources are available after filtering according to the provided query.
+     *
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @return a CompletionStage that completes with the total amount of resources that are available.
+     */
+    CompletionStage<Integer> countAsync(String query);
+}
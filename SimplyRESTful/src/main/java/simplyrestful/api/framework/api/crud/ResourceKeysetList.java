@@ -0,0 +1,68 @@
+package simplyrestful.api.framework.api.crud;
+
+import java.util.List;
+import java.util.Map;
+
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.PageCursor;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Interface for retrieving a collection of API resources with keyset (cursor-based) pagination.
+ *
+ * The collection must be sorted in a total order, so the sort keys of each resource must be unique. If the requested
+ * sort does not guarantee this, the implementation should add a unique field, like the identifier of the resource, as
+ * the final sort key.
+ *
+ * @param <T>is the API resource type used in the JAX-RS WebResource, which is contained in the collection.
+ */
+public interface ResourceKeysetList<T extends ApiResource> {
+    /**
+     * Retrieve the page of resources that is adjacent to the provided cursor.
+     *
+     * For proper discoverability of the API, all links (href values in each Link object) should contain
+     * absolute URI's and a self-link must be available in each resource.
+     *
+     * @param cursor is the position in the collection from which the page is retrieved, or null for the first page.
+     * If the cursor points after its sort keys, the page contains the resources directly following those sort keys.
+     * Otherwise, it contains the resources directly preceding those sort keys. In both cases, the resources in the
+     * page must be sorted according to the requested sort.
+     * @param pageSize is the maximum amount of resources to retrieve. This may be one more than the page size requested
+     * by the client, so the framework can determine whether there is a next page.
+     * @param fields is the list of fields on which to filter. This is only provided to optimize data
+     * retrieval as the actual filtering of fields is done by the framework.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects, each containing the field name according to which
+     * the collection should be sorted, along with whether is should be sorted ascending or not.
+     * @return the filtered and sorted list of resources for the requested page.
+     */
+    public List<T> listByCursor(PageCursor cursor, int pageSize, List<String> fields, String query, List<SortOrder> sort);
+
+    /**
+     * Retrieve the page of resources that is adjacent to the provided cursor, filtered according to the parsed query.
+     *
+     * The framework calls this method, with the query parsed only once for each request. By default, it calls
+     * listByCursor() with the query as it was provided. Override this method to use the parsed query directly.
+     *
+     * @param cursor is the position in the collection from which the page is retrieved, or null for the first page.
+     * @param pageSize is the maximum amount of resources to retrieve, which may be one more than the requested page size.
+     * @param fields is the list of fields on which to filter.
+     * @param query is the parsed FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects according to which the collection should be sorted.
+     * @return the filtered and sorted list of resources for the requested page.
+     */
+    public default List<T> listByCursor(PageCursor cursor, int pageSize, List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+        return listByCursor(cursor, pageSize, fields, query.getQuery(), sort);
+    }
+
+    /**
+     * Retrieve the sort keys of the provided resource, which are used to create a cursor pointing to that resource.
+     *
+     * @param resource is a resource that was retrieved with listByCursor().
+     * @param sort is the list of SortOrder objects according to which the collection is sorted.
+     * @return the value of each sort key of the resource, in the order in which the collection is sorted. This must
+     * include any unique field that the implementation added to the sort.
+     */
+    public Map<String, String> cursorKeys(T resource, List<SortOrder> sort);
+}
@@ -2,6 +2,7 @@ package simplyrestful.api.framework.api.crud;
 
 import java.util.List;
 
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.queryparams.SortOrder;
 import simplyrestful.api.framework.resources.ApiResource;
 
@@ -18,7 +19,9 @@ public interface ResourceList<T extends ApiResource> {
      * absolute URI's and a self-link must be available in each resource.
      *
      * @param pageStart is the offset at which the requested page starts.
-     * @param pageSize is the requested size of each page.
+     * @param pageSize is the requested size of each page. Only if the web resource returns true from skipCount() or
+     * lookAheadForNext(), this may be one more than the page size requested by the client, so the framework can
+     * determine whether there is a next page without counting the collection.
      * @param fields is the list of fields on which to filter. This is only provided to optimize data
      * retrieval as the actual filtering of fields is done by the framework.
      * @param query is a FIQL query that defines how the resources should be filtered.
@@ -27,4 +30,21 @@ public interface ResourceList<T extends ApiResource> {
      * @return the filtered and sorted list of resources for the requested page.
      */
     public List<T> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort);
+
+    /**
+     * Retrieve the paged collection of resources that have been requested, filtered according to the parsed query.
+     *
+     * The framework calls this method, with the query parsed only once for each request. By default, it calls
+     * list() with the query as it was provided. Override this method to use the parsed query directly.
+     *
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the requested size of each page, which may only be one more if the web resource opts in to it.
+     * @param fields is the list of fields on which to filter.
+     * @param query is the parsed FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects according to which the collection should be sorted.
+     * @return the filtered and sorted list of resources for the requested page.
+     */
+    public default List<T> list(int pageStart, int pageSize, List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+        return list(pageStart, pageSize, fields, query.getQuery(), sort);
+    }
 }
@@ -0,0 +1,33 @@
+package simplyrestful.api.framework.api.crud;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Interface for asynchronously retrieving a collection of API resources.
+ *
+ * @param <T>is the API resource type used in the JAX-RS WebResource, which is contained in the collection.
+ */
+public interface ResourceListAsync<T extends ApiResource> {
+    /**
+     * Asynchronously retrieve the paged collection of resources that have been requested.
+     *
+     * For proper discoverability of the API, all links (href values in each Link object) should contain
+     * absolute URI's and a self-link must be available in each resource.
+     *
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the requested size of each page. Only if the web resource returns true from skipCount() or
+     * lookAheadForNext(), this may be one more than the page size requested by the client, so the framework can
+     * determine whether there is a next page without counting the collection.
+     * @param fields is the list of fields on which to filter. This is only provided to optimize data
+     * retrieval as the actual filtering of fields is done by the framework.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects, each containing the field name according to which
+     * the collection should be sorted, along with whether is should be sorted ascending or not.
+     * @return a CompletionStage that completes with the filtered and sorted list of resources for the requested page.
+     */
+    public CompletionStage<List<T>> listAsync(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort);
+}
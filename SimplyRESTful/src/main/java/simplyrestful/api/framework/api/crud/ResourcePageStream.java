@@ -0,0 +1,59 @@
+package simplyrestful.api.framework.api.crud;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Interface for retrieving a page from a collection of API resources as a stream.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource, which is contained in the collection.
+ */
+public interface ResourcePageStream<T extends ApiResource> {
+    /**
+     * Retrieve the paged collection of resources that have been requested as a stream.
+     *
+     * The stream is only consumed while the collection resource is being serialized, so the resources do not all have
+     * to be kept in memory at the same time. The stream is closed once it has been consumed.
+     *
+     * Since the collection resource is serialized after the resource method has returned, the stream is consumed
+     * outside of the resource method as well. A stream that requires an open transaction or connection, like a Spring
+     * Data repository stream, must therefore keep it open until the stream is closed, e.g. by starting a transaction
+     * that is only ended when the stream is closed, instead of one that is bound to the resource method.
+     *
+     * For proper discoverability of the API, all links (href values in each Link object) should contain
+     * absolute URI's and a self-link must be available in each resource.
+     *
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the requested size of each page. Only if the web resource returns true from skipCount() or
+     * lookAheadForNext(), this may be one more than the page size requested by the client, so the framework can
+     * determine whether there is a next page without counting the collection.
+     * @param fields is the list of fields on which to filter. This is only provided to optimize data
+     * retrieval as the actual filtering of fields is done by the framework.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects, each containing the field name according to which
+     * the collection should be sorted, along with whether is should be sorted ascending or not.
+     * @return the filtered and sorted stream of resources for the requested page.
+     */
+    public Stream<T> streamPage(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort);
+
+    /**
+     * Retrieve the paged collection of resources as a stream, filtered according to the parsed query.
+     *
+     * The framework calls this method, with the query parsed only once for each request. By default, it calls
+     * streamPage() with the query as it was provided. Override this method to use the parsed query directly.
+     *
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the requested size of each page, which may only be one more if the web resource opts in to it.
+     * @param fields is the list of fields on which to filter.
+     * @param query is the parsed FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects according to which the collection should be sorted.
+     * @return the filtered and sorted stream of resources for the requested page.
+     */
+    public default Stream<T> streamPage(int pageStart, int pageSize, List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+        return streamPage(pageStart, pageSize, fields, query.getQuery(), sort);
+    }
+}
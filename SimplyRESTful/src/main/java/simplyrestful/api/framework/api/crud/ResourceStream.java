@@ -3,6 +3,7 @@ package simplyrestful.api.framework.api.crud;
 import java.util.List;
 import java.util.stream.Stream;
 
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.queryparams.SortOrder;
 import simplyrestful.api.framework.resources.ApiResource;
 
@@ -27,4 +28,19 @@ public interface ResourceStream<T extends ApiResource> {
      * @return the filtered and sorted stream of resources for the requested page.
      */
     public Stream<T> stream(List<String> fields, String query, List<SortOrder> sort);
+
+    /**
+     * Retrieve the stream of resources that have been requested, filtered according to the parsed query.
+     *
+     * The framework calls this method, with the query parsed only once for each request. By default, it calls
+     * stream() with the query as it was provided. Override this method to use the parsed query directly.
+     *
+     * @param fields is the list of fields on which to filter.
+     * @param query is the parsed FIQL query that defines how the resources should be filtered.
+     * @param sort is the list of SortOrder objects according to which the collection should be sorted.
+     * @return the filtered and sorted stream of resources for the requested page.
+     */
+    public default Stream<T> stream(List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+        return stream(fields, query.getQuery(), sort);
+    }
 }
@@ -0,0 +1,193 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.api.crud.ResourceCreate;
+import simplyrestful.api.framework.api.crud.ResourceDelete;
+import simplyrestful.api.framework.api.crud.ResourceExists;
+import simplyrestful.api.framework.api.crud.ResourceList;
+import simplyrestful.api.framework.api.crud.ResourceRead;
+import simplyrestful.api.framework.api.crud.ResourceStream;
+import simplyrestful.api.framework.api.crud.ResourceUpdate;
+import simplyrestful.api.framework.metrics.MetricsSink;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Decorates the CRUD methods of a web resource so each call is recorded in a MetricsSink, if instrumentation is
+ * enabled.
+ *
+ * The default web resource implementations call the CRUD methods through these decorators, so the web resources do
+ * not have to be changed to record these metrics. The calls are recorded in the sink that is enabled for the entire
+ * application. A web resource can also implement InstrumentedWebResource to provide its own sink, which is then used
+ * instead. If neither is available, the web resource is returned without decorating it.
+ *
+ * The metrics are created once for each web resource class and sink. The decorators themselves only refer to the web
+ * resource and its metrics, so they are not retained after the call.
+ */
+public final class CrudInstrumentation {
+	public static final String OPERATION_LIST = "list";
+	public static final String OPERATION_COUNT = "count";
+	public static final String OPERATION_READ = "read";
+	public static final String OPERATION_STREAM = "stream";
+	public static final String OPERATION_CREATE = "create";
+	public static final String OPERATION_UPDATE = "update";
+	public static final String OPERATION_DELETE = "delete";
+	public static final String OPERATION_EXISTS = "exists";
+	private static final ClassValue<Map<MetricsSink, CrudMetrics>> METRICS = new ClassValue<>() {
+		@Override
+		protected Map<MetricsSink, CrudMetrics> computeValue(Class<?> webResourceClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	private static volatile MetricsSink sink;
+
+	private CrudInstrumentation() {
+	}
+
+	/**
+	 * Record the calls to the CRUD methods of all web resources in the provided sink, unless a web resource provides
+	 * its own sink.
+	 *
+	 * @param metricsSink is where the metrics are recorded.
+	 */
+	public static void enable(MetricsSink metricsSink) {
+		sink = Objects.requireNonNull(metricsSink);
+	}
+
+	/**
+	 * Stop recording the calls to the CRUD methods in the sink of the application. Web resources that provide their
+	 * own sink still record their calls in it.
+	 */
+	public static void disable() {
+		sink = null;
+	}
+
+	/**
+	 * @return true if the calls to the CRUD methods are recorded in the sink of the application, false otherwise.
+	 */
+	public static boolean isEnabled() {
+		return sink != null;
+	}
+
+	/**
+	 * Decorate the ResourceList of a web resource so the calls to list() are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceList<T> instrumentList(ResourceList<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceList<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceCount of a web resource so the calls to count() are recorded.
+	 *
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static ResourceCount instrumentCount(ResourceCount webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceCount(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceRead of a web resource so the calls to read() are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceRead<T> instrumentRead(ResourceRead<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceRead<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceStream of a web resource so the calls to stream(), and the amount of resources consumed
+	 * from the stream, are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceStream<T> instrumentStream(ResourceStream<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceStream<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceCreate of a web resource so the calls to create() are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceCreate<T> instrumentCreate(ResourceCreate<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceCreate<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceUpdate of a web resource so the calls to update() are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceUpdate<T> instrumentUpdate(ResourceUpdate<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceUpdate<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceDelete of a web resource so the calls to delete() are recorded.
+	 *
+	 * @param <T> is the API resource type used in the JAX-RS WebResource.
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static <T extends ApiResource> ResourceDelete<T> instrumentDelete(ResourceDelete<T> webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceDelete<>(webResource, metrics);
+	}
+
+	/**
+	 * Decorate the ResourceExists of a web resource so the calls to exists() are recorded.
+	 *
+	 * @param webResource is the web resource.
+	 * @return the decorated web resource, or the web resource itself if no MetricsSink is available for it.
+	 */
+	public static ResourceExists instrumentExists(ResourceExists webResource) {
+		CrudMetrics metrics = metrics(webResource);
+		return metrics == null ? webResource : new InstrumentedResourceExists(webResource, metrics);
+	}
+
+	private static CrudMetrics metrics(Object webResource) {
+		MetricsSink metricsSink = sink(webResource);
+		if (metricsSink == null) {
+			return null;
+		}
+		Class<?> webResourceClass = webResource.getClass();
+		return METRICS.get(webResourceClass).computeIfAbsent(metricsSink, unused -> new CrudMetrics(metricsSink, name(webResourceClass)));
+	}
+
+	private static MetricsSink sink(Object webResource) {
+		if (webResource instanceof InstrumentedWebResource instrumented) {
+			MetricsSink own = instrumented.metricsSink();
+			if (own != null) {
+				return own;
+			}
+		}
+		return sink;
+	}
+
+	private static String name(Class<?> webResourceClass) {
+		String simpleName = webResourceClass.getSimpleName();
+		return simpleName.isEmpty() ? webResourceClass.getName() : simpleName;
+	}
+}
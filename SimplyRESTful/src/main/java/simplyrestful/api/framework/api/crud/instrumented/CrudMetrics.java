@@ -0,0 +1,94 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import simplyrestful.api.framework.metrics.MetricsSink;
+
+/**
+ * Records the latency, outcome and result size of the calls to the CRUD methods of a single web resource.
+ */
+public final class CrudMetrics {
+	/**
+	 * The timer for the duration of a call to a CRUD method, tagged with the web resource, operation and outcome.
+	 */
+	public static final String METRIC_CRUD = "simplyrestful.crud";
+	/**
+	 * The distribution summary for the size of the result of a call to a CRUD method, like the amount of resources
+	 * in a page or stream, tagged with the web resource and operation.
+	 */
+	public static final String METRIC_CRUD_RESULT_SIZE = "simplyrestful.crud.result.size";
+	public static final String TAG_WEB_RESOURCE = "webResource";
+	public static final String TAG_OPERATION = "operation";
+	public static final String TAG_OUTCOME = "outcome";
+	public static final String OUTCOME_SUCCESS = "success";
+	public static final String OUTCOME_ERROR = "error";
+
+	private final MetricsSink sink;
+	private final String webResource;
+
+	/**
+	 * Create the metrics for a web resource.
+	 *
+	 * @param sink is where the metrics are recorded.
+	 * @param webResource is the name of the web resource, used to tag the metrics.
+	 */
+	public CrudMetrics(MetricsSink sink, String webResource) {
+		this.sink = sink;
+		this.webResource = webResource;
+	}
+
+	/**
+	 * Call a CRUD method and record its latency and outcome.
+	 *
+	 * @param <R> is the type of the result of the CRUD method.
+	 * @param operation is the name of the CRUD method.
+	 * @param call calls the CRUD method.
+	 * @return the result of the CRUD method.
+	 */
+	public <R> R record(String operation, Supplier<R> call) {
+		long start = System.nanoTime();
+		R result;
+		try {
+			result = call.get();
+		}
+		catch (RuntimeException | Error e) {
+			recordTime(operation, OUTCOME_ERROR, System.nanoTime() - start);
+			throw e;
+		}
+		recordTime(operation, OUTCOME_SUCCESS, System.nanoTime() - start);
+		return result;
+	}
+
+	/**
+	 * Call a CRUD method and record its latency, outcome and the size of its result.
+	 *
+	 * @param <R> is the type of the result of the CRUD method.
+	 * @param operation is the name of the CRUD method.
+	 * @param call calls the CRUD method.
+	 * @param resultSize determines the size of the result, which is only called if the result is not null.
+	 * @return the result of the CRUD method.
+	 */
+	public <R> R record(String operation, Supplier<R> call, ToLongFunction<R> resultSize) {
+		R result = record(operation, call);
+		if (result != null) {
+			recordResultSize(operation, resultSize.applyAsLong(result));
+		}
+		return result;
+	}
+
+	/**
+	 * Record the size of the result of a CRUD method.
+	 *
+	 * @param operation is the name of the CRUD method.
+	 * @param size is the size of the result.
+	 */
+	public void recordResultSize(String operation, long size) {
+		sink.recordAmount(METRIC_CRUD_RESULT_SIZE, Map.of(TAG_WEB_RESOURCE, webResource, TAG_OPERATION, operation), size);
+	}
+
+	private void recordTime(String operation, String outcome, long durationNanos) {
+		sink.recordTime(METRIC_CRUD, Map.of(TAG_WEB_RESOURCE, webResource, TAG_OPERATION, operation, TAG_OUTCOME, outcome), durationNanos);
+	}
+}
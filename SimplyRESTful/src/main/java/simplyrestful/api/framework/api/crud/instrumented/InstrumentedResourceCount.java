@@ -0,0 +1,33 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceCount.
+ */
+public class InstrumentedResourceCount implements ResourceCount {
+	private final ResourceCount delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceCount so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceCount, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceCount(ResourceCount delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public int count(String query) {
+		return metrics.record(CrudInstrumentation.OPERATION_COUNT, () -> delegate.count(query));
+	}
+
+	@Override
+	public int count(FiqlQuery query) {
+		return metrics.record(CrudInstrumentation.OPERATION_COUNT, () -> delegate.count(query));
+	}
+}
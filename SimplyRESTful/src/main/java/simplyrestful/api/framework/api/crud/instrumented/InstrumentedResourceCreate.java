@@ -0,0 +1,30 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import simplyrestful.api.framework.api.crud.ResourceCreate;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceCreate.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceCreate<T extends ApiResource> implements ResourceCreate<T> {
+	private final ResourceCreate<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceCreate so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceCreate, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceCreate(ResourceCreate<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public T create(T resource) {
+		return metrics.record(CrudInstrumentation.OPERATION_CREATE, () -> delegate.create(resource));
+	}
+}
@@ -0,0 +1,32 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.UUID;
+
+import simplyrestful.api.framework.api.crud.ResourceDelete;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceDelete.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceDelete<T extends ApiResource> implements ResourceDelete<T> {
+	private final ResourceDelete<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceDelete so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceDelete, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceDelete(ResourceDelete<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public T delete(UUID resourceUUID) {
+		return metrics.record(CrudInstrumentation.OPERATION_DELETE, () -> delegate.delete(resourceUUID));
+	}
+}
@@ -0,0 +1,29 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.UUID;
+
+import simplyrestful.api.framework.api.crud.ResourceExists;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceExists.
+ */
+public class InstrumentedResourceExists implements ResourceExists {
+	private final ResourceExists delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceExists so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceExists, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceExists(ResourceExists delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public boolean exists(UUID resourceUUID) {
+		return metrics.record(CrudInstrumentation.OPERATION_EXISTS, () -> delegate.exists(resourceUUID));
+	}
+}
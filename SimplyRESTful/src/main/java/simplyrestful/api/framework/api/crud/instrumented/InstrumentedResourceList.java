@@ -0,0 +1,40 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.List;
+
+import simplyrestful.api.framework.api.crud.ResourceList;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceList, along with the amount of resources in
+ * the page.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceList<T extends ApiResource> implements ResourceList<T> {
+	private final ResourceList<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceList so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceList, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceList(ResourceList<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public List<T> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+		return metrics.record(CrudInstrumentation.OPERATION_LIST, () -> delegate.list(pageStart, pageSize, fields, query, sort), List::size);
+	}
+
+	@Override
+	public List<T> list(int pageStart, int pageSize, List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+		return metrics.record(CrudInstrumentation.OPERATION_LIST, () -> delegate.list(pageStart, pageSize, fields, query, sort), List::size);
+	}
+}
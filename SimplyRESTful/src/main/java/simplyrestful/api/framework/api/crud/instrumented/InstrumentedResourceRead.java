@@ -0,0 +1,32 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.UUID;
+
+import simplyrestful.api.framework.api.crud.ResourceRead;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceRead.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceRead<T extends ApiResource> implements ResourceRead<T> {
+	private final ResourceRead<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceRead so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceRead, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceRead(ResourceRead<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public T read(UUID resourceUUID) {
+		return metrics.record(CrudInstrumentation.OPERATION_READ, () -> delegate.read(resourceUUID));
+	}
+}
@@ -0,0 +1,120 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import simplyrestful.api.framework.api.crud.ResourceStream;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceStream, along with the amount of resources
+ * consumed from the stream when it is closed.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceStream<T extends ApiResource> implements ResourceStream<T> {
+	private final ResourceStream<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceStream so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceStream, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceStream(ResourceStream<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Stream<T> stream(List<String> fields, String query, List<SortOrder> sort) {
+		return countConsumed(metrics.record(CrudInstrumentation.OPERATION_STREAM, () -> delegate.stream(fields, query, sort)));
+	}
+
+	@Override
+	public Stream<T> stream(List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+		return countConsumed(metrics.record(CrudInstrumentation.OPERATION_STREAM, () -> delegate.stream(fields, query, sort)));
+	}
+
+	/**
+	 * Count the resources as they are consumed from the stream. The resources are counted in a wrapping spliterator,
+	 * rather than with peek(), since a terminal operation like count() may not traverse the stream at all if its size
+	 * is known.
+	 */
+	private Stream<T> countConsumed(Stream<T> stream) {
+		if (stream == null) {
+			return null;
+		}
+		CountingSpliterator<T> counting = new CountingSpliterator<>(stream.spliterator(), new LongAdder());
+		return StreamSupport.stream(counting, stream.isParallel()).onClose(() -> {
+			try {
+				stream.close();
+			}
+			finally {
+				metrics.recordResultSize(CrudInstrumentation.OPERATION_STREAM, counting.count());
+			}
+		});
+	}
+
+	private static final class CountingSpliterator<T> implements Spliterator<T> {
+		private final Spliterator<T> source;
+		private final LongAdder items;
+
+		CountingSpliterator(Spliterator<T> source, LongAdder items) {
+			this.source = source;
+			this.items = items;
+		}
+
+		long count() {
+			return items.sum();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			return source.tryAdvance(item -> {
+				items.increment();
+				action.accept(item);
+			});
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			source.forEachRemaining(item -> {
+				items.increment();
+				action.accept(item);
+			});
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			Spliterator<T> split = source.trySplit();
+			return split == null ? null : new CountingSpliterator<>(split, items);
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		/**
+		 * The size is never reported as known, so the resources are always traversed, and counted, when consumed.
+		 */
+		@Override
+		public int characteristics() {
+			return source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+		}
+
+		@Override
+		public Comparator<? super T> getComparator() {
+			return source.getComparator();
+		}
+	}
+}
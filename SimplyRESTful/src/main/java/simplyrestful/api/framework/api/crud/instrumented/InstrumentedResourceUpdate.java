@@ -0,0 +1,30 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import simplyrestful.api.framework.api.crud.ResourceUpdate;
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Records the latency and outcome of each call to the decorated ResourceUpdate.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public class InstrumentedResourceUpdate<T extends ApiResource> implements ResourceUpdate<T> {
+	private final ResourceUpdate<T> delegate;
+	private final CrudMetrics metrics;
+
+	/**
+	 * Decorate the ResourceUpdate so its calls are recorded.
+	 *
+	 * @param delegate is the ResourceUpdate, usually the web resource itself, whose calls are recorded.
+	 * @param metrics records the calls for the web resource.
+	 */
+	public InstrumentedResourceUpdate(ResourceUpdate<T> delegate, CrudMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public T update(T resource) {
+		return metrics.record(CrudInstrumentation.OPERATION_UPDATE, () -> delegate.update(resource));
+	}
+}
@@ -0,0 +1,23 @@
+package simplyrestful.api.framework.api.crud.instrumented;
+
+import simplyrestful.api.framework.metrics.MetricsSink;
+
+/**
+ * Allows a web resource to record the calls to its CRUD methods in its own MetricsSink.
+ *
+ * The calls to the CRUD methods of all web resources are recorded in the sink enabled with CrudInstrumentation, like
+ * the sink configured for the application. A web resource only needs to implement this interface to record its calls
+ * in a different sink, e.g. one that is injected into it with a field annotated with jakarta.inject.Inject.
+ */
+public interface InstrumentedWebResource {
+	/**
+	 * Provide the sink in which the calls to the CRUD methods of this web resource are recorded.
+	 *
+	 * By default, the sink enabled with CrudInstrumentation is used.
+	 *
+	 * @return the sink for the metrics of this web resource, or null to use the sink enabled with CrudInstrumentation.
+	 */
+	default MetricsSink metricsSink() {
+		return null;
+	}
+}
@@ -0,0 +1,191 @@
+package simplyrestful.api.framework.cache;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.core.EntityTag;
+import simplyrestful.api.framework.filters.EntityTagFilter;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.BoundedCache;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * A cache for the pages of a collection resource, identified by the normalized query parameters with which they were
+ * requested.
+ *
+ * The cache has a version that is incremented whenever any resource in the collection is created, updated or removed.
+ * A page is only provided from the cache if it was created for the current version, so the cache never provides a
+ * page that was created before the collection was last modified. The cache contains at most a maximum amount of pages,
+ * evicting the pages that were added first when it is full.
+ *
+ * A cached page is provided as the same collection resource instance, which must therefore not be modified. The
+ * links in that collection resource are those of the request for which it was created.
+ *
+ * Each cached page is assigned a weak ETag, derived from the version of the cache, which the EntityTagFilter uses to
+ * answer conditional requests for that page without serializing it.
+ *
+ * @param <T> is the API resource type contained in the collection resource.
+ */
+public final class CollectionCache<T extends ApiResource> {
+	private final BoundedCache<Key, CachedCollection<T>> entries;
+	private final AtomicLong version = new AtomicLong();
+	private final long epoch = ThreadLocalRandom.current().nextLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maximumSize is the maximum amount of pages in the cache.
+	 * @throws IllegalArgumentException if the maximum size is not positive.
+	 */
+	public CollectionCache(int maximumSize) {
+		this.entries = new BoundedCache<>(maximumSize);
+	}
+
+	/**
+	 * Create the key for a page of the collection, from the query parameters with which it was requested.
+	 *
+	 * The selected fields are flattened and put in a consistent order, since their order does not change the page.
+	 * The sort fields are only flattened, since their order does change the page.
+	 *
+	 * @param requestUri is the URI with which the page was requested. Only the part before the query is used.
+	 * @param pageStart is the offset at which the page starts.
+	 * @param pageSize is the size of the page.
+	 * @param fields are the values of the "fields" query parameter.
+	 * @param query is the value of the "query" query parameter.
+	 * @param sort are the values of the "sort" query parameter.
+	 * @return the key for the page.
+	 */
+	public static Key key(URI requestUri, int pageStart, int pageSize, List<String> fields, String query, List<String> sort) {
+		String uri = requestUri.toString();
+		int queryStart = uri.indexOf('?');
+		return new Key(
+				queryStart < 0 ? uri : uri.substring(0, queryStart),
+				pageStart,
+				pageSize,
+				fields == null ? List.of() : QueryParamUtils.flattenQueryParameters(fields).stream().sorted().distinct().toList(),
+				query == null ? "" : query.strip(),
+				sort == null ? List.of() : QueryParamUtils.flattenQueryParameters(sort));
+	}
+
+	/**
+	 * Retrieve the page for the provided key, creating it if it is not cached for the current version.
+	 *
+	 * @param key is the key for the page.
+	 * @param loader creates the page.
+	 * @return the cached or newly created page.
+	 */
+	public ApiCollection<T> get(Key key, Supplier<ApiCollection<T>> loader) {
+		ApiCollection<T> cached = getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		long versionBeforeLoad = version();
+		ApiCollection<T> collection = loader.get();
+		put(key, versionBeforeLoad, collection);
+		return collection;
+	}
+
+	/**
+	 * Retrieve the page for the provided key, if it is cached for the current version.
+	 *
+	 * @param key is the key for the page.
+	 * @return the cached page or null if it is not cached for the current version.
+	 */
+	public ApiCollection<T> getIfPresent(Key key) {
+		CachedCollection<T> cached = entries.getIfPresent(key);
+		if (cached != null && cached.version() == version.get()) {
+			hits.increment();
+			return cached.collection();
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**
+	 * Add the page for the provided key, if the collection has not been modified since the page was created.
+	 *
+	 * @param key is the key for the page.
+	 * @param createdForVersion is the version of the cache, retrieved before the page was created.
+	 * @param collection is the page.
+	 */
+	public void put(Key key, long createdForVersion, ApiCollection<T> collection) {
+		if (collection != null && createdForVersion == version.get()) {
+			entries.put(key, new CachedCollection<>(collection, createdForVersion));
+			EntityTagFilter.assignEntityTag(collection, entityTag(key, createdForVersion));
+		}
+	}
+
+	/**
+	 * Remove all pages from the cache, because the collection was modified.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * @return the current version of the cache, which is incremented each time the cache is invalidated.
+	 */
+	public long version() {
+		return version.get();
+	}
+
+	/**
+	 * @return the amount of pages currently in the cache.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the amount of lookups for which the page was cached.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the amount of lookups for which the page was not cached.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the fraction of lookups for which the page was cached, or 0 if nothing has been looked up yet.
+	 */
+	public double hitRatio() {
+		long hitCount = hits();
+		long lookups = hitCount + misses();
+		return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+	}
+
+	/**
+	 * Create the weak ETag for a page of the collection. It contains a random value for this cache, so the ETags from
+	 * a previous instance of the cache, e.g. before the API was restarted, do not match.
+	 */
+	private EntityTag entityTag(Key key, long pageVersion) {
+		return new EntityTag(Long.toHexString(epoch) + "-" + pageVersion + "-" + Integer.toHexString(key.hashCode()), true);
+	}
+
+	/**
+	 * Identifies a page of the collection by the normalized query parameters with which it was requested.
+	 *
+	 * @param uri is the request URI without its query.
+	 * @param pageStart is the offset at which the page starts.
+	 * @param pageSize is the size of the page.
+	 * @param fields are the selected fields, in a consistent order.
+	 * @param query is the FIQL query.
+	 * @param sort are the sort fields.
+	 */
+	public record Key(String uri, int pageStart, int pageSize, List<String> fields, String query, List<String> sort) {}
+
+	private record CachedCollection<T extends ApiResource>(ApiCollection<T> collection, long version) {}
+}
@@ -0,0 +1,189 @@
+package simplyrestful.api.framework.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+import simplyrestful.api.framework.utils.BoundedCache;
+
+/**
+ * A cache for the amount of resources in a collection, identified by the FIQL query with which it was counted.
+ *
+ * This allows paging through a filtered collection while only counting it once. How stale a cached count may become
+ * is configurable.
+ * <ul>
+ * <li>A cache that is invalidated by writes keeps each count until any resource is created, updated or removed
+ * through the default implementations of the web resource. This is exact, as long as the resources are not modified
+ * in any other way.</li>
+ * <li>A cache with a time-to-live keeps each count for at most that duration. This limits how stale a count can be
+ * when the resources are also modified in other ways.</li>
+ * </ul>
+ * Both can be combined. The cache contains at most a maximum amount of counts, evicting the counts that were added
+ * first when it is full.
+ */
+public final class CountCache {
+	private final BoundedCache<String, CachedCount> entries;
+	private final long timeToLiveNanos;
+	private final boolean invalidatedByWrites;
+	private final AtomicLong version = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maximumSize is the maximum amount of counts in the cache.
+	 * @param timeToLive is how long a count is provided from the cache, or null if it does not expire.
+	 * @param invalidatedByWrites is true if the cache should be invalidated whenever a resource is created, updated or
+	 * removed through the web resource.
+	 * @throws IllegalArgumentException if the maximum size or the time-to-live is not positive, or if the counts would
+	 * never become invalid.
+	 */
+	public CountCache(int maximumSize, Duration timeToLive, boolean invalidatedByWrites) {
+		if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+			throw new IllegalArgumentException("The time-to-live of the cache must be positive");
+		}
+		if (timeToLive == null && !invalidatedByWrites) {
+			throw new IllegalArgumentException("The cache must have a time-to-live or be invalidated by writes");
+		}
+		this.entries = new BoundedCache<>(maximumSize);
+		this.timeToLiveNanos = timeToLive == null ? Long.MAX_VALUE : timeToLive.toNanos();
+		this.invalidatedByWrites = invalidatedByWrites;
+	}
+
+	/**
+	 * Create a cache that keeps each count until a resource is created, updated or removed through the web resource.
+	 *
+	 * @param maximumSize is the maximum amount of counts in the cache.
+	 * @return the new cache.
+	 */
+	public static CountCache invalidatedByWrites(int maximumSize) {
+		return new CountCache(maximumSize, null, true);
+	}
+
+	/**
+	 * Create a cache that keeps each count for a limited time, regardless of whether resources are modified.
+	 *
+	 * @param maximumSize is the maximum amount of counts in the cache.
+	 * @param timeToLive is how long a count is provided from the cache.
+	 * @return the new cache.
+	 */
+	public static CountCache expiring(int maximumSize, Duration timeToLive) {
+		return new CountCache(maximumSize, timeToLive, false);
+	}
+
+	/**
+	 * Retrieve the count for the provided query, counting the collection if it is not cached or has expired.
+	 *
+	 * @param query is the FIQL query with which the collection is filtered.
+	 * @param counter counts the collection for the query.
+	 * @return the cached or newly counted amount of resources.
+	 */
+	public int count(String query, ToIntFunction<String> counter) {
+		Integer cached = getIfPresent(query);
+		if (cached != null) {
+			return cached;
+		}
+		long versionBeforeCount = version();
+		long countedAt = System.nanoTime();
+		int count = counter.applyAsInt(query);
+		put(query, versionBeforeCount, countedAt, count);
+		return count;
+	}
+
+	/**
+	 * Retrieve the count for the provided query, if it is cached and has not expired.
+	 *
+	 * @param query is the FIQL query with which the collection is filtered.
+	 * @return the cached count or null if it is not cached.
+	 */
+	public Integer getIfPresent(String query) {
+		String key = normalize(query);
+		CachedCount cached = entries.getIfPresent(key);
+		if (cached != null && cached.version() == version.get()) {
+			if (System.nanoTime() - cached.countedAt() < timeToLiveNanos) {
+				hits.increment();
+				return cached.count();
+			}
+			entries.invalidate(key);
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**
+	 * Add the count for the provided query, if the cache has not been invalidated since the collection was counted.
+	 *
+	 * @param query is the FIQL query with which the collection is filtered.
+	 * @param countedForVersion is the version of the cache, retrieved before the collection was counted.
+	 * @param countedAt is the value of System.nanoTime() from before the collection was counted.
+	 * @param count is the amount of resources.
+	 */
+	public void put(String query, long countedForVersion, long countedAt, int count) {
+		if (countedForVersion == version.get()) {
+			entries.put(normalize(query), new CachedCount(count, countedForVersion, countedAt));
+		}
+	}
+
+	/**
+	 * Remove all counts from the cache, if it is invalidated by writes, because a resource was created, updated or
+	 * removed.
+	 */
+	public void invalidateOnWrite() {
+		if (invalidatedByWrites) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Remove all counts from the cache.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * @return the current version of the cache, which is incremented each time the cache is invalidated.
+	 */
+	public long version() {
+		return version.get();
+	}
+
+	/**
+	 * @return the amount of counts currently in the cache, which may include expired counts.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the amount of lookups for which the count was cached.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the amount of lookups for which the collection had to be counted.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the fraction of lookups for which the count was cached, or 0 if nothing has been looked up yet.
+	 */
+	public double hitRatio() {
+		long hitCount = hits();
+		long lookups = hitCount + misses();
+		return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+	}
+
+	private static String normalize(String query) {
+		return query == null ? "" : query.strip();
+	}
+
+	private record CachedCount(int count, long version, long countedAt) {}
+}
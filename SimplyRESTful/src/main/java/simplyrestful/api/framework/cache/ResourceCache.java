@@ -0,0 +1,122 @@
+package simplyrestful.api.framework.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.BoundedCache;
+
+/**
+ * A read-through cache for API resources, identified by their UUID.
+ *
+ * The cache contains at most a maximum amount of resources, evicting the resources that were added first when it is
+ * full. Each resource is only provided from the cache until its time-to-live has passed, after which it is read again.
+ * A resource that could not be found is not cached.
+ *
+ * Invalidating a resource while it is being read ensures that the resource that was read is not cached, since it may
+ * have been read before it was modified.
+ *
+ * @param <T> is the API resource type that is cached.
+ */
+public final class ResourceCache<T extends ApiResource> {
+	private final BoundedCache<UUID, CachedResource<T>> entries;
+	private final long timeToLiveNanos;
+	private final AtomicLong invalidations = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maximumSize is the maximum amount of resources in the cache.
+	 * @param timeToLive is how long a resource is provided from the cache after it was read.
+	 * @throws IllegalArgumentException if the maximum size or the time-to-live is not positive.
+	 */
+	public ResourceCache(int maximumSize, Duration timeToLive) {
+		if (timeToLive.isNegative() || timeToLive.isZero()) {
+			throw new IllegalArgumentException("The time-to-live of the cache must be positive");
+		}
+		this.entries = new BoundedCache<>(maximumSize);
+		this.timeToLiveNanos = timeToLive.toNanos();
+	}
+
+	/**
+	 * Retrieve the resource with the provided UUID, reading it if it is not cached or if it has expired.
+	 *
+	 * @param id is the UUID of the resource.
+	 * @param reader reads the resource with the provided UUID. It may return null if the resource does not exist.
+	 * @return the cached or newly read resource, or null if the resource does not exist.
+	 */
+	public T read(UUID id, Function<UUID, T> reader) {
+		CachedResource<T> cached = entries.getIfPresent(id);
+		long now = System.nanoTime();
+		if (cached != null) {
+			if (now - cached.readAt() < timeToLiveNanos) {
+				hits.increment();
+				return cached.resource();
+			}
+			entries.invalidate(id);
+		}
+		misses.increment();
+		long invalidationsBeforeRead = invalidations.get();
+		T resource = reader.apply(id);
+		if (resource != null && invalidations.get() == invalidationsBeforeRead) {
+			entries.put(id, new CachedResource<>(resource, now));
+		}
+		return resource;
+	}
+
+	/**
+	 * Remove the resource with the provided UUID from the cache, e.g. because it was modified or removed.
+	 *
+	 * @param id is the UUID of the resource.
+	 */
+	public void invalidate(UUID id) {
+		invalidations.incrementAndGet();
+		entries.invalidate(id);
+	}
+
+	/**
+	 * Remove all resources from the cache. This does not reset the amount of hits and misses.
+	 */
+	public void clear() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * @return the amount of resources currently in the cache, which may include expired resources.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the amount of reads for which the resource was provided from the cache.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the amount of reads for which the resource had to be read, because it was not cached or had expired.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the fraction of reads for which the resource was provided from the cache, or 0 if nothing has been read
+	 * yet.
+	 */
+	public double hitRatio() {
+		long hitCount = hits();
+		long reads = hitCount + misses();
+		return reads == 0 ? 0.0 : (double) hitCount / reads;
+	}
+
+	private record CachedResource<T>(T resource, long readAt) {}
+}
@@ -0,0 +1,51 @@
+package simplyrestful.api.framework.cache;
+
+import simplyrestful.api.framework.resources.ApiResource;
+
+/**
+ * Allows a web resource to provide a cache for its API resources, for the pages of its collection resource and for the
+ * amount of resources in its collection.
+ *
+ * The default implementations for retrieving an API resource read it through the ResourceCache, and the default
+ * implementations for retrieving the collection resource provide the pages from the CollectionCache and the amount of
+ * resources from the CountCache. The default implementations for creating, updating and deleting an API resource
+ * invalidate these caches. Since a new web
+ * resource instance may be created for each request, the caches should be shared between these instances, e.g. by
+ * keeping them in a static field.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource.
+ */
+public interface ResourceCaching<T extends ApiResource> {
+	/**
+	 * Provide the cache for the API resources of this web resource.
+	 *
+	 * By default, API resources are not cached.
+	 *
+	 * @return the cache for the API resources, or null if they should not be cached.
+	 */
+	default ResourceCache<T> resourceCache() {
+		return null;
+	}
+
+	/**
+	 * Provide the cache for the pages of the collection resource of this web resource.
+	 *
+	 * By default, the pages are not cached.
+	 *
+	 * @return the cache for the pages of the collection resource, or null if they should not be cached.
+	 */
+	default CollectionCache<T> collectionCache() {
+		return null;
+	}
+
+	/**
+	 * Provide the cache for the amount of resources in the collection, for each FIQL query.
+	 *
+	 * By default, the collection is counted for every page that needs the total amount of resources.
+	 *
+	 * @return the cache for the amount of resources in the collection, or null if it should not be cached.
+	 */
+	default CountCache countCache() {
+		return null;
+	}
+}
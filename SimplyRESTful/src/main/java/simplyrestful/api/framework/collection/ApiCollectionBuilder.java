@@ -2,13 +2,17 @@ package simplyrestful.api.framework.collection;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriBuilder;
+import simplyrestful.api.framework.queryparams.PageCursor;
 import simplyrestful.api.framework.resources.ApiCollection;
 import simplyrestful.api.framework.resources.ApiResource;
 import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.resources.StreamingApiCollection;
 import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetKeyset;
 
 /**
  * A builder for the APICollectionV2 object.
@@ -21,10 +25,15 @@ public class ApiCollectionBuilder<T extends ApiResource> {
 	 */
 	public static final int START_OF_FIRST_PAGE = 0;
     private final List<T> resources;
+    private final Stream<T> resourceStream;
     private final URI requestURI;
     private Integer collectionSize;
     private Integer pageStart;
     private Integer pageSize;
+    private Boolean hasNext;
+    private boolean cursorNavigation;
+    private PageCursor prevCursor;
+    private PageCursor nextCursor;
     /**
      * Create a builder for the APICollectionV2 object.
      *
@@ -34,11 +43,24 @@ public class ApiCollectionBuilder<T extends ApiResource> {
      * @return the builder object.
      */
 	public static <T extends ApiResource> ApiCollectionBuilder<T> from(List<T> resources, URI requestURI) {
-		return new ApiCollectionBuilder<T>(resources, requestURI);
+		return new ApiCollectionBuilder<T>(resources, null, requestURI);
 	}
 
-	private ApiCollectionBuilder(List<T> resources, URI requestURI) {
+    /**
+     * Create a builder for a StreamingApiCollection object, whose resources are only consumed when it is serialized.
+     *
+     * @param <T> is the type of resource that this collection will contain.
+     * @param resources is the stream of resources for the page of the collection that the StreamingApiCollection object should contain.
+     * @param requestURI is the request URI used to request this collection from the API.
+     * @return the builder object.
+     */
+	public static <T extends ApiResource> ApiCollectionBuilder<T> fromStream(Stream<T> resources, URI requestURI) {
+		return new ApiCollectionBuilder<T>(null, resources, requestURI);
+	}
+
+	private ApiCollectionBuilder(List<T> resources, Stream<T> resourceStream, URI requestURI) {
 		this.resources = resources;
+		this.resourceStream = resourceStream;
 		this.requestURI = requestURI;
 	}
 
@@ -71,6 +93,38 @@ public class ApiCollectionBuilder<T extends ApiResource> {
 		return this;
 	}
 
+    /**
+     * Include navigation links (first, prev, next) for keyset (cursor-based) pagination in the collection.
+     *
+     * The links to the previous and next page contain the provided cursors in the "pageCursor" query parameter. The
+     * link to the first page does not contain a cursor. There is no link to the last page.
+     *
+     * @param prevCursor is the cursor for the previous page, or null if there is no previous page.
+     * @param nextCursor is the cursor for the next page, or null if there is no next page.
+     * @return this builder object.
+     */
+	public ApiCollectionBuilder<T> withCursorNavigation(PageCursor prevCursor, PageCursor nextCursor) {
+		this.cursorNavigation = true;
+		this.prevCursor = prevCursor;
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
+	/**
+	 * Specify whether there is a page after the current page, without having to know the size of the entire collection.
+	 *
+	 * This is used to calculate the navigation link for the next page when the size of the entire collection is not
+	 * specified, e.g. because it is too expensive to count the entire collection. If the size of the entire collection
+	 * is specified, the navigation link for the next page is calculated from that size instead.
+	 *
+	 * @param hasNext is true if there is a page after the current page.
+	 * @return this builder object.
+	 */
+	public ApiCollectionBuilder<T> hasNext(boolean hasNext) {
+		this.hasNext = hasNext;
+		return this;
+	}
+
 	/**
 	 * Create the ApiCollection according to the builder.
 	 *
@@ -79,9 +133,15 @@ public class ApiCollectionBuilder<T extends ApiResource> {
 	 * @return the ApiCollection created according to the builder.
 	 */
     public ApiCollection<T> build(MediaType type) {
-    	ApiCollection<T> collection = new ApiCollection<T>();
+    	ApiCollection<T> collection;
+    	if (this.resourceStream != null) {
+    		collection = new StreamingApiCollection<T>(this.resourceStream);
+    	}
+    	else {
+    		collection = new ApiCollection<T>();
+    		collection.setItem(this.resources);
+    	}
     	collection.setSelf(new Link(requestURI, type));
-    	collection.setItem(this.resources);
 
     	if(this.collectionSize != null) {
     		collection.setTotal(this.collectionSize);
@@ -89,6 +149,9 @@ public class ApiCollectionBuilder<T extends ApiResource> {
     	if (shouldIncludeNavigation()) {
     	    includeNavigation(collection);
     	}
+    	if (this.cursorNavigation) {
+    		includeCursorNavigation(collection);
+    	}
     	return collection;
     }
 
@@ -112,6 +175,21 @@ public class ApiCollectionBuilder<T extends ApiResource> {
 			}
 		    }
 		}
+		else if (Boolean.TRUE.equals(this.hasNext)) {
+		    collection.setNext(createLinkFromURIWithModifiedPageOffset(requestURI, this.pageStart + this.pageSize, collectionType));
+		}
+    }
+
+    private void includeCursorNavigation(ApiCollection<T> collection) {
+    	MediaType collectionType = collection.self().getType();
+
+    	collection.setFirst(createLinkFromURIWithModifiedPageCursor(requestURI, null, collectionType));
+    	if (this.prevCursor != null) {
+    		collection.setPrev(createLinkFromURIWithModifiedPageCursor(requestURI, this.prevCursor, collectionType));
+    	}
+    	if (this.nextCursor != null) {
+    		collection.setNext(createLinkFromURIWithModifiedPageCursor(requestURI, this.nextCursor, collectionType));
+    	}
     }
 
     private boolean shouldIncludeNavigation() {
@@ -140,4 +218,23 @@ public class ApiCollectionBuilder<T extends ApiResource> {
 			.build();
 		return new Link(modifiedUri, type);
     }
+
+    /**
+     * Create a Link object for the provided URI and media type, updating the "pageCursor" parameter in the URI with the provided cursor.
+     *
+     * @param requestURI is a URI which may contain the "pageCursor" parameter.
+     * @param pageCursor is the cursor to which the "pageCursor" parameter in the URI should be updated, or null to remove it.
+     * @param type is the media type of the resource at the provided URI, which should typically be an API collection.
+     * @return the created Link object.
+     */
+    protected Link createLinkFromURIWithModifiedPageCursor(URI requestURI, PageCursor pageCursor, MediaType type) {
+    	UriBuilder builder = UriBuilder.fromUri(requestURI);
+    	if (pageCursor == null) {
+    		builder.replaceQueryParam(DefaultCollectionGetKeyset.QUERY_PARAM_PAGE_CURSOR);
+    	}
+    	else {
+    		builder.replaceQueryParam(DefaultCollectionGetKeyset.QUERY_PARAM_PAGE_CURSOR, pageCursor.encode());
+    	}
+		return new Link(builder.build(), type);
+    }
 }
@@ -0,0 +1,54 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.util.UUID;
+
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.CollectionCache;
+import simplyrestful.api.framework.cache.CountCache;
+import simplyrestful.api.framework.cache.ResourceCache;
+import simplyrestful.api.framework.cache.ResourceCaching;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+
+/**
+ * Shared logic for the implementations that use the caches of a web resource.
+ */
+final class CachingSupport {
+	private CachingSupport() {}
+
+	/**
+	 * Invalidate the caches of the web resource after an API resource was created, updated or removed.
+	 *
+	 * @param webResource is the web resource that may cache its API resources.
+	 * @param id is the UUID of the modified API resource, or null if it was created.
+	 */
+	static void invalidate(ResourceCaching<?> webResource, UUID id) {
+		ResourceCache<?> resourceCache = webResource.resourceCache();
+		if (resourceCache != null && id != null) {
+			resourceCache.invalidate(id);
+		}
+		CollectionCache<?> collectionCache = webResource.collectionCache();
+		if (collectionCache != null) {
+			collectionCache.invalidate();
+		}
+		CountCache countCache = webResource.countCache();
+		if (countCache != null) {
+			countCache.invalidateOnWrite();
+		}
+	}
+
+	/**
+	 * Count the collection of the web resource, providing the count from its CountCache if it is available.
+	 *
+	 * @param <W> is the type of the web resource, which can both count its collection and cache it.
+	 * @param webResource is the web resource that counts its collection.
+	 * @param query is the parsed FIQL query with which the collection is filtered. Equivalent queries share the same
+	 * cached count.
+	 * @return the amount of resources in the filtered collection.
+	 */
+	static <W extends ResourceCount & ResourceCaching<?>> int count(W webResource, FiqlQuery query) {
+		ResourceCount counter = CrudInstrumentation.instrumentCount(webResource);
+		CountCache countCache = webResource.countCache();
+		return countCache == null ? counter.count(query) : countCache.count(query.normalized(), normalized -> counter.count(query));
+	}
+}
@@ -0,0 +1,35 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+/**
+ * Configure whether the collection is counted by the implementations that retrieve the collection resource.
+ */
+public interface CollectionCounting {
+    /**
+     * Indicate whether the collection should never be counted.
+     *
+     * By default, the collection is only counted when the "total" field, or the link to the "last" or "next" page, is
+     * selected in the "fields" query parameter. When this returns true, the collection is never counted, so the "total"
+     * field and the link to the "last" page are not available. The link to the "next" page is then determined by
+     * retrieving a single resource more than the size of the page. This can be useful when counting the collection is
+     * more expensive than retrieving the page.
+     *
+     * @return true if the collection should never be counted, false otherwise.
+     */
+    default boolean skipCount() {
+    	return false;
+    }
+
+    /**
+     * Indicate whether the link to the "next" page may be determined without counting the collection.
+     *
+     * By default, the collection is counted to determine the link to the "next" page, so the page is always retrieved
+     * with the page size requested by the client. When this returns true and neither the "total" field nor the link
+     * to the "last" page is selected, a single resource more than the size of the page is retrieved instead. The page
+     * size provided to the web resource is then one more than requested.
+     *
+     * @return true if a single resource more than the size of the page may be retrieved, false otherwise.
+     */
+    default boolean lookAheadForNext() {
+    	return false;
+    }
+}
@@ -0,0 +1,66 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default executor on which DefaultCollectionGetAsync runs the synchronous list() and count() methods.
+ *
+ * Since these methods usually block on I/O, they are not run on the common ForkJoinPool, which is used for CPU-bound
+ * work like parallel streams. Instead, this executor has a bounded amount of threads, as configured with the
+ * "SIMPLYRESTFUL_COLLECTION_EXECUTOR_THREADS" property or environment variable, and a bounded queue. When the queue
+ * is full, further tasks are rejected so the requests fail quickly instead of waiting without limit.
+ */
+final class CollectionExecutor {
+	private static final int DEFAULT_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+	private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private CollectionExecutor() {}
+
+	/**
+	 * @return the shared executor, which is created when it is first used.
+	 */
+	static Executor get() {
+		return Holder.EXECUTOR;
+	}
+
+	private static int getThreads() {
+		String threads = System.getProperty(DefaultCollectionGetAsync.CONFIGURATION_PROPERTY_EXECUTOR_THREADS);
+		if (threads == null) {
+			threads = System.getenv(DefaultCollectionGetAsync.CONFIGURATION_PROPERTY_EXECUTOR_THREADS);
+		}
+		if (threads == null || threads.isBlank()) {
+			return DEFAULT_THREADS;
+		}
+		try {
+			int configured = Integer.parseInt(threads.strip());
+			return configured > 0 ? configured : DEFAULT_THREADS;
+		}
+		catch (NumberFormatException e) {
+			return DEFAULT_THREADS;
+		}
+	}
+
+	private static final class Holder {
+		private static final Executor EXECUTOR = create();
+
+		private static Executor create() {
+			int threads = getThreads();
+			AtomicInteger threadNumber = new AtomicInteger();
+			ThreadFactory threadFactory = task -> {
+				Thread thread = new Thread(task, "simplyrestful-collection-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.collection.ApiCollectionBuilder;
+import simplyrestful.api.framework.filters.JsonFieldsFilter;
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.resources.StreamingApiCollection;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Shared logic for the implementations that retrieve the collection resource.
+ */
+final class CollectionGetSupport {
+	/**
+	 * The media type of the collection resource for each web resource class, once it has been determined.
+	 */
+	private static final ClassValue<AtomicReference<MediaType>> COLLECTION_TYPES = new ClassValue<>() {
+		@Override
+		protected AtomicReference<MediaType> computeValue(Class<?> webResourceClass) {
+			return new AtomicReference<>(resolveCollectionType(webResourceClass));
+		}
+	};
+
+	private CollectionGetSupport() {}
+
+	/**
+	 * Parse the FIQL query with which the collection is filtered.
+	 *
+	 * The query is parsed before any resources are retrieved, so an invalid query is rejected without accessing the
+	 * backend.
+	 *
+	 * @param query is the value of the "query" query parameter.
+	 * @return the parsed query.
+	 * @throws BadRequestException if the query is not valid FIQL.
+	 */
+	static FiqlQuery parseQuery(String query) {
+		try {
+			return QueryParamUtils.parseQuery(query);
+		}
+		catch (FiqlParseException e) {
+			throw new BadRequestException("The FIQL query could not be parsed", e);
+		}
+	}
+
+	/**
+	 * Determine whether the collection needs to be counted for the selected fields.
+	 *
+	 * @param selectedFields is the flattened list of fields selected for the collection resource.
+	 * @param skipCount is true if the collection should never be counted.
+	 * @param lookAheadForNext is true if the link to the "next" page may be determined without counting the collection.
+	 * @return true if the "total" field or the link to the "last" page is selected, or the link to the "next" page is
+	 * selected and may not be determined without counting, and counting is not skipped.
+	 */
+	static boolean isCountNeeded(List<String> selectedFields, boolean skipCount, boolean lookAheadForNext) {
+		return !skipCount && (isFieldSelected(selectedFields, DefaultCollectionGet.COLLECTION_FIELD_TOTAL)
+				|| isFieldSelected(selectedFields, DefaultCollectionGet.COLLECTION_FIELD_LAST)
+				|| (!lookAheadForNext && isFieldSelected(selectedFields, DefaultCollectionGet.COLLECTION_FIELD_NEXT)));
+	}
+
+	/**
+	 * Determine whether a single resource more than the page size should be retrieved, to find out if there is a next
+	 * page without counting the collection.
+	 *
+	 * @param selectedFields is the flattened list of fields selected for the collection resource.
+	 * @param countNeeded is true if the collection is counted.
+	 * @param pageSize is the size of the page.
+	 * @return true if the link to the "next" page is selected and the collection is not counted.
+	 */
+	static boolean isLookAheadNeeded(List<String> selectedFields, boolean countNeeded, int pageSize) {
+		return !countNeeded && isFieldSelected(selectedFields, DefaultCollectionGet.COLLECTION_FIELD_NEXT) && pageSize < Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Create the collection resource for the retrieved page of resources.
+	 *
+	 * @param <T> is the API resource type contained in the collection resource.
+	 * @param webResourceClass is the class of the web resource that provides the collection resource.
+	 * @param requestUri is the URI with which the collection resource was requested.
+	 * @param resources is the retrieved page of resources, which contains a single resource more than the page size if
+	 * there is a next page and the look-ahead was needed.
+	 * @param pageStart is the offset at which the requested page starts.
+	 * @param pageSize is the size of the page.
+	 * @param lookAhead is true if a single resource more than the page size was retrieved.
+	 * @param total is the amount of resources in the entire collection, or null if the collection was not counted.
+	 * @return the collection resource.
+	 */
+	static <T extends ApiResource> ApiCollection<T> build(Class<?> webResourceClass, URI requestUri, List<T> resources, int pageStart, int pageSize, boolean lookAhead, Integer total) {
+		boolean hasNext = lookAhead && resources.size() > pageSize;
+		List<T> page = hasNext ? resources.subList(0, pageSize) : resources;
+		ApiCollectionBuilder<T> builder = ApiCollectionBuilder.from(page, requestUri)
+				.withNavigation(pageStart, pageSize);
+		if(total != null) {
+			builder.collectionSize(total);
+		}
+		else {
+			builder.hasNext(hasNext);
+		}
+		return builder.build(collectionType(webResourceClass, page));
+	}
+
+	/**
+	 * Create the collection resource for the retrieved stream of resources, which is only consumed when the collection
+	 * resource is serialized.
+	 *
+	 * Only the first resource is retrieved from the stream, to determine the media type of the collection resource if
+	 * it is not yet known for the web resource.
+	 *
+	 * @param <T> is the API resource type contained in the collection resource.
+	 * @param webResourceClass is the class of the web resource that provides the collection resource.
+	 * @param requestUri is the URI with which the collection resource was requested.
+	 * @param resources is the retrieved stream of resources, which contains a single resource more than the page size if
+	 * there is a next page and the look-ahead was needed.
+	 * @param pageStart is the offset at which the requested page starts.
+	 * @param pageSize is the size of the page.
+	 * @param lookAhead is true if a single resource more than the page size was retrieved.
+	 * @param total is the amount of resources in the entire collection, or null if the collection was not counted.
+	 * @return the collection resource.
+	 */
+	static <T extends ApiResource> StreamingApiCollection<T> buildStreaming(Class<?> webResourceClass, URI requestUri, Stream<T> resources, int pageStart, int pageSize, boolean lookAhead, Integer total) {
+		Iterator<T> iterator = resources.iterator();
+		List<T> firstResource = iterator.hasNext() ? List.of(iterator.next()) : List.of();
+		Stream<T> remainingResources = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+		Stream<T> page = Stream.concat(firstResource.stream(), remainingResources).onClose(resources::close);
+		ApiCollectionBuilder<T> builder = ApiCollectionBuilder.fromStream(page, requestUri)
+				.withNavigation(pageStart, pageSize);
+		if(total != null) {
+			builder.collectionSize(total);
+		}
+		else {
+			builder.hasNext(lookAhead);
+		}
+		StreamingApiCollection<T> collection = (StreamingApiCollection<T>) builder.build(collectionType(webResourceClass, firstResource));
+		if(total == null && lookAhead) {
+			Link next = collection.getNext();
+			collection.setNext(null);
+			collection.nextIfMoreItems(pageSize, next);
+		}
+		return collection;
+	}
+
+	/**
+	 * Determine the media type of the collection resource provided by the web resource, including the media type of
+	 * the contained resources.
+	 *
+	 * This media type is only determined once for each web resource class. If the web resource class declares the
+	 * custom JSON media type of its API resource with {@link Produces}, the media type is determined from that.
+	 * Otherwise, it is determined from the first page that contains any resources. So empty pages also get the same
+	 * media type, unless no resources have been retrieved yet.
+	 *
+	 * @param webResourceClass is the class of the web resource that provides the collection resource.
+	 * @param resources is the page of resources contained in the collection resource.
+	 * @return the media type of the collection resource.
+	 */
+	static MediaType collectionType(Class<?> webResourceClass, List<? extends ApiResource> resources) {
+		AtomicReference<MediaType> cachedCollectionType = COLLECTION_TYPES.get(webResourceClass);
+		MediaType collectionType = cachedCollectionType.get();
+		if(collectionType == null) {
+			if(resources.isEmpty()) {
+				return ApiCollection.MEDIA_TYPE_JSON_TYPE;
+			}
+			collectionType = collectionType(resources.get(0).customJsonMediaType());
+			cachedCollectionType.compareAndSet(null, collectionType);
+		}
+		return collectionType;
+	}
+
+	/**
+	 * Determine the media type of the collection resource, including the media type of the contained resources.
+	 *
+	 * The media type is cached for each media type of the contained resources, so it is not created again for every
+	 * request.
+	 *
+	 * @param resourceType is the custom JSON media type of the contained resources.
+	 * @return the media type of the collection resource.
+	 */
+	private static MediaType collectionType(MediaType resourceType) {
+		return MediaTypeUtils.withParameter(ApiCollection.MEDIA_TYPE_JSON_TYPE, ApiCollection.MEDIA_TYPE_PARAMETER_ITEM_TYPE,
+				resourceType);
+	}
+
+	/**
+	 * Resolve the media type of the collection resource from the custom JSON media type that the web resource class
+	 * declares with {@link Produces}.
+	 *
+	 * @param webResourceClass is the class of the web resource that provides the collection resource.
+	 * @return the media type of the collection resource, or null if the web resource class does not declare exactly
+	 * one custom JSON media type.
+	 */
+	private static MediaType resolveCollectionType(Class<?> webResourceClass) {
+		Produces produces = webResourceClass.getAnnotation(Produces.class);
+		if(produces == null) {
+			return null;
+		}
+		MediaType resourceType = null;
+		for(String declaredTypes : produces.value()) {
+			for(String declaredType : declaredTypes.split(",")) {
+				MediaType mediaType = MediaType.valueOf(declaredType.trim());
+				if(!isCustomJsonType(mediaType)) {
+					continue;
+				}
+				if(resourceType != null && !resourceType.equals(mediaType)) {
+					return null;
+				}
+				resourceType = mediaType;
+			}
+		}
+		return resourceType == null ? null : collectionType(resourceType);
+	}
+
+	private static boolean isCustomJsonType(MediaType mediaType) {
+		return mediaType.getSubtype().endsWith("+json") && !mediaType.isWildcardSubtype()
+				&& !mediaType.isCompatible(ApiCollection.MEDIA_TYPE_JSON_TYPE);
+	}
+
+	private static boolean isFieldSelected(List<String> fields, String field) {
+		return fields.isEmpty() || fields.stream().anyMatch(selected ->
+				selected.equals(QueryParamUtils.FIELDS_VALUE_ALL)
+				|| selected.equals(field)
+				|| selected.startsWith(field + JsonFieldsFilter.FIELDS_NESTING_SEPARATOR));
+	}
+}
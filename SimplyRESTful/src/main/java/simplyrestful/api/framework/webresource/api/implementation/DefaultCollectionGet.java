@@ -1,8 +1,7 @@
 package simplyrestful.api.framework.webresource.api.implementation;
 
-import java.util.HashMap;
+import java.net.URI;
 import java.util.List;
-import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,11 +10,13 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
-import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
 import simplyrestful.api.framework.api.crud.ResourceCount;
 import simplyrestful.api.framework.api.crud.ResourceList;
-import simplyrestful.api.framework.collection.ApiCollectionBuilder;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.CollectionCache;
+import simplyrestful.api.framework.cache.ResourceCaching;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.resources.ApiCollection;
 import simplyrestful.api.framework.resources.ApiResource;
 import simplyrestful.api.framework.utils.QueryParamUtils;
@@ -26,9 +27,12 @@ import simplyrestful.api.framework.utils.QueryParamUtils;
  * If no preference is given for the type of collection resource, this will return the most recent version of the
  * collection resource in plain JSON format, using a custom JSON media type.
  *
+ * If the web resource provides a CollectionCache, the pages of the collection resource are provided from that cache
+ * until any API resource is created, updated or removed.
+ *
  * @param <T> is the API resource type used in the JAX-RS WebResource, which will be contained in the collection resource.
  */
-public interface DefaultCollectionGet<T extends ApiResource> extends ResourceList<T>, ResourceCount {
+public interface DefaultCollectionGet<T extends ApiResource> extends ResourceList<T>, ResourceCount, ResourceCaching<T>, CollectionCounting {
 	/**
 	 * The name of the query parameter for the starting offset for the page that is contained in the collection.
 	 */
@@ -65,6 +69,18 @@ public interface DefaultCollectionGet<T extends ApiResource> extends ResourceLis
      * The default value for the "sort" query parameter
      */
     public static final String QUERY_PARAM_SORT_DEFAULT = "";
+    /**
+     * The name of the field in the collection resource that contains the total amount of resources in the collection.
+     */
+    public static final String COLLECTION_FIELD_TOTAL = "total";
+    /**
+     * The name of the field in the collection resource that contains the link to the last page.
+     */
+    public static final String COLLECTION_FIELD_LAST = "last";
+    /**
+     * The name of the field in the collection resource that contains the link to the next page.
+     */
+    public static final String COLLECTION_FIELD_NEXT = "next";
 
     /**
      * Retrieve the paginated collection of resources.
@@ -106,24 +122,21 @@ public interface DefaultCollectionGet<T extends ApiResource> extends ResourceLis
 		    @DefaultValue(QUERY_PARAM_SORT_DEFAULT)
 		    @Parameter(description = "The fields on which the resources should be sorted", required = false)
 		    List<String> sort) {
-    	MediaType collectionType = MediaType.valueOf(ApiCollection.MEDIA_TYPE_JSON);
-		List<T> resources = this.list(pageStart, pageSize, fields, query, QueryParamUtils.parseSort(sort));
-		if(!resources.isEmpty()) {
-			MediaType resourceMediaType = resources.get(0).customJsonMediaType();
-			if(!collectionType.getParameters().containsKey(ApiCollection.MEDIA_TYPE_PARAMETER_ITEM_TYPE)) {
-				Map<String, String> mediaTypeParameters = new HashMap<>(collectionType.getParameters());
-				mediaTypeParameters.put(ApiCollection.MEDIA_TYPE_PARAMETER_ITEM_TYPE, resourceMediaType.toString());
-				collectionType = new MediaType(
-						collectionType.getType(),
-						collectionType.getSubtype(),
-						mediaTypeParameters);
-			}
-		}
-		return ApiCollectionBuilder.from(resources, uriInfo.getRequestUri())
-				.withNavigation(pageStart, pageSize)
-				.collectionSize(this.count(query))
-				.build(collectionType);
-	    }
-
+    	FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+    	CollectionCache<T> cache = collectionCache();
+    	if (cache != null) {
+    		CollectionCache.Key key = CollectionCache.key(uriInfo.getRequestUri(), pageStart, pageSize, fields, parsedQuery.normalized(), sort);
+    		return cache.get(key, () -> retrieveCollection(uriInfo.getRequestUri(), pageStart, pageSize, fields, parsedQuery, sort));
+    	}
+    	return retrieveCollection(uriInfo.getRequestUri(), pageStart, pageSize, fields, parsedQuery, sort);
+    }
 
+    private ApiCollection<T> retrieveCollection(URI requestUri, int pageStart, int pageSize, List<String> fields, FiqlQuery query, List<String> sort) {
+    	List<String> selectedFields = QueryParamUtils.flattenQueryParameters(fields);
+    	boolean countNeeded = CollectionGetSupport.isCountNeeded(selectedFields, skipCount(), lookAheadForNext());
+    	boolean lookAhead = CollectionGetSupport.isLookAheadNeeded(selectedFields, countNeeded, pageSize);
+		List<T> resources = CrudInstrumentation.instrumentList(this).list(pageStart, lookAhead ? pageSize + 1 : pageSize, fields, query, QueryParamUtils.parseSort(sort));
+		Integer total = countNeeded ? CachingSupport.count(this, query) : null;
+		return CollectionGetSupport.build(getClass(), requestUri, resources, pageStart, pageSize, lookAhead, total);
+    }
 }
@@ -0,0 +1,209 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.api.crud.ResourceCountAsync;
+import simplyrestful.api.framework.api.crud.ResourceList;
+import simplyrestful.api.framework.api.crud.ResourceListAsync;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.CollectionCache;
+import simplyrestful.api.framework.cache.CountCache;
+import simplyrestful.api.framework.cache.ResourceCaching;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Provide an alternative implementation for retrieving the collection resource, which retrieves the page of resources
+ * and counts the collection concurrently.
+ *
+ * The request is handled asynchronously, so the container thread is released while the page of resources is retrieved
+ * and the collection is counted. The collection resource is the same as the one provided by DefaultCollectionGet, so
+ * this should be used instead of DefaultCollectionGet, not in addition to it.
+ *
+ * By default, the synchronous list() and count() methods are each run on the executor provided by collectionExecutor().
+ * If your backend already provides an asynchronous API, you can override listAsync() and countAsync() instead.
+ *
+ * Since list() and count() are not run on the thread that handles the request, they must not use request-scoped
+ * values that are injected into the web resource, like a UriInfo field annotated with Context. JAX-RS implementations
+ * usually inject a proxy for these values, which can only be resolved on the thread that handles the request. The
+ * listAsync() and countAsync() methods are still called on that thread, so you can override them to resolve such
+ * values before list() and count() are dispatched to the executor.
+ *
+ * If the web resource provides a CollectionCache, a cached page of the collection resource is provided immediately.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource, which will be contained in the collection resource.
+ */
+public interface DefaultCollectionGetAsync<T extends ApiResource> extends ResourceList<T>, ResourceCount, ResourceListAsync<T>, ResourceCountAsync, ResourceCaching<T>, CollectionCounting {
+	/**
+	 * The name of the property or environment variable that configures the amount of threads of the default
+	 * collectionExecutor().
+	 */
+	public static final String CONFIGURATION_PROPERTY_EXECUTOR_THREADS = "SIMPLYRESTFUL_COLLECTION_EXECUTOR_THREADS";
+
+    /**
+     * Retrieve the paginated collection of resources asynchronously.
+     *
+     * @param uriInfo is a JAX-RS context object.
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the size of a single page in this paginated collection of resources
+     * @param fields is a list that defines which fields should be retrieved. This is only included for convenience as
+     * it is already handled by the framework. It can be used to filter on these fields in the backend as well, e.g. to
+     * improve performance.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is a list of field names on which the resources should be sorted. This is only included for convenience
+     * as it is already handled by the framework.
+     * @param asyncResponse is a JAX-RS-provided asynchronous response, which is resumed with the paginated collection
+     * of resources.
+     */
+    @GET
+    @Produces(ApiCollection.MEDIA_TYPE_JSON)
+    @Operation(description = "Retrieve a filtered, sorted collection of API resources.")
+    default void listAPIResourcesAsync(
+    		@Context
+		    UriInfo uriInfo,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_PAGE_START)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_PAGE_START_DEFAULT)
+	        @Parameter(description = "The page to be shown", required = false)
+		    int pageStart,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE_DEFAULT)
+		    @Parameter(description = "The amount of resources shown on each page", required = false)
+		    int pageSize,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_FIELDS)
+		    @DefaultValue(ApiCollection.FIELDS_VALUE_DEFAULT)
+		    @Parameter(description = "The fields that should be retrieved", required = false)
+		    List<String> fields,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_QUERY)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT)
+		    @Parameter(description = "The FIQL query according to which the resources should be filtered", required = false)
+		    String query,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_SORT)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_SORT_DEFAULT)
+		    @Parameter(description = "The fields on which the resources should be sorted", required = false)
+		    List<String> sort,
+		    @Suspended
+		    AsyncResponse asyncResponse) {
+    	URI requestUri = uriInfo.getRequestUri();
+    	FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+    	CollectionCache<T> cache = collectionCache();
+    	CollectionCache.Key key = cache == null ? null : CollectionCache.key(requestUri, pageStart, pageSize, fields, parsedQuery.normalized(), sort);
+    	ApiCollection<T> cached = cache == null ? null : cache.getIfPresent(key);
+    	if (cached != null) {
+    		asyncResponse.resume(cached);
+    		return;
+    	}
+    	long cacheVersion = cache == null ? 0 : cache.version();
+    	List<String> selectedFields = QueryParamUtils.flattenQueryParameters(fields);
+    	boolean countNeeded = CollectionGetSupport.isCountNeeded(selectedFields, skipCount(), lookAheadForNext());
+    	boolean lookAhead = CollectionGetSupport.isLookAheadNeeded(selectedFields, countNeeded, pageSize);
+    	CompletionStage<List<T>> page = listAsync(pageStart, lookAhead ? pageSize + 1 : pageSize, fields, query, QueryParamUtils.parseSort(sort));
+    	CompletionStage<Integer> total = countNeeded ? cachedCountAsync(parsedQuery) : CompletableFuture.completedFuture(null);
+    	page.thenCombine(total, (resources, count) -> CollectionGetSupport.build(getClass(), requestUri, resources, pageStart, pageSize, lookAhead, count))
+    		.whenComplete((collection, error) -> {
+    			if (error != null) {
+    				asyncResponse.resume(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+    			}
+    			else {
+    				if (cache != null) {
+    					cache.put(key, cacheVersion, collection);
+    				}
+    				asyncResponse.resume(collection);
+    			}
+    		});
+    }
+
+    /**
+     * Count the collection with countAsync(), unless the count is available from the CountCache of this web resource.
+     *
+     * @param query is the parsed FIQL query with which the collection is filtered.
+     * @return the amount of resources in the filtered collection.
+     */
+    private CompletionStage<Integer> cachedCountAsync(FiqlQuery query) {
+    	CountCache cache = countCache();
+    	if (cache == null) {
+    		return countAsync(query.getQuery());
+    	}
+    	String normalized = query.normalized();
+    	Integer cached = cache.getIfPresent(normalized);
+    	if (cached != null) {
+    		return CompletableFuture.completedFuture(cached);
+    	}
+    	long versionBeforeCount = cache.version();
+    	long countedAt = System.nanoTime();
+    	return countAsync(query.getQuery()).thenApply(count -> {
+    		if (count != null) {
+    			cache.put(normalized, versionBeforeCount, countedAt, count);
+    		}
+    		return count;
+    	});
+    }
+
+    /**
+     * Retrieve the page of resources by running list() on the executor provided by collectionExecutor().
+     *
+     * The query has already been parsed when the request was received, so the parsed query is provided from the cache
+     * in QueryParamUtils. This is called on the thread that handles the request, but list() is not.
+     */
+    @Override
+    default CompletionStage<List<T>> listAsync(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+    	FiqlQuery parsedQuery = QueryParamUtils.parseQuery(query);
+    	return dispatch(() -> CrudInstrumentation.instrumentList(this).list(pageStart, pageSize, fields, parsedQuery, sort));
+    }
+
+    /**
+     * Count the collection by running count() on the executor provided by collectionExecutor().
+     *
+     * This is called on the thread that handles the request, but count() is not.
+     */
+    @Override
+    default CompletionStage<Integer> countAsync(String query) {
+    	FiqlQuery parsedQuery = QueryParamUtils.parseQuery(query);
+    	return dispatch(() -> CrudInstrumentation.instrumentCount(this).count(parsedQuery));
+    }
+
+    /**
+     * Provide the executor on which the synchronous list() and count() methods are run.
+     *
+     * By default, this uses an executor that is shared by all web resources and sized for tasks that block on I/O,
+     * like a database query, with the amount of threads configured by the "SIMPLYRESTFUL_COLLECTION_EXECUTOR_THREADS"
+     * property or environment variable. When too many tasks are waiting for this executor, the request is rejected with
+     * 503 Service Unavailable. The common ForkJoinPool should not be used here, since blocking its threads slows down
+     * everything else that uses it, like parallel streams.
+     *
+     * @return the executor on which the collection is retrieved and counted.
+     */
+    default Executor collectionExecutor() {
+    	return CollectionExecutor.get();
+    }
+
+    private <R> CompletionStage<R> dispatch(Supplier<R> task) {
+    	try {
+    		return CompletableFuture.supplyAsync(task, collectionExecutor());
+    	}
+    	catch (RejectedExecutionException e) {
+    		return CompletableFuture.failedFuture(new ServiceUnavailableException("The collection can not be retrieved right now, try again later"));
+    	}
+    }
+}
@@ -1,6 +1,8 @@
 package simplyrestful.api.framework.webresource.api.implementation;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -13,10 +15,14 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.Sse;
 import jakarta.ws.rs.sse.SseEventSink;
 import simplyrestful.api.framework.api.crud.ResourceStream;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
 import simplyrestful.api.framework.utils.QueryParamUtils;
 
 /**
@@ -34,6 +40,10 @@ public interface DefaultCollectionGetEventStream<T extends ApiResource> extends
 	 * event stream cleanly on their end.
 	 */
 	public static final String SSE_END_OF_COLLECTION_TOKEN = "end-of-collection";
+	/**
+	 * The name of the events that contain a batch of resources as a JSON array.
+	 */
+	public static final String SSE_BATCH_EVENT_NAME = "batch";
 
 	/**
      * Retrieve the collection of resources as a stream of events (as server-sent events).
@@ -43,6 +53,12 @@ public interface DefaultCollectionGetEventStream<T extends ApiResource> extends
      * to send each resource in the collection as an Event to the API consumer. After all items are sent, a final
      * event message is sent with a custom token to indicate that the event stream can be closed.
      * </p>
+     * <p>
+     * The resources can also be sent in batches, as configured with eventBatchSize() and eventFlushInterval(). The
+     * amount of events that have been sent but not yet written to the client is limited by maxInFlightEvents(), so
+     * retrieving the resources is slowed down to the pace at which the client reads them. If an event can not be sent,
+     * e.g. because the client disconnected, no further resources are retrieved and the event sink is closed.
+     * </p>
      * @param fields is a list that defines which fields should be retrieved. This is only included for convenience
      * as it is already handled by the framework. It can be used to filter on these fields in the backend
      * as well, e.g. to improve performance.
@@ -54,7 +70,7 @@ public interface DefaultCollectionGetEventStream<T extends ApiResource> extends
 	 * @throws IOException if an I/O error occurs while closing the outbound SSE stream (SseEventSink).
      */
     @GET
-    @Produces(MediaType.SERVER_SENT_EVENTS+";qs=0.1")
+    @Produces(MediaTypeUtils.SERVER_SENT_EVENTS_STREAMING)
     @Operation(description = "Retrieve a filtered, sorted collection of resources as an event stream.")
     @ApiResponse(description = "An event stream containing your API resources.")
     default void streamAPIResources(
@@ -74,18 +90,76 @@ public interface DefaultCollectionGetEventStream<T extends ApiResource> extends
 		    SseEventSink eventSink,
 		    @Context
 		    Sse sse) throws IOException{
-        try (SseEventSink sink = eventSink; Stream<T> stream = stream(fields,query,QueryParamUtils.parseSort(sort))) {
-        	stream.forEach(resourceItem -> {
-				sink.send(sse.newEventBuilder()
-                        .data(resourceItem)
-                        .mediaType(resourceItem.customJsonMediaType())
-                        .build());
-            });
-        	sink.send(sse.newEventBuilder()
+        FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+        int batchSize = Math.max(1, eventBatchSize());
+        int maxInFlight = Math.max(1, maxInFlightEvents());
+        try (SseEventSink sink = eventSink;
+        		Stream<T> stream = CrudInstrumentation.instrumentStream(this).stream(fields, parsedQuery, QueryParamUtils.parseSort(sort));
+        		EventBatcher<T> batcher = new EventBatcher<>(sink, batch -> createEvent(sse, batch, batchSize), batchSize, eventFlushInterval(), maxInFlight)) {
+        	Iterator<T> resources = stream.iterator();
+        	while (batcher.isOpen() && resources.hasNext()) {
+        		batcher.add(resources.next());
+        	}
+        	if (!batcher.isOpen()) {
+        		return;
+        	}
+        	batcher.finish(sse.newEventBuilder()
         			.comment(SSE_END_OF_COLLECTION_TOKEN)
         			.data(SSE_END_OF_COLLECTION_TOKEN)
         			.mediaType(MediaType.TEXT_PLAIN_TYPE)
         			.build());
         }
     }
+
+    /**
+     * Provide the amount of resources that are sent together in a single event.
+     *
+     * By default, each resource is sent in its own event. If this is larger than 1, the resources are sent as a JSON
+     * array in events named "batch", which reduces the overhead of sending many small events.
+     *
+     * @return the maximum amount of resources in a single event.
+     */
+    default int eventBatchSize() {
+    	return 1;
+    }
+
+    /**
+     * Provide the maximum amount of time that resources are collected for a single batch event.
+     *
+     * When this amount of time has passed since the first resource in the batch was retrieved, the batch is sent even
+     * if it does not contain eventBatchSize() resources yet. This is done by a timer, so the batch is also sent while
+     * the next resource is still being retrieved. This only applies if eventBatchSize() is larger than 1.
+     *
+     * @return the maximum amount of time to collect resources for a batch, or null to only send full batches.
+     */
+    default Duration eventFlushInterval() {
+    	return null;
+    }
+
+    /**
+     * Provide the maximum amount of events that may be sent without having been written to the client.
+     *
+     * When this amount is reached, retrieving the next resources waits until the oldest event has been written. This
+     * prevents events from being buffered without limit when the client reads them slower than they are retrieved.
+     *
+     * @return the maximum amount of events that may be in flight.
+     */
+    default int maxInFlightEvents() {
+    	return 16;
+    }
+
+    private OutboundSseEvent createEvent(Sse sse, List<T> batch, int batchSize) {
+    	if (batchSize == 1) {
+    		T resourceItem = batch.get(0);
+    		return sse.newEventBuilder()
+    				.data(resourceItem)
+    				.mediaType(resourceItem.customJsonMediaType())
+    				.build();
+    	}
+    	return sse.newEventBuilder()
+    			.name(SSE_BATCH_EVENT_NAME)
+    			.data(List.class, batch)
+    			.mediaType(MediaType.APPLICATION_JSON_TYPE)
+    			.build();
+    }
 }
@@ -0,0 +1,139 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Providers;
+import simplyrestful.api.framework.api.crud.ResourceStream;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Provide an alternative implementation for retrieving the collection resource as a stream of JSON documents, either as
+ * <a href="https://github.com/ndjson/ndjson-spec">newline-delimited JSON</a> or as a
+ * <a href="https://www.rfc-editor.org/rfc/rfc7464">JSON text sequence</a>.
+ *
+ * Each resource is serialized directly to the response as soon as it is retrieved from the stream, using a single JSON
+ * generator for the entire response. This requires only a constant amount of memory, regardless of the size of the
+ * collection, and does not add any framing other than the separator between the JSON documents.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource, which will be contained in the collection resource.
+ */
+public interface DefaultCollectionGetJsonStream<T extends ApiResource> extends ResourceStream<T> {
+	/**
+	 * The character that ends each JSON document in newline-delimited JSON and in a JSON text sequence.
+	 */
+	public static final char JSON_STREAM_LINE_FEED = '\n';
+	/**
+	 * The character that precedes each JSON document in a JSON text sequence.
+	 */
+	public static final char JSON_STREAM_RECORD_SEPARATOR = '\u001E';
+
+	/**
+     * Retrieve the collection of resources as a stream of JSON documents.
+     * <p>
+     * The media type of the response is newline-delimited JSON, unless the client prefers a JSON text sequence as
+     * indicated by the Accept header.
+     * </p>
+     * @param fields is a list that defines which fields should be retrieved. This is only included for convenience
+     * as it is already handled by the framework. It can be used to filter on these fields in the backend
+     * as well, e.g. to improve performance.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is a list of field names on which the resources should be sorted. This is only included for convenience
+     * as it is already handled by the framework.
+     * @param httpHeaders is a JAX-RS context object, which is used to determine the preferred media type.
+     * @param providers is a JAX-RS context object, which is used to find the ObjectMapper for serializing the resources.
+     * @return the response which streams the resources.
+     */
+    @GET
+    @Produces({MediaTypeUtils.APPLICATION_NDJSON_STREAMING, MediaTypeUtils.APPLICATION_JSON_SEQ_STREAMING})
+    @Operation(description = "Retrieve a filtered, sorted collection of resources as a stream of JSON documents.")
+    @ApiResponse(description = "A stream of JSON documents, each containing one of your API resources.")
+    default Response streamAPIResourcesAsJson(
+    		@QueryParam(DefaultCollectionGet.QUERY_PARAM_FIELDS)
+		    @DefaultValue(QueryParamUtils.FIELDS_VALUE_ALL)
+		    @Parameter(description = "The fields that should be retrieved", required = false)
+		    List<String> fields,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_QUERY)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT)
+		    @Parameter(description = "The FIQL query according to which the resources should be filtered", required = false)
+		    String query,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_SORT)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_SORT_DEFAULT)
+		    @Parameter(description = "The fields on which the resources should be sorted", required = false)
+		    List<String> sort,
+		    @Context
+		    HttpHeaders httpHeaders,
+		    @Context
+		    Providers providers) {
+    	FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+    	MediaType jsonStreamType = selectJsonStreamType(httpHeaders);
+    	boolean jsonSequence = jsonStreamType.isCompatible(MediaTypeUtils.APPLICATION_JSON_SEQ_TYPE);
+    	ObjectMapper mapper = findObjectMapper(providers, jsonStreamType);
+    	ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    	List<SortOrder> sortOrders = QueryParamUtils.parseSort(sort);
+    	StreamingOutput output = outputStream -> {
+    		try (Stream<T> stream = CrudInstrumentation.instrumentStream(this).stream(fields, parsedQuery, sortOrders);
+    				JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+    			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    			generator.setRootValueSeparator(null);
+    			Iterator<T> resources = stream.iterator();
+    			while (resources.hasNext()) {
+    				if (jsonSequence) {
+    					generator.writeRaw(JSON_STREAM_RECORD_SEPARATOR);
+    				}
+    				writer.writeValue(generator, resources.next());
+    				generator.writeRaw(JSON_STREAM_LINE_FEED);
+    			}
+    		}
+    	};
+    	return Response.ok(output, jsonStreamType).build();
+    }
+
+    private static MediaType selectJsonStreamType(HttpHeaders httpHeaders) {
+    	MediaType ndjson = MediaTypeUtils.APPLICATION_NDJSON_TYPE;
+    	MediaType jsonSequence = MediaTypeUtils.APPLICATION_JSON_SEQ_TYPE;
+    	if (httpHeaders == null) {
+    		return ndjson;
+    	}
+    	for (MediaType acceptable : httpHeaders.getAcceptableMediaTypes()) {
+    		if (acceptable.isCompatible(ndjson)) {
+    			return ndjson;
+    		}
+    		if (acceptable.isCompatible(jsonSequence)) {
+    			return jsonSequence;
+    		}
+    	}
+    	return ndjson;
+    }
+
+    private static ObjectMapper findObjectMapper(Providers providers, MediaType mediaType) {
+    	ContextResolver<ObjectMapper> mapperResolver = providers == null ? null : providers.getContextResolver(ObjectMapper.class, mediaType);
+    	ObjectMapper mapper = mapperResolver == null ? null : mapperResolver.getContext(ObjectMapper.class);
+    	return mapper == null ? new ObjectMapperProvider().getContext(ObjectMapper.class) : mapper;
+    }
+}
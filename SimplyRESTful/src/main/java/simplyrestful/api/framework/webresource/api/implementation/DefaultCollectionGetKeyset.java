@@ -0,0 +1,117 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.api.crud.ResourceKeysetList;
+import simplyrestful.api.framework.collection.ApiCollectionBuilder;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.PageCursor;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Provide an alternative implementation for retrieving the collection resource with keyset (cursor-based) pagination.
+ *
+ * Instead of an offset, the page is identified by an opaque cursor in the "pageCursor" query parameter, which contains
+ * the sort keys of the resource at the boundary of the adjacent page. This allows the backend to seek directly to the
+ * page, so retrieving a page does not get slower the deeper the client pages into the collection. The collection
+ * resource contains links to the first, previous and next page, but not to the last page and not the total amount of
+ * resources, since these would require counting the entire collection.
+ *
+ * This should be used instead of DefaultCollectionGet, not in addition to it.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource, which will be contained in the collection resource.
+ */
+public interface DefaultCollectionGetKeyset<T extends ApiResource> extends ResourceKeysetList<T> {
+	/**
+	 * The name of the query parameter for the cursor that identifies the page that is contained in the collection.
+	 */
+	public static final String QUERY_PARAM_PAGE_CURSOR = "pageCursor";
+
+    /**
+     * Retrieve the collection of resources, paginated with a cursor.
+     *
+     * @param uriInfo is a JAX-RS context object.
+     * @param pageCursor is the encoded cursor for the requested page, or null for the first page.
+     * @param pageSize is the size of a single page in this paginated collection of resources
+     * @param fields is a list that defines which fields should be retrieved. This is only included for convenience as
+     * it is already handled by the framework. It can be used to filter on these fields in the backend as well, e.g. to
+     * improve performance.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is a list of field names on which the resources should be sorted. This is only included for convenience
+     * as it is already handled by the framework.
+     * @return the paginated collection of resources.
+     */
+    @GET
+    @Produces(ApiCollection.MEDIA_TYPE_JSON)
+    @Operation(description = "Retrieve a filtered, sorted collection of API resources, paginated with a cursor.")
+    default ApiCollection<T> listAPIResourcesByCursor(
+    		@Context
+		    UriInfo uriInfo,
+		    @QueryParam(QUERY_PARAM_PAGE_CURSOR)
+	        @Parameter(description = "The cursor for the page to be shown", required = false)
+		    String pageCursor,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE_DEFAULT)
+		    @Parameter(description = "The amount of resources shown on each page", required = false)
+		    int pageSize,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_FIELDS)
+		    @DefaultValue(ApiCollection.FIELDS_VALUE_DEFAULT)
+		    @Parameter(description = "The fields that should be retrieved", required = false)
+		    List<String> fields,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_QUERY)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT)
+		    @Parameter(description = "The FIQL query according to which the resources should be filtered", required = false)
+		    String query,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_SORT)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_SORT_DEFAULT)
+		    @Parameter(description = "The fields on which the resources should be sorted", required = false)
+		    List<String> sort) {
+    	PageCursor cursor = parsePageCursor(pageCursor);
+    	FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+    	List<SortOrder> sortOrders = QueryParamUtils.parseSort(sort);
+    	boolean lookAhead = pageSize < Integer.MAX_VALUE;
+    	List<T> resources = this.listByCursor(cursor, lookAhead ? pageSize + 1 : pageSize, fields, parsedQuery, sortOrders);
+    	boolean hasMore = lookAhead && resources.size() > pageSize;
+    	boolean backward = cursor != null && !cursor.isAfter();
+    	if (hasMore) {
+    		resources = backward ? resources.subList(resources.size() - pageSize, resources.size()) : resources.subList(0, pageSize);
+    	}
+    	PageCursor prevCursor = null;
+    	PageCursor nextCursor = null;
+    	if (!resources.isEmpty()) {
+    		if (backward ? hasMore : cursor != null) {
+    			prevCursor = PageCursor.before(cursorKeys(resources.get(0), sortOrders));
+    		}
+    		if (backward || hasMore) {
+    			nextCursor = PageCursor.after(cursorKeys(resources.get(resources.size() - 1), sortOrders));
+    		}
+    	}
+    	return ApiCollectionBuilder.from(resources, uriInfo.getRequestUri())
+    			.withCursorNavigation(prevCursor, nextCursor)
+    			.build(CollectionGetSupport.collectionType(getClass(), resources));
+    }
+
+    private static PageCursor parsePageCursor(String pageCursor) {
+    	if (pageCursor == null || pageCursor.isBlank()) {
+    		return null;
+    	}
+    	try {
+    		return PageCursor.decode(pageCursor);
+    	}
+    	catch (IllegalArgumentException e) {
+    		throw new BadRequestException("The page cursor could not be parsed", e);
+    	}
+    }
+}
@@ -0,0 +1,83 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.api.crud.ResourcePageStream;
+import simplyrestful.api.framework.cache.ResourceCaching;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Provide an alternative implementation for retrieving the collection resource, which retrieves the page of resources
+ * as a stream that is only consumed while the collection resource is serialized.
+ *
+ * The collection resource is a StreamingApiCollection. When it is serialized with the StreamingApiCollectionWriter,
+ * the self link, navigation links and total are written first, after which each resource is written to the response
+ * as soon as it is retrieved from the stream. So the page of resources never has to be kept in memory entirely. The
+ * collection resource is the same as the one provided by DefaultCollectionGet, so this should be used instead of
+ * DefaultCollectionGet, not in addition to it.
+ *
+ * @param <T> is the API resource type used in the JAX-RS WebResource, which will be contained in the collection resource.
+ */
+public interface DefaultCollectionGetPageStream<T extends ApiResource> extends ResourcePageStream<T>, ResourceCount, ResourceCaching<T>, CollectionCounting {
+    /**
+     * Retrieve the paginated collection of resources, backed by a stream of resources.
+     *
+     * @param uriInfo is a JAX-RS context object.
+     * @param pageStart is the offset at which the requested page starts.
+     * @param pageSize is the size of a single page in this paginated collection of resources
+     * @param fields is a list that defines which fields should be retrieved. This is only included for convenience as
+     * it is already handled by the framework. It can be used to filter on these fields in the backend as well, e.g. to
+     * improve performance.
+     * @param query is a FIQL query that defines how the resources should be filtered.
+     * @param sort is a list of field names on which the resources should be sorted. This is only included for convenience
+     * as it is already handled by the framework.
+     * @return the paginated collection of resources.
+     */
+    @GET
+    @Produces(ApiCollection.MEDIA_TYPE_JSON)
+    @Operation(description = "Retrieve a filtered, sorted collection of API resources.")
+    default ApiCollection<T> listAPIResourcesAsStream(
+    		@Context
+		    UriInfo uriInfo,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_PAGE_START)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_PAGE_START_DEFAULT)
+	        @Parameter(description = "The page to be shown", required = false)
+		    int pageStart,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_PAGE_SIZE_DEFAULT)
+		    @Parameter(description = "The amount of resources shown on each page", required = false)
+		    int pageSize,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_FIELDS)
+		    @DefaultValue(ApiCollection.FIELDS_VALUE_DEFAULT)
+		    @Parameter(description = "The fields that should be retrieved", required = false)
+		    List<String> fields,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_QUERY)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT)
+		    @Parameter(description = "The FIQL query according to which the resources should be filtered", required = false)
+		    String query,
+		    @QueryParam(DefaultCollectionGet.QUERY_PARAM_SORT)
+		    @DefaultValue(DefaultCollectionGet.QUERY_PARAM_SORT_DEFAULT)
+		    @Parameter(description = "The fields on which the resources should be sorted", required = false)
+		    List<String> sort) {
+    	FiqlQuery parsedQuery = CollectionGetSupport.parseQuery(query);
+    	List<String> selectedFields = QueryParamUtils.flattenQueryParameters(fields);
+    	boolean countNeeded = CollectionGetSupport.isCountNeeded(selectedFields, skipCount(), lookAheadForNext());
+    	boolean lookAhead = CollectionGetSupport.isLookAheadNeeded(selectedFields, countNeeded, pageSize);
+    	Integer total = countNeeded ? CachingSupport.count(this, parsedQuery) : null;
+    	Stream<T> resources = this.streamPage(pageStart, lookAhead ? pageSize + 1 : pageSize, fields, parsedQuery, QueryParamUtils.parseSort(sort));
+    	return CollectionGetSupport.buildStreaming(getClass(), uriInfo.getRequestUri(), resources, pageStart, pageSize, lookAhead, total);
+    }
+}
@@ -14,14 +14,19 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import simplyrestful.api.framework.api.crud.ResourceCreate;
 import simplyrestful.api.framework.api.crud.ResourceExists;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.ResourceCaching;
 import simplyrestful.api.framework.resources.ApiResource;
 
 /**
  * Provide a default implementation for creating an API resource.
  *
+ * If the web resource provides a CollectionCache, the pages of the collection resource are removed from that cache
+ * once the API resource is created.
+ *
  * @param <T> is the API resource type used in the JAX-RS WebResource.
  */
-public interface DefaultCollectionPost<T extends ApiResource> extends ResourceExists, ResourceCreate<T> {
+public interface DefaultCollectionPost<T extends ApiResource> extends ResourceExists, ResourceCreate<T>, ResourceCaching<T> {
 	/**
 	 * The error message that is returned when trying to create an API resource with a self link.
 	 */
@@ -62,7 +67,8 @@ public interface DefaultCollectionPost<T extends ApiResource> extends ResourceEx
     	if(resource.self() != null) {
     		throw new BadRequestException(ERROR_RESOURCE_SELF_LINK_NOT_ALLOWED);
     	}
-    	T updatedResource = this.create(resource);
+    	T updatedResource = CrudInstrumentation.instrumentCreate(this).create(resource);
+    	CachingSupport.invalidate(this, null);
     	if(updatedResource.self() == null || updatedResource.self().getHref() == null) {
 			throw new IllegalStateException(ERROR_CREATED_RESOURCE_HAS_NO_SELF_LINK);
 		}
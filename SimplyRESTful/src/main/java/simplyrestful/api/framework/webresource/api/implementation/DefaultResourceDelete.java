@@ -13,14 +13,18 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.core.Response;
 import simplyrestful.api.framework.api.crud.ResourceDelete;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.ResourceCaching;
 import simplyrestful.api.framework.resources.ApiResource;
 
 /**
  * Provide a default implementation for deleting the API resource.
  *
+ * If the web resource provides a ResourceCache or CollectionCache, the API resource is removed from these caches.
+ *
  * @param <T> is the API resource type used in the JAX-RS WebResource.
  */
-public interface DefaultResourceDelete<T extends ApiResource> extends ResourceDelete<T> {
+public interface DefaultResourceDelete<T extends ApiResource> extends ResourceDelete<T>, ResourceCaching<T> {
 	/**
      * Delete a resource.
      *
@@ -38,7 +42,9 @@ public interface DefaultResourceDelete<T extends ApiResource> extends ResourceDe
     	    @NotNull
     	    @Parameter(description = "The UUID part of the identifier for the resource", required = true)
             UUID id) {
-        return Optional.ofNullable(this.delete(id))
+        T deleted = CrudInstrumentation.instrumentDelete(this).delete(id);
+        CachingSupport.invalidate(this, id);
+        return Optional.ofNullable(deleted)
                 .map(resource -> Response.noContent().build())
                 .orElseThrow(NotFoundException::new);
     }
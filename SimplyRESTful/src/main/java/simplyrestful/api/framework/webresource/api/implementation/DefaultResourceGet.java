@@ -14,14 +14,19 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.QueryParam;
 import simplyrestful.api.framework.api.crud.ResourceRead;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.ResourceCache;
+import simplyrestful.api.framework.cache.ResourceCaching;
 import simplyrestful.api.framework.resources.ApiResource;
 
 /**
  * Provide a default implementation for retrieving the API resource.
  *
+ * If the web resource provides a ResourceCache, the API resource is read through that cache.
+ *
  * @param <T> is the API resource type used in the JAX-RS WebResource.
  */
-public interface DefaultResourceGet<T extends ApiResource> extends ResourceRead<T> {
+public interface DefaultResourceGet<T extends ApiResource> extends ResourceRead<T>, ResourceCaching<T> {
 	/**
 	 * The default value for the "fields" query parameter when retrieving an API resource.
 	 */
@@ -48,6 +53,9 @@ public interface DefaultResourceGet<T extends ApiResource> extends ResourceRead<
 	        @DefaultValue(QUERY_PARAM_FIELDS_DEFAULT)
 	        @Parameter(description = "The fields that should be retrieved", required = false)
 	        List<String> fields) {
-    	return Optional.ofNullable(this.read(id)).orElseThrow(NotFoundException::new);
+    	ResourceRead<T> reader = CrudInstrumentation.instrumentRead(this);
+    	ResourceCache<T> cache = resourceCache();
+    	T resource = cache == null ? reader.read(id) : cache.read(id, reader::read);
+    	return Optional.ofNullable(resource).orElseThrow(NotFoundException::new);
     }
 }
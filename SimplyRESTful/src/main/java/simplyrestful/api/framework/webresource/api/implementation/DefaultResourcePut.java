@@ -15,15 +15,20 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.core.Response;
 import simplyrestful.api.framework.api.crud.ResourceExists;
 import simplyrestful.api.framework.api.crud.ResourceUpdate;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.cache.ResourceCaching;
 import simplyrestful.api.framework.resources.ApiResource;
 import simplyrestful.api.framework.utils.WebResourceUtils;
 
 /**
  * Provide a default implementation for updating the API resource.
  *
+ * If the web resource provides a ResourceCache or CollectionCache, the API resource is removed from these caches once
+ * it is updated.
+ *
  * @param <T> is the API resource type used in the JAX-RS WebResource.
  */
-public interface DefaultResourcePut<T extends ApiResource> extends ResourceExists, ResourceUpdate<T> {
+public interface DefaultResourcePut<T extends ApiResource> extends ResourceExists, ResourceUpdate<T>, ResourceCaching<T> {
 	/**
 	 * The error message that is returned when trying to update an API resource without providing a self link.
 	 */
@@ -78,7 +83,7 @@ public interface DefaultResourcePut<T extends ApiResource> extends ResourceExist
     	if(resource.self() == null) {
     		throw new BadRequestException(ERROR_SELF_LINK_MUST_BE_PROVIDED);
     	}
-    	if (!this.exists(id)) {
+    	if (!CrudInstrumentation.instrumentExists(this).exists(id)) {
     	    throw new NotFoundException(ERROR_RESOURCE_WITH_ID_NOT_EXISTS);
     	}
 		UUID resourceIdFromSelf = WebResourceUtils.parseUuidFromLastSegmentOfUri(resource.self().getHref());
@@ -88,7 +93,8 @@ public interface DefaultResourcePut<T extends ApiResource> extends ResourceExist
 		if (!resourceIdFromSelf.equals(id)) {
 			throw new BadRequestException(ERROR_SELF_LINK_ID_DOES_NOT_MATCH_PROVIDED_ID);
 		}
-    	this.update(resource);
+    	CrudInstrumentation.instrumentUpdate(this).update(resource);
+    	CachingSupport.invalidate(this, id);
     	return Response.noContent().build();
     }
 }
@@ -0,0 +1,210 @@
+package simplyrestful.api.framework.webresource.api.implementation;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSink;
+
+/**
+ * Collects the resources of an event stream into batches and sends them through the event sink, for
+ * DefaultCollectionGetEventStream.
+ *
+ * A batch is sent when it is full or, if a flush interval is configured, when the flush interval has passed since its
+ * first resource was added. The latter is done by a timer, so an incomplete batch is also sent while the next resource
+ * is still being retrieved. The amount of events that have been sent but not yet written to the client is limited, so
+ * adding a resource waits until enough events have been written. If an event can not be sent, e.g. because the client
+ * disconnected, the event sink is closed and no further events are sent.
+ *
+ * @param <T> is the type of the resources in the batches.
+ */
+final class EventBatcher<T> implements AutoCloseable {
+	private static final ScheduledExecutorService FLUSH_TIMER = Executors.newSingleThreadScheduledExecutor(task -> {
+		Thread thread = new Thread(task, "simplyrestful-event-flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final SseEventSink sink;
+	private final Function<List<T>, OutboundSseEvent> createEvent;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final int maxInFlight;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Deque<CompletableFuture<?>> inFlight = new ArrayDeque<>();
+	private List<T> batch = new ArrayList<>();
+	private long batchStarted;
+	private ScheduledFuture<?> scheduledFlush;
+	private boolean closed;
+	private volatile boolean failed;
+
+	/**
+	 * Create the batcher for an event stream.
+	 *
+	 * @param sink is the event sink through which the events are sent.
+	 * @param createEvent creates the event for a batch of resources.
+	 * @param batchSize is the maximum amount of resources in a single batch.
+	 * @param flushInterval is the maximum amount of time to collect resources for a batch, or null to only send full
+	 * batches.
+	 * @param maxInFlight is the maximum amount of events that may be sent without having been written to the client.
+	 */
+	EventBatcher(SseEventSink sink, Function<List<T>, OutboundSseEvent> createEvent, int batchSize, Duration flushInterval, int maxInFlight) {
+		this.sink = sink;
+		this.createEvent = createEvent;
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = flushInterval == null || batchSize == 1 ? 0 : Math.max(1, flushInterval.toNanos());
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * @return true if events can still be sent, false if the event sink was closed or an event could not be sent.
+	 */
+	boolean isOpen() {
+		return !failed && !sink.isClosed();
+	}
+
+	/**
+	 * Add a resource to the current batch, and send the batch if it is full.
+	 *
+	 * @param resource is the resource.
+	 */
+	void add(T resource) {
+		lock.lock();
+		try {
+			batch.add(resource);
+			if (batch.size() >= batchSize) {
+				sendBatch();
+			}
+			else if (batch.size() == 1 && flushIntervalNanos > 0) {
+				batchStarted = System.nanoTime();
+				scheduledFlush = FLUSH_TIMER.schedule(this::flushIfDue, flushIntervalNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		awaitInFlight(maxInFlight);
+	}
+
+	/**
+	 * Send the incomplete batch, if any, followed by the provided final event, and wait until all events are written.
+	 *
+	 * @param finalEvent is the event that is sent after all resources.
+	 */
+	void finish(OutboundSseEvent finalEvent) {
+		lock.lock();
+		try {
+			if (!batch.isEmpty()) {
+				sendBatch();
+			}
+			send(finalEvent);
+		}
+		finally {
+			lock.unlock();
+		}
+		awaitInFlight(0);
+	}
+
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			cancelScheduledFlush();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Send the current batch if it has been collecting resources for at least the flush interval. This is run by the
+	 * timer, so it does not wait for the events in flight.
+	 */
+	private void flushIfDue() {
+		lock.lock();
+		try {
+			if (!closed && !batch.isEmpty() && System.nanoTime() - batchStarted >= flushIntervalNanos) {
+				sendBatch();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void sendBatch() {
+		cancelScheduledFlush();
+		List<T> full = batch;
+		batch = new ArrayList<>();
+		send(createEvent.apply(full));
+	}
+
+	private void cancelScheduledFlush() {
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+	}
+
+	private void send(OutboundSseEvent event) {
+		if (!isOpen()) {
+			return;
+		}
+		CompletableFuture<?> sent;
+		try {
+			sent = sink.send(event).toCompletableFuture();
+		}
+		catch (RuntimeException e) {
+			sent = CompletableFuture.failedFuture(e);
+		}
+		inFlight.add(sent.handle((result, error) -> {
+			if (error != null) {
+				fail();
+			}
+			return null;
+		}));
+	}
+
+	/**
+	 * Wait until no more than the provided amount of events are in flight. Since the failures are already handled,
+	 * waiting for an event does not throw an exception.
+	 */
+	private void awaitInFlight(int max) {
+		while (true) {
+			CompletableFuture<?> oldest;
+			lock.lock();
+			try {
+				if (inFlight.isEmpty() || (inFlight.size() <= max && !inFlight.peek().isDone())) {
+					return;
+				}
+				oldest = inFlight.poll();
+			}
+			finally {
+				lock.unlock();
+			}
+			oldest.join();
+		}
+	}
+
+	private void fail() {
+		failed = true;
+		try {
+			sink.close();
+		}
+		catch (IOException e) {
+			// The event stream is already broken, so there is nothing left to close it for.
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package simplyrestful.api.framework.test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.NotFoundException;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
+import simplyrestful.api.framework.api.crud.instrumented.CrudMetrics;
+import simplyrestful.api.framework.api.crud.instrumented.InstrumentedWebResource;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink.MetricSnapshot;
+import simplyrestful.api.framework.metrics.MetricsSink;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetJsonStream;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceGet;
+
+public class CrudInstrumentationTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final TestResource TEST_RESOURCE = TestResource.testInstance(TEST_BASE_URI);
+	private static final String WEB_RESOURCE = InstrumentedTestWebResource.class.getSimpleName();
+
+	private final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+	private final InstrumentedTestWebResource testEndpoint = new InstrumentedTestWebResource();
+
+	@BeforeEach
+	public void enableInstrumentation() {
+		CrudInstrumentation.enable(sink);
+	}
+
+	@AfterEach
+	public void disableInstrumentation() {
+		CrudInstrumentation.disable();
+	}
+
+	@Test
+	public void read_shouldRecordSuccess_withGETonExistingResource() {
+		testEndpoint.getAPIResource(TestResource.TEST_RESOURCE_ID, List.of(DefaultResourceGet.QUERY_PARAM_FIELDS_DEFAULT));
+		MetricSnapshot read = sink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_SUCCESS));
+		Assertions.assertNotNull(read);
+		Assertions.assertEquals(1, read.count());
+	}
+
+	@Test
+	public void read_shouldRecordError_whenReadThrowsException() {
+		UUID failing = UUID.randomUUID();
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> testEndpoint.getAPIResource(failing, List.of(DefaultResourceGet.QUERY_PARAM_FIELDS_DEFAULT)));
+		Assertions.assertNotNull(sink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_ERROR)));
+		Assertions.assertNull(sink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_SUCCESS)));
+	}
+
+	@Test
+	public void read_shouldRecordSuccess_whenResourceDoesNotExist() {
+		Assertions.assertThrows(NotFoundException.class,
+				() -> testEndpoint.getAPIResource(InstrumentedTestWebResource.MISSING_ID, List.of(DefaultResourceGet.QUERY_PARAM_FIELDS_DEFAULT)));
+		Assertions.assertNotNull(sink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_SUCCESS)));
+	}
+
+	@Test
+	public void stream_shouldRecordAmountOfConsumedResources_whenStreamIsClosed() {
+		try (Stream<TestResource> stream = CrudInstrumentation.instrumentStream(testEndpoint).stream(List.of(),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of())) {
+			Assertions.assertEquals(3, stream.count());
+		}
+		MetricSnapshot size = sink.get(CrudMetrics.METRIC_CRUD_RESULT_SIZE,
+				Map.of(CrudMetrics.TAG_WEB_RESOURCE, WEB_RESOURCE, CrudMetrics.TAG_OPERATION, CrudInstrumentation.OPERATION_STREAM));
+		Assertions.assertNotNull(size);
+		Assertions.assertEquals(3, size.total());
+	}
+
+	@Test
+	public void read_shouldRecordInSinkOfWebResource_whenWebResourceProvidesSink() {
+		InMemoryMetricsSink ownSink = new InMemoryMetricsSink();
+		testEndpoint.sink = ownSink;
+		testEndpoint.getAPIResource(TestResource.TEST_RESOURCE_ID, List.of(DefaultResourceGet.QUERY_PARAM_FIELDS_DEFAULT));
+		Assertions.assertNotNull(ownSink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_SUCCESS)));
+		Assertions.assertNull(sink.get(CrudMetrics.METRIC_CRUD, tags(CrudInstrumentation.OPERATION_READ, CrudMetrics.OUTCOME_SUCCESS)));
+	}
+
+	@Test
+	public void instrument_shouldReturnWebResourceItself_whenDisabled() {
+		CrudInstrumentation.disable();
+		Assertions.assertSame(testEndpoint, CrudInstrumentation.instrumentRead(testEndpoint));
+		Assertions.assertSame(testEndpoint, CrudInstrumentation.instrumentStream(testEndpoint));
+	}
+
+	private static Map<String, String> tags(String operation, String outcome) {
+		return Map.of(CrudMetrics.TAG_WEB_RESOURCE, WEB_RESOURCE, CrudMetrics.TAG_OPERATION, operation, CrudMetrics.TAG_OUTCOME, outcome);
+	}
+
+	private static class InstrumentedTestWebResource implements DefaultResourceGet<TestResource>, DefaultCollectionGetJsonStream<TestResource>, InstrumentedWebResource {
+		static final UUID MISSING_ID = UUID.randomUUID();
+
+		MetricsSink sink;
+
+		@Override
+		public MetricsSink metricsSink() {
+			return sink;
+		}
+
+		@Override
+		public TestResource read(UUID resourceUUID) {
+			if (TestResource.TEST_RESOURCE_ID.equals(resourceUUID)) {
+				return TEST_RESOURCE;
+			}
+			if (MISSING_ID.equals(resourceUUID)) {
+				return null;
+			}
+			throw new IllegalStateException("The backend is not available");
+		}
+
+		@Override
+		public Stream<TestResource> stream(List<String> fields, String query, List<SortOrder> sort) {
+			return Stream.of(TEST_RESOURCE, TestResource.random(TEST_BASE_URI), TestResource.random(TEST_BASE_URI));
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package simplyrestful.api.framework.test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetAsync;
+
+@ExtendWith(MockitoExtension.class)
+public class DefaultCollectionGetAsyncTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	public static final URI TEST_REQUEST_URI = TEST_BASE_URI.resolve("testresources");
+	private static final long TIMEOUT_MILLIS = 5000;
+	private static final Executor CALLING_THREAD = Runnable::run;
+	private static List<TestResource> testResources;
+
+	@BeforeAll
+	public static void addTestResources() {
+		testResources = List.of(TestResource.testInstance(TEST_BASE_URI), TestResource.random(TEST_BASE_URI));
+	}
+
+	@AfterAll
+	public static void clearTestResources() {
+		testResources = null;
+	}
+
+	@Mock
+	private UriInfo uriInfo;
+	@Mock
+	private AsyncResponse asyncResponse;
+
+	@Test
+	public void endpoint_shouldResumeWithCountedCollection_withGETonCollectionWithDefaultFields() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		new TestAsyncWebResource(false, CALLING_THREAD).listAPIResourcesAsync(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), asyncResponse);
+		ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(asyncResponse).resume(response.capture());
+		ApiCollection<?> collection = (ApiCollection<?>) response.getValue();
+		Assertions.assertEquals(testResources.size(), collection.getTotal());
+		Assertions.assertEquals(testResources, collection.getItem());
+	}
+
+	@Test
+	public void endpoint_shouldResumeWithCauseOfFailure_withGETonCollectionWhenListFails() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		new TestAsyncWebResource(true, CALLING_THREAD).listAPIResourcesAsync(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), asyncResponse);
+		Mockito.verify(asyncResponse).resume(Mockito.any(BadRequestException.class));
+	}
+
+	@Test
+	public void endpoint_shouldListAndCountOnDefaultExecutor_withGETonCollection() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		TestAsyncWebResource webResource = new TestAsyncWebResource(false, null);
+		webResource.listAPIResourcesAsync(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), asyncResponse);
+		ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(asyncResponse, Mockito.timeout(TIMEOUT_MILLIS)).resume(response.capture());
+		Assertions.assertEquals(testResources, ((ApiCollection<?>) response.getValue()).getItem());
+		Assertions.assertFalse(webResource.threads.contains(Thread.currentThread()));
+		Assertions.assertTrue(webResource.threads.stream().allMatch(thread -> thread.getName().startsWith("simplyrestful-collection-")));
+	}
+
+	@Test
+	public void endpoint_shouldListAndCountConcurrently_withGETonCollection() throws InterruptedException {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			TestAsyncWebResource webResource = new TestAsyncWebResource(false, executor);
+			webResource.bothStarted = new CountDownLatch(2);
+			webResource.listAPIResourcesAsync(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+					DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), asyncResponse);
+			ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+			Mockito.verify(asyncResponse, Mockito.timeout(TIMEOUT_MILLIS)).resume(response.capture());
+			ApiCollection<?> collection = (ApiCollection<?>) response.getValue();
+			Assertions.assertEquals(testResources.size(), collection.getTotal());
+			Assertions.assertEquals(2, webResource.threads.size());
+		}
+		finally {
+			executor.shutdownNow();
+			executor.awaitTermination(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Test
+	public void endpoint_shouldResumeWithServiceUnavailable_withGETonCollectionWhenExecutorRejects() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		Executor rejecting = task -> {
+			throw new RejectedExecutionException();
+		};
+		new TestAsyncWebResource(false, rejecting).listAPIResourcesAsync(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), asyncResponse);
+		Mockito.verify(asyncResponse).resume(Mockito.any(ServiceUnavailableException.class));
+	}
+
+	private static class TestAsyncWebResource implements DefaultCollectionGetAsync<TestResource> {
+		private final boolean failList;
+		private final Executor executor;
+		private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		private CountDownLatch bothStarted = new CountDownLatch(0);
+
+		TestAsyncWebResource(boolean failList, Executor executor) {
+			this.failList = failList;
+			this.executor = executor;
+		}
+
+		@Override
+		public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+			awaitOtherTask();
+			if (failList) {
+				throw new BadRequestException();
+			}
+			return testResources;
+		}
+
+		@Override
+		public int count(String query) {
+			awaitOtherTask();
+			return testResources.size();
+		}
+
+		@Override
+		public Executor collectionExecutor() {
+			return executor == null ? DefaultCollectionGetAsync.super.collectionExecutor() : executor;
+		}
+
+		/**
+		 * Record the thread on which the task runs and, if required, wait until list() and count() are both running.
+		 */
+		private void awaitOtherTask() {
+			threads.add(Thread.currentThread());
+			bothStarted.countDown();
+			try {
+				if (!bothStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					throw new IllegalStateException("list() and count() were not run concurrently");
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package simplyrestful.api.framework.test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetEventStream;
+
+public class DefaultCollectionGetEventStreamTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final List<TestResource> TEST_RESOURCES = List.of(
+			TestResource.random(TEST_BASE_URI),
+			TestResource.random(TEST_BASE_URI),
+			TestResource.random(TEST_BASE_URI));
+
+	private Sse sse;
+	private SseEventSink sink;
+	private OutboundSseEvent.Builder eventBuilder;
+
+	@BeforeEach
+	public void createSseMocks() {
+		sse = Mockito.mock(Sse.class);
+		sink = Mockito.mock(SseEventSink.class);
+		eventBuilder = Mockito.mock(OutboundSseEvent.Builder.class, Mockito.RETURNS_SELF);
+		Mockito.when(sse.newEventBuilder()).thenReturn(eventBuilder);
+		Mockito.when(eventBuilder.build()).thenReturn(Mockito.mock(OutboundSseEvent.class));
+		Mockito.when(sink.send(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	@Test
+	public void endpoint_shouldSendEachResourceInItsOwnEvent_withDefaultBatchSize() throws IOException {
+		new TestEventStreamWebResource(1).streamAPIResources(List.of(QueryParamUtils.FIELDS_VALUE_ALL),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), sink, sse);
+		for (TestResource resource : TEST_RESOURCES) {
+			Mockito.verify(eventBuilder).data(resource);
+		}
+		Mockito.verify(sink, Mockito.times(TEST_RESOURCES.size() + 1)).send(Mockito.any());
+		Mockito.verify(sink).close();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void endpoint_shouldSendResourcesInBatches_withBatchSizeLargerThanOne() throws IOException {
+		new TestEventStreamWebResource(2).streamAPIResources(List.of(QueryParamUtils.FIELDS_VALUE_ALL),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), sink, sse);
+		ArgumentCaptor<Object> batches = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(eventBuilder, Mockito.times(2)).data(Mockito.eq((Class) List.class), batches.capture());
+		Assertions.assertEquals(List.of(TEST_RESOURCES.subList(0, 2), TEST_RESOURCES.subList(2, 3)), batches.getAllValues());
+		Mockito.verify(eventBuilder, Mockito.times(2)).name(DefaultCollectionGetEventStream.SSE_BATCH_EVENT_NAME);
+		Mockito.verify(sink, Mockito.times(3)).send(Mockito.any());
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void endpoint_shouldSendIncompleteBatch_whenFlushIntervalPassesWhileRetrievingNextResource() throws IOException {
+		CountDownLatch firstBatchSent = new CountDownLatch(1);
+		Mockito.when(sink.send(Mockito.any())).thenAnswer(invocation -> {
+			firstBatchSent.countDown();
+			return CompletableFuture.completedFuture(null);
+		});
+		TestEventStreamWebResource webResource = new TestEventStreamWebResource(10, Duration.ofMillis(20)) {
+			@Override
+			public Stream<TestResource> stream(List<String> fields, String query, List<SortOrder> sort) {
+				return Stream.of(0, 1).map(index -> {
+					if (index == 1) {
+						awaitFirstBatch(firstBatchSent);
+					}
+					return TEST_RESOURCES.get(index);
+				});
+			}
+		};
+		webResource.streamAPIResources(List.of(QueryParamUtils.FIELDS_VALUE_ALL), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), sink, sse);
+		ArgumentCaptor<Object> batches = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(eventBuilder, Mockito.times(2)).data(Mockito.eq((Class) List.class), batches.capture());
+		Assertions.assertEquals(List.of(TEST_RESOURCES.subList(0, 1), TEST_RESOURCES.subList(1, 2)), batches.getAllValues());
+	}
+
+	@Test
+	public void endpoint_shouldStopRetrievingResourcesAndCloseSink_whenEventCanNotBeSent() throws IOException {
+		Mockito.when(sink.send(Mockito.any())).thenReturn(CompletableFuture.failedFuture(new IOException("The client disconnected")));
+		AtomicInteger retrieved = new AtomicInteger();
+		TestEventStreamWebResource webResource = new TestEventStreamWebResource(1) {
+			@Override
+			public Stream<TestResource> stream(List<String> fields, String query, List<SortOrder> sort) {
+				return TEST_RESOURCES.stream().peek(resource -> retrieved.incrementAndGet());
+			}
+		};
+		Assertions.assertDoesNotThrow(() -> webResource.streamAPIResources(List.of(QueryParamUtils.FIELDS_VALUE_ALL),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), sink, sse));
+		Assertions.assertEquals(1, retrieved.get());
+		Mockito.verify(sink, Mockito.times(1)).send(Mockito.any());
+		Mockito.verify(sink, Mockito.atLeastOnce()).close();
+	}
+
+	private static void awaitFirstBatch(CountDownLatch firstBatchSent) {
+		try {
+			Assertions.assertTrue(firstBatchSent.await(5, TimeUnit.SECONDS), "The incomplete batch was not sent after the flush interval");
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class TestEventStreamWebResource implements DefaultCollectionGetEventStream<TestResource> {
+		private final int batchSize;
+		private final Duration flushInterval;
+
+		TestEventStreamWebResource(int batchSize) {
+			this(batchSize, null);
+		}
+
+		TestEventStreamWebResource(int batchSize, Duration flushInterval) {
+			this.batchSize = batchSize;
+			this.flushInterval = flushInterval;
+		}
+
+		@Override
+		public Stream<TestResource> stream(List<String> fields, String query, List<SortOrder> sort) {
+			return TEST_RESOURCES.stream();
+		}
+
+		@Override
+		public int eventBatchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public Duration eventFlushInterval() {
+			return flushInterval;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package simplyrestful.api.framework.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetJsonStream;
+
+public class DefaultCollectionGetJsonStreamTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final List<TestResource> TEST_RESOURCES = List.of(
+			TestResource.random(TEST_BASE_URI),
+			TestResource.random(TEST_BASE_URI));
+
+	private final TestJsonStreamWebResource testEndpoint = new TestJsonStreamWebResource();
+
+	@Test
+	public void endpoint_shouldWriteEachResourceOnItsOwnLine_withNewlineDelimitedJson() throws IOException {
+		Response response = testEndpoint.streamAPIResourcesAsJson(List.of(QueryParamUtils.FIELDS_VALUE_ALL),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), null, null);
+		Assertions.assertEquals(MediaType.valueOf(MediaTypeUtils.APPLICATION_NDJSON), response.getMediaType());
+		String[] lines = write(response).split("\n", -1);
+		Assertions.assertEquals(TEST_RESOURCES.size() + 1, lines.length);
+		for (int i = 0; i < TEST_RESOURCES.size(); i++) {
+			Assertions.assertTrue(lines[i].startsWith("{"));
+			Assertions.assertTrue(lines[i].contains(TEST_RESOURCES.get(i).self().getHref().toString()));
+		}
+		Assertions.assertEquals("", lines[TEST_RESOURCES.size()]);
+	}
+
+	@Test
+	public void endpoint_shouldPrecedeEachResourceWithRecordSeparator_withJsonTextSequence() throws IOException {
+		HttpHeaders httpHeaders = Mockito.mock(HttpHeaders.class);
+		Mockito.when(httpHeaders.getAcceptableMediaTypes()).thenReturn(List.of(MediaType.valueOf(MediaTypeUtils.APPLICATION_JSON_SEQ)));
+		Response response = testEndpoint.streamAPIResourcesAsJson(List.of(QueryParamUtils.FIELDS_VALUE_ALL),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(), httpHeaders, null);
+		Assertions.assertEquals(MediaType.valueOf(MediaTypeUtils.APPLICATION_JSON_SEQ), response.getMediaType());
+		String[] records = write(response).split(String.valueOf(DefaultCollectionGetJsonStream.JSON_STREAM_RECORD_SEPARATOR));
+		Assertions.assertEquals(TEST_RESOURCES.size() + 1, records.length);
+		for (int i = 1; i < records.length; i++) {
+			Assertions.assertTrue(records[i].startsWith("{"));
+			Assertions.assertTrue(records[i].endsWith("}\n"));
+		}
+	}
+
+	private static String write(Response response) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		((StreamingOutput) response.getEntity()).write(output);
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	private static class TestJsonStreamWebResource implements DefaultCollectionGetJsonStream<TestResource> {
+		@Override
+		public Stream<TestResource> stream(List<String> fields, String query, List<SortOrder> sort) {
+			return TEST_RESOURCES.stream();
+		}
+	}
+}
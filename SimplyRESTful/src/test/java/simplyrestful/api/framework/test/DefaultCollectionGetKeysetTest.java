@@ -0,0 +1,136 @@
+package simplyrestful.api.framework.test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.queryparams.PageCursor;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetKeyset;
+
+@ExtendWith(MockitoExtension.class)
+public class DefaultCollectionGetKeysetTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	public static final URI TEST_REQUEST_URI = TEST_BASE_URI.resolve("testresources");
+	private static final String SORT_KEY = "self";
+	private static final int PAGE_SIZE = 2;
+
+	@Mock
+	private UriInfo uriInfo;
+	private List<TestResource> sortedResources;
+	private TestKeysetWebResource testEndpoint;
+
+	@BeforeEach
+	public void createTestResources() {
+		sortedResources = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			sortedResources.add(TestResource.custom(TEST_BASE_URI, UUID.randomUUID()));
+		}
+		sortedResources.sort(Comparator.comparing(TestKeysetWebResource::sortKey));
+		testEndpoint = new TestKeysetWebResource(sortedResources);
+	}
+
+	@Test
+	public void endpoint_shouldPageForwardAndBackward_withGETonCollectionWithPageCursor() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		ApiCollection<TestResource> firstPage = list(null);
+		Assertions.assertEquals(sortedResources.subList(0, 2), firstPage.getItem());
+		Assertions.assertNull(firstPage.getPrev());
+		Assertions.assertNotNull(firstPage.getNext());
+
+		ApiCollection<TestResource> secondPage = list(firstPage.getNext());
+		Assertions.assertEquals(sortedResources.subList(2, 4), secondPage.getItem());
+		Assertions.assertNotNull(secondPage.getPrev());
+		Assertions.assertNotNull(secondPage.getNext());
+
+		ApiCollection<TestResource> lastPage = list(secondPage.getNext());
+		Assertions.assertEquals(sortedResources.subList(4, 5), lastPage.getItem());
+		Assertions.assertNotNull(lastPage.getPrev());
+		Assertions.assertNull(lastPage.getNext());
+
+		ApiCollection<TestResource> previousPage = list(lastPage.getPrev());
+		Assertions.assertEquals(sortedResources.subList(2, 4), previousPage.getItem());
+		Assertions.assertNotNull(previousPage.getPrev());
+		Assertions.assertNotNull(previousPage.getNext());
+
+		ApiCollection<TestResource> backToFirstPage = list(previousPage.getPrev());
+		Assertions.assertEquals(sortedResources.subList(0, 2), backToFirstPage.getItem());
+		Assertions.assertNull(backToFirstPage.getPrev());
+		Assertions.assertNotNull(backToFirstPage.getNext());
+	}
+
+	@Test
+	public void endpoint_shouldThrowBadRequest_withGETonCollectionWithInvalidPageCursor() {
+		Assertions.assertThrows(BadRequestException.class, () -> testEndpoint.listAPIResourcesByCursor(uriInfo, "not a cursor", PAGE_SIZE,
+				List.of(ApiCollection.FIELDS_VALUE_DEFAULT), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(SORT_KEY)));
+	}
+
+	private ApiCollection<TestResource> list(Link page) {
+		String pageCursor = page == null ? null : pageCursorFrom(page.getHref());
+		return testEndpoint.listAPIResourcesByCursor(uriInfo, pageCursor, PAGE_SIZE, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of(SORT_KEY));
+	}
+
+	private static String pageCursorFrom(URI uri) {
+		String prefix = DefaultCollectionGetKeyset.QUERY_PARAM_PAGE_CURSOR + "=";
+		for (String parameter : uri.getRawQuery().split("&")) {
+			if (parameter.startsWith(prefix)) {
+				return parameter.substring(prefix.length());
+			}
+		}
+		return null;
+	}
+
+	private static class TestKeysetWebResource implements DefaultCollectionGetKeyset<TestResource> {
+		private final List<TestResource> sortedResources;
+
+		TestKeysetWebResource(List<TestResource> sortedResources) {
+			this.sortedResources = sortedResources;
+		}
+
+		static String sortKey(TestResource resource) {
+			return resource.self().getHref().toString();
+		}
+
+		@Override
+		public List<TestResource> listByCursor(PageCursor cursor, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+			if (cursor == null) {
+				return sortedResources.stream().limit(pageSize).collect(Collectors.toList());
+			}
+			String boundary = cursor.getKeys().get(SORT_KEY);
+			if (cursor.isAfter()) {
+				return sortedResources.stream()
+						.filter(resource -> sortKey(resource).compareTo(boundary) > 0)
+						.limit(pageSize)
+						.collect(Collectors.toList());
+			}
+			List<TestResource> before = sortedResources.stream()
+					.filter(resource -> sortKey(resource).compareTo(boundary) < 0)
+					.collect(Collectors.toList());
+			return before.subList(Math.max(0, before.size() - pageSize), before.size());
+		}
+
+		@Override
+		public Map<String, String> cursorKeys(TestResource resource, List<SortOrder> sort) {
+			return Map.of(SORT_KEY, sortKey(resource));
+		}
+	}
+}
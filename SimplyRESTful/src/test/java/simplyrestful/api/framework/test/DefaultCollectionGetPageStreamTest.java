@@ -0,0 +1,83 @@
+package simplyrestful.api.framework.test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.StreamingApiCollection;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetPageStream;
+
+@ExtendWith(MockitoExtension.class)
+public class DefaultCollectionGetPageStreamTest {
+	public static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	public static final URI TEST_REQUEST_URI = TEST_BASE_URI.resolve("testresources");
+	private static final List<TestResource> TEST_RESOURCES = List.of(
+			TestResource.random(TEST_BASE_URI),
+			TestResource.random(TEST_BASE_URI),
+			TestResource.random(TEST_BASE_URI));
+
+	@Mock
+	private UriInfo uriInfo;
+
+	@Test
+	public void endpoint_shouldReturnCountedStreamingCollection_withGETonCollectionWithDefaultFields() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		ApiCollection<TestResource> collection = new TestPageStreamWebResource(false).listAPIResourcesAsStream(uriInfo, 0, 2,
+				List.of(ApiCollection.FIELDS_VALUE_DEFAULT), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+		Assertions.assertTrue(collection instanceof StreamingApiCollection);
+		Assertions.assertEquals(TEST_RESOURCES.size(), collection.getTotal());
+		Assertions.assertNotNull(collection.getLast());
+		Assertions.assertNotNull(collection.getNext());
+		Assertions.assertEquals(TEST_RESOURCES.get(0).customJsonMediaType().toString(),
+				collection.self().getType().getParameters().get(ApiCollection.MEDIA_TYPE_PARAMETER_ITEM_TYPE));
+		Assertions.assertEquals(TEST_RESOURCES.subList(0, 2), collection.getItem());
+	}
+
+	@Test
+	public void endpoint_shouldOnlyIncludeNextAfterStreamIsConsumed_withGETonCollectionWithoutTotalAndLastWithLookAhead() {
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		StreamingApiCollection<TestResource> collection = (StreamingApiCollection<TestResource>) new TestPageStreamWebResource(true)
+				.listAPIResourcesAsStream(uriInfo, 0, 2, List.of("self,next,item.self"), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+		Assertions.assertTrue(collection.total().isEmpty());
+		try (Stream<TestResource> items = collection.itemStream()) {
+			Assertions.assertEquals(TEST_RESOURCES.subList(0, 2), items.collect(Collectors.toList()));
+		}
+		Assertions.assertNotNull(collection.getNext());
+	}
+
+	private static class TestPageStreamWebResource implements DefaultCollectionGetPageStream<TestResource> {
+		private final boolean lookAheadForNext;
+
+		TestPageStreamWebResource(boolean lookAheadForNext) {
+			this.lookAheadForNext = lookAheadForNext;
+		}
+
+		@Override
+		public boolean lookAheadForNext() {
+			return lookAheadForNext;
+		}
+
+		@Override
+		public Stream<TestResource> streamPage(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+			return TEST_RESOURCES.stream().skip(pageStart).limit(pageSize);
+		}
+
+		@Override
+		public int count(String query) {
+			return TEST_RESOURCES.size();
+		}
+	}
+}
@@ -3,6 +3,7 @@ package simplyrestful.api.framework.test;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -11,18 +12,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
 import simplyrestful.api.framework.test.implementation.TestResource;
 import simplyrestful.api.framework.test.implementation.TestWebResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
 import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceGet;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,4 +87,137 @@ public class DefaultWebResourceTest {
     public void endpoint_shouldThrowNotFoundWhenResourceNonexisting_withDELETEonResource() {
         Assertions.assertThrows(NotFoundException.class, () -> testEndpoint.deleteAPIResource(UUID.randomUUID()));
     }
+
+    @Test
+    public void endpoint_shouldCountCollection_withGETonCollectionWithDefaultFields() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        ApiCollection<TestResource> collection = testEndpoint.listAPIResources(uriInfo, 0, 100,
+                List.of(ApiCollection.FIELDS_VALUE_DEFAULT), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertEquals(TestWebResource.TEST_RESOURCES.size(), collection.getTotal());
+        Assertions.assertNotNull(collection.getLast());
+    }
+
+    @Test
+    public void endpoint_shouldCountCollectionAndListRequestedPageSize_withGETonCollectionWithNextButWithoutTotalOrLastFields() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        PagingWebResource webResource = new PagingWebResource(false);
+        ApiCollection<TestResource> collection = webResource.listAPIResources(uriInfo, 0, 1,
+                List.of("self,next,item.self"), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertEquals(1, webResource.listedPageSize);
+        Assertions.assertEquals(1, webResource.counted);
+        Assertions.assertNotNull(collection.getNext());
+        Assertions.assertEquals(1, collection.getItem().size());
+    }
+
+    @Test
+    public void endpoint_shouldNotCountCollection_withGETonCollectionWithoutTotalLastOrNextFields() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        PagingWebResource webResource = new PagingWebResource(false);
+        ApiCollection<TestResource> collection = webResource.listAPIResources(uriInfo, 0, 1,
+                List.of("self,item.self"), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertEquals(1, webResource.listedPageSize);
+        Assertions.assertEquals(0, webResource.counted);
+        Assertions.assertTrue(collection.total().isEmpty());
+        Assertions.assertEquals(1, collection.getItem().size());
+    }
+
+    @Test
+    public void endpoint_shouldNotCountCollection_withGETonCollectionWithoutTotalOrLastFieldsWithLookAhead() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        PagingWebResource webResource = new PagingWebResource(true);
+        ApiCollection<TestResource> collection = webResource.listAPIResources(uriInfo, 0, 1,
+                List.of("self,next,item.self"), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertEquals(2, webResource.listedPageSize);
+        Assertions.assertEquals(0, webResource.counted);
+        Assertions.assertTrue(collection.total().isEmpty());
+        Assertions.assertNull(collection.getLast());
+        Assertions.assertNotNull(collection.getNext());
+        Assertions.assertEquals(1, collection.getItem().size());
+    }
+
+    @Test
+    public void endpoint_shouldNotIncludeNextLink_withGETonLastPageOfCollectionWithoutTotalOrLastFieldsWithLookAhead() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        ApiCollection<TestResource> collection = new PagingWebResource(true).listAPIResources(uriInfo, 0, 100,
+                List.of("self,next,item.self"), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertTrue(collection.total().isEmpty());
+        Assertions.assertNull(collection.getNext());
+        Assertions.assertEquals(TestWebResource.TEST_RESOURCES.size(), collection.getItem().size());
+    }
+
+    @Test
+    public void endpoint_shouldThrowBadRequestWhenQueryIsInvalid_withGETonCollection() {
+        Assertions.assertThrows(BadRequestException.class, () -> testEndpoint.listAPIResources(uriInfo, 0, 100,
+                List.of(ApiCollection.FIELDS_VALUE_DEFAULT), "name==test;", List.of()));
+    }
+
+    @Test
+    public void endpoint_shouldIncludeItemTypeInCollectionMediaType_withGETonEmptyCollection() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        ApiCollection<TestResource> collection = new EmptyCollectionWebResource().listAPIResources(uriInfo, 0, 100,
+                List.of(ApiCollection.FIELDS_VALUE_DEFAULT), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertTrue(collection.getItem().isEmpty());
+        Assertions.assertEquals(new ApiCollection<TestResource>().customJsonMediaType(new TestResource().customJsonMediaType()),
+                collection.self().getType());
+    }
+
+    @Test
+    public void endpoint_shouldNotIncludeItemTypeInCollectionMediaType_withGETonEmptyCollectionWithoutDeclaredMediaType() {
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+        ApiCollection<TestResource> collection = new UndeclaredEmptyCollectionWebResource().listAPIResources(uriInfo, 0, 100,
+                List.of(ApiCollection.FIELDS_VALUE_DEFAULT), DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+        Assertions.assertEquals(ApiCollection.MEDIA_TYPE_JSON_TYPE, collection.self().getType());
+    }
+
+    private static class PagingWebResource extends TestWebResource {
+        private final boolean lookAheadForNext;
+        private int listedPageSize;
+        private int counted;
+
+        PagingWebResource(boolean lookAheadForNext) {
+            this.lookAheadForNext = lookAheadForNext;
+        }
+
+        @Override
+        public boolean lookAheadForNext() {
+            return lookAheadForNext;
+        }
+
+        @Override
+        public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+            listedPageSize = pageSize;
+            return TEST_RESOURCES.stream().skip(pageStart).limit(pageSize).collect(Collectors.toList());
+        }
+
+        @Override
+        public int count(String query) {
+            counted++;
+            return super.count(query);
+        }
+    }
+
+    @Produces({TestResource.MEDIA_TYPE_JSON, MediaType.APPLICATION_JSON})
+    private static class EmptyCollectionWebResource implements DefaultCollectionGet<TestResource> {
+        @Override
+        public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+            return List.of();
+        }
+
+        @Override
+        public int count(String query) {
+            return 0;
+        }
+    }
+
+    private static class UndeclaredEmptyCollectionWebResource implements DefaultCollectionGet<TestResource> {
+        @Override
+        public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+            return List.of();
+        }
+
+        @Override
+        public int count(String query) {
+            return 0;
+        }
+    }
 }
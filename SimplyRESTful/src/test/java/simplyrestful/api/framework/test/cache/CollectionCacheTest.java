@@ -0,0 +1,107 @@
+package simplyrestful.api.framework.test.cache;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.cache.CollectionCache;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceDelete;
+
+public class CollectionCacheTest {
+	private static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final URI TEST_REQUEST_URI = TEST_BASE_URI.resolve("testresources");
+
+	@Test
+	public void key_shouldBeEqual_withFieldsInDifferentOrder() {
+		CollectionCache.Key first = CollectionCache.key(URI.create("local://testhost/testresources?fields=self,total"), 0, 10,
+				List.of("self,total"), "", List.of());
+		CollectionCache.Key second = CollectionCache.key(URI.create("local://testhost/testresources?fields=total&fields=self"), 0, 10,
+				List.of("total", "self"), "", List.of());
+		Assertions.assertEquals(first, second);
+	}
+
+	@Test
+	public void key_shouldNotBeEqual_withSortInDifferentOrder() {
+		CollectionCache.Key first = CollectionCache.key(TEST_REQUEST_URI, 0, 10, List.of(), "", List.of("name,id"));
+		CollectionCache.Key second = CollectionCache.key(TEST_REQUEST_URI, 0, 10, List.of(), "", List.of("id,name"));
+		Assertions.assertNotEquals(first, second);
+	}
+
+	@Test
+	public void get_shouldProvideSamePage_untilInvalidated() {
+		CollectionCache<TestResource> cache = new CollectionCache<>(10);
+		CollectionCache.Key key = CollectionCache.key(TEST_REQUEST_URI, 0, 10, List.of(), "", List.of());
+		ApiCollection<TestResource> page = cache.get(key, ApiCollection::new);
+		Assertions.assertSame(page, cache.get(key, ApiCollection::new));
+		cache.invalidate();
+		Assertions.assertNotSame(page, cache.get(key, ApiCollection::new));
+		Assertions.assertEquals(1, cache.hits());
+		Assertions.assertEquals(2, cache.misses());
+		Assertions.assertEquals(1.0 / 3, cache.hitRatio(), 0.0001);
+	}
+
+	@Test
+	public void put_shouldNotCachePage_whenInvalidatedWhileCreatingIt() {
+		CollectionCache<TestResource> cache = new CollectionCache<>(10);
+		CollectionCache.Key key = CollectionCache.key(TEST_REQUEST_URI, 0, 10, List.of(), "", List.of());
+		cache.get(key, () -> {
+			cache.invalidate();
+			return new ApiCollection<>();
+		});
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void endpoint_shouldProvideCachedPage_untilResourceIsDeleted() {
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		CachedCollectionWebResource testEndpoint = new CachedCollectionWebResource();
+		ApiCollection<TestResource> first = list(testEndpoint, uriInfo);
+		Assertions.assertSame(first, list(testEndpoint, uriInfo));
+		Assertions.assertEquals(1, testEndpoint.lists.get());
+		testEndpoint.deleteAPIResource(UUID.randomUUID());
+		Assertions.assertNotSame(first, list(testEndpoint, uriInfo));
+		Assertions.assertEquals(2, testEndpoint.lists.get());
+	}
+
+	private static ApiCollection<TestResource> list(CachedCollectionWebResource testEndpoint, UriInfo uriInfo) {
+		return testEndpoint.listAPIResources(uriInfo, 0, 100, List.of(ApiCollection.FIELDS_VALUE_DEFAULT),
+				DefaultCollectionGet.QUERY_PARAM_QUERY_DEFAULT, List.of());
+	}
+
+	private static class CachedCollectionWebResource implements DefaultCollectionGet<TestResource>, DefaultResourceDelete<TestResource> {
+		private final CollectionCache<TestResource> cache = new CollectionCache<>(10);
+		private final AtomicInteger lists = new AtomicInteger();
+
+		@Override
+		public CollectionCache<TestResource> collectionCache() {
+			return cache;
+		}
+
+		@Override
+		public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+			lists.incrementAndGet();
+			return List.of(TestResource.random(TEST_BASE_URI));
+		}
+
+		@Override
+		public int count(String query) {
+			return 1;
+		}
+
+		@Override
+		public TestResource delete(UUID resourceUUID) {
+			return TestResource.custom(TEST_BASE_URI, resourceUUID);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package simplyrestful.api.framework.test.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.core.UriInfo;
+import simplyrestful.api.framework.cache.CountCache;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGet;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceDelete;
+
+public class CountCacheTest {
+	private static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final URI TEST_REQUEST_URI = TEST_BASE_URI.resolve("testresources");
+	private static final String TEST_QUERY = "name==test";
+
+	@Test
+	public void count_shouldOnlyCountOnce_withSameQuery() {
+		CountCache cache = CountCache.invalidatedByWrites(10);
+		AtomicInteger counts = new AtomicInteger();
+		Assertions.assertEquals(42, cache.count(TEST_QUERY, query -> { counts.incrementAndGet(); return 42; }));
+		Assertions.assertEquals(42, cache.count(" " + TEST_QUERY, query -> { counts.incrementAndGet(); return 0; }));
+		Assertions.assertEquals(1, counts.get());
+		Assertions.assertEquals(0.5, cache.hitRatio(), 0.0001);
+	}
+
+	@Test
+	public void count_shouldCountAgain_whenCountHasExpired() throws InterruptedException {
+		CountCache cache = CountCache.expiring(10, Duration.ofMillis(1));
+		cache.count(TEST_QUERY, query -> 1);
+		Thread.sleep(5);
+		Assertions.assertEquals(2, cache.count(TEST_QUERY, query -> 2));
+	}
+
+	@Test
+	public void invalidateOnWrite_shouldKeepCounts_whenOnlyExpiring() {
+		CountCache cache = CountCache.expiring(10, Duration.ofMinutes(1));
+		cache.count(TEST_QUERY, query -> 1);
+		cache.invalidateOnWrite();
+		Assertions.assertEquals(1, cache.count(TEST_QUERY, query -> 2));
+	}
+
+	@Test
+	public void count_shouldNotCacheCount_whenInvalidatedWhileCounting() {
+		CountCache cache = CountCache.invalidatedByWrites(10);
+		cache.count(TEST_QUERY, query -> {
+			cache.invalidate();
+			return 1;
+		});
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void constructor_shouldThrowIllegalArgumentException_whenCountsNeverBecomeInvalid() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new CountCache(10, null, false));
+	}
+
+	@Test
+	public void endpoint_shouldCountOnceForAllPages_untilResourceIsDeleted() {
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+		Mockito.when(uriInfo.getRequestUri()).thenReturn(TEST_REQUEST_URI);
+		CountedWebResource testEndpoint = new CountedWebResource();
+		for (int pageStart = 0; pageStart < 30; pageStart += 10) {
+			testEndpoint.listAPIResources(uriInfo, pageStart, 10, List.of(ApiCollection.FIELDS_VALUE_DEFAULT), TEST_QUERY, List.of());
+		}
+		Assertions.assertEquals(1, testEndpoint.counts.get());
+		testEndpoint.deleteAPIResource(UUID.randomUUID());
+		testEndpoint.listAPIResources(uriInfo, 0, 10, List.of(ApiCollection.FIELDS_VALUE_DEFAULT), TEST_QUERY, List.of());
+		Assertions.assertEquals(2, testEndpoint.counts.get());
+	}
+
+	private static class CountedWebResource implements DefaultCollectionGet<TestResource>, DefaultResourceDelete<TestResource> {
+		private final CountCache cache = CountCache.invalidatedByWrites(10);
+		private final AtomicInteger counts = new AtomicInteger();
+
+		@Override
+		public CountCache countCache() {
+			return cache;
+		}
+
+		@Override
+		public List<TestResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+			return List.of(TestResource.random(TEST_BASE_URI));
+		}
+
+		@Override
+		public int count(String query) {
+			counts.incrementAndGet();
+			return 100;
+		}
+
+		@Override
+		public TestResource delete(UUID resourceUUID) {
+			return TestResource.custom(TEST_BASE_URI, resourceUUID);
+		}
+	}
+}
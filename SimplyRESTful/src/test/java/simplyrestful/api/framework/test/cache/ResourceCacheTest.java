@@ -0,0 +1,113 @@
+package simplyrestful.api.framework.test.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.cache.ResourceCache;
+import simplyrestful.api.framework.test.implementation.TestResource;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceDelete;
+import simplyrestful.api.framework.webresource.api.implementation.DefaultResourceGet;
+
+public class ResourceCacheTest {
+	private static final URI TEST_BASE_URI = URI.create("local://testhost/");
+	private static final List<String> FIELDS = List.of(DefaultResourceGet.QUERY_PARAM_FIELDS_DEFAULT);
+
+	@Test
+	public void read_shouldOnlyReadOnce_whenResourceIsCached() {
+		ResourceCache<TestResource> cache = new ResourceCache<>(10, Duration.ofMinutes(1));
+		AtomicInteger reads = new AtomicInteger();
+		TestResource resource = TestResource.random(TEST_BASE_URI);
+		UUID id = UUID.randomUUID();
+		Assertions.assertSame(resource, cache.read(id, uuid -> { reads.incrementAndGet(); return resource; }));
+		Assertions.assertSame(resource, cache.read(id, uuid -> { reads.incrementAndGet(); return resource; }));
+		Assertions.assertEquals(1, reads.get());
+		Assertions.assertEquals(1, cache.hits());
+		Assertions.assertEquals(1, cache.misses());
+	}
+
+	@Test
+	public void read_shouldReadAgain_whenResourceHasExpired() throws InterruptedException {
+		ResourceCache<TestResource> cache = new ResourceCache<>(10, Duration.ofMillis(1));
+		AtomicInteger reads = new AtomicInteger();
+		UUID id = UUID.randomUUID();
+		cache.read(id, uuid -> { reads.incrementAndGet(); return TestResource.random(TEST_BASE_URI); });
+		Thread.sleep(5);
+		cache.read(id, uuid -> { reads.incrementAndGet(); return TestResource.random(TEST_BASE_URI); });
+		Assertions.assertEquals(2, reads.get());
+	}
+
+	@Test
+	public void read_shouldNotCacheMissingResource() {
+		ResourceCache<TestResource> cache = new ResourceCache<>(10, Duration.ofMinutes(1));
+		Assertions.assertNull(cache.read(UUID.randomUUID(), uuid -> null));
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void read_shouldNotCacheResource_whenInvalidatedWhileReading() {
+		ResourceCache<TestResource> cache = new ResourceCache<>(10, Duration.ofMinutes(1));
+		UUID id = UUID.randomUUID();
+		cache.read(id, uuid -> {
+			cache.invalidate(uuid);
+			return TestResource.random(TEST_BASE_URI);
+		});
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void read_shouldEvictFirstResource_whenCacheIsFull() {
+		ResourceCache<TestResource> cache = new ResourceCache<>(2, Duration.ofMinutes(1));
+		UUID first = UUID.randomUUID();
+		cache.read(first, uuid -> TestResource.random(TEST_BASE_URI));
+		cache.read(UUID.randomUUID(), uuid -> TestResource.random(TEST_BASE_URI));
+		cache.read(UUID.randomUUID(), uuid -> TestResource.random(TEST_BASE_URI));
+		Assertions.assertEquals(2, cache.size());
+		AtomicInteger reads = new AtomicInteger();
+		cache.read(first, uuid -> { reads.incrementAndGet(); return TestResource.random(TEST_BASE_URI); });
+		Assertions.assertEquals(1, reads.get());
+	}
+
+	@Test
+	public void constructor_shouldThrowIllegalArgumentException_withoutPositiveTimeToLive() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceCache<TestResource>(10, Duration.ZERO));
+	}
+
+	@Test
+	public void endpoint_shouldReadThroughCacheAndInvalidateOnDelete() {
+		CachedTestWebResource testEndpoint = new CachedTestWebResource();
+		UUID id = UUID.randomUUID();
+		testEndpoint.getAPIResource(id, FIELDS);
+		testEndpoint.getAPIResource(id, FIELDS);
+		Assertions.assertEquals(1, testEndpoint.reads.get());
+		testEndpoint.deleteAPIResource(id);
+		testEndpoint.getAPIResource(id, FIELDS);
+		Assertions.assertEquals(2, testEndpoint.reads.get());
+	}
+
+	private static class CachedTestWebResource implements DefaultResourceGet<TestResource>, DefaultResourceDelete<TestResource> {
+		private final ResourceCache<TestResource> cache = new ResourceCache<>(10, Duration.ofMinutes(1));
+		private final AtomicInteger reads = new AtomicInteger();
+
+		@Override
+		public ResourceCache<TestResource> resourceCache() {
+			return cache;
+		}
+
+		@Override
+		public TestResource read(UUID resourceUUID) {
+			reads.incrementAndGet();
+			return TestResource.custom(TEST_BASE_URI, resourceUUID);
+		}
+
+		@Override
+		public TestResource delete(UUID resourceUUID) {
+			return TestResource.custom(TEST_BASE_URI, resourceUUID);
+		}
+	}
+}
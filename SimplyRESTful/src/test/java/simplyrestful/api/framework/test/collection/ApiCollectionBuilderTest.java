@@ -40,9 +40,16 @@ public class ApiCollectionBuilderTest {
 
     protected ApiCollection<TestResource> createExpectedCollection(int startOfFirst, int startOfLast, int startOfPrev,
             int startOfNext, int sublistBegin, int sublistEnd) {
+        return createExpectedCollection(startOfFirst, startOfLast, startOfPrev, startOfNext, sublistBegin, sublistEnd, true);
+    }
+
+    protected ApiCollection<TestResource> createExpectedCollection(int startOfFirst, int startOfLast, int startOfPrev,
+            int startOfNext, int sublistBegin, int sublistEnd, boolean counted) {
         ApiCollection<TestResource> expected = new ApiCollection<TestResource>();
         expected.setSelf(new Link(requestURI, customJson));
-        expected.setTotal(TEST_RESOURCES_SIZE);
+        if (counted) {
+            expected.setTotal(TEST_RESOURCES_SIZE);
+        }
         Link firstPage = startOfFirst == -1 ? null
                 : new Link(UriBuilder.fromUri(requestURI).replaceQueryParam("pageStart", startOfFirst).build(), customJson);
         Link lastPage = startOfLast == -1 ? null
@@ -171,4 +178,26 @@ public class ApiCollectionBuilderTest {
                 .collectionSize(0).withNavigation(pageStart, maxPageSize).build(customJson);
         Assertions.assertEquals(0, actual.getItem().size());
     }
+
+    @Test
+    public void test_createPagedCollection_WithNextPageWithoutCollectionSize() {
+        int pageStart = 300;
+        int maxPageSize = 100;
+        List<TestResource> resources = testResourcesList.subList(300, 400);
+        ApiCollection<TestResource> actual = ApiCollectionBuilder.from(resources, requestURI)
+                .hasNext(true).withNavigation(pageStart, maxPageSize).build(customJson);
+        ApiCollection<TestResource> expected = createExpectedCollection(0, -1, 200, 400, 300, 400, false);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void test_createPagedCollection_WithoutNextPageWithoutCollectionSize() {
+        int pageStart = 900;
+        int maxPageSize = 100;
+        List<TestResource> resources = testResourcesList.subList(900, 1000);
+        ApiCollection<TestResource> actual = ApiCollectionBuilder.from(resources, requestURI)
+                .hasNext(false).withNavigation(pageStart, maxPageSize).build(customJson);
+        ApiCollection<TestResource> expected = createExpectedCollection(0, -1, 800, -1, 900, 1000, false);
+        Assertions.assertEquals(expected, actual);
+    }
 }
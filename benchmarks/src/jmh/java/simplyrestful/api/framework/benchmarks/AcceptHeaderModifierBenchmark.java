@@ -0,0 +1,81 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkWebResource;
+import simplyrestful.api.framework.filters.AcceptHeaderModifier;
+
+/**
+ * Modify the Accept header of a request, both when the modified Accept header is already cached and when it is not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcceptHeaderModifierBenchmark {
+	@Param({
+		"application/json",
+		"application/json;q=0.9, application/xml;q=0.8",
+		"application/x.benchmarkresource-v1+json",
+		"*/*"})
+	public String acceptHeader;
+
+	private AcceptHeaderModifier modifier;
+	private ContainerRequest request;
+
+	@Setup
+	public void createRequest() throws ReflectiveOperationException {
+		ResourceConfig configuration = new ResourceConfig(BenchmarkWebResource.class);
+		request = new ContainerRequest(BenchmarkData.BASE_URI, BenchmarkData.REQUEST_URI, HttpMethod.GET, null, new MapPropertiesDelegate(), configuration);
+		modifier = new AcceptHeaderModifier();
+		inject(modifier, "configuration", configuration);
+		inject(modifier, "httpHeaders", request);
+	}
+
+	@Benchmark
+	public List<String> filterCached() throws IOException {
+		request.getHeaders().putSingle(HttpHeaders.ACCEPT, acceptHeader);
+		modifier.filter(request);
+		return request.getHeaders().get(HttpHeaders.ACCEPT);
+	}
+
+	@Benchmark
+	public List<String> filterUncached() throws IOException {
+		modifier.getAcceptHeaderCache().clear();
+		request.getHeaders().putSingle(HttpHeaders.ACCEPT, acceptHeader);
+		modifier.filter(request);
+		return request.getHeaders().get(HttpHeaders.ACCEPT);
+	}
+
+	/**
+	 * Inject a JAX-RS context object into the provided filter, as the JAX-RS implementation would.
+	 */
+	private static void inject(AcceptHeaderModifier modifier, String fieldName, Object value) throws ReflectiveOperationException {
+		Field field = AcceptHeaderModifier.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		field.set(modifier, value);
+	}
+}
@@ -0,0 +1,62 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkResource;
+import simplyrestful.api.framework.collection.ApiCollectionBuilder;
+import simplyrestful.api.framework.resources.ApiCollection;
+
+/**
+ * Build a page of a collection, both with the total size of the collection and with only the knowledge of whether
+ * there is a next page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiCollectionBuilderBenchmark {
+	private static final int PAGE_START = 100;
+	private static final int COLLECTION_SIZE = 1000;
+
+	@Param({"10", "100"})
+	public int pageSize;
+
+	private List<BenchmarkResource> page;
+
+	@Setup
+	public void createPage() {
+		page = BenchmarkData.resources(pageSize);
+	}
+
+	@Benchmark
+	public ApiCollection<BenchmarkResource> buildWithCollectionSize() {
+		return ApiCollectionBuilder.from(page, BenchmarkData.REQUEST_URI)
+				.withNavigation(PAGE_START, pageSize)
+				.collectionSize(COLLECTION_SIZE)
+				.build(BenchmarkResource.MEDIA_TYPE_JSON_TYPE);
+	}
+
+	@Benchmark
+	public ApiCollection<BenchmarkResource> buildWithNextPage() {
+		return ApiCollectionBuilder.from(page, BenchmarkData.REQUEST_URI)
+				.withNavigation(PAGE_START, pageSize)
+				.hasNext(true)
+				.build(BenchmarkResource.MEDIA_TYPE_JSON_TYPE);
+	}
+}
@@ -0,0 +1,119 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkResource;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkWebResource;
+import simplyrestful.api.framework.client.SimplyRestfulClient;
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiServiceDocument;
+import simplyrestful.api.framework.resources.Link;
+
+/**
+ * List the resources of a collection, containing the given amount of resources, with the SimplyRESTful client.
+ *
+ * The responses are provided by a client filter instead of an HTTP server, so this only measures the client-side
+ * processing of the response, which is mostly the deserialization of the collection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientDeserializationBenchmark {
+	private static final URI OPENAPI_URI = BenchmarkData.BASE_URI.resolve("openapi.json");
+	private static final String OPENAPI_DOCUMENT = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Benchmark API\",\"version\":\"1\"},"
+			+ "\"paths\":{\"/" + BenchmarkWebResource.WEB_RESOURCE_PATH + "\":{\"get\":{\"responses\":{\"200\":{\"description\":\"The collection\","
+			+ "\"content\":{\"" + BenchmarkResource.MEDIA_TYPE_JSON + "\":{}}}}}}}}";
+
+	@Param({"10", "100", "1000"})
+	public int collectionSize;
+
+	private Client jaxrsClient;
+	private SimplyRestfulClient<BenchmarkResource> client;
+
+	@Setup
+	public void createClient() throws JsonProcessingException {
+		ApiServiceDocument serviceDocument = new ApiServiceDocument();
+		serviceDocument.setSelf(new Link(BenchmarkData.BASE_URI, ApiServiceDocument.MEDIA_TYPE_JSON_TYPE));
+		serviceDocument.setDescribedBy(new Link(OPENAPI_URI, MediaType.APPLICATION_JSON_TYPE));
+		byte[] serviceDocumentJson = BenchmarkData.objectMapper().writeValueAsBytes(serviceDocument);
+		byte[] collectionJson = BenchmarkData.collectionJson(collectionSize).getBytes(StandardCharsets.UTF_8);
+		jaxrsClient = ClientBuilder.newBuilder()
+				.register(JacksonJsonProvider.class)
+				.register(ObjectMapperProvider.class)
+				.register(new CannedResponseFilter(serviceDocumentJson, OPENAPI_DOCUMENT.getBytes(StandardCharsets.UTF_8), collectionJson))
+				.build();
+		client = new SimplyRestfulClient<>(jaxrsClient, BenchmarkData.BASE_URI, new GenericType<ApiCollection<BenchmarkResource>>() {});
+		client.discoverResourceUri(null);
+	}
+
+	@TearDown
+	public void closeClient() {
+		jaxrsClient.close();
+	}
+
+	@Benchmark
+	public List<BenchmarkResource> listResources() {
+		return client.listResources(0, collectionSize, List.of(), "", List.of());
+	}
+
+	/**
+	 * Respond to each request of the client with a prepared response, without sending it to a server.
+	 */
+	private static final class CannedResponseFilter implements ClientRequestFilter {
+		private final byte[] serviceDocument;
+		private final byte[] openApiDocument;
+		private final byte[] collection;
+
+		CannedResponseFilter(byte[] serviceDocument, byte[] openApiDocument, byte[] collection) {
+			this.serviceDocument = serviceDocument;
+			this.openApiDocument = openApiDocument;
+			this.collection = collection;
+		}
+
+		@Override
+		public void filter(ClientRequestContext requestContext) {
+			String path = requestContext.getUri().getPath();
+			if (path.equals(BenchmarkData.BASE_URI.getPath())) {
+				requestContext.abortWith(Response.ok(new ByteArrayInputStream(serviceDocument), ApiServiceDocument.MEDIA_TYPE_JSON_TYPE).build());
+			}
+			else if (path.equals(OPENAPI_URI.getPath())) {
+				requestContext.abortWith(Response.ok(new ByteArrayInputStream(openApiDocument), MediaType.APPLICATION_JSON_TYPE).build());
+			}
+			else {
+				requestContext.abortWith(Response.ok(new ByteArrayInputStream(collection), ApiCollection.MEDIA_TYPE_JSON_TYPE).build());
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkResource;
+import simplyrestful.api.framework.inmemory.FiqlEvaluator;
+import simplyrestful.api.framework.queryparams.SortOrder;
+
+/**
+ * Compare filtering and sorting a list of resources with the FiqlEvaluator against a sequential stream that filters and
+ * sorts the entire list, which is how an API that holds its resources in memory would implement this otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiqlEvaluatorBenchmark {
+	private static final int PAGE_SIZE = 100;
+	private static final String QUERY = "amount=ge=1000";
+	private static final List<SortOrder> SORT = List.of(new SortOrder("amount", false), new SortOrder("name", true));
+	private static final Comparator<BenchmarkResource> STREAM_SORT = Comparator.comparingInt(BenchmarkResource::getAmount).reversed()
+			.thenComparing(BenchmarkResource::getName);
+
+	@Param({"100000", "1000000"})
+	public int collectionSize;
+
+	private List<BenchmarkResource> resources;
+	private FiqlEvaluator<BenchmarkResource> evaluator;
+
+	@Setup
+	public void createResources() {
+		Random random = new Random(42);
+		resources = new ArrayList<>(collectionSize);
+		for (int index = 0; index < collectionSize; index++) {
+			BenchmarkResource resource = BenchmarkResource.create(BenchmarkData.BASE_URI, index);
+			resource.setAmount(random.nextInt(collectionSize));
+			resources.add(resource);
+		}
+		evaluator = new FiqlEvaluator<>(BenchmarkResource.class);
+	}
+
+	@Benchmark
+	public List<BenchmarkResource> listFirstPageWithStream() {
+		return resources.stream()
+				.filter(resource -> resource.getAmount() >= 1000)
+				.sorted(STREAM_SORT)
+				.limit(PAGE_SIZE)
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<BenchmarkResource> listFirstPageWithEvaluator() {
+		return evaluator.list(resources, 0, PAGE_SIZE, QUERY, SORT);
+	}
+
+	@Benchmark
+	public long countWithStream() {
+		return resources.stream().filter(resource -> resource.getAmount() >= 1000).count();
+	}
+
+	@Benchmark
+	public int countWithEvaluator() {
+		return evaluator.count(resources, QUERY);
+	}
+}
@@ -0,0 +1,160 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import example.jersey.nomapping.JerseyNoMappingApplication;
+import example.jersey.nomapping.resources.ExampleComplexAttributeEntity;
+import example.jersey.nomapping.resources.ExampleComplexAttributeRecord;
+import example.jersey.nomapping.resources.ExampleRepository;
+import example.jersey.nomapping.resources.ExampleResourceEntity;
+import example.jersey.nomapping.resources.ExampleResourceRecord;
+import io.github.perplexhub.rsql.RSQLJPASupport;
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.inmemory.InMemoryRepository;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.springdata.paging.OffsetBasedPageRequest;
+
+/**
+ * Compare the InMemoryRepository with the Spring Data JPA repository of the Spring Boot example API, which stores the
+ * resources in an in-memory H2 database and filters them with RSQL.
+ *
+ * Both contain the same resources, where each description is shared by a thousandth of the collection. The JPA
+ * repository provides the entities without mapping them to API resources, so only the data access is compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryRepositoryBenchmark {
+	private static final int PAGE_SIZE = 100;
+	private static final int DESCRIPTIONS = 1000;
+	private static final String QUERY = "description==resource-42";
+	private static final List<String> FIELDS = List.of("all");
+	private static final List<SortOrder> SORT = List.of(new SortOrder("dateTime", false));
+	private static final Sort JPA_SORT = Sort.by(Order.desc("dateTime"));
+	private static final MediaType RESOURCE_TYPE = MediaType.valueOf(ExampleResourceRecord.EXAMPLE_MEDIA_TYPE_JSON);
+	private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Param({"10000", "100000"})
+	public int collectionSize;
+
+	private ConfigurableApplicationContext context;
+	private ExampleRepository jpaRepository;
+	private InMemoryRepository<ExampleResourceRecord> inMemoryRepository;
+	private UUID existingId;
+	private int deepPageStart;
+
+	@Setup
+	public void createRepositories() {
+		context = SpringApplication.run(JerseyNoMappingApplication.class,
+				"--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN");
+		jpaRepository = context.getBean(ExampleRepository.class);
+		jpaRepository.deleteAll();
+		inMemoryRepository = new InMemoryRepository<ExampleResourceRecord>((resource, id) -> new ExampleResourceRecord(
+				selfLink(id), resource.description(), resource.complexAttribute(), resource.dateTime()))
+				.index("description", ExampleResourceRecord::description)
+				.index("dateTime", ExampleResourceRecord::dateTime, ZonedDateTime::parse);
+		List<ExampleResourceEntity> entities = new ArrayList<>(collectionSize);
+		List<ExampleResourceRecord> records = new ArrayList<>(collectionSize);
+		for (int index = 0; index < collectionSize; index++) {
+			UUID id = UUID.randomUUID();
+			String description = "resource-" + (index % DESCRIPTIONS);
+			String complexAttributeName = "complex attribute of resource " + index;
+			ZonedDateTime dateTime = START.plusSeconds(index);
+			entities.add(entity(id, description, complexAttributeName, dateTime));
+			records.add(new ExampleResourceRecord(selfLink(id), description, new ExampleComplexAttributeRecord(complexAttributeName), dateTime));
+		}
+		jpaRepository.saveAll(entities);
+		inMemoryRepository.addAll(records);
+		existingId = entities.get(collectionSize / 2).getUuid();
+		deepPageStart = collectionSize - PAGE_SIZE;
+	}
+
+	@TearDown
+	public void stopExampleApi() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<ExampleResourceEntity> listFilteredAndSortedJpa() {
+		Specification<ExampleResourceEntity> spec = RSQLJPASupport.toSpecification(QUERY);
+		return jpaRepository.findAll(spec, new OffsetBasedPageRequest(0, PAGE_SIZE, JPA_SORT)).getContent();
+	}
+
+	@Benchmark
+	public List<ExampleResourceRecord> listFilteredAndSortedInMemory() {
+		return inMemoryRepository.list(0, PAGE_SIZE, FIELDS, QUERY, SORT);
+	}
+
+	@Benchmark
+	public List<ExampleResourceEntity> listDeepSortedPageJpa() {
+		return jpaRepository.findAll(new OffsetBasedPageRequest(deepPageStart, PAGE_SIZE, JPA_SORT)).getContent();
+	}
+
+	@Benchmark
+	public List<ExampleResourceRecord> listDeepSortedPageInMemory() {
+		return inMemoryRepository.list(deepPageStart, PAGE_SIZE, FIELDS, "", SORT);
+	}
+
+	@Benchmark
+	public long countFilteredJpa() {
+		return jpaRepository.count(RSQLJPASupport.<ExampleResourceEntity>toSpecification(QUERY));
+	}
+
+	@Benchmark
+	public int countFilteredInMemory() {
+		return inMemoryRepository.count(QUERY);
+	}
+
+	@Benchmark
+	public ExampleResourceEntity readJpa() {
+		return jpaRepository.findByUuid(existingId).orElseThrow();
+	}
+
+	@Benchmark
+	public ExampleResourceRecord readInMemory() {
+		return inMemoryRepository.read(existingId);
+	}
+
+	private static Link selfLink(UUID id) {
+		return new Link(BenchmarkData.BASE_URI.resolve("resources/" + id), RESOURCE_TYPE);
+	}
+
+	private static ExampleResourceEntity entity(UUID id, String description, String complexAttributeName, ZonedDateTime dateTime) {
+		ExampleResourceEntity entity = new ExampleResourceEntity();
+		entity.setUuid(id);
+		entity.setDescription(description);
+		ExampleComplexAttributeEntity complexAttribute = new ExampleComplexAttributeEntity();
+		complexAttribute.setName(complexAttributeName);
+		entity.setComplexAttribute(complexAttribute);
+		entity.setDateTime(dateTime);
+		return entity;
+	}
+}
@@ -0,0 +1,66 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkData;
+import simplyrestful.api.framework.filters.JsonFieldsFilter;
+import simplyrestful.api.framework.outputstream.json.JsonFieldsFilterOutputStream;
+
+/**
+ * Filter the fields of a serialized collection, containing the given amount of resources, both as a complete String
+ * and while it is being written to an OutputStream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFieldsFilterBenchmark {
+	private static final List<String> FIELDS = List.of("self", "total", "item.self", "item.name");
+
+	@Param({"10", "100", "1000"})
+	public int documentSize;
+
+	private final JsonFieldsFilter filter = new JsonFieldsFilter();
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+	private String json;
+	private byte[] jsonBytes;
+
+	@Setup
+	public void createDocument() {
+		json = BenchmarkData.collectionJson(documentSize);
+		jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String filterFieldsInJson() {
+		return filter.filterFieldsInJson(json, FIELDS);
+	}
+
+	@Benchmark
+	public int filterFieldsInOutputStream() throws IOException {
+		output.reset();
+		try (OutputStream filtered = new JsonFieldsFilterOutputStream(output, FIELDS)) {
+			filtered.write(jsonBytes);
+		}
+		return output.size();
+	}
+}
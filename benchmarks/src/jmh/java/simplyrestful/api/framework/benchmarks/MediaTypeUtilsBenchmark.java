@@ -0,0 +1,44 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.benchmarks.implementation.BenchmarkWebResource;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+
+/**
+ * Determine all media types that can be produced by the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediaTypeUtilsBenchmark {
+	private Configuration configuration;
+
+	@Setup
+	public void createConfiguration() {
+		configuration = new ResourceConfig(BenchmarkWebResource.class);
+	}
+
+	@Benchmark
+	public List<MediaType> getAllProducibleMediaTypes() {
+		return MediaTypeUtils.getAllProducibleMediaTypes(configuration);
+	}
+}
@@ -0,0 +1,41 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Parse the values of the sort query parameter, as provided by JAX-RS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParamUtilsBenchmark {
+	private final List<String> singleSortValue = List.of("name");
+	private final List<String> multipleSortValues = List.of("name:asc", "amount:desc,description", "self.href:asc");
+
+	@Benchmark
+	public List<SortOrder> parseSingleSortValue() {
+		return QueryParamUtils.parseSort(singleSortValue);
+	}
+
+	@Benchmark
+	public List<SortOrder> parseMultipleSortValues() {
+		return QueryParamUtils.parseSort(multipleSortValues);
+	}
+}
@@ -0,0 +1,45 @@
+package simplyrestful.api.framework.benchmarks;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simplyrestful.api.framework.utils.WebResourceUtils;
+
+/**
+ * Compare parsing the UUID from the last segment of a resource URI with the previous implementation, which used the
+ * file system abstraction to find the last segment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidParsingBenchmark {
+	private final URI resourceUri = URI.create("https://api.example.com/services/v1/resources/" + UUID.randomUUID());
+
+	@Benchmark
+	public UUID parseUuidFromLastSegmentOfUri() {
+		return WebResourceUtils.parseUuidFromLastSegmentOfUri(resourceUri);
+	}
+
+	@Benchmark
+	public UUID parseUuidWithPaths() {
+		Path uriPath = Paths.get(resourceUri.getPath());
+		String lastSegment = uriPath.getName(uriPath.getNameCount() - 1).toString();
+		return UUID.fromString(lastSegment);
+	}
+}
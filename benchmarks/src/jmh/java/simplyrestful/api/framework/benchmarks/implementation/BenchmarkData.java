@@ -0,0 +1,49 @@
+package simplyrestful.api.framework.benchmarks.implementation;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import simplyrestful.api.framework.collection.ApiCollectionBuilder;
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.resources.ApiCollection;
+
+/**
+ * Provides the data that is used in the benchmarks.
+ */
+public class BenchmarkData {
+	public static final URI BASE_URI = URI.create("http://localhost/api/");
+	public static final URI REQUEST_URI = BASE_URI.resolve(BenchmarkWebResource.WEB_RESOURCE_PATH);
+
+	private BenchmarkData() {
+	}
+
+	public static List<BenchmarkResource> resources(int amount) {
+		return IntStream.range(0, amount)
+				.mapToObj(index -> BenchmarkResource.create(BASE_URI, index))
+				.collect(Collectors.toList());
+	}
+
+	public static ApiCollection<BenchmarkResource> collection(int amount) {
+		return ApiCollectionBuilder.from(resources(amount), REQUEST_URI)
+				.withNavigation(ApiCollectionBuilder.START_OF_FIRST_PAGE, amount)
+				.collectionSize(amount)
+				.build(BenchmarkResource.MEDIA_TYPE_JSON_TYPE);
+	}
+
+	public static String collectionJson(int amount) {
+		try {
+			return objectMapper().writeValueAsString(collection(amount));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static ObjectMapper objectMapper() {
+		return new ObjectMapperProvider().getContext(ObjectMapper.class);
+	}
+}
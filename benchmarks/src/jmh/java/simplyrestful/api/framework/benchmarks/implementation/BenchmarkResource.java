@@ -0,0 +1,94 @@
+package simplyrestful.api.framework.benchmarks.implementation;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonSetter;
+
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+
+public class BenchmarkResource implements ApiResource {
+	public static final String MEDIA_TYPE_JSON = "application/x.benchmarkresource-v1+json";
+	public static final MediaType MEDIA_TYPE_JSON_TYPE = new MediaType("application", "x.benchmarkresource-v1+json");
+
+	private Link self;
+	private String name;
+	private String description;
+	private int amount;
+
+	public BenchmarkResource() {
+	}
+
+	public static BenchmarkResource create(URI baseUri, int index) {
+		BenchmarkResource resource = new BenchmarkResource();
+		resource.setSelf(new Link(baseUri.resolve(BenchmarkWebResource.WEB_RESOURCE_PATH + "/" + UUID.randomUUID()), MEDIA_TYPE_JSON_TYPE));
+		resource.setName("Resource " + index);
+		resource.setDescription("The description of the resource with index " + index + ", used for benchmarking the framework");
+		resource.setAmount(index);
+		return resource;
+	}
+
+	@Override
+	@JsonGetter("self")
+	public Link self() {
+		return self;
+	}
+
+	@JsonSetter("self")
+	public void setSelf(Link self) {
+		this.self = self;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public int getAmount() {
+		return amount;
+	}
+
+	public void setAmount(int amount) {
+		this.amount = amount;
+	}
+
+	@Override
+	public MediaType customJsonMediaType() {
+		return MEDIA_TYPE_JSON_TYPE;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(self, name, description, amount);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BenchmarkResource other = (BenchmarkResource) obj;
+		return Objects.equals(self, other.self)
+				&& Objects.equals(name, other.name)
+				&& Objects.equals(description, other.description)
+				&& amount == other.amount;
+	}
+}
@@ -0,0 +1,56 @@
+package simplyrestful.api.framework.benchmarks.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import simplyrestful.api.framework.DefaultWebResource;
+import simplyrestful.api.framework.queryparams.SortOrder;
+
+@Path(BenchmarkWebResource.WEB_RESOURCE_PATH)
+@Produces(BenchmarkResource.MEDIA_TYPE_JSON)
+@Consumes(BenchmarkResource.MEDIA_TYPE_JSON)
+public class BenchmarkWebResource implements DefaultWebResource<BenchmarkResource> {
+	public static final String WEB_RESOURCE_PATH = "benchmarkresources";
+
+	private final List<BenchmarkResource> resources = new ArrayList<>();
+
+	@Override
+	public BenchmarkResource create(BenchmarkResource resource) {
+		resources.add(resource);
+		return resource;
+	}
+
+	@Override
+	public BenchmarkResource read(UUID resourceUUID) {
+		return null;
+	}
+
+	@Override
+	public BenchmarkResource update(BenchmarkResource resource) {
+		return resource;
+	}
+
+	@Override
+	public BenchmarkResource delete(UUID resourceUUID) {
+		return null;
+	}
+
+	@Override
+	public List<BenchmarkResource> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+		return resources.subList(Math.min(pageStart, resources.size()), Math.min(pageStart + pageSize, resources.size()));
+	}
+
+	@Override
+	public int count(String query) {
+		return resources.size();
+	}
+
+	@Override
+	public boolean exists(UUID resourceUUID) {
+		return false;
+	}
+}
@@ -318,7 +318,8 @@ public class SimplyRestfulClient<T extends ApiResource> {
 	 *
 	 * Note that this is the total amount in the collection, not the total amount in the page that was returned.
 	 *
-	 * @return the total amount of resources in the collection that was last retrieved.
+	 * @return the total amount of resources in the collection that was last retrieved, or -1 if the API did not
+	 * include the total amount in that collection.
 	 */
 	public int getTotalAmountOfLastRetrievedCollection() {
 	    return this.totalAmountOfLastRetrievedCollection;
@@ -366,7 +367,7 @@ public class SimplyRestfulClient<T extends ApiResource> {
         request.accept(ApiCollection.MEDIA_TYPE_JSON);
         configureHttpHeaders(request, additionalHeaders);
         ApiCollection<T> resourceCollection = request.get(typeForAPICollection);
-        this.totalAmountOfLastRetrievedCollection = resourceCollection.getTotal();
+        this.totalAmountOfLastRetrievedCollection = resourceCollection.total().orElse(-1);
         return resourceCollection.getItem();
     }
 
@@ -1,41 +1,84 @@
 package simplyrestful.springboot.configuration.jersey;
 
 import org.apache.coyote.http2.Http2Protocol;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.jersey.ResourceConfigCustomizer;
 import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 import com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider;
 
 import io.swagger.v3.jaxrs2.integration.resources.AcceptHeaderOpenApiResource;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.jaxrs2.integration.resources.OpenApiResource;
+import simplyrestful.api.framework.api.crud.instrumented.CrudInstrumentation;
 import simplyrestful.api.framework.filters.AcceptHeaderModifier;
+import simplyrestful.api.framework.filters.EntityTagFilter;
 import simplyrestful.api.framework.filters.JsonFieldsFilterInterceptor;
 import simplyrestful.api.framework.filters.UriCustomizer;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink;
+import simplyrestful.api.framework.metrics.MetricsSink;
+import simplyrestful.api.framework.metrics.RequestMetricsFeature;
 import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.providers.StreamingApiCollectionWriter;
 import simplyrestful.api.framework.servicedocument.WebResourceRoot;
+import simplyrestful.springboot.metrics.MicrometerMetricsSink;
 
 /**
  * This class configures Jersey for SimplyRESTful using a Spring auto-configuration mechanism.
  *
  * It registers the required JAX-RS providers and endpoints, and enables the required Jersey features.
+ *
+ * If the "SIMPLYRESTFUL_METRICS_ENABLED" property or environment variable is "true", it also registers the
+ * RequestMetricsFeature and enables the CrudInstrumentation for the web resources. Its MetricsSink is also made
+ * available for injection, e.g. for web resources that implement InstrumentedWebResource. The metrics are recorded in the
+ * MetricsSink bean, which is created for the Micrometer MeterRegistry if one is available. Otherwise, they are
+ * recorded in memory.
+ *
+ * If the "SIMPLYRESTFUL_ENTITY_TAG_ENABLED" property or environment variable is "true", it also registers the
+ * EntityTagFilter.
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 public class JerseySpringBootConfiguration implements ResourceConfigCustomizer {
+    private final ObjectProvider<MetricsSink> metricsSink;
+
+    public JerseySpringBootConfiguration(ObjectProvider<MetricsSink> metricsSink) {
+        this.metricsSink = metricsSink;
+    }
+
     @Override
     public void customize(ResourceConfig config) {
         config.register(WebResourceRoot.class);
         config.register(JacksonJsonProvider.class);
         config.register(ObjectMapperProvider.class);
+        config.register(StreamingApiCollectionWriter.class);
         config.register(UriCustomizer.class);
         config.register(JsonFieldsFilterInterceptor.class);
         config.register(AcceptHeaderModifier.class);
         config.register(OpenApiResource.class);
         config.register(AcceptHeaderOpenApiResource.class);
+        if (EntityTagFilter.isEnabled()) {
+            config.register(EntityTagFilter.class, EntityTagFilter.PRIORITY);
+        }
+        if (RequestMetricsFeature.isEnabled()) {
+            MetricsSink sink = metricsSink.getIfAvailable(InMemoryMetricsSink::new);
+            config.register(new RequestMetricsFeature(sink));
+            CrudInstrumentation.enable(sink);
+            config.register(new AbstractBinder() {
+                @Override
+                protected void configure() {
+                    bind(sink).to(MetricsSink.class);
+                }
+            });
+        }
         config.property(ServerProperties.WADL_FEATURE_DISABLE, true);
         config.property(ServerProperties.BV_SEND_ERROR_IN_RESPONSE, true);
     }
@@ -45,4 +88,15 @@ public class JerseySpringBootConfiguration implements ResourceConfigCustomizer {
     TomcatConnectorCustomizer http2UpgradeProtocol() {
         return (connector -> connector.addUpgradeProtocol(new Http2Protocol()));
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfiguration {
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(MetricsSink.class)
+        MetricsSink micrometerMetricsSink(MeterRegistry registry) {
+            return new MicrometerMetricsSink(registry);
+        }
+    }
 }
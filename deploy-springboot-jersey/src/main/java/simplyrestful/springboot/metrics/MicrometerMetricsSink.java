@@ -0,0 +1,45 @@
+package simplyrestful.springboot.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import simplyrestful.api.framework.metrics.MetricsSink;
+
+/**
+ * Records the SimplyRESTful metrics as Micrometer timers and distribution summaries.
+ *
+ * The meters are looked up once for each name and set of tags, after which they are reused.
+ */
+public class MicrometerMetricsSink implements MetricsSink {
+	private final MeterRegistry registry;
+	private final Map<MeterId, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<MeterId, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+	public MicrometerMetricsSink(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordTime(String name, Map<String, String> tags, long durationNanos) {
+		timers.computeIfAbsent(new MeterId(name, tags), id -> Timer.builder(id.name()).tags(toTags(id.tags())).register(registry))
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordAmount(String name, Map<String, String> tags, long amount) {
+		summaries.computeIfAbsent(new MeterId(name, tags), id -> DistributionSummary.builder(id.name()).tags(toTags(id.tags())).register(registry))
+				.record(amount);
+	}
+
+	private static Tags toTags(Map<String, String> tags) {
+		return Tags.of(tags.entrySet().stream().map(tag -> Tag.of(tag.getKey(), tag.getValue())).toList());
+	}
+
+	private record MeterId(String name, Map<String, String> tags) {}
+}
@@ -0,0 +1,50 @@
+package simplyrestful.springboot.configuration.jersey;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink;
+import simplyrestful.api.framework.metrics.MetricsSink;
+import simplyrestful.api.framework.metrics.RequestMetricsFeature;
+
+public class JerseySpringBootConfigurationTest {
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourceConfig customize(MetricsSink sink) {
+        ObjectProvider<MetricsSink> metricsSink = Mockito.mock(ObjectProvider.class);
+        Mockito.when(metricsSink.getIfAvailable(ArgumentMatchers.any())).thenReturn(sink);
+        ResourceConfig config = new ResourceConfig();
+        new JerseySpringBootConfiguration(metricsSink).customize(config);
+        return config;
+    }
+
+    @Test
+    public void customize_shouldNotRegisterMetrics_whenMetricsAreDisabled() {
+        System.setProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED, "false");
+        ResourceConfig config = customize(new InMemoryMetricsSink());
+        Assertions.assertTrue(config.getInstances().stream().noneMatch(RequestMetricsFeature.class::isInstance));
+        Assertions.assertFalse(config.isRegistered(RequestMetricsFeature.class));
+    }
+
+    @Test
+    public void customize_shouldRegisterMetricsWithProvidedSink_whenMetricsAreEnabled() {
+        System.setProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED, "true");
+        MetricsSink sink = new InMemoryMetricsSink();
+        ResourceConfig config = customize(sink);
+        RequestMetricsFeature feature = config.getInstances().stream()
+                .filter(RequestMetricsFeature.class::isInstance)
+                .map(RequestMetricsFeature.class::cast)
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertSame(sink, feature.getSink());
+    }
+}
@@ -28,10 +28,8 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 
-import cz.jirutka.rsql.parser.RSQLParserException;
 import example.resources.jpa.ExampleComplexAttribute;
 import example.resources.jpa.ExampleResource;
-import io.github.perplexhub.rsql.RSQLJPASupport;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -50,10 +48,14 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import simplyrestful.api.framework.DefaultWebResource;
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.queryparams.SortOrder;
 import simplyrestful.api.framework.resources.ApiCollection;
 import simplyrestful.api.framework.resources.Link;
 import simplyrestful.api.framework.springdata.paging.OffsetBasedPageRequest;
+import simplyrestful.api.framework.springdata.specification.FiqlSpecification;
+import simplyrestful.api.framework.utils.QueryParamUtils;
 import simplyrestful.api.framework.utils.WebResourceUtils;
 
 @Named
@@ -144,20 +146,35 @@ public class ExampleWebResource implements DefaultWebResource<ExampleResource> {
 	@Override
 	public List<ExampleResource> list(int pageStart, int pageSize, List<String> fields, String query,
 			List<SortOrder> sort) {
-		try {
-			List<ExampleResource> retrievedPage = repo.findAll(RSQLJPASupport.<ExampleResource>toSpecification(query),
-					new OffsetBasedPageRequest(pageStart, pageSize, map(sort))).getContent();
-			return retrievedPage.stream().map(resource -> ensureSelfLinkAndUUIDPresent(resource))
-					.collect(Collectors.toList());
-		}
-		catch(RSQLParserException e) {
-			throw new BadRequestException("The FIQL query could not be parsed");
-		}
+		return list(pageStart, pageSize, fields, parseQuery(query), sort);
+	}
+
+	@Override
+	public List<ExampleResource> list(int pageStart, int pageSize, List<String> fields, FiqlQuery query,
+			List<SortOrder> sort) {
+		List<ExampleResource> retrievedPage = repo.findAll(new FiqlSpecification<ExampleResource>(query),
+				new OffsetBasedPageRequest(pageStart, pageSize, map(sort))).getContent();
+		return retrievedPage.stream().map(resource -> ensureSelfLinkAndUUIDPresent(resource))
+				.collect(Collectors.toList());
 	}
 
 	@Override
 	public int count(String query) {
-		return Math.toIntExact(repo.count(RSQLJPASupport.toSpecification(query)));
+		return count(parseQuery(query));
+	}
+
+	@Override
+	public int count(FiqlQuery query) {
+		return Math.toIntExact(repo.count(new FiqlSpecification<ExampleResource>(query)));
+	}
+
+	private FiqlQuery parseQuery(String query) {
+		try {
+			return QueryParamUtils.parseQuery(query);
+		}
+		catch(FiqlParseException e) {
+			throw new BadRequestException("The FIQL query could not be parsed", e);
+		}
 	}
 
 	@Override
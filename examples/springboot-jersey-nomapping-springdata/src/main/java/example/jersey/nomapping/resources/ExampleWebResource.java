@@ -28,12 +28,12 @@ import java.util.stream.Stream;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.domain.Specification;
 
-import cz.jirutka.rsql.parser.RSQLParserException;
-import io.github.perplexhub.rsql.RSQLJPASupport;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.BadRequestException;
@@ -44,11 +44,16 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.core.Response;
 import simplyrestful.api.framework.DefaultWebResource;
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.queryparams.SortOrder;
 import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.utils.QueryParamUtils;
 import simplyrestful.api.framework.utils.WebResourceUtils;
 import simplyrestful.api.framework.webresource.api.implementation.DefaultCollectionGetEventStream;
 import simplyrestful.api.framework.springdata.paging.OffsetBasedPageRequest;
+import simplyrestful.api.framework.springdata.projection.FieldsProjection;
+import simplyrestful.api.framework.springdata.specification.FiqlSpecification;
 
 @Named
 @Path("/resources")
@@ -58,13 +63,20 @@ import simplyrestful.api.framework.springdata.paging.OffsetBasedPageRequest;
 public class ExampleWebResource implements DefaultWebResource<ExampleResourceRecord>, DefaultCollectionGetEventStream<ExampleResourceRecord> {
 	public static final String ERROR_UPDATE_RESOURCE_DOES_NOT_EXIST = "The provided resources does not exist so it can not be updated";
 	public static final String ERROR_CREATE_RESOURCE_ALREADY_EXISTS = "The provided resources already exists so it can not be created";
+	private static final FieldsProjection<ExampleResourceEntity> PROJECTION = new FieldsProjection<>(ExampleResourceEntity.class)
+			.map("self", "uuid")
+			.map("description", "description")
+			.map("complexAttribute", "complexAttribute.name")
+			.map("dateTime", "dateTime");
 	private ExampleRepository repo;
+	private EntityManager entityManager;
 	@Context
 	UriInfo uriInfo;
 
 	@Inject
-	public ExampleWebResource(ExampleRepository repo) {
+	public ExampleWebResource(ExampleRepository repo, EntityManager entityManager) {
 		this.repo = repo;
+		this.entityManager = entityManager;
 		addInitialTestData(repo);
 	}
 
@@ -130,20 +142,32 @@ public class ExampleWebResource implements DefaultWebResource<ExampleResourceRec
 	@Override
 	public List<ExampleResourceRecord> list(int pageStart, int pageSize, List<String> fields, String query,
 			List<SortOrder> sort) {
-		try {
-			List<ExampleResourceEntity> retrievedPage = repo.findAll(RSQLJPASupport.<ExampleResourceEntity>toSpecification(query),
-					new OffsetBasedPageRequest(pageStart, pageSize, map(sort))).getContent();
-			return retrievedPage.stream().map(entity -> mapper().toRecord(entity))
-					.collect(Collectors.toList());
-		}
-		catch(RSQLParserException e) {
-			throw new BadRequestException("The FIQL query could not be parsed");
-		}
+		return list(pageStart, pageSize, fields, parseQuery(query), sort);
+	}
+
+	@Override
+	public List<ExampleResourceRecord> list(int pageStart, int pageSize, List<String> fields, FiqlQuery query,
+			List<SortOrder> sort) {
+		Specification<ExampleResourceEntity> spec = new FiqlSpecification<>(query);
+		OffsetBasedPageRequest pageRequest = new OffsetBasedPageRequest(pageStart, pageSize, map(sort));
+		List<ExampleResourceEntity> retrievedPage = PROJECTION.itemAttributePaths(fields)
+				.map(attributes -> PROJECTION.findAll(entityManager, spec, pageRequest, attributes))
+				.orElseGet(() -> repo.findAll(spec, pageRequest).getContent());
+		return retrievedPage.stream().map(entity -> mapper().toRecord(entity))
+				.collect(Collectors.toList());
 	}
 
 	@Override
 	public Stream<ExampleResourceRecord> stream(List<String> fields, String query, List<SortOrder> sort) {
-		return repo.findAll(RSQLJPASupport.<ExampleResourceEntity>toSpecification(query), map(sort))
+		return stream(fields, parseQuery(query), sort);
+	}
+
+	@Override
+	public Stream<ExampleResourceRecord> stream(List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+		Specification<ExampleResourceEntity> spec = new FiqlSpecification<>(query);
+		return PROJECTION.attributePaths(fields)
+			.map(attributes -> PROJECTION.stream(entityManager, spec, map(sort), attributes))
+			.orElseGet(() -> repo.findAll(spec, map(sort)))
 			.map(entity -> {
 			    simulateSlowDataRetrieval();
 			    return entity;
@@ -153,7 +177,21 @@ public class ExampleWebResource implements DefaultWebResource<ExampleResourceRec
 
 	@Override
 	public int count(String query) {
-		return Math.toIntExact(repo.count(RSQLJPASupport.toSpecification(query)));
+		return count(parseQuery(query));
+	}
+
+	@Override
+	public int count(FiqlQuery query) {
+		return Math.toIntExact(repo.count(new FiqlSpecification<ExampleResourceEntity>(query)));
+	}
+
+	private FiqlQuery parseQuery(String query) {
+		try {
+			return QueryParamUtils.parseQuery(query);
+		}
+		catch(FiqlParseException e) {
+			throw new BadRequestException("The FIQL query could not be parsed", e);
+		}
 	}
 
 	@Override
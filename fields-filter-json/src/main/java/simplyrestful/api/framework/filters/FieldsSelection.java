@@ -0,0 +1,260 @@
+package simplyrestful.api.framework.filters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * An immutable, compiled selection of fields, as provided in the "fields" query parameter.
+ *
+ * The field names are compiled into a tree of nodes, one for each level of nesting. Walking this tree while reading a
+ * JSON document allows determining whether a field should be included with a single lookup, without having to
+ * construct or compare the entire path to that field.
+ *
+ * Nested fields are separated by a dot, like "parent.child". A dot that is part of the field name itself can be
+ * escaped with a backslash, like "parent\.with\.dots.child".
+ */
+public final class FieldsSelection {
+	/**
+	 * The maximum amount of distinct lists of fields for which the compiled selection is cached. When more are
+	 * compiled, the selections that were cached first are evicted first.
+	 */
+	public static final int MAX_CACHED_SELECTIONS = 1024;
+	private static final Map<List<String>, FieldsSelection> CACHE = new ConcurrentHashMap<>();
+	private static final Queue<List<String>> CACHE_ORDER = new ConcurrentLinkedQueue<>();
+	private static final char ESCAPE = '\\';
+
+	private final Node root;
+
+	private FieldsSelection(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Retrieve the compiled selection for the provided list of fields.
+	 *
+	 * The compiled selection is cached, so providing the same list of fields again does not compile it again.
+	 *
+	 * @param fields is the list of field names that are selected. It must not be null or empty.
+	 * @return the compiled selection of fields.
+	 */
+	public static FieldsSelection of(List<String> fields) {
+		if (fields == null || fields.isEmpty()) {
+			throw new IllegalArgumentException("The fields to select must be provided");
+		}
+		FieldsSelection cached = CACHE.get(fields);
+		if (cached != null) {
+			return cached;
+		}
+		List<String> key = List.copyOf(fields);
+		FieldsSelection compiled = compile(key);
+		FieldsSelection existing = CACHE.putIfAbsent(key, compiled);
+		if (existing != null) {
+			return existing;
+		}
+		CACHE_ORDER.add(key);
+		while (CACHE.size() > MAX_CACHED_SELECTIONS) {
+			List<String> eldest = CACHE_ORDER.poll();
+			if (eldest == null) {
+				break;
+			}
+			CACHE.remove(eldest);
+		}
+		return compiled;
+	}
+
+	/**
+	 * @return the node for the root of the JSON document.
+	 */
+	public Node root() {
+		return root;
+	}
+
+	private static FieldsSelection compile(List<String> fields) {
+		Map<String, Object> tree = new LinkedHashMap<>();
+		for (String field : fields) {
+			Map<String, Object> level = tree;
+			List<String> names = splitNestedField(field);
+			for (int i = 0; i < names.size(); i++) {
+				String name = names.get(i);
+				if (i == names.size() - 1) {
+					level.put(name, Node.ALL);
+					break;
+				}
+				Object next = level.get(name);
+				if (next == Node.ALL) {
+					break;
+				}
+				if (next == null) {
+					next = new LinkedHashMap<String, Object>();
+					level.put(name, next);
+				}
+				@SuppressWarnings("unchecked")
+				Map<String, Object> nextLevel = (Map<String, Object>) next;
+				level = nextLevel;
+			}
+		}
+		return new FieldsSelection(toNode(tree));
+	}
+
+	private static Node toNode(Map<String, Object> level) {
+		String[] names = level.keySet().toArray(new String[0]);
+		Node[] children = new Node[names.length];
+		for (int i = 0; i < names.length; i++) {
+			Object child = level.get(names[i]);
+			if (child == Node.ALL) {
+				children[i] = Node.ALL;
+			}
+			else {
+				@SuppressWarnings("unchecked")
+				Map<String, Object> childLevel = (Map<String, Object>) child;
+				children[i] = toNode(childLevel);
+			}
+		}
+		return new Node(names, children);
+	}
+
+	private static List<String> splitNestedField(String field) {
+		List<String> names = new ArrayList<>();
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < field.length(); i++) {
+			char current = field.charAt(i);
+			if (current == ESCAPE && i + 1 < field.length() && field.startsWith(JsonFieldsFilter.FIELDS_NESTING_SEPARATOR, i + 1)) {
+				name.append(JsonFieldsFilter.FIELDS_ESCAPED_DOT_INTERNAL);
+				i++;
+			}
+			else if (field.startsWith(JsonFieldsFilter.FIELDS_NESTING_SEPARATOR, i)) {
+				names.add(name.toString());
+				name.setLength(0);
+			}
+			else {
+				name.append(current);
+			}
+		}
+		names.add(name.toString());
+		return names;
+	}
+
+	/**
+	 * A single level of nesting in the selection of fields.
+	 */
+	public static final class Node {
+		/**
+		 * The node for a field that is selected entirely, including all of its nested fields.
+		 */
+		static final Node ALL = new Node(new String[0], new Node[0]);
+		/**
+		 * The maximum amount of nested fields that are searched one by one. The nested fields of a node with more
+		 * nested fields are looked up by their hash.
+		 */
+		private static final int MAX_SEARCHED_CHILDREN = 8;
+
+		private final String[] names;
+		private final byte[][] encodedNames;
+		private final Node[] children;
+		private final Map<String, Node> childrenByName;
+		/**
+		 * The open-addressing hash table for the encoded names, containing the index of each nested field plus one, or
+		 * null if the nested fields are searched one by one.
+		 */
+		private final int[] encodedNameTable;
+
+		private Node(String[] names, Node[] children) {
+			this.names = names;
+			this.children = children;
+			this.encodedNames = new byte[names.length][];
+			for (int i = 0; i < names.length; i++) {
+				encodedNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+			}
+			if (names.length <= MAX_SEARCHED_CHILDREN) {
+				this.childrenByName = null;
+				this.encodedNameTable = null;
+				return;
+			}
+			this.childrenByName = new HashMap<>();
+			this.encodedNameTable = new int[Integer.highestOneBit(2 * names.length - 1) << 1];
+			int mask = encodedNameTable.length - 1;
+			for (int i = 0; i < names.length; i++) {
+				childrenByName.put(names[i], children[i]);
+				int slot = hash(encodedNames[i], 0, encodedNames[i].length) & mask;
+				while (encodedNameTable[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				encodedNameTable[slot] = i + 1;
+			}
+		}
+
+		/**
+		 * @return true if this field is selected entirely, including all of its nested fields.
+		 */
+		public boolean isSelectedEntirely() {
+			return this == ALL;
+		}
+
+		/**
+		 * Retrieve the node for the nested field with the provided name.
+		 *
+		 * @param name is the name of the nested field.
+		 * @return the node for the nested field, or null if the nested field is not selected.
+		 */
+		public Node child(String name) {
+			if (this == ALL) {
+				return ALL;
+			}
+			if (childrenByName != null) {
+				return childrenByName.get(name);
+			}
+			for (int i = 0; i < names.length; i++) {
+				if (names[i].equals(name)) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Retrieve the node for the nested field with the provided UTF-8 encoded name.
+		 *
+		 * @param name contains the UTF-8 encoded name of the nested field, without any escape sequences.
+		 * @param off is the start offset of the name.
+		 * @param len is the length of the name.
+		 * @return the node for the nested field, or null if the nested field is not selected.
+		 */
+		public Node child(byte[] name, int off, int len) {
+			if (this == ALL) {
+				return ALL;
+			}
+			if (encodedNameTable != null) {
+				int mask = encodedNameTable.length - 1;
+				for (int slot = hash(name, off, len) & mask; encodedNameTable[slot] != 0; slot = (slot + 1) & mask) {
+					int i = encodedNameTable[slot] - 1;
+					if (Arrays.equals(encodedNames[i], 0, encodedNames[i].length, name, off, off + len)) {
+						return children[i];
+					}
+				}
+				return null;
+			}
+			for (int i = 0; i < encodedNames.length; i++) {
+				if (Arrays.equals(encodedNames[i], 0, encodedNames[i].length, name, off, off + len)) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		private static int hash(byte[] name, int off, int len) {
+			int hash = 1;
+			for (int i = off; i < off + len; i++) {
+				hash = 31 * hash + name[i];
+			}
+			return hash ^ (hash >>> 16);
+		}
+	}
+}
@@ -0,0 +1,420 @@
+package simplyrestful.api.framework.filters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filters a JSON document to only show a specific set of fields and their values, while the document is being written.
+ *
+ * Unlike the JsonFieldsFilter, this filter does not need the entire JSON document to be available. The bytes of the
+ * JSON document are tokenized incrementally and the filtered JSON is written to the underlying output stream as soon
+ * as possible. Only the name of the field that is currently being read and a small amount of state for each nesting
+ * level are kept in memory, regardless of the size of the JSON document.
+ *
+ * The same fields are included as with the JsonFieldsFilter. The filtered JSON is written without any insignificant
+ * whitespace. A single instance can filter multiple JSON documents after each other, by calling {@link #reset()}
+ * after each completed document.
+ */
+public class JsonFieldsStreamingFilter {
+	private static final String ERROR_INVALID_JSON = "The filter could not read the JSON object or array correctly";
+	private static final int INITIAL_NESTING_CAPACITY = 32;
+	private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+	private static final int EXPECT_VALUE = 0;
+	private static final int EXPECT_KEY = 1;
+	private static final int EXPECT_COLON = 2;
+	private static final int EXPECT_SEPARATOR = 3;
+	private static final int IN_STRING = 4;
+	private static final int IN_STRING_ESCAPE = 5;
+	private static final int IN_KEY = 6;
+	private static final int IN_KEY_ESCAPE = 7;
+	private static final int IN_LITERAL = 8;
+	private static final int COMPLETE = 9;
+
+	private final OutputStream out;
+	private final FieldsSelection selection;
+	private final byte[] outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+	private int outputCount = 0;
+
+	private int state = EXPECT_VALUE;
+	private int depth = 0;
+	private boolean[] objectAtDepth = new boolean[INITIAL_NESTING_CAPACITY];
+	/**
+	 * The node in the selection for each nesting level, which is null if the nesting level is not included.
+	 */
+	private FieldsSelection.Node[] nodeAtDepth = new FieldsSelection.Node[INITIAL_NESTING_CAPACITY];
+	private boolean[] hasMembersAtDepth = new boolean[INITIAL_NESTING_CAPACITY];
+	/**
+	 * The raw bytes of the key currently being read, without the surrounding quotes.
+	 */
+	private byte[] keyBuffer = new byte[64];
+	private int keyLength = 0;
+	private boolean keyContainsEscapes = false;
+	/**
+	 * The node in the selection for the value of the field whose key was read last.
+	 */
+	private FieldsSelection.Node memberNode = null;
+	/**
+	 * Whether the string or literal value currently being read is written to the underlying output stream.
+	 */
+	private boolean writingValue = false;
+
+	/**
+	 * Create a new streaming filter that writes the filtered JSON to the provided output stream.
+	 *
+	 * @param out is the output stream to which the filtered JSON is written.
+	 * @param fields is the list of field names that should be kept in the JSON document. This must not be empty.
+	 */
+	public JsonFieldsStreamingFilter(OutputStream out, List<String> fields) {
+		this(out, FieldsSelection.of(fields));
+	}
+
+	/**
+	 * Create a new streaming filter that writes the filtered JSON to the provided output stream.
+	 *
+	 * @param out is the output stream to which the filtered JSON is written.
+	 * @param selection is the compiled selection of fields that should be kept in the JSON document.
+	 */
+	public JsonFieldsStreamingFilter(OutputStream out, FieldsSelection selection) {
+		this.out = out;
+		this.selection = selection;
+	}
+
+	/**
+	 * Filter the provided bytes of a JSON document.
+	 *
+	 * The JSON document must start with a JSON object or array. The bytes are processed until the end of the provided
+	 * data or until the JSON document is complete, whichever comes first. Any data after the end of the JSON document is
+	 * not processed.
+	 *
+	 * @param b contains the data of the JSON document.
+	 * @param off is the start offset in the data.
+	 * @param len is the amount of bytes to filter.
+	 * @return the amount of bytes that were processed, which is only less than len if the JSON document was completed.
+	 * @throws IOException if the filtered JSON could not be written to the underlying output stream.
+	 */
+	public int write(byte[] b, int off, int len) throws IOException {
+		int end = off + len;
+		int position = off;
+		while (position < end && state != COMPLETE) {
+			int current = b[position] & 0xFF;
+			switch (state) {
+			case IN_STRING:
+				int runEnd = position;
+				while (runEnd < end && b[runEnd] != '"' && b[runEnd] != '\\') {
+					runEnd++;
+				}
+				if (writingValue) {
+					emit(b, position, runEnd - position);
+				}
+				if (runEnd < end) {
+					if (writingValue) {
+						emit(b[runEnd]);
+					}
+					state = b[runEnd] == '\\' ? IN_STRING_ESCAPE : afterValue();
+				}
+				position = runEnd < end ? runEnd + 1 : end;
+				continue;
+			case IN_STRING_ESCAPE:
+				if (writingValue) {
+					emit(current);
+				}
+				state = IN_STRING;
+				break;
+			case IN_KEY:
+				if (current == '"') {
+					finishKey();
+					state = EXPECT_COLON;
+				}
+				else {
+					appendToKey(current);
+					if (current == '\\') {
+						keyContainsEscapes = true;
+						state = IN_KEY_ESCAPE;
+					}
+				}
+				break;
+			case IN_KEY_ESCAPE:
+				appendToKey(current);
+				state = IN_KEY;
+				break;
+			case IN_LITERAL:
+				if (isLiteralDelimiter(current)) {
+					state = afterValue();
+					// the delimiter is handled in the new state
+					continue;
+				}
+				if (writingValue) {
+					emit(current);
+				}
+				break;
+			case EXPECT_COLON:
+				if (current == ':') {
+					state = EXPECT_VALUE;
+				}
+				else if (!isWhitespace(current)) {
+					throw new IllegalStateException(ERROR_INVALID_JSON);
+				}
+				break;
+			case EXPECT_KEY:
+				if (current == '"') {
+					keyLength = 0;
+					keyContainsEscapes = false;
+					state = IN_KEY;
+				}
+				else if (current == '}') {
+					state = endContainer(true);
+				}
+				else if (!isWhitespace(current)) {
+					throw new IllegalStateException(ERROR_INVALID_JSON);
+				}
+				break;
+			case EXPECT_SEPARATOR:
+				if (current == ',') {
+					state = objectAtDepth[depth - 1] ? EXPECT_KEY : EXPECT_VALUE;
+				}
+				else if (current == '}' || current == ']') {
+					state = endContainer(current == '}');
+				}
+				else if (!isWhitespace(current)) {
+					throw new IllegalStateException(ERROR_INVALID_JSON);
+				}
+				break;
+			case EXPECT_VALUE:
+				if (isWhitespace(current)) {
+					break;
+				}
+				if (current == ']' && depth > 0 && !objectAtDepth[depth - 1]) {
+					state = endContainer(false);
+					break;
+				}
+				state = startValue(current);
+				break;
+			default:
+				throw new IllegalStateException(ERROR_INVALID_JSON);
+			}
+			position++;
+		}
+		if (state == COMPLETE) {
+			flush();
+		}
+		return position - off;
+	}
+
+	/**
+	 * @return true if an entire JSON document has been filtered, false otherwise.
+	 */
+	public boolean isComplete() {
+		return state == COMPLETE;
+	}
+
+	/**
+	 * Prepare the filter for the next JSON document.
+	 */
+	public void reset() {
+		state = EXPECT_VALUE;
+		depth = 0;
+		keyLength = 0;
+		writingValue = false;
+		memberNode = null;
+		Arrays.fill(nodeAtDepth, null);
+	}
+
+	/**
+	 * Write any filtered JSON that is still buffered to the underlying output stream.
+	 *
+	 * This does not flush the underlying output stream itself.
+	 *
+	 * @throws IOException if the filtered JSON could not be written to the underlying output stream.
+	 */
+	public void flush() throws IOException {
+		if (outputCount > 0) {
+			out.write(outputBuffer, 0, outputCount);
+			outputCount = 0;
+		}
+	}
+
+	private int startValue(int current) throws IOException {
+		FieldsSelection.Node node;
+		if (depth == 0) {
+			if (current != '{' && current != '[') {
+				throw new IllegalStateException(ERROR_INVALID_JSON);
+			}
+			node = selection.root();
+		}
+		else if (objectAtDepth[depth - 1]) {
+			node = memberNode;
+		}
+		else {
+			node = nodeAtDepth[depth - 1];
+			if (node != null) {
+				if (hasMembersAtDepth[depth - 1]) {
+					emit(',');
+				}
+				hasMembersAtDepth[depth - 1] = true;
+			}
+		}
+		boolean include = node != null;
+		switch (current) {
+		case '{':
+			startContainer(true, node);
+			if (include) {
+				emit('{');
+			}
+			return EXPECT_KEY;
+		case '[':
+			startContainer(false, node);
+			if (include) {
+				emit('[');
+			}
+			return EXPECT_VALUE;
+		case '"':
+			writingValue = include;
+			if (include) {
+				emit('"');
+			}
+			return IN_STRING;
+		default:
+			if (isLiteralDelimiter(current) || current == ':') {
+				throw new IllegalStateException(ERROR_INVALID_JSON);
+			}
+			writingValue = include;
+			if (include) {
+				emit(current);
+			}
+			return IN_LITERAL;
+		}
+	}
+
+	private void startContainer(boolean isObject, FieldsSelection.Node node) {
+		if (depth == objectAtDepth.length) {
+			int capacity = depth * 2;
+			objectAtDepth = Arrays.copyOf(objectAtDepth, capacity);
+			nodeAtDepth = Arrays.copyOf(nodeAtDepth, capacity);
+			hasMembersAtDepth = Arrays.copyOf(hasMembersAtDepth, capacity);
+		}
+		objectAtDepth[depth] = isObject;
+		nodeAtDepth[depth] = node;
+		hasMembersAtDepth[depth] = false;
+		depth++;
+	}
+
+	private int endContainer(boolean isObject) throws IOException {
+		if (depth == 0 || objectAtDepth[depth - 1] != isObject) {
+			throw new IllegalStateException(ERROR_INVALID_JSON);
+		}
+		depth--;
+		if (nodeAtDepth[depth] != null) {
+			emit(isObject ? '}' : ']');
+		}
+		nodeAtDepth[depth] = null;
+		return afterValue();
+	}
+
+	private int afterValue() {
+		writingValue = false;
+		return depth == 0 ? COMPLETE : EXPECT_SEPARATOR;
+	}
+
+	private void finishKey() throws IOException {
+		int parent = depth - 1;
+		FieldsSelection.Node parentNode = nodeAtDepth[parent];
+		if (parentNode == null) {
+			memberNode = null;
+			return;
+		}
+		memberNode = keyContainsEscapes ? parentNode.child(decodeKey()) : parentNode.child(keyBuffer, 0, keyLength);
+		if (memberNode != null) {
+			if (hasMembersAtDepth[parent]) {
+				emit(',');
+			}
+			hasMembersAtDepth[parent] = true;
+			emit('"');
+			emit(keyBuffer, 0, keyLength);
+			emit('"');
+			emit(':');
+		}
+	}
+
+	private void appendToKey(int current) {
+		if (keyLength == keyBuffer.length) {
+			keyBuffer = Arrays.copyOf(keyBuffer, keyLength * 2);
+		}
+		keyBuffer[keyLength++] = (byte) current;
+	}
+
+	private String decodeKey() {
+		StringBuilder key = new StringBuilder(keyLength);
+		int runStart = 0;
+		for (int i = 0; i < keyLength; i++) {
+			if (keyBuffer[i] != '\\') {
+				continue;
+			}
+			key.append(new String(keyBuffer, runStart, i - runStart, StandardCharsets.UTF_8));
+			if (i + 1 == keyLength) {
+				throw new IllegalStateException(ERROR_INVALID_JSON);
+			}
+			byte escaped = keyBuffer[++i];
+			switch (escaped) {
+			case 'b':
+				key.append('\b');
+				break;
+			case 'f':
+				key.append('\f');
+				break;
+			case 'n':
+				key.append('\n');
+				break;
+			case 'r':
+				key.append('\r');
+				break;
+			case 't':
+				key.append('\t');
+				break;
+			case 'u':
+				if (i + 4 >= keyLength) {
+					throw new IllegalStateException(ERROR_INVALID_JSON);
+				}
+				key.append((char) Integer.parseInt(new String(keyBuffer, i + 1, 4, StandardCharsets.US_ASCII), 16));
+				i += 4;
+				break;
+			default:
+				key.append((char) escaped);
+				break;
+			}
+			runStart = i + 1;
+		}
+		key.append(new String(keyBuffer, runStart, keyLength - runStart, StandardCharsets.UTF_8));
+		return key.toString();
+	}
+
+	private void emit(int b) throws IOException {
+		if (outputCount == outputBuffer.length) {
+			flush();
+		}
+		outputBuffer[outputCount++] = (byte) b;
+	}
+
+	private void emit(byte[] b, int off, int len) throws IOException {
+		if (len > outputBuffer.length - outputCount) {
+			flush();
+			if (len > outputBuffer.length) {
+				out.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, outputBuffer, outputCount, len);
+		outputCount += len;
+	}
+
+	private static boolean isWhitespace(int current) {
+		return current == ' ' || current == '\n' || current == '\r' || current == '\t';
+	}
+
+	private static boolean isLiteralDelimiter(int current) {
+		return isWhitespace(current) || current == ',' || current == '}' || current == ']';
+	}
+}
@@ -1,31 +1,26 @@
 package simplyrestful.api.framework.outputstream.json;
 
-import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import simplyrestful.api.framework.filters.JsonFieldsFilter;
+import simplyrestful.api.framework.filters.JsonFieldsStreamingFilter;
 
 /**
  * This output stream filters on specific fields in a JSON object or array.
  *
- * This output stream buffers the stream until an entire JSON object or array is detected.
- * The field filtering will then be applied to that entire JSON object or array, which is
- * then written to the underlying output stream.
+ * Any JSON object or array written to this output stream is filtered while it is being written, using the
+ * JsonFieldsStreamingFilter. The filtered JSON is written to the underlying output stream as soon as possible,
+ * so only a small, bounded amount of memory is needed regardless of the size of the JSON object or array.
  *
  * If the first character written is not the start token of a JSON object or array, this
- * output stream will do nothing and write the byte directly to the underlying output
- * stream without buffering it.
- *
- * Unlike the BufferedOutputStream, this output stream cannot flush the buffer to the
- * underlying stream when it is filled. It needs to continue until an entire JSON object
- * or array is written. So this output stream will not work for JSON documents larger
- * than the maximum buffer size, currently set at 1MiB.
- *
+ * output stream will do nothing and write the data directly to the underlying output
+ * stream. Whitespace written before a JSON object or array, like the line separators between
+ * newline-delimited JSON documents, is written directly to the underlying output stream as well.
+ * After a JSON object or array is completed, the output stream will look for the next one.
  */
-public class JsonFieldsFilterOutputStream extends BufferedOutputStream {
+public class JsonFieldsFilterOutputStream extends FilterOutputStream {
 	/**
 	 * The character that defines the start of a JSON object
 	 */
@@ -44,113 +39,104 @@ public class JsonFieldsFilterOutputStream extends BufferedOutputStream {
 	public static final char JSON_END_ARRAY_TOKEN = ']';
 	/**
 	 * The initial size of the buffer for this OutputStream.
+	 *
+	 * @deprecated The JSON is now filtered while it is streamed, so it is no longer buffered and this size is not used.
 	 */
+	@Deprecated
 	public static final int MAX_BUFFER_SIZE = 1024*1024;
+	/**
+	 * The character that separates records in a JSON text sequence (RFC 7464).
+	 */
+	public static final char JSON_RECORD_SEPARATOR = '\u001E';
 
 	private final List<String> fields;
-
-	private long nestingLevel = 0;
+	private final byte[] singleByte = new byte[1];
+	private JsonFieldsStreamingFilter filter;
 	/**
-	 * The stream contains a JSON object or array.
+	 * The stream is currently inside a JSON object or array.
 	 * The stream may contain more data before and after the JSON object or
 	 * array. Any full JSON object or array in the data will be filtered.
-	 *
-	 * Only one of isJsonObject and isJsonArray can be true at any given time.
 	 */
-	private boolean isJsonObject = false;
-	private boolean isJsonArray = false;
+	private boolean insideJson = false;
 
 	/**
-	 * Create a new BufferedOutputStream that filters any JSON object or array
+	 * Create a new OutputStream that filters any JSON object or array
 	 * written to the underlying OutputStream according to the provided fields.
 	 *
 	 * @param out is the underlying OutputStream.
 	 * @param fields is the set of fields on which to filter.
 	 */
 	public JsonFieldsFilterOutputStream(OutputStream out, List<String> fields) {
-		super(out, MAX_BUFFER_SIZE);
+		super(out);
 		this.fields = fields;
 	}
 
 	@Override
-	public synchronized void write(int b) throws IOException {
-		detectJsonInData(asByteArray(b), 1);
-		if(!isJsonObject && !isJsonArray) {
-			out.write(b);
-			return;
-		}
-		super.write(b);
-
-		updateNestingLevel(asByteArray(b), 1);
-		if((isJsonObject || isJsonArray) && nestingLevel == 0) {
-			filterJson();
-		}
+	public void write(int b) throws IOException {
+		singleByte[0] = (byte) b;
+		write(singleByte, 0, 1);
 	}
 
 	@Override
-	public synchronized void write(byte[] b, int off, int len) throws IOException {
-		detectJsonInData(b, len);
-		if(!isJsonObject && !isJsonArray) {
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (fields == null || fields.isEmpty()) {
 			out.write(b, off, len);
 			return;
 		}
-		super.write(b, off, len);
+		int position = off;
+		int end = off + len;
+		while (position < end) {
+			if (!insideJson) {
+				position = writeUntilJson(b, position, end);
+				continue;
+			}
+			position += getFilter().write(b, position, end - position);
+			if (filter.isComplete()) {
+				filter.reset();
+				insideJson = false;
+			}
+		}
+	}
 
-		updateNestingLevel(b, len);
-		if((isJsonObject || isJsonArray) && nestingLevel == 0) {
-			filterJson();
+	@Override
+	public void flush() throws IOException {
+		if (filter != null) {
+			filter.flush();
 		}
+		out.flush();
 	}
 
 	/**
-	 * Verifies if the output stream contains a JSON document.
+	 * Write the data that is not part of a JSON object or array directly to the underlying output stream.
 	 *
-	 * This is verified by checking that the first character written to the output stream is
-	 * the start token for a JSON object or array. After the first character is written and
-	 * verified, the result is stored globally and returned directly.
-	 *
-	 * @param b contains the data to be written.
-	 * @return true if the output stream contains a JSON document.
+	 * @return the position in the data where a JSON object or array starts, or the end of the data if there is none.
 	 */
-	private void detectJsonInData(byte[] b, int len) {
-		if(!isJsonObject && !isJsonArray) {
-			String toBeWritten = new String(b, 0, len, StandardCharsets.UTF_8);
-			isJsonObject = toBeWritten.startsWith(String.valueOf(JSON_START_OBJECT_TOKEN));
-			isJsonArray = toBeWritten.startsWith(String.valueOf(JSON_START_ARRAY_TOKEN));
+	private int writeUntilJson(byte[] b, int off, int end) throws IOException {
+		int position = off;
+		while (position < end && isSeparator(b[position])) {
+			position++;
 		}
+		if (position < end && isStartOfJson(b[position])) {
+			insideJson = true;
+			out.write(b, off, position - off);
+			return position;
+		}
+		out.write(b, off, end - off);
+		return end;
 	}
 
-	private byte[] asByteArray(int b) {
-		return new byte[] { (byte) b };
-	}
-
-	private void updateNestingLevel(byte[] b, int len) {
-		String written = new String(b, 0, len, StandardCharsets.UTF_8);
-		long amountOfNestingStarts = written.chars()
-				.filter(character -> character == (isJsonObject ? JSON_START_OBJECT_TOKEN : JSON_START_ARRAY_TOKEN))
-				.count();
-		long amountOfNestingEnds = written.chars()
-				.filter(character -> character == (isJsonObject ? JSON_END_OBJECT_TOKEN : JSON_END_ARRAY_TOKEN))
-				.count();
-		nestingLevel = nestingLevel + amountOfNestingStarts - amountOfNestingEnds;
-		if (nestingLevel < 0) {
-			throw new IllegalStateException("The filter could not read the JSON object or array correctly");
+	private JsonFieldsStreamingFilter getFilter() {
+		if (filter == null) {
+			filter = new JsonFieldsStreamingFilter(out, fields);
 		}
+		return filter;
 	}
 
-	private void filterJson() throws IOException {
-		String bufferedJsonObjectOrArray = new String(buf, 0, count, StandardCharsets.UTF_8);
-		String filteredJson = new JsonFieldsFilter().filterFieldsInJson(bufferedJsonObjectOrArray, fields);
-		byte[] filteredJsonBytes = filteredJson.getBytes(StandardCharsets.UTF_8);
-		out.write(filteredJsonBytes, 0, filteredJsonBytes.length);
-		reset();
+	private boolean isStartOfJson(byte b) {
+		return b == JSON_START_OBJECT_TOKEN || b == JSON_START_ARRAY_TOKEN;
 	}
 
-	private void reset() {
-		count = 0;
-		buf = new byte[MAX_BUFFER_SIZE];
-		isJsonObject = false;
-		isJsonArray = false;
-		nestingLevel = 0;
+	private boolean isSeparator(byte b) {
+		return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == JSON_RECORD_SEPARATOR;
 	}
 }
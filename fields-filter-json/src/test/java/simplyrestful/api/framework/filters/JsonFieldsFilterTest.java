@@ -6,9 +6,12 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -127,4 +130,80 @@ public class JsonFieldsFilterTest {
     		Assertions.assertEquals(expectedFilteredJsonStructure, filteredJsonStructure);
     	}
     }
+
+    @ParameterizedTest
+    @MethodSource("getAllTestConfigurations")
+    public void testFieldsFilterOutputStreamWrittenPerByte(String originalJsonFile, String filteredJsonFile, List<String> fields) throws IOException {
+    	try(
+    			InputStream originalJsonInputStream = JsonFieldsFilterTest.class.getResourceAsStream(originalJsonFile);
+    			ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
+    			JsonFieldsFilterOutputStream jsonFieldsFilterOutputStream = new JsonFieldsFilterOutputStream(byteOutputStream, fields);
+    	){
+    		Assertions.assertNotNull(originalJsonInputStream);
+
+    		for (int nextByte = originalJsonInputStream.read(); nextByte != -1; nextByte = originalJsonInputStream.read()) {
+    			jsonFieldsFilterOutputStream.write(nextByte);
+    		}
+    		jsonFieldsFilterOutputStream.flush();
+    		String filteredJsonString = byteOutputStream.toString(StandardCharsets.UTF_8);
+    		JsonStructure filteredJsonStructure = Json.createReader(new StringReader(filteredJsonString)).read();
+    		JsonStructure expectedFilteredJsonStructure = loadTestJson(filteredJsonFile);
+    		Assertions.assertEquals(expectedFilteredJsonStructure, filteredJsonStructure);
+    	}
+    }
+
+    @Test
+    public void testFieldsFilterOutputStreamWithMultipleJsonDocuments() throws IOException {
+    	String newlineDelimitedJson = "{\"a\": 1, \"b\": {\"c\": \"x\"}}\n{\"b\": [2], \"a\": {\"d\": null}}\n";
+    	try(
+    			ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
+    			JsonFieldsFilterOutputStream jsonFieldsFilterOutputStream = new JsonFieldsFilterOutputStream(byteOutputStream, List.of("a"));
+    	){
+    		jsonFieldsFilterOutputStream.write(newlineDelimitedJson.getBytes(StandardCharsets.UTF_8));
+    		jsonFieldsFilterOutputStream.flush();
+    		Assertions.assertEquals("{\"a\":1}\n{\"a\":{\"d\":null}}\n", byteOutputStream.toString(StandardCharsets.UTF_8));
+    	}
+    }
+
+    @Test
+    public void testFieldsFilterWithEscapedDot() {
+    	String json = "{\"a.b\": {\"c\": 1, \"d\": 2}, \"a\": {\"b\": {\"c\": 3}}}";
+    	String actualString = new JsonFieldsFilter().filterFieldsInJson(json, List.of("a\\.b.c"));
+    	JsonStructure actualJson = Json.createReader(new StringReader(actualString)).read();
+    	JsonStructure expectedJson = Json.createReader(new StringReader("{\"a.b\": {\"c\": 1}}")).read();
+    	Assertions.assertEquals(expectedJson, actualJson);
+    }
+
+    @Test
+    public void testFieldsSelectionIsCached() {
+    	Assertions.assertSame(FieldsSelection.of(List.of("self", "item.self")), FieldsSelection.of(List.of("self", "item.self")));
+    }
+
+    @Test
+    public void testFieldsSelectionCacheEvictsSelectionsWhenFull() {
+    	FieldsSelection first = FieldsSelection.of(List.of("evicted"));
+    	for (int i = 0; i < FieldsSelection.MAX_CACHED_SELECTIONS; i++) {
+    		FieldsSelection.of(List.of("field" + i));
+    	}
+    	FieldsSelection latest = FieldsSelection.of(List.of("latest"));
+    	Assertions.assertNotSame(first, FieldsSelection.of(List.of("evicted")));
+    	Assertions.assertSame(latest, FieldsSelection.of(List.of("latest")));
+    }
+
+    @Test
+    public void testFieldsSelectionWithManyNestedFields() {
+    	List<String> fields = IntStream.range(0, 20).mapToObj(i -> "field" + i + ".nested" + i).collect(Collectors.toList());
+    	FieldsSelection.Node root = FieldsSelection.of(fields).root();
+    	for (int i = 0; i < 20; i++) {
+    		String field = "field" + i;
+    		byte[] encoded = ("\"" + field + "\"").getBytes(StandardCharsets.UTF_8);
+    		FieldsSelection.Node child = root.child(field);
+    		Assertions.assertNotNull(child.child("nested" + i));
+    		Assertions.assertNull(child.child("nested" + (i + 1)));
+    		Assertions.assertSame(child, root.child(encoded, 1, encoded.length - 2));
+    	}
+    	byte[] unselected = "field20".getBytes(StandardCharsets.UTF_8);
+    	Assertions.assertNull(root.child("field20"));
+    	Assertions.assertNull(root.child(unselected, 0, unselected.length));
+    }
 }
@@ -0,0 +1,254 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Provides the value of a field of a resource, found by its name in a FIQL query or sort order.
+ *
+ * The field is the component of a record, or the property of a getter method. A dotted path, like
+ * "complexAttribute.name", is resolved through the nested values. The accessor methods are looked up once per class
+ * and compiled into functions with the LambdaMetafactory, so retrieving a value is as fast as calling the accessor
+ * directly. Only when the accessor can not be compiled, e.g. because it is not accessible, is it invoked through a
+ * method handle instead.
+ */
+final class FieldAccessor {
+	private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	private static final String[] PARSER_METHODS = {"valueOf", "fromString", "parse"};
+
+	private final String field;
+	private final Class<?> valueType;
+	private final Function<Object, Object> getter;
+	private final MethodHandle argumentParser;
+
+	private FieldAccessor(String field, Class<?> valueType, Function<Object, Object> getter, MethodHandle argumentParser) {
+		this.field = field;
+		this.valueType = valueType;
+		this.getter = getter;
+		this.argumentParser = argumentParser;
+	}
+
+	/**
+	 * Find the accessor for the field of the resource type.
+	 *
+	 * Only the accessors that are found are cached. The fields are provided by the client, so caching the fields that
+	 * could not be found would let clients fill the cache with arbitrary field names.
+	 *
+	 * @param type is the resource type.
+	 * @param field is the name of the field, or a dotted path to a nested field.
+	 * @return the accessor, or null if the resource type does not have the field.
+	 */
+	static FieldAccessor of(Class<?> type, String field) {
+		Map<String, FieldAccessor> accessors = ACCESSORS.get(type);
+		FieldAccessor accessor = accessors.get(field);
+		if (accessor != null) {
+			return accessor;
+		}
+		accessor = resolve(type, field);
+		if (accessor == null) {
+			return null;
+		}
+		FieldAccessor existing = accessors.putIfAbsent(field, accessor);
+		return existing == null ? accessor : existing;
+	}
+
+	String field() {
+		return field;
+	}
+
+	/**
+	 * @return true if the values of the field can be compared, so the field can be used to filter and sort on.
+	 */
+	boolean isComparable() {
+		return Comparable.class.isAssignableFrom(valueType);
+	}
+
+	/**
+	 * @return true if an argument in a FIQL query can be converted to a value of the field.
+	 */
+	boolean isParseable() {
+		return isComparable() && (valueType == String.class || valueType.isEnum() || argumentParser != null);
+	}
+
+	/**
+	 * @return the function that provides the value of the field for a resource.
+	 */
+	@SuppressWarnings("unchecked")
+	<T, K> Function<T, K> getter() {
+		return (Function<T, K>) getter;
+	}
+
+	/**
+	 * Convert an argument in a FIQL query to a value of the field.
+	 *
+	 * @param argument is the argument.
+	 * @return the value.
+	 * @throws IllegalArgumentException if the argument is not a valid value.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	Object parse(String argument) {
+		if (valueType == String.class) {
+			return argument;
+		}
+		if (valueType.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) valueType, argument);
+		}
+		if (argumentParser == null) {
+			throw new IllegalArgumentException("The value can not be converted to " + valueType.getName());
+		}
+		try {
+			return argumentParser.invoke(argument);
+		}
+		catch (RuntimeException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalArgumentException("The value can not be converted to " + valueType.getName(), e);
+		}
+	}
+
+	private static FieldAccessor resolve(Class<?> type, String field) {
+		Function<Object, Object> getter = null;
+		Class<?> current = type;
+		for (String name : field.split("\\.", -1)) {
+			Method accessor = findAccessor(current, name);
+			if (accessor == null) {
+				return null;
+			}
+			Function<Object, Object> step = compile(accessor);
+			if (step == null) {
+				return null;
+			}
+			getter = getter == null ? step : getter.andThen(value -> value == null ? null : step.apply(value));
+			current = accessor.getReturnType();
+		}
+		Class<?> valueType = MethodType.methodType(current).wrap().returnType();
+		return new FieldAccessor(field, valueType, getter, findArgumentParser(valueType));
+	}
+
+	/**
+	 * Find the accessor of a record component with the name, or a getter method for a property with the name.
+	 */
+	private static Method findAccessor(Class<?> type, String name) {
+		if (name.isEmpty()) {
+			return null;
+		}
+		if (type.isRecord()) {
+			for (RecordComponent component : type.getRecordComponents()) {
+				if (component.getName().equals(name)) {
+					return component.getAccessor();
+				}
+			}
+		}
+		String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		for (String methodName : new String[] {"get" + property, "is" + property}) {
+			try {
+				Method method = type.getMethod(methodName);
+				if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class
+						&& (methodName.startsWith("get") || method.getReturnType() == boolean.class)) {
+					return method;
+				}
+			}
+			catch (NoSuchMethodException e) {
+				// Try the next naming convention.
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> compile(Method accessor) {
+		MethodHandles.Lookup lookup = lookup(accessor);
+		MethodHandle handle;
+		try {
+			handle = lookup.unreflect(accessor);
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+		try {
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					handle,
+					MethodType.methodType(accessor.getReturnType(), accessor.getDeclaringClass()).wrap());
+			return (Function<Object, Object>) site.getTarget().invoke();
+		}
+		catch (Throwable e) {
+			MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+			return resource -> {
+				try {
+					return generic.invokeExact(resource);
+				}
+				catch (RuntimeException | Error invocationError) {
+					throw invocationError;
+				}
+				catch (Throwable invocationError) {
+					throw new IllegalStateException(invocationError);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Use the lookup of this class for public accessors, and a private lookup in the resource type otherwise, like for
+	 * a record that is not public.
+	 */
+	private static MethodHandles.Lookup lookup(Method accessor) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			lookup.unreflect(accessor);
+			return lookup;
+		}
+		catch (IllegalAccessException e) {
+			try {
+				return MethodHandles.privateLookupIn(accessor.getDeclaringClass(), lookup);
+			}
+			catch (IllegalAccessException | SecurityException inaccessible) {
+				return lookup;
+			}
+		}
+	}
+
+	/**
+	 * Find a static factory method that converts a String to a value of the type, like Integer.valueOf(),
+	 * UUID.fromString() or ZonedDateTime.parse(), or otherwise a constructor with a String, like for BigDecimal.
+	 */
+	private static MethodHandle findArgumentParser(Class<?> valueType) {
+		for (String methodName : PARSER_METHODS) {
+			for (Class<?> parameterType : new Class<?>[] {String.class, CharSequence.class}) {
+				try {
+					Method method = valueType.getMethod(methodName, parameterType);
+					if (Modifier.isStatic(method.getModifiers()) && valueType.isAssignableFrom(MethodType.methodType(method.getReturnType()).wrap().returnType())) {
+						MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+						return handle.asType(MethodType.methodType(Object.class, String.class));
+					}
+				}
+				catch (NoSuchMethodException | IllegalAccessException e) {
+					// Try the next factory method.
+				}
+			}
+		}
+		try {
+			MethodHandle constructor = MethodHandles.publicLookup().unreflectConstructor(valueType.getConstructor(String.class));
+			return constructor.asType(MethodType.methodType(Object.class, String.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+
+/**
+ * A sorted index of the resources in an InMemoryRepository on the value of a single field.
+ *
+ * The index is not thread-safe by itself. The InMemoryRepository only modifies it while holding its write lock and
+ * only reads it while holding its read lock.
+ *
+ * @param <T> is the type of the indexed resources.
+ * @param <K> is the type of the value of the indexed field.
+ */
+final class FieldIndex<T, K extends Comparable<? super K>> {
+	private final String field;
+	private final Function<? super T, ? extends K> key;
+	private final Function<String, ? extends K> argumentParser;
+	private final Comparator<T> ascending;
+	private final NavigableMap<K, NavigableSet<UUID>> index = new TreeMap<>();
+	private final NavigableSet<UUID> withoutValue = new TreeSet<>();
+
+	FieldIndex(String field, Function<? super T, ? extends K> key, Function<String, ? extends K> argumentParser) {
+		this.field = field;
+		this.key = key;
+		this.argumentParser = argumentParser;
+		this.ascending = Comparator.comparing(key, Comparator.nullsLast(Comparator.<K>naturalOrder()));
+	}
+
+	String field() {
+		return field;
+	}
+
+	void add(UUID id, T resource) {
+		K value = key.apply(resource);
+		if (value == null) {
+			withoutValue.add(id);
+		}
+		else {
+			index.computeIfAbsent(value, unused -> new TreeSet<>()).add(id);
+		}
+	}
+
+	void remove(UUID id, T resource) {
+		K value = key.apply(resource);
+		if (value == null) {
+			withoutValue.remove(id);
+			return;
+		}
+		NavigableSet<UUID> ids = index.get(value);
+		if (ids != null && ids.remove(id) && ids.isEmpty()) {
+			index.remove(value);
+		}
+	}
+
+	void clear() {
+		index.clear();
+		withoutValue.clear();
+	}
+
+	/**
+	 * Compare resources on the value of this field. Resources without a value are sorted last, in both directions.
+	 *
+	 * @param ascending is true to sort the values in ascending order.
+	 * @return the comparator.
+	 */
+	Comparator<T> comparator(boolean ascending) {
+		return ascending ? this.ascending : Comparator.comparing(key, Comparator.nullsLast(Comparator.<K>reverseOrder()));
+	}
+
+	/**
+	 * Provide the identifiers of the resources grouped by their value for this field, in the sort order of that value.
+	 * Within each group, the identifiers are sorted. The group of resources without a value is provided last.
+	 *
+	 * @param ascending is true to provide the groups in ascending order.
+	 * @return the groups of identifiers.
+	 */
+	Iterable<NavigableSet<UUID>> groups(boolean ascending) {
+		Collection<NavigableSet<UUID>> groups = ascending ? index.values() : index.descendingMap().values();
+		if (withoutValue.isEmpty()) {
+			return groups;
+		}
+		List<NavigableSet<UUID>> withLast = new ArrayList<>(groups);
+		withLast.add(withoutValue);
+		return withLast;
+	}
+
+	/**
+	 * Find the identifiers of the resources that match the comparison, using this index.
+	 *
+	 * @param comparison is a comparison on this field.
+	 * @return the identifiers of the matching resources, or null if the comparison can not be answered from the index.
+	 */
+	Collection<UUID> find(Comparison comparison) {
+		switch (comparison.operator()) {
+		case Comparison.EQUAL:
+		case Comparison.IN:
+			if (comparison.arguments().size() == 1) {
+				NavigableSet<UUID> ids = index.get(parse(comparison.argument()));
+				return ids == null ? List.of() : ids;
+			}
+			Collection<UUID> anyOf = new TreeSet<>();
+			for (K value : parseAll(comparison.arguments())) {
+				NavigableSet<UUID> ids = index.get(value);
+				if (ids != null) {
+					anyOf.addAll(ids);
+				}
+			}
+			return anyOf;
+		case Comparison.LESS_THAN:
+			return flatten(index.headMap(parse(comparison.argument()), false));
+		case Comparison.LESS_THAN_OR_EQUAL:
+			return flatten(index.headMap(parse(comparison.argument()), true));
+		case Comparison.GREATER_THAN:
+			return flatten(index.tailMap(parse(comparison.argument()), false));
+		case Comparison.GREATER_THAN_OR_EQUAL:
+			return flatten(index.tailMap(parse(comparison.argument()), true));
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Create a predicate that evaluates the comparison on a single resource.
+	 *
+	 * A resource without a value for this field only matches the "!=" and "=out=" comparisons.
+	 *
+	 * @param comparison is a comparison on this field.
+	 * @return the predicate.
+	 */
+	Predicate<T> matcher(Comparison comparison) {
+		return FiqlPredicates.comparison(comparison.operator(), key, parseAll(comparison.arguments()));
+	}
+
+	private List<K> parseAll(List<String> arguments) {
+		List<K> values = new ArrayList<>(arguments.size());
+		for (String argument : arguments) {
+			values.add(parse(argument));
+		}
+		return values;
+	}
+
+	private K parse(String argument) {
+		try {
+			K value = argumentParser.apply(argument);
+			if (value == null) {
+				throw new IllegalArgumentException("The value is not valid");
+			}
+			return value;
+		}
+		catch (RuntimeException e) {
+			throw new BadRequestException("The value '" + argument + "' is not valid for the field '" + field + "'", e);
+		}
+	}
+
+	private static Collection<UUID> flatten(Map<?, NavigableSet<UUID>> range) {
+		List<UUID> ids = new ArrayList<>();
+		for (NavigableSet<UUID> group : range.values()) {
+			ids.addAll(group);
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,209 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.utils.BoundedCache;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Filters and sorts resources that are held in memory, like in a list, with a FIQL query and sort order.
+ *
+ * The FIQL query is compiled into a predicate, and the sort order into a comparator, on the fields of the resource type.
+ * A field is a record component or a property with a getter method, and nested fields can be used with a dotted path,
+ * like "complexAttribute.name". Its accessor is compiled into a function once per resource type, so evaluating the
+ * query on each resource does not use reflection. The compiled predicates are cached for each query.
+ *
+ * The resources are filtered and sorted on a fork-join pool. When listing a page, only the resources up to the end of
+ * that page are selected, so the first pages do not require sorting the entire collection.
+ *
+ * A web resource can use an evaluator to implement its CRUD methods for the collection.
+ * <pre>
+ * private static final FiqlEvaluator&lt;MyResource&gt; EVALUATOR = new FiqlEvaluator&lt;&gt;(MyResource.class);
+ *
+ * public List&lt;MyResource&gt; list(int pageStart, int pageSize, List&lt;String&gt; fields, String query, List&lt;SortOrder&gt; sort) {
+ *     return EVALUATOR.list(resources, pageStart, pageSize, query, sort);
+ * }
+ * </pre>
+ *
+ * @param <T> is the type of the resources.
+ */
+public final class FiqlEvaluator<T> {
+	public static final int PREDICATE_CACHE_SIZE = 256;
+
+	private final Class<T> type;
+	private final ForkJoinPool pool;
+	private final BoundedCache<FiqlQuery, Predicate<T>> predicates = new BoundedCache<>(PREDICATE_CACHE_SIZE);
+
+	/**
+	 * Create an evaluator that filters and sorts the resources on the common fork-join pool.
+	 *
+	 * @param type is the type of the resources.
+	 */
+	public FiqlEvaluator(Class<T> type) {
+		this(type, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create an evaluator that filters and sorts the resources on the provided fork-join pool.
+	 *
+	 * @param type is the type of the resources.
+	 * @param pool is the fork-join pool on which the resources are filtered and sorted.
+	 */
+	public FiqlEvaluator(Class<T> type, ForkJoinPool pool) {
+		this.type = type;
+		this.pool = pool;
+	}
+
+	/**
+	 * Compile the FIQL query into a predicate.
+	 *
+	 * @param query is the parsed FIQL query.
+	 * @return the predicate, which matches all resources if the query is empty.
+	 * @throws BadRequestException if the query uses a field that the resources do not have, or an argument that is not
+	 * a valid value for its field.
+	 */
+	public Predicate<T> predicate(FiqlQuery query) {
+		if (query.isEmpty()) {
+			return resource -> true;
+		}
+		return predicates.get(query, parsed -> FiqlPredicates.compile(parsed.getExpression(), this::comparison));
+	}
+
+	/**
+	 * Compile the sort order into a comparator. Resources without a value for a field are sorted last, in both
+	 * directions.
+	 *
+	 * @param sort is the sort order.
+	 * @return the comparator, which considers all resources equal if the sort order is empty.
+	 * @throws BadRequestException if the sort order uses a field that the resources do not have or that can not be
+	 * sorted on.
+	 */
+	public Comparator<T> comparator(List<SortOrder> sort) {
+		Comparator<T> comparator = null;
+		for (SortOrder sortOrder : sort) {
+			FieldAccessor accessor = accessor(sortOrder.getField(), "sorted");
+			Comparator<Comparable<Object>> values = sortOrder.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+			Comparator<T> field = Comparator.comparing(accessor.<T, Comparable<Object>>getter(), Comparator.nullsLast(values));
+			comparator = comparator == null ? field : comparator.thenComparing(field);
+		}
+		return comparator == null ? (first, second) -> 0 : comparator;
+	}
+
+	/**
+	 * Retrieve a page of the resources that match the FIQL query, in the requested sort order.
+	 *
+	 * Resources that are equal according to the sort order, or all resources if there is no sort order, remain in the
+	 * order in which they are provided.
+	 *
+	 * @param resources are the resources.
+	 * @param pageStart is the index of the first resource on the page.
+	 * @param pageSize is the maximum amount of resources on the page.
+	 * @param query is the FIQL query.
+	 * @param sort is the sort order, which may be empty.
+	 * @return the page of resources.
+	 * @throws BadRequestException if the query or sort order is not valid for the resources.
+	 */
+	public List<T> list(Collection<? extends T> resources, int pageStart, int pageSize, String query, List<SortOrder> sort) {
+		return list(resources, pageStart, pageSize, parseQuery(query), sort);
+	}
+
+	/**
+	 * Retrieve a page of the resources that match the parsed FIQL query, in the requested sort order.
+	 *
+	 * @see #list(Collection, int, int, String, List)
+	 */
+	public List<T> list(Collection<? extends T> resources, int pageStart, int pageSize, FiqlQuery query, List<SortOrder> sort) {
+		if (pageSize <= 0 || pageStart < 0) {
+			return List.of();
+		}
+		Predicate<T> filter = query.isEmpty() ? null : predicate(query);
+		Comparator<T> comparator = sort == null || sort.isEmpty() ? null : comparator(sort);
+		int limit = (int) Math.min(Integer.MAX_VALUE, (long) pageStart + pageSize);
+		List<T> selected = ParallelSelection.select(randomAccess(resources), filter, comparator, limit, pool);
+		return pageStart >= selected.size() ? List.of() : selected.subList(pageStart, selected.size());
+	}
+
+	/**
+	 * Count the resources that match the FIQL query.
+	 *
+	 * @param resources are the resources.
+	 * @param query is the FIQL query.
+	 * @return the amount of resources that match the query.
+	 * @throws BadRequestException if the query is not valid for the resources.
+	 */
+	public int count(Collection<? extends T> resources, String query) {
+		return count(resources, parseQuery(query));
+	}
+
+	/**
+	 * Count the resources that match the parsed FIQL query.
+	 *
+	 * @see #count(Collection, String)
+	 */
+	public int count(Collection<? extends T> resources, FiqlQuery query) {
+		if (query.isEmpty()) {
+			return resources.size();
+		}
+		return ParallelSelection.count(randomAccess(resources), predicate(query), pool);
+	}
+
+	private Predicate<T> comparison(Comparison comparison) {
+		FieldAccessor accessor = accessor(comparison.selector(), "filtered");
+		List<Comparable<Object>> arguments = new ArrayList<>(comparison.arguments().size());
+		for (String argument : comparison.arguments()) {
+			arguments.add(parse(accessor, argument));
+		}
+		Function<T, Comparable<Object>> key = accessor.getter();
+		return FiqlPredicates.comparison(comparison.operator(), key, arguments);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Comparable<Object> parse(FieldAccessor accessor, String argument) {
+		if (!accessor.isParseable()) {
+			throw new BadRequestException("The collection can not be filtered on the field '" + accessor.field() + "'");
+		}
+		try {
+			return (Comparable<Object>) accessor.parse(argument);
+		}
+		catch (RuntimeException e) {
+			throw new BadRequestException("The value '" + argument + "' is not valid for the field '" + accessor.field() + "'", e);
+		}
+	}
+
+	private FieldAccessor accessor(String field, String usage) {
+		FieldAccessor accessor = FieldAccessor.of(type, field);
+		if (accessor == null || !accessor.isComparable()) {
+			throw new BadRequestException("The collection can not be " + usage + " on the field '" + field + "'");
+		}
+		return accessor;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<? extends T> randomAccess(Collection<? extends T> resources) {
+		if (resources instanceof List<?> && resources instanceof RandomAccess) {
+			return (List<? extends T>) resources;
+		}
+		return new ArrayList<>(resources);
+	}
+
+	private static FiqlQuery parseQuery(String query) {
+		try {
+			return QueryParamUtils.parseQuery(query);
+		}
+		catch (FiqlParseException e) {
+			throw new BadRequestException("The FIQL query could not be parsed", e);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.FiqlExpression;
+import simplyrestful.api.framework.queryparams.FiqlExpression.And;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Or;
+
+/**
+ * Compiles the syntax tree of a FIQL query into a predicate that can be evaluated on each resource.
+ */
+final class FiqlPredicates {
+	private FiqlPredicates() {}
+
+	/**
+	 * Compile the FIQL expression into a predicate.
+	 *
+	 * @param <T> is the type of the resources on which the predicate is evaluated.
+	 * @param expression is the FIQL expression.
+	 * @param comparisonCompiler compiles a single comparison into a predicate.
+	 * @return the predicate.
+	 */
+	static <T> Predicate<T> compile(FiqlExpression expression, Function<Comparison, Predicate<T>> comparisonCompiler) {
+		if (expression instanceof Comparison comparison) {
+			return comparisonCompiler.apply(comparison);
+		}
+		List<FiqlExpression> operands = expression instanceof And and ? and.operands() : ((Or) expression).operands();
+		@SuppressWarnings("unchecked")
+		Predicate<T>[] compiled = operands.stream().map(operand -> compile(operand, comparisonCompiler)).toArray(Predicate[]::new);
+		if (expression instanceof And) {
+			return resource -> {
+				for (Predicate<T> operand : compiled) {
+					if (!operand.test(resource)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+		return resource -> {
+			for (Predicate<T> operand : compiled) {
+				if (operand.test(resource)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	/**
+	 * Create a predicate that evaluates the comparison on the value of a field of a resource.
+	 *
+	 * A resource without a value for the field only matches the "!=" and "=out=" comparisons.
+	 *
+	 * @param <T> is the type of the resources on which the predicate is evaluated.
+	 * @param <K> is the type of the value of the field.
+	 * @param operator is the operator of the comparison.
+	 * @param key provides the value of the field for a resource.
+	 * @param arguments are the arguments of the comparison, converted to the type of the value of the field.
+	 * @return the predicate.
+	 */
+	static <T, K extends Comparable<? super K>> Predicate<T> comparison(String operator, Function<? super T, ? extends K> key, List<K> arguments) {
+		K argument = arguments.get(0);
+		Predicate<K> valueMatcher;
+		switch (operator) {
+		case Comparison.EQUAL:
+		case Comparison.IN:
+			valueMatcher = arguments.size() == 1 ? value -> value.compareTo(argument) == 0 : value -> anyEqual(value, arguments);
+			break;
+		case Comparison.NOT_EQUAL:
+		case Comparison.NOT_IN:
+			Predicate<K> anyEqual = value -> anyEqual(value, arguments);
+			return resource -> {
+				K value = key.apply(resource);
+				return value == null || !anyEqual.test(value);
+			};
+		case Comparison.LESS_THAN:
+			valueMatcher = value -> value.compareTo(argument) < 0;
+			break;
+		case Comparison.LESS_THAN_OR_EQUAL:
+			valueMatcher = value -> value.compareTo(argument) <= 0;
+			break;
+		case Comparison.GREATER_THAN:
+			valueMatcher = value -> value.compareTo(argument) > 0;
+			break;
+		case Comparison.GREATER_THAN_OR_EQUAL:
+			valueMatcher = value -> value.compareTo(argument) >= 0;
+			break;
+		default:
+			throw new BadRequestException("The operator '" + operator + "' is not supported");
+		}
+		return resource -> {
+			K value = key.apply(resource);
+			return value != null && valueMatcher.test(value);
+		};
+	}
+
+	private static <K extends Comparable<? super K>> boolean anyEqual(K value, List<K> arguments) {
+		for (K argument : arguments) {
+			if (value.compareTo(argument) == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,486 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.api.crud.ResourceCount;
+import simplyrestful.api.framework.api.crud.ResourceCreate;
+import simplyrestful.api.framework.api.crud.ResourceDelete;
+import simplyrestful.api.framework.api.crud.ResourceExists;
+import simplyrestful.api.framework.api.crud.ResourceList;
+import simplyrestful.api.framework.api.crud.ResourceRead;
+import simplyrestful.api.framework.api.crud.ResourceStream;
+import simplyrestful.api.framework.api.crud.ResourceUpdate;
+import simplyrestful.api.framework.queryparams.FiqlExpression;
+import simplyrestful.api.framework.queryparams.FiqlExpression.And;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Or;
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+import simplyrestful.api.framework.utils.WebResourceUtils;
+
+/**
+ * Stores API resources in memory, for collections that fit in memory entirely, like reference data.
+ *
+ * The resources are stored in a concurrent map, keyed by their UUID. Each declared field is indexed in a sorted index,
+ * so the collection can be filtered on those fields with FIQL and sorted on them without scanning and sorting the
+ * entire collection. Only declared fields can be used in the FIQL query or the sort order.
+ *
+ * When a query can be answered from the indexes, the matching resources are filtered and sorted on a fork-join pool.
+ * If only the first pages are requested, only the resources up to the end of the page are sorted.
+ *
+ * Reading a single resource does not require any locking. Filtering, sorting and counting the collection only block
+ * while a resource is being created, updated or removed, so the result is always consistent with the indexes.
+ *
+ * A web resource can delegate its CRUD methods to a shared instance of this repository.
+ * <pre>
+ * private static final InMemoryRepository&lt;MyResource&gt; REPOSITORY = new InMemoryRepository&lt;&gt;(MyResource::withId)
+ *     .index("name", MyResource::getName)
+ *     .index("amount", MyResource::getAmount, Integer::valueOf);
+ * </pre>
+ *
+ * @param <T> is the API resource type stored in this repository.
+ */
+public class InMemoryRepository<T extends ApiResource> implements ResourceList<T>, ResourceCount, ResourceStream<T>,
+		ResourceRead<T>, ResourceExists, ResourceCreate<T>, ResourceUpdate<T>, ResourceDelete<T> {
+	public static final String ERROR_UPDATE_RESOURCE_DOES_NOT_EXIST = "The provided resource does not exist so it can not be updated";
+	/**
+	 * The resources that match a query are only sorted directly if they are at most this fraction of the collection.
+	 * Otherwise, the index of the first sort field is walked in order, so the first pages do not require sorting them.
+	 */
+	private static final int CANDIDATES_SORT_FRACTION = 4;
+
+	private final BiFunction<? super T, UUID, ? extends T> identify;
+	private final ConcurrentNavigableMap<UUID, T> resources = new ConcurrentSkipListMap<>();
+	private final Map<String, FieldIndex<T, ?>> indexes = new LinkedHashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final ForkJoinPool pool;
+	/**
+	 * The amount of resources, which is only modified while holding the write lock. This is kept separately since
+	 * ConcurrentSkipListMap.size() traverses the entire map.
+	 */
+	private volatile int size;
+
+	/**
+	 * Create an empty repository that filters and sorts the resources on the common fork-join pool.
+	 *
+	 * @param identify creates the resource that is stored by create(). It receives the provided resource, without a
+	 * self link, and the UUID generated for it. It must return the resource with a self link that ends with that UUID.
+	 */
+	public InMemoryRepository(BiFunction<? super T, UUID, ? extends T> identify) {
+		this(identify, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create an empty repository that filters and sorts the resources on the provided fork-join pool.
+	 *
+	 * @param identify creates the resource that is stored by create(), as described for the other constructor.
+	 * @param pool is the fork-join pool on which the resources are filtered and sorted.
+	 */
+	public InMemoryRepository(BiFunction<? super T, UUID, ? extends T> identify, ForkJoinPool pool) {
+		this.identify = identify;
+		this.pool = pool;
+	}
+
+	/**
+	 * Declare a field of the resource on which the collection can be filtered and sorted.
+	 *
+	 * The field is indexed in a sorted index. It can be declared at any time, but declaring it before the resources are
+	 * added avoids indexing the existing resources while blocking all other access to the repository.
+	 *
+	 * @param <K> is the type of the value of the field.
+	 * @param field is the name of the field, as used in the FIQL query and the sort order.
+	 * @param key provides the value of the field for a resource, which may be null.
+	 * @param argumentParser converts an argument in the FIQL query to a value of the field.
+	 * @return this repository.
+	 */
+	public <K extends Comparable<? super K>> InMemoryRepository<T> index(String field, Function<? super T, ? extends K> key, Function<String, ? extends K> argumentParser) {
+		FieldIndex<T, K> index = new FieldIndex<>(field, key, argumentParser);
+		lock.writeLock().lock();
+		try {
+			resources.forEach(index::add);
+			FieldIndex<T, ?> previous = indexes.put(field, index);
+			if (previous != null) {
+				previous.clear();
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * Declare a text field of the resource on which the collection can be filtered and sorted.
+	 *
+	 * @param field is the name of the field, as used in the FIQL query and the sort order.
+	 * @param key provides the value of the field for a resource, which may be null.
+	 * @return this repository.
+	 */
+	public InMemoryRepository<T> index(String field, Function<? super T, String> key) {
+		return index(field, key, Function.identity());
+	}
+
+	/**
+	 * Add the resources, which already have a self link, to the repository, e.g. to load reference data.
+	 *
+	 * Any stored resource with the same UUID is replaced.
+	 *
+	 * @param resourcesToAdd are the resources, each with a self link that ends with their UUID.
+	 * @throws IllegalArgumentException if a resource does not have a self link that ends with a UUID.
+	 */
+	public void addAll(Collection<? extends T> resourcesToAdd) {
+		lock.writeLock().lock();
+		try {
+			for (T resource : resourcesToAdd) {
+				store(idFromSelfLink(resource), resource);
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Remove all resources from the repository. The declared fields remain indexed.
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			resources.clear();
+			size = 0;
+			indexes.values().forEach(FieldIndex::clear);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public T create(T resource) {
+		UUID id = UUID.randomUUID();
+		T created = identify.apply(resource, id);
+		lock.writeLock().lock();
+		try {
+			store(id, created);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		return created;
+	}
+
+	@Override
+	public T read(UUID resourceUUID) {
+		return resources.get(resourceUUID);
+	}
+
+	@Override
+	public boolean exists(UUID resourceUUID) {
+		return resources.containsKey(resourceUUID);
+	}
+
+	@Override
+	public T update(T resource) {
+		UUID id = idFromSelfLink(resource);
+		lock.writeLock().lock();
+		try {
+			if (!resources.containsKey(id)) {
+				throw new IllegalArgumentException(ERROR_UPDATE_RESOURCE_DOES_NOT_EXIST);
+			}
+			store(id, resource);
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		return resource;
+	}
+
+	@Override
+	public T delete(UUID resourceUUID) {
+		lock.writeLock().lock();
+		try {
+			T removed = resources.remove(resourceUUID);
+			if (removed != null) {
+				size--;
+				indexes.values().forEach(index -> index.remove(resourceUUID, removed));
+			}
+			return removed;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public List<T> list(int pageStart, int pageSize, List<String> fields, String query, List<SortOrder> sort) {
+		return list(pageStart, pageSize, fields, parseQuery(query), sort);
+	}
+
+	@Override
+	public List<T> list(int pageStart, int pageSize, List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+		if (pageSize <= 0) {
+			return List.of();
+		}
+		List<T> page = new ArrayList<>(Math.min(pageSize, 1024));
+		long[] skipped = {0};
+		int limit = (int) Math.min(Integer.MAX_VALUE, (long) pageStart + pageSize);
+		select(query, sort, limit, resource -> {
+			if (skipped[0] < pageStart) {
+				skipped[0]++;
+				return true;
+			}
+			page.add(resource);
+			return page.size() < pageSize;
+		});
+		return page;
+	}
+
+	@Override
+	public int count(String query) {
+		return count(parseQuery(query));
+	}
+
+	@Override
+	public int count(FiqlQuery query) {
+		if (query.isEmpty()) {
+			return size;
+		}
+		lock.readLock().lock();
+		try {
+			Predicate<T> filter = matcher(query.getExpression());
+			Collection<UUID> candidates = candidates(query.getExpression());
+			if (candidates == null) {
+				return Math.toIntExact(resources.values().stream().filter(filter).count());
+			}
+			return ParallelSelection.count(candidates.stream().map(resources::get).toList(), filter, pool);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Stream<T> stream(List<String> fields, String query, List<SortOrder> sort) {
+		return stream(fields, parseQuery(query), sort);
+	}
+
+	/**
+	 * Provide the filtered and sorted resources as a stream.
+	 *
+	 * Without a query and a sort order, the stream is backed by the repository directly, so it reflects any concurrent
+	 * changes. Otherwise, the selected resources are collected while the repository is locked, and streamed afterwards.
+	 */
+	@Override
+	public Stream<T> stream(List<String> fields, FiqlQuery query, List<SortOrder> sort) {
+		if (query.isEmpty() && (sort == null || sort.isEmpty())) {
+			return resources.values().stream();
+		}
+		List<T> selected = new ArrayList<>();
+		select(query, sort, Integer.MAX_VALUE, selected::add);
+		return selected.stream();
+	}
+
+	/**
+	 * Provide the resources that match the query to the consumer, in the requested sort order, while holding the read
+	 * lock.
+	 *
+	 * Resources that are equal according to the sort order, or all resources if there is no sort order, are provided in
+	 * the order of their UUID, so paging through the collection is stable.
+	 *
+	 * @param query is the parsed FIQL query with which the resources are filtered.
+	 * @param sort is the sort order of the resources, which may be empty.
+	 * @param limit is the maximum amount of resources that the consumer needs.
+	 * @param consumer receives each selected resource and returns false when it does not need any more resources.
+	 */
+	private void select(FiqlQuery query, List<SortOrder> sort, int limit, Predicate<T> consumer) {
+		List<SortOrder> sortOrders = sort == null ? List.of() : sort;
+		lock.readLock().lock();
+		try {
+			FiqlExpression expression = query.getExpression();
+			Predicate<T> filter = expression == null ? null : matcher(expression);
+			Collection<UUID> candidates = expression == null ? null : candidates(expression);
+			List<FieldIndex<T, ?>> sortIndexes = sortIndexes(sortOrders);
+			if (candidates != null && !sortOrders.isEmpty() && candidates.size() > size / CANDIDATES_SORT_FRACTION) {
+				candidates = null;
+			}
+			if (candidates != null) {
+				Comparator<T> comparator = sortOrders.isEmpty() ? null : comparator(sortIndexes, sortOrders, 0);
+				provide(ParallelSelection.select(resourcesOf(candidates), filter, comparator, limit, pool), consumer);
+			}
+			else if (sortOrders.isEmpty()) {
+				for (T resource : resources.values()) {
+					if ((filter == null || filter.test(resource)) && !consumer.test(resource)) {
+						return;
+					}
+				}
+			}
+			else {
+				selectInIndexOrder(filter, sortIndexes, sortOrders, consumer);
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Walk through the index of the first sort field, so only the resources up to the requested page are sorted. Only
+	 * the resources with the same value for the first sort field are sorted on the remaining sort fields.
+	 */
+	private void selectInIndexOrder(Predicate<T> filter, List<FieldIndex<T, ?>> sortIndexes, List<SortOrder> sortOrders, Predicate<T> consumer) {
+		Comparator<T> remaining = sortOrders.size() > 1 ? comparator(sortIndexes, sortOrders, 1) : null;
+		List<T> group = new ArrayList<>();
+		for (NavigableSet<UUID> ids : sortIndexes.get(0).groups(sortOrders.get(0).isAscending())) {
+			group.clear();
+			for (UUID id : ids) {
+				T resource = resources.get(id);
+				if (filter == null || filter.test(resource)) {
+					group.add(resource);
+				}
+			}
+			if (remaining != null && group.size() > 1) {
+				group.sort(remaining);
+			}
+			if (!provide(group, consumer)) {
+				return;
+			}
+		}
+	}
+
+	private boolean provide(List<T> selected, Predicate<T> consumer) {
+		for (T resource : selected) {
+			if (!consumer.test(resource)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Find the identifiers of the resources that may match the expression, using the indexes.
+	 *
+	 * For a conjunction, only the smallest set of identifiers found for its operands is used. The resources are still
+	 * filtered with the entire expression afterwards.
+	 *
+	 * @param expression is the FIQL expression.
+	 * @return the identifiers of all resources that may match the expression, or null if they can not be determined
+	 * from the indexes.
+	 */
+	private Collection<UUID> candidates(FiqlExpression expression) {
+		if (expression instanceof Comparison comparison) {
+			return requireIndex(comparison.selector(), "filtered").find(comparison);
+		}
+		if (expression instanceof And and) {
+			Collection<UUID> smallest = null;
+			for (FiqlExpression operand : and.operands()) {
+				Collection<UUID> operandCandidates = candidates(operand);
+				if (operandCandidates != null && (smallest == null || operandCandidates.size() < smallest.size())) {
+					smallest = operandCandidates;
+				}
+			}
+			return smallest;
+		}
+		List<UUID> anyOf = new ArrayList<>();
+		for (FiqlExpression operand : ((Or) expression).operands()) {
+			Collection<UUID> operandCandidates = candidates(operand);
+			if (operandCandidates == null) {
+				return null;
+			}
+			anyOf.addAll(operandCandidates);
+		}
+		return anyOf.stream().distinct().toList();
+	}
+
+	/**
+	 * Retrieve the resources for the identifiers, in the order of their UUID.
+	 */
+	private List<T> resourcesOf(Collection<UUID> ids) {
+		List<UUID> sortedIds = new ArrayList<>(ids);
+		sortedIds.sort(null);
+		List<T> selected = new ArrayList<>(sortedIds.size());
+		for (UUID id : sortedIds) {
+			selected.add(resources.get(id));
+		}
+		return selected;
+	}
+
+	private Predicate<T> matcher(FiqlExpression expression) {
+		return FiqlPredicates.compile(expression, comparison -> requireIndex(comparison.selector(), "filtered").matcher(comparison));
+	}
+
+	private List<FieldIndex<T, ?>> sortIndexes(List<SortOrder> sortOrders) {
+		List<FieldIndex<T, ?>> sortIndexes = new ArrayList<>(sortOrders.size());
+		for (SortOrder sortOrder : sortOrders) {
+			sortIndexes.add(requireIndex(sortOrder.getField(), "sorted"));
+		}
+		return sortIndexes;
+	}
+
+	private Comparator<T> comparator(List<FieldIndex<T, ?>> sortIndexes, List<SortOrder> sortOrders, int from) {
+		Comparator<T> comparator = sortIndexes.get(from).comparator(sortOrders.get(from).isAscending());
+		for (int i = from + 1; i < sortOrders.size(); i++) {
+			comparator = comparator.thenComparing(sortIndexes.get(i).comparator(sortOrders.get(i).isAscending()));
+		}
+		return comparator;
+	}
+
+	private FieldIndex<T, ?> requireIndex(String field, String usage) {
+		FieldIndex<T, ?> index = indexes.get(field);
+		if (index == null) {
+			throw new BadRequestException("The collection can not be " + usage + " on the field '" + field + "'");
+		}
+		return index;
+	}
+
+	/**
+	 * Store the resource and update the indexes, while holding the write lock.
+	 */
+	private void store(UUID id, T resource) {
+		T previous = resources.put(id, resource);
+		if (previous == null) {
+			size++;
+		}
+		for (FieldIndex<T, ?> index : indexes.values()) {
+			if (previous != null) {
+				index.remove(id, previous);
+			}
+			index.add(id, resource);
+		}
+	}
+
+	private static UUID idFromSelfLink(ApiResource resource) {
+		if (resource.self() == null || resource.self().getHref() == null) {
+			throw new IllegalArgumentException("The resource must have a self link that ends with its UUID");
+		}
+		return WebResourceUtils.parseUuidFromLastSegmentOfUri(resource.self().getHref());
+	}
+
+	private static FiqlQuery parseQuery(String query) {
+		try {
+			return QueryParamUtils.parseQuery(query);
+		}
+		catch (FiqlParseException e) {
+			throw new BadRequestException("The FIQL query could not be parsed", e);
+		}
+	}
+}
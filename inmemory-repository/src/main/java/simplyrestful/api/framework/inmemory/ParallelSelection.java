@@ -0,0 +1,223 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Filters and sorts resources that are held in memory on a fork-join pool.
+ *
+ * The resources are split into chunks which are filtered and sorted in parallel, after which the sorted chunks are
+ * merged. When only the first resources are needed, like for the first pages of a collection, each chunk only keeps
+ * that many resources in a bounded heap, so the resources are never sorted entirely.
+ *
+ * The selection is stable. Resources that are equal according to the comparator, or all resources if there is no
+ * comparator, are selected in the order in which they were provided.
+ */
+final class ParallelSelection {
+	/**
+	 * Chunks of at most this many resources are filtered and sorted on a single thread, since splitting them further
+	 * costs more than it gains.
+	 */
+	static final int MINIMUM_CHUNK_SIZE = 4096;
+
+	private ParallelSelection() {}
+
+	/**
+	 * Select the first resources that match the filter, in the order of the comparator.
+	 *
+	 * @param <T> is the type of the resources.
+	 * @param resources are the resources to select from, in a list with fast random access.
+	 * @param filter selects the resources, or null to select all resources.
+	 * @param comparator sorts the selected resources, or null to keep them in the order in which they were provided.
+	 * @param limit is the maximum amount of resources that is selected.
+	 * @param pool is the fork-join pool on which the resources are filtered and sorted.
+	 * @return the selected resources, in sorted order.
+	 */
+	static <T> List<T> select(List<? extends T> resources, Predicate<? super T> filter, Comparator<? super T> comparator, int limit, ForkJoinPool pool) {
+		if (limit <= 0 || resources.isEmpty()) {
+			return List.of();
+		}
+		SelectTask<T> task = new SelectTask<>(resources, filter, comparator, limit, 0, resources.size(), chunkSize(resources.size(), pool));
+		return resources.size() <= MINIMUM_CHUNK_SIZE ? task.compute() : pool.invoke(task);
+	}
+
+	/**
+	 * Count the resources that match the filter.
+	 *
+	 * @param <T> is the type of the resources.
+	 * @param resources are the resources to count, in a list with fast random access.
+	 * @param filter selects the resources.
+	 * @param pool is the fork-join pool on which the resources are filtered.
+	 * @return the amount of resources that match the filter.
+	 */
+	static <T> int count(List<? extends T> resources, Predicate<? super T> filter, ForkJoinPool pool) {
+		CountTask<T> task = new CountTask<>(resources, filter, 0, resources.size(), chunkSize(resources.size(), pool));
+		return resources.size() <= MINIMUM_CHUNK_SIZE ? task.compute() : pool.invoke(task);
+	}
+
+	/**
+	 * Split the resources into a few chunks per worker thread, so the work remains balanced when the filter matches
+	 * more resources in some chunks than in others.
+	 */
+	private static int chunkSize(int size, ForkJoinPool pool) {
+		return Math.max(MINIMUM_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+	}
+
+	private static final class SelectTask<T> extends RecursiveTask<List<T>> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<? extends T> resources;
+		private final transient Predicate<? super T> filter;
+		private final transient Comparator<? super T> comparator;
+		private final int limit;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		SelectTask(List<? extends T> resources, Predicate<? super T> filter, Comparator<? super T> comparator, int limit, int from, int to, int chunkSize) {
+			this.resources = resources;
+			this.filter = filter;
+			this.comparator = comparator;
+			this.limit = limit;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected List<T> compute() {
+			if (to - from <= chunkSize) {
+				return comparator == null ? filterChunk() : sortChunk();
+			}
+			int middle = (from + to) >>> 1;
+			SelectTask<T> left = new SelectTask<>(resources, filter, comparator, limit, from, middle, chunkSize);
+			SelectTask<T> right = new SelectTask<>(resources, filter, comparator, limit, middle, to, chunkSize);
+			right.fork();
+			List<T> leftSelected = left.compute();
+			List<T> rightSelected = right.join();
+			return merge(leftSelected, rightSelected);
+		}
+
+		private List<T> filterChunk() {
+			List<T> selected = new ArrayList<>();
+			for (int i = from; i < to && selected.size() < limit; i++) {
+				T resource = resources.get(i);
+				if (filter == null || filter.test(resource)) {
+					selected.add(resource);
+				}
+			}
+			return selected;
+		}
+
+		/**
+		 * Sort the matching resources in this chunk. If more resources match than are needed, only the first ones are
+		 * kept in a heap, of which the root is the last resource that is still needed.
+		 */
+		private List<T> sortChunk() {
+			if (limit >= to - from) {
+				List<T> selected = filterChunk();
+				selected.sort(comparator);
+				return selected;
+			}
+			Comparator<Candidate<T>> order = Comparator.<Candidate<T>, T>comparing(Candidate::resource, comparator).thenComparingInt(Candidate::position);
+			PriorityQueue<Candidate<T>> heap = new PriorityQueue<>(limit, order.reversed());
+			for (int i = from; i < to; i++) {
+				T resource = resources.get(i);
+				if (filter != null && !filter.test(resource)) {
+					continue;
+				}
+				if (heap.size() < limit) {
+					heap.add(new Candidate<>(resource, i));
+				}
+				else if (comparator.compare(resource, heap.peek().resource()) < 0) {
+					heap.poll();
+					heap.add(new Candidate<>(resource, i));
+				}
+			}
+			List<Candidate<T>> candidates = new ArrayList<>(heap);
+			candidates.sort(order);
+			List<T> selected = new ArrayList<>(candidates.size());
+			for (Candidate<T> candidate : candidates) {
+				selected.add(candidate.resource());
+			}
+			return selected;
+		}
+
+		/**
+		 * Merge the selections of two adjacent chunks. On equal resources, the one from the left chunk comes first.
+		 */
+		private List<T> merge(List<T> left, List<T> right) {
+			if (comparator == null) {
+				if (left.size() >= limit || right.isEmpty()) {
+					return left;
+				}
+				List<T> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+				merged.addAll(left);
+				merged.addAll(right.subList(0, Math.min(right.size(), limit - left.size())));
+				return merged;
+			}
+			if (right.isEmpty()) {
+				return left;
+			}
+			if (left.isEmpty()) {
+				return right;
+			}
+			int size = Math.min(limit, left.size() + right.size());
+			List<T> merged = new ArrayList<>(size);
+			int l = 0;
+			int r = 0;
+			while (merged.size() < size) {
+				if (r == right.size() || (l < left.size() && comparator.compare(left.get(l), right.get(r)) <= 0)) {
+					merged.add(left.get(l++));
+				}
+				else {
+					merged.add(right.get(r++));
+				}
+			}
+			return merged;
+		}
+	}
+
+	private static final class CountTask<T> extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<? extends T> resources;
+		private final transient Predicate<? super T> filter;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		CountTask(List<? extends T> resources, Predicate<? super T> filter, int from, int to, int chunkSize) {
+			this.resources = resources;
+			this.filter = filter;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (to - from <= chunkSize) {
+				int count = 0;
+				for (int i = from; i < to; i++) {
+					if (filter.test(resources.get(i))) {
+						count++;
+					}
+				}
+				return count;
+			}
+			int middle = (from + to) >>> 1;
+			CountTask<T> left = new CountTask<>(resources, filter, from, middle, chunkSize);
+			CountTask<T> right = new CountTask<>(resources, filter, middle, to, chunkSize);
+			right.fork();
+			return left.compute() + right.join();
+		}
+	}
+
+	private record Candidate<T>(T resource, int position) {}
+}
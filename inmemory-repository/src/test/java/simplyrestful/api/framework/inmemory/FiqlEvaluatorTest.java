@@ -0,0 +1,103 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+public class FiqlEvaluatorTest {
+	private static final int COLLECTION_SIZE = 50_000;
+
+	private FiqlEvaluator<Item> evaluator;
+	private List<Item> items;
+
+	@BeforeEach
+	public void createItems() {
+		evaluator = new FiqlEvaluator<>(Item.class);
+		Random random = new Random(42);
+		items = IntStream.range(0, COLLECTION_SIZE)
+				.mapToObj(index -> new Item(index, "item" + random.nextInt(100), random.nextInt(1000), new Detail(Color.values()[index % 3])))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void list_shouldReturnSameResultAsFullSort_withMultipleSortOrders() {
+		List<SortOrder> sort = List.of(new SortOrder("amount", false), new SortOrder("name", true));
+		Comparator<Item> expectedOrder = Comparator.comparing(Item::amount, Comparator.reverseOrder()).thenComparing(Item::name);
+		List<Item> expected = items.stream().filter(item -> item.amount() >= 100).sorted(expectedOrder).collect(Collectors.toList());
+		Assertions.assertEquals(expected.subList(0, 100), evaluator.list(items, 0, 100, "amount=ge=100", sort));
+		Assertions.assertEquals(expected.subList(20_000, 20_100), evaluator.list(items, 20_000, 100, "amount=ge=100", sort));
+	}
+
+	@Test
+	public void list_shouldKeepProvidedOrder_withoutSortOrder() {
+		List<Item> expected = items.stream().filter(item -> item.name().equals("item7")).collect(Collectors.toList());
+		Assertions.assertEquals(expected.subList(10, 60), evaluator.list(items, 10, 50, "name==item7", List.of()));
+	}
+
+	@Test
+	public void list_shouldReturnEmptyPage_whenPageStartIsBeyondMatchingResources() {
+		Assertions.assertEquals(List.of(), evaluator.list(items, COLLECTION_SIZE, 10, "", List.of(new SortOrder("amount", true))));
+	}
+
+	@Test
+	public void count_shouldCountMatchingResources_withDisjunction() {
+		int expected = (int) items.stream().filter(item -> item.amount() < 10 || item.detail().color() == Color.GREEN).count();
+		Assertions.assertEquals(expected, evaluator.count(items, "amount=lt=10,detail.color==GREEN"));
+		Assertions.assertEquals(COLLECTION_SIZE, evaluator.count(items, ""));
+	}
+
+	@Test
+	public void predicate_shouldUseGetterMethods() {
+		FiqlEvaluator<Bean> beanEvaluator = new FiqlEvaluator<>(Bean.class);
+		List<Bean> beans = List.of(new Bean("first", true), new Bean("second", false), new Bean(null, true));
+		Assertions.assertEquals(List.of(beans.get(0), beans.get(2)), beanEvaluator.list(beans, 0, 10, "active==true;label=out=(second)", List.of()));
+		Assertions.assertEquals(List.of(beans.get(1), beans.get(0), beans.get(2)), beanEvaluator.list(beans, 0, 10, "", List.of(new SortOrder("label", false))));
+	}
+
+	@Test
+	public void predicate_shouldBeCachedForEachQuery() {
+		Assertions.assertSame(evaluator.predicate(QueryParamUtils.parseQuery("amount=gt=5")), evaluator.predicate(QueryParamUtils.parseQuery("amount=gt=5")));
+	}
+
+	@Test
+	public void list_shouldThrowBadRequest_whenQueryIsNotValidForResources() {
+		Assertions.assertThrows(BadRequestException.class, () -> evaluator.list(items, 0, 10, "description==test", List.of()));
+		Assertions.assertThrows(BadRequestException.class, () -> evaluator.list(items, 0, 10, "", List.of(new SortOrder("detail", true))));
+		Assertions.assertThrows(BadRequestException.class, () -> evaluator.list(items, 0, 10, "amount==many", List.of()));
+		Assertions.assertThrows(BadRequestException.class, () -> evaluator.list(items, 0, 10, "detail.color==PURPLE", List.of()));
+	}
+
+	public enum Color { RED, GREEN, BLUE }
+
+	public record Detail(Color color) {}
+
+	public record Item(int id, String name, int amount, Detail detail) {}
+
+	public static class Bean {
+		private final String label;
+		private final boolean active;
+
+		public Bean(String label, boolean active) {
+			this.label = label;
+			this.active = active;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package simplyrestful.api.framework.inmemory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.queryparams.SortOrder;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+
+public class InMemoryRepositoryTest {
+	private static final URI BASE_URI = URI.create("local://testhost/items/");
+	private static final List<String> ALL_FIELDS = List.of("all");
+
+	private InMemoryRepository<TestItem> repository;
+
+	@BeforeEach
+	public void createRepository() {
+		repository = new InMemoryRepository<TestItem>((item, id) -> new TestItem(selfLink(id), item.name(), item.amount()))
+				.index("name", TestItem::name)
+				.index("amount", TestItem::amount, Integer::valueOf);
+		repository.addAll(IntStream.range(0, 100)
+				.mapToObj(index -> new TestItem(selfLink(UUID.randomUUID()), "item" + (index % 10), index))
+				.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void list_shouldReturnMatchingResources_withEqualityQuery() {
+		List<TestItem> items = repository.list(0, 100, ALL_FIELDS, "name==item3", List.of(new SortOrder("amount", true)));
+		Assertions.assertEquals(List.of(3, 13, 23, 33, 43, 53, 63, 73, 83, 93), amounts(items));
+	}
+
+	@Test
+	public void list_shouldReturnMatchingResources_withRangeAndNotEqualQuery() {
+		List<TestItem> items = repository.list(0, 100, ALL_FIELDS, "amount=ge=10;amount<15;name!=item2", List.of(new SortOrder("amount", false)));
+		Assertions.assertEquals(List.of(14, 13, 11, 10), amounts(items));
+	}
+
+	@Test
+	public void list_shouldReturnRequestedPage_withMultipleSortOrders() {
+		List<SortOrder> sort = List.of(new SortOrder("name", false), new SortOrder("amount", true));
+		List<TestItem> items = repository.list(5, 15, ALL_FIELDS, "", sort);
+		Assertions.assertEquals(List.of(59, 69, 79, 89, 99, 8, 18, 28, 38, 48, 58, 68, 78, 88, 98), amounts(items));
+	}
+
+	@Test
+	public void list_shouldReturnSamePages_withoutSortOrder() {
+		List<TestItem> all = repository.list(0, 100, ALL_FIELDS, "", List.of());
+		List<TestItem> paged = new ArrayList<>(repository.list(0, 50, ALL_FIELDS, "", List.of()));
+		paged.addAll(repository.list(50, 50, ALL_FIELDS, "", List.of()));
+		Assertions.assertEquals(all, paged);
+	}
+
+	@Test
+	public void count_shouldCountMatchingResources_withDisjunction() {
+		Assertions.assertEquals(100, repository.count(""));
+		Assertions.assertEquals(21, repository.count("name=in=(item1,item2),amount==0"));
+	}
+
+	@Test
+	public void stream_shouldProvideSortedResources() {
+		try (Stream<TestItem> items = repository.stream(ALL_FIELDS, "amount=lt=3", List.of(new SortOrder("amount", false)))) {
+			Assertions.assertEquals(List.of(2, 1, 0), items.map(TestItem::amount).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void list_shouldThrowBadRequest_whenFieldIsNotIndexed() {
+		Assertions.assertThrows(BadRequestException.class, () -> repository.list(0, 10, ALL_FIELDS, "description==test", List.of()));
+		Assertions.assertThrows(BadRequestException.class, () -> repository.list(0, 10, ALL_FIELDS, "", List.of(new SortOrder("description", true))));
+		Assertions.assertThrows(BadRequestException.class, () -> repository.list(0, 10, ALL_FIELDS, "amount==many", List.of()));
+	}
+
+	@Test
+	public void update_shouldUpdateIndexes() {
+		TestItem item = repository.create(new TestItem(null, "created", 1000));
+		Assertions.assertTrue(repository.exists(parseId(item)));
+		repository.update(new TestItem(item.self(), "updated", 1000));
+		Assertions.assertEquals(0, repository.count("name==created"));
+		Assertions.assertEquals(1, repository.count("name==updated"));
+		repository.delete(parseId(item));
+		Assertions.assertEquals(0, repository.count("amount==1000"));
+		Assertions.assertNull(repository.read(parseId(item)));
+	}
+
+	@Test
+	public void count_shouldTrackAmountOfResources_withoutQuery() {
+		TestItem item = repository.create(new TestItem(null, "created", 1000));
+		Assertions.assertEquals(101, repository.count(""));
+		repository.update(new TestItem(item.self(), "updated", 1000));
+		Assertions.assertEquals(101, repository.count(""));
+		repository.delete(parseId(item));
+		repository.delete(parseId(item));
+		Assertions.assertEquals(100, repository.count(""));
+		repository.clear();
+		Assertions.assertEquals(0, repository.count(""));
+	}
+
+	@Test
+	public void update_shouldThrowIllegalArgumentException_whenResourceDoesNotExist() {
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> repository.update(new TestItem(selfLink(UUID.randomUUID()), "missing", 0)));
+	}
+
+	@Test
+	public void list_shouldReturnConsistentResults_withConcurrentWrites() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int writer = 0; writer < 2; writer++) {
+				writers.add(executor.submit(() -> {
+					for (int i = 0; i < 500; i++) {
+						TestItem created = repository.create(new TestItem(null, "concurrent", 500));
+						repository.delete(parseId(created));
+					}
+				}));
+			}
+			for (int i = 0; i < 500; i++) {
+				List<TestItem> items = repository.list(0, 200, ALL_FIELDS, "amount=lt=500", List.of(new SortOrder("name", true)));
+				Assertions.assertEquals(100, items.size());
+			}
+			for (Future<?> writer : writers) {
+				writer.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		Assertions.assertEquals(100, repository.count(""));
+	}
+
+	private static List<Integer> amounts(List<TestItem> items) {
+		return items.stream().map(TestItem::amount).collect(Collectors.toList());
+	}
+
+	private static Link selfLink(UUID id) {
+		return new Link(BASE_URI.resolve(id.toString()), TestItem.MEDIA_TYPE_JSON_TYPE);
+	}
+
+	private static UUID parseId(TestItem item) {
+		String path = item.self().getHref().getPath();
+		return UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+	}
+
+	public record TestItem(Link self, String name, Integer amount) implements ApiResource {
+		public static final MediaType MEDIA_TYPE_JSON_TYPE = new MediaType("application", "x.testitem-v1+json");
+
+		@Override
+		public MediaType customJsonMediaType() {
+			return MEDIA_TYPE_JSON_TYPE;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package simplyrestful.api.framework.filters;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,6 +16,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.Provider;
+import simplyrestful.api.framework.utils.BoundedCache;
 import simplyrestful.api.framework.utils.MediaTypeUtils;
 
 /**
@@ -22,42 +24,84 @@ import simplyrestful.api.framework.utils.MediaTypeUtils;
  * Modify the HTTP Accept header to ensure that if "application/json" is requested, any media type with
  * the "+json" structured suffix would also be considered acceptable.
  *
+ * Since clients typically send the same few Accept header values, the modified Accept header is cached for each
+ * value that is received. The maximum amount of cached values can be configured with the property or environment
+ * variable "SIMPLYRESTFUL_ACCEPT_HEADER_CACHE_SIZE".
+ *
  */
 @Named
 @Provider
 @PreMatching
 public class AcceptHeaderModifier implements ContainerRequestFilter {
+	/**
+	 * The name of the property or environment variable that contains the maximum amount of different Accept header
+	 * values for which the modified Accept header is cached.
+	 */
+	public static final String CONFIGURATION_PROPERTY_CACHE_SIZE = "SIMPLYRESTFUL_ACCEPT_HEADER_CACHE_SIZE";
+	/**
+	 * The maximum amount of different Accept header values for which the modified Accept header is cached, if it is
+	 * not configured.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 256;
+
     @Context
     private Configuration configuration;
     @Context
     private HttpHeaders httpHeaders;
+    private volatile List<MediaType> customJsonMediaTypes;
+    private final BoundedCache<String, List<String>> acceptHeaderCache = new BoundedCache<>(getCacheSize());
 
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
-    	List<MediaType> acceptableMediaTypes = httpHeaders.getAcceptableMediaTypes();
-    	List<String> modifiedAcceptableMediaTypes = acceptableMediaTypes.stream().map(MediaType::toString).collect(Collectors.toList());
+    	String acceptHeader = requestContext.getHeaderString(HttpHeaders.ACCEPT);
+    	if (acceptHeader == null) {
+    		return;
+    	}
+    	List<String> modifiedAcceptableMediaTypes = acceptHeaderCache.get(acceptHeader, header -> modifyAcceptableMediaTypes(httpHeaders.getAcceptableMediaTypes()));
+    	if (!modifiedAcceptableMediaTypes.isEmpty()) {
+    	    requestContext.getHeaders().put(HttpHeaders.ACCEPT, new ArrayList<>(modifiedAcceptableMediaTypes));
+    	}
+    }
+
+    /**
+     * Provide the cache containing the modified Accept header for each Accept header value that was received.
+     *
+     * The amount of hits and misses in this cache can be used to determine an appropriate maximum size, which can be
+     * configured with the "SIMPLYRESTFUL_ACCEPT_HEADER_CACHE_SIZE" property or environment variable.
+     *
+     * @return the cache of modified Accept headers.
+     */
+    public BoundedCache<String, List<String>> getAcceptHeaderCache() {
+    	return acceptHeaderCache;
+    }
 
+    /**
+     * Add the custom JSON media types to the acceptable media types, if plain JSON is acceptable.
+     *
+     * @param acceptableMediaTypes are the media types from the Accept header.
+     * @return the modified list of acceptable media types, or an empty list if the Accept header does not need to be
+     * modified.
+     */
+    private List<String> modifyAcceptableMediaTypes(List<MediaType> acceptableMediaTypes) {
     	Optional<MediaType> plainJson = acceptableMediaTypes.stream()
     		.filter(acceptableMediaType -> MediaTypeUtils.withoutQualityParameters(acceptableMediaType).equals(MediaType.APPLICATION_JSON_TYPE))
     		.findFirst();
-    	if(plainJson.isPresent()) {
-    	    List<MediaType> customJsonMediaTypes = getCustomJsonMediaTypes();
-    	    List<MediaType> existingMediaTypes = customJsonMediaTypes.stream()
-    		    .filter(customMediaType -> acceptableMediaTypes.stream()
-    			    .anyMatch(acceptableMediaType -> MediaTypeUtils.withoutQualityParameters(acceptableMediaType).equals(customMediaType)))
-    		    .collect(Collectors.toList());
-    	    customJsonMediaTypes.removeAll(existingMediaTypes);
-    	    double quality = Double.valueOf(plainJson.get().getParameters().getOrDefault(MediaTypeUtils.MEDIA_TYPE_PARAMETER_QUALITY_CLIENT, "1.0"));
-    	    List<String> customJsonMediaTypesWithQ = customJsonMediaTypes.stream()
-    		    .map(mediaType -> quality < 1.0 ? MediaTypeUtils.addQParameter(mediaType, quality) : mediaType)
-    		    .map(MediaType::toString)
-    		    .collect(Collectors.toList());
-    	    modifiedAcceptableMediaTypes = Stream.concat(
-    		    modifiedAcceptableMediaTypes.stream(),
-    		    customJsonMediaTypesWithQ.stream())
-    		    .collect(Collectors.toList());
-    	    requestContext.getHeaders().put(HttpHeaders.ACCEPT, modifiedAcceptableMediaTypes);
+    	if(plainJson.isEmpty()) {
+    	    return List.of();
     	}
+    	List<MediaType> customJsonMediaTypes = getCustomJsonMediaTypes().stream()
+    	    .filter(customMediaType -> acceptableMediaTypes.stream()
+    		    .noneMatch(acceptableMediaType -> MediaTypeUtils.withoutQualityParameters(acceptableMediaType).equals(customMediaType)))
+    	    .collect(Collectors.toList());
+    	double quality = Double.valueOf(plainJson.get().getParameters().getOrDefault(MediaTypeUtils.MEDIA_TYPE_PARAMETER_QUALITY_CLIENT, "1.0"));
+    	List<String> customJsonMediaTypesWithQ = customJsonMediaTypes.stream()
+    	    .map(mediaType -> quality < 1.0 ? MediaTypeUtils.addQParameter(mediaType, quality) : mediaType)
+    	    .map(MediaType::toString)
+    	    .collect(Collectors.toList());
+    	return Stream.concat(
+    		acceptableMediaTypes.stream().map(MediaType::toString),
+    		customJsonMediaTypesWithQ.stream())
+    	    .collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -65,17 +109,42 @@ public class AcceptHeaderModifier implements ContainerRequestFilter {
      * This will only return media types of the same level of specificity as plain JSON, which means that any media
      * types with non-quality parameters will be removed as that makes them more specific than plain JSON.
      *
+     * Since the web resources of the API do not change after it is started, these media types are only detected on
+     * the first request and reused afterwards.
+     *
      * @return the list of similarly-specific plain JSON media types that can be produced.
      */
     private List<MediaType> getCustomJsonMediaTypes() {
-        return MediaTypeUtils.getAllProducibleMediaTypes(configuration).stream()
-    	        .filter(producibleMediaType -> producibleMediaType.getSubtype().endsWith(MediaTypeUtils.MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON))
-    	        .map(MediaTypeUtils::withoutQualityParameters)
-    	        .filter(this::withPlainJsonLevelOfSpecificity)
-    	        .collect(Collectors.toList());
+    	List<MediaType> detectedMediaTypes = customJsonMediaTypes;
+    	if (detectedMediaTypes == null) {
+    		detectedMediaTypes = MediaTypeUtils.getAllProducibleMediaTypes(configuration).stream()
+    				.filter(producibleMediaType -> producibleMediaType.getSubtype().endsWith(MediaTypeUtils.MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON))
+    				.map(MediaTypeUtils::withoutQualityParameters)
+    				.filter(this::withPlainJsonLevelOfSpecificity)
+    				.collect(Collectors.toUnmodifiableList());
+    		customJsonMediaTypes = detectedMediaTypes;
+    	}
+    	return detectedMediaTypes;
     }
 
     private boolean withPlainJsonLevelOfSpecificity(MediaType mediaType) {
         return mediaType.getParameters().isEmpty();
     }
+
+    private static int getCacheSize() {
+    	String cacheSize = System.getProperty(CONFIGURATION_PROPERTY_CACHE_SIZE);
+    	if (cacheSize == null) {
+    		cacheSize = System.getenv(CONFIGURATION_PROPERTY_CACHE_SIZE);
+    	}
+    	if (cacheSize == null || cacheSize.isBlank()) {
+    		return DEFAULT_CACHE_SIZE;
+    	}
+    	try {
+    		int configured = Integer.parseInt(cacheSize.strip());
+    		return configured > 0 ? configured : DEFAULT_CACHE_SIZE;
+    	}
+    	catch (NumberFormatException e) {
+    		return DEFAULT_CACHE_SIZE;
+    	}
+    }
 }
@@ -0,0 +1,333 @@
+package simplyrestful.api.framework.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.inject.Named;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
+import simplyrestful.api.framework.utils.BoundedCache;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+/**
+ * Adds a strong ETag to each API resource that is retrieved and answers conditional requests for it.
+ *
+ * The ETag is computed from the serialized representation of the API resource, along with the fields that were
+ * requested with the "fields" query parameter. For a request without an If-None-Match or If-Match header, the ETag is
+ * computed from the bytes as they are written by the MessageBodyWriter, so the API resource is only serialized once.
+ * The response body is buffered for this, since the ETag header has to be sent before the body. For a conditional
+ * request, the ETag is needed before the response is written, so the API resource is serialized to compute it. If the
+ * ETag matches, the response is changed to "304 Not Modified" (or "412 Precondition Failed" for If-Match) without a
+ * body. Otherwise, the serialized API resource is written as the response body, so it is not serialized again.
+ *
+ * The ETag is cached for each API resource instance, so it does not have to be computed again when the same instance
+ * is retrieved repeatedly, e.g. because it is read through a cache. Such an instance must not be modified while it is
+ * cached. The cache only refers weakly to the instances, so it does not keep them from being garbage collected. The
+ * maximum amount of cached ETags can be configured with the property or environment variable
+ * "SIMPLYRESTFUL_ENTITY_TAG_CACHE_SIZE".
+ *
+ * Collections are not serialized to compute an ETag, since they may be streamed and are rarely retrieved as the same
+ * instance. A collection is only given an ETag if one was assigned to its instance with assignEntityTag(), e.g.
+ * because it is provided from a cache.
+ *
+ * This filter is also a writer interceptor, which must run inside the other writer interceptors like the
+ * JsonFieldsFilterInterceptor, so it sees the bytes as they are written by the MessageBodyWriter. It should therefore
+ * be registered with PRIORITY, e.g. with register(EntityTagFilter.class, EntityTagFilter.PRIORITY).
+ */
+@Named
+@Provider
+public class EntityTagFilter implements ContainerResponseFilter, WriterInterceptor {
+	/**
+	 * The name of the property or environment variable that enables this filter when its value is "true".
+	 */
+	public static final String CONFIGURATION_PROPERTY_ENABLED = "SIMPLYRESTFUL_ENTITY_TAG_ENABLED";
+	/**
+	 * The name of the property or environment variable that contains the maximum amount of API resource instances
+	 * for which the ETag is cached.
+	 */
+	public static final String CONFIGURATION_PROPERTY_CACHE_SIZE = "SIMPLYRESTFUL_ENTITY_TAG_CACHE_SIZE";
+	/**
+	 * The maximum amount of API resource instances for which the ETag is cached, if it is not configured.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
+	/**
+	 * The priority with which this filter should be registered, which makes it run inside the writer interceptors
+	 * with the default priority.
+	 */
+	public static final int PRIORITY = Priorities.USER + 1000;
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private static final String PROPERTY_PENDING = "simplyrestful.entitytag.pending";
+
+	@Context
+	Providers providers;
+	private static final BoundedCache<EntityTagKey, EntityTag> ASSIGNED_ENTITY_TAGS = new BoundedCache<>(getCacheSize());
+	private final BoundedCache<EntityTagKey, EntityTag> entityTagCache = new BoundedCache<>(getCacheSize());
+
+	/**
+	 * Assign an ETag to an API resource or collection instance, which is then used instead of computing it.
+	 *
+	 * This allows an ETag to be provided without serializing the instance, e.g. a weak ETag derived from the version
+	 * of a cache. The ETag is used for every representation of the instance, regardless of the requested fields or
+	 * media type. At most the same amount of instances as the cache of computed ETags can have an assigned ETag.
+	 *
+	 * @param entity is the API resource or collection instance.
+	 * @param entityTag is the ETag for the instance.
+	 */
+	public static void assignEntityTag(Object entity, EntityTag entityTag) {
+		ASSIGNED_ENTITY_TAGS.put(new EntityTagKey(entity, null, null), entityTag);
+	}
+
+	/**
+	 * Check whether this filter should be registered, as configured with the "SIMPLYRESTFUL_ENTITY_TAG_ENABLED"
+	 * property or environment variable.
+	 *
+	 * @return true if ETags should be added to the API resources, false otherwise.
+	 */
+	public static boolean isEnabled() {
+		String enabled = System.getProperty(CONFIGURATION_PROPERTY_ENABLED);
+		if (enabled == null) {
+			enabled = System.getenv(CONFIGURATION_PROPERTY_ENABLED);
+		}
+		return Boolean.parseBoolean(enabled == null ? null : enabled.strip());
+	}
+
+	@Override
+	public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+		String method = requestContext.getMethod();
+		if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+			return;
+		}
+		Object entity = responseContext.getEntity();
+		if (responseContext.getStatus() != Status.OK.getStatusCode()
+				|| !(entity instanceof ApiResource)
+				|| responseContext.getHeaders().containsKey(HttpHeaders.ETAG)) {
+			return;
+		}
+		EntityTag entityTag = ASSIGNED_ENTITY_TAGS.getIfPresent(new EntityTagKey(entity, null, null));
+		if (entityTag == null && entity instanceof ApiCollection) {
+			return;
+		}
+		if (entityTag == null) {
+			List<String> fields = requestContext.getUriInfo().getQueryParameters().get(QueryParamUtils.QUERY_PARAM_FIELDS);
+			EntityTagKey key = new EntityTagKey(entity, responseContext.getMediaType(), fields);
+			entityTag = entityTagCache.getIfPresent(key);
+			if (entityTag == null) {
+				if (HttpMethod.GET.equals(method) && !isConditional(requestContext)) {
+					requestContext.setProperty(PROPERTY_PENDING, key);
+					return;
+				}
+				byte[] serialized = serialize(responseContext, fields);
+				if (serialized == null) {
+					return;
+				}
+				entityTag = computeEntityTag(serialized, fields);
+				entityTagCache.put(key, entityTag);
+				requestContext.setProperty(PROPERTY_PENDING, serialized);
+			}
+		}
+		responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+		Response.ResponseBuilder preconditionFailed = requestContext.getRequest().evaluatePreconditions(entityTag);
+		if (preconditionFailed != null) {
+			requestContext.removeProperty(PROPERTY_PENDING);
+			responseContext.setStatus(preconditionFailed.build().getStatus());
+			responseContext.setEntity(null);
+		}
+	}
+
+	/**
+	 * Write the API resource for which the ETag is computed while it is written, or which was already serialized to
+	 * compute its ETag.
+	 */
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+		Object pending = context.getProperty(PROPERTY_PENDING);
+		context.removeProperty(PROPERTY_PENDING);
+		if (pending instanceof byte[] serialized) {
+			context.getOutputStream().write(serialized);
+			return;
+		}
+		if (!(pending instanceof EntityTagKey key)) {
+			context.proceed();
+			return;
+		}
+		OutputStream original = context.getOutputStream();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		MessageDigest digest = createDigest();
+		context.setOutputStream(new DigestOutputStream(buffer, digest));
+		try {
+			context.proceed();
+		}
+		finally {
+			context.setOutputStream(original);
+		}
+		EntityTag entityTag = toEntityTag(digest, key.fields);
+		entityTagCache.put(key, entityTag);
+		context.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+		buffer.writeTo(original);
+	}
+
+	/**
+	 * Provide the cache containing the ETag for each API resource instance that was retrieved.
+	 *
+	 * @return the cache of ETags.
+	 */
+	public BoundedCache<?, EntityTag> getEntityTagCache() {
+		return entityTagCache;
+	}
+
+	private boolean isConditional(ContainerRequestContext requestContext) {
+		return requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+				|| requestContext.getHeaderString(HttpHeaders.IF_MATCH) != null;
+	}
+
+	/**
+	 * Serialize the API resource with the same MessageBodyWriter that will write it to the response.
+	 *
+	 * The fields are selected for the FieldsPropertyFilter in the same way as the JsonFieldsFilterInterceptor does,
+	 * so the result is the same as what the MessageBodyWriter writes inside the writer interceptors.
+	 *
+	 * @param responseContext is the response containing the API resource.
+	 * @param fields are the values of the "fields" query parameter, if any.
+	 * @return the serialized API resource, or null if no MessageBodyWriter is available for it.
+	 * @throws IOException if the API resource could not be serialized.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private byte[] serialize(ContainerResponseContext responseContext, List<String> fields) throws IOException {
+		if (providers == null) {
+			return null;
+		}
+		Class<?> type = responseContext.getEntityClass();
+		Type genericType = responseContext.getEntityType();
+		Annotation[] annotations = responseContext.getEntityAnnotations();
+		MediaType mediaType = responseContext.getMediaType();
+		MessageBodyWriter writer = providers.getMessageBodyWriter(type, genericType, annotations, mediaType);
+		if (writer == null) {
+			return null;
+		}
+		List<String> selectedFields = fields == null ? List.of() : QueryParamUtils.flattenQueryParameters(fields);
+		boolean select = !selectedFields.isEmpty() && !selectedFields.contains(QueryParamUtils.FIELDS_VALUE_ALL);
+		if (select) {
+			FieldsPropertyFilter.select(FieldsSelection.of(selectedFields));
+		}
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		try {
+			writer.writeTo(responseContext.getEntity(), type, genericType, annotations, mediaType, new MultivaluedHashMap<>(), serialized);
+		}
+		finally {
+			if (select) {
+				FieldsPropertyFilter.clear();
+			}
+		}
+		return serialized.toByteArray();
+	}
+
+	private static EntityTag computeEntityTag(byte[] serialized, List<String> fields) {
+		MessageDigest digest = createDigest();
+		digest.update(serialized);
+		return toEntityTag(digest, fields);
+	}
+
+	private static EntityTag toEntityTag(MessageDigest digest, List<String> fields) {
+		if (fields != null) {
+			digest.update((byte) 0);
+			digest.update(String.join(",", fields).getBytes(StandardCharsets.UTF_8));
+		}
+		return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()));
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, e);
+		}
+	}
+
+	private static int getCacheSize() {
+		String cacheSize = System.getProperty(CONFIGURATION_PROPERTY_CACHE_SIZE);
+		if (cacheSize == null) {
+			cacheSize = System.getenv(CONFIGURATION_PROPERTY_CACHE_SIZE);
+		}
+		if (cacheSize == null || cacheSize.isBlank()) {
+			return DEFAULT_CACHE_SIZE;
+		}
+		try {
+			int configured = Integer.parseInt(cacheSize.strip());
+			return configured > 0 ? configured : DEFAULT_CACHE_SIZE;
+		}
+		catch (NumberFormatException e) {
+			return DEFAULT_CACHE_SIZE;
+		}
+	}
+
+	/**
+	 * Identifies the representation of an API resource instance, comparing the API resource by identity so its
+	 * content does not have to be compared.
+	 *
+	 * The API resource is only referenced weakly, so a cached ETag does not keep it from being garbage collected.
+	 * Once it is collected, the key no longer matches any other key and is eventually evicted from the cache.
+	 */
+	private static final class EntityTagKey {
+		private final WeakReference<Object> entity;
+		private final int entityHash;
+		private final MediaType mediaType;
+		private final List<String> fields;
+
+		EntityTagKey(Object entity, MediaType mediaType, List<String> fields) {
+			this.entity = new WeakReference<>(entity);
+			this.entityHash = System.identityHashCode(entity);
+			this.mediaType = mediaType;
+			this.fields = fields;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(entityHash, mediaType, fields);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof EntityTagKey)) {
+				return false;
+			}
+			EntityTagKey other = (EntityTagKey) obj;
+			Object referent = entity.get();
+			return referent != null && referent == other.entity.get()
+					&& Objects.equals(mediaType, other.mediaType) && Objects.equals(fields, other.fields);
+		}
+	}
+}
@@ -2,17 +2,28 @@ package simplyrestful.api.framework.filters;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jakarta.rs.base.ProviderBase;
 
 import jakarta.inject.Named;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import simplyrestful.api.framework.outputstream.json.JsonFieldsFilterOutputStream;
+import simplyrestful.api.framework.providers.StreamingApiCollectionWriter;
 import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
 import simplyrestful.api.framework.utils.MediaTypeUtils;
 import simplyrestful.api.framework.utils.QueryParamUtils;
 
@@ -27,12 +38,24 @@ import simplyrestful.api.framework.utils.QueryParamUtils;
  * If the API returns a body containing a "application/x.simplyrestful-collection-v1+json" media type, the filter will
  * use a default "fields" value of "self,first,last,prev,next,total,item.self", only showing the self link of each
  * resource in the collection.
+ *
+ * If the response body is an API resource that is serialized by Jackson with an ObjectMapper configured with the
+ * FieldsPropertyFilter, like the one from the ObjectMapperProvider, the fields are filtered while the response body
+ * is being serialized. Otherwise, the serialized JSON is filtered while it is being written to the response.
  */
 @Named
 @Provider
 public class JsonFieldsFilterInterceptor implements WriterInterceptor {
+	/**
+	 * Whether each type of API resource is serialized with the FieldsPropertyFilter for each media type, which is only
+	 * determined once per type and media type since the registered providers do not change after the API is started.
+	 */
+	private final Map<WriterKey, Boolean> serializedWithFieldsPropertyFilter = new ConcurrentHashMap<>();
+
     @Context
     UriInfo uriInfo;
+    @Context
+    Providers providers;
 
 	@Override
 	public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
@@ -52,27 +75,76 @@ public class JsonFieldsFilterInterceptor implements WriterInterceptor {
 			}
 		}
 		List<String> fields = QueryParamUtils.flattenQueryParameters(fieldsQueryParameters);
-		if (!fields.isEmpty() && !fields.contains(QueryParamUtils.FIELDS_VALUE_ALL)) {
-			context.setOutputStream(new JsonFieldsFilterOutputStream(context.getOutputStream(), fields));
+		if (fields.isEmpty() || fields.contains(QueryParamUtils.FIELDS_VALUE_ALL)) {
+			context.proceed();
+			return;
+		}
+		if (!isEventStream && isSerializedWithFieldsPropertyFilter(context)) {
+			FieldsPropertyFilter.select(FieldsSelection.of(fields));
+			try {
+				context.proceed();
+			}
+			finally {
+				FieldsPropertyFilter.clear();
+			}
+			return;
 		}
+		context.setOutputStream(new JsonFieldsFilterOutputStream(context.getOutputStream(), fields));
 		context.proceed();
 	}
 
+	/**
+	 * Check whether the response body is an API resource that will be serialized by Jackson, or by the
+	 * StreamingApiCollectionWriter, using an ObjectMapper that is configured with the FieldsPropertyFilter.
+	 *
+	 * The providers are only resolved for the first response body of each type and media type, after which the result
+	 * is reused.
+	 *
+	 * @param context is the context of the response body that is being written.
+	 * @return true if the fields can be filtered while the response body is being serialized.
+	 */
+	private boolean isSerializedWithFieldsPropertyFilter(WriterInterceptorContext context) {
+		if (providers == null || !(context.getEntity() instanceof ApiResource)) {
+			return false;
+		}
+		WriterKey key = new WriterKey(context.getEntity().getClass(), context.getMediaType());
+		return serializedWithFieldsPropertyFilter.computeIfAbsent(key, unused -> resolveSerializedWithFieldsPropertyFilter(context));
+	}
+
+	private boolean resolveSerializedWithFieldsPropertyFilter(WriterInterceptorContext context) {
+		MessageBodyWriter<?> writer = providers.getMessageBodyWriter(context.getType(), context.getGenericType(), context.getAnnotations(), context.getMediaType());
+		if (!(writer instanceof StreamingApiCollectionWriter || writer instanceof ProviderBase)) {
+			return false;
+		}
+		ContextResolver<ObjectMapper> mapperResolver = providers.getContextResolver(ObjectMapper.class, context.getMediaType());
+		ObjectMapper mapper = mapperResolver == null ? null : mapperResolver.getContext(context.getType());
+		return mapper != null && FieldsPropertyFilter.isConfigured(mapper);
+	}
+
 	private boolean isApiCollection(MediaType mediaType) {
-		return MediaType.valueOf(ApiCollection.MEDIA_TYPE_JSON).equals(mediaType);
+		return ApiCollection.MEDIA_TYPE_JSON_TYPE.equals(mediaType);
 	}
 
 	/**
-	 * Verify that the provided media type is compatible with "application/json" as well as the "+json" type structure suffix.
+	 * Verify that the provided media type is compatible with "application/json" as well as the "+json" type structure suffix,
+	 * or that it is a stream of JSON documents as newline-delimited JSON or JSON text sequence.
 	 * @param contentType
 	 * @return
 	 */
     private boolean isJson(MediaType contentType) {
     	if (contentType != null && (
     			contentType.isCompatible(MediaType.APPLICATION_JSON_TYPE) ||
-    			contentType.getSubtype().endsWith(MediaTypeUtils.MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON))) {
+    			contentType.getSubtype().endsWith(MediaTypeUtils.MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON) ||
+    			contentType.isCompatible(MediaTypeUtils.APPLICATION_NDJSON_TYPE) ||
+    			contentType.isCompatible(MediaTypeUtils.APPLICATION_JSON_SEQ_TYPE))) {
             return true;
         }
         return false;
     }
+
+    /**
+     * The type of the response body and the media type with which it is written, which together determine the
+     * providers that are used to write it.
+     */
+    private record WriterKey(Class<?> entityType, MediaType mediaType) {}
 }
@@ -0,0 +1,101 @@
+package simplyrestful.api.framework.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the count, total and maximum of each recorded metric in memory.
+ *
+ * This is the default sink for the metrics, so they can be inspected without any metrics library. Each metric is only
+ * summarized, so the memory used only depends on the amount of different metrics, not on the amount of recorded
+ * values.
+ */
+public class InMemoryMetricsSink implements MetricsSink {
+	private final Map<MetricId, Statistics> metrics = new ConcurrentHashMap<>();
+
+	@Override
+	public void recordTime(String name, Map<String, String> tags, long durationNanos) {
+		record(name, tags, durationNanos);
+	}
+
+	@Override
+	public void recordAmount(String name, Map<String, String> tags, long amount) {
+		record(name, tags, amount);
+	}
+
+	/**
+	 * Retrieve the summary of a single metric.
+	 *
+	 * @param name is the name of the metric.
+	 * @param tags are the tags of the metric.
+	 * @return the summary of the metric, or null if nothing has been recorded for it.
+	 */
+	public MetricSnapshot get(String name, Map<String, String> tags) {
+		Statistics statistics = metrics.get(new MetricId(name, tags));
+		return statistics == null ? null : statistics.snapshot();
+	}
+
+	/**
+	 * Retrieve the summary of all metrics.
+	 *
+	 * @return the summary of each metric for which something has been recorded.
+	 */
+	public Map<MetricId, MetricSnapshot> snapshot() {
+		return metrics.entrySet().stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+	}
+
+	/**
+	 * Remove all recorded metrics.
+	 */
+	public void clear() {
+		metrics.clear();
+	}
+
+	private void record(String name, Map<String, String> tags, long value) {
+		metrics.computeIfAbsent(new MetricId(name, Map.copyOf(tags)), id -> new Statistics()).record(value);
+	}
+
+	/**
+	 * Identifies a metric.
+	 *
+	 * @param name is the name of the metric.
+	 * @param tags are the tags of the metric.
+	 */
+	public record MetricId(String name, Map<String, String> tags) {}
+
+	/**
+	 * The summary of the values recorded for a metric.
+	 *
+	 * @param count is the amount of recorded values.
+	 * @param total is the sum of the recorded values.
+	 * @param max is the largest recorded value.
+	 */
+	public record MetricSnapshot(long count, long total, long max) {
+		/**
+		 * @return the mean of the recorded values, or 0 if no values were recorded.
+		 */
+		public double mean() {
+			return count == 0 ? 0 : (double) total / count;
+		}
+	}
+
+	private static final class Statistics {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		void record(long value) {
+			count.increment();
+			total.add(value);
+			max.accumulate(value);
+		}
+
+		MetricSnapshot snapshot() {
+			return new MetricSnapshot(count.sum(), total.sum(), max.get());
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package simplyrestful.api.framework.metrics;
+
+import java.util.Map;
+
+/**
+ * Receives the metrics recorded by SimplyRESTful.
+ *
+ * Each metric is identified by its name and tags, which map directly onto the timers and distribution summaries of
+ * metrics libraries like Micrometer. Implementations must be thread-safe since metrics are recorded concurrently
+ * for every request.
+ */
+public interface MetricsSink {
+	/**
+	 * Record the duration of an operation.
+	 *
+	 * @param name is the name of the timer.
+	 * @param tags are the tags that, together with the name, identify the timer.
+	 * @param durationNanos is the duration of the operation in nanoseconds.
+	 */
+	void recordTime(String name, Map<String, String> tags, long durationNanos);
+
+	/**
+	 * Record an amount, like the amount of bytes written.
+	 *
+	 * @param name is the name of the distribution summary.
+	 * @param tags are the tags that, together with the name, identify the distribution summary.
+	 * @param amount is the recorded amount.
+	 */
+	void recordAmount(String name, Map<String, String> tags, long amount);
+}
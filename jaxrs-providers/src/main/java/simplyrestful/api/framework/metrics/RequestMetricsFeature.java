@@ -0,0 +1,299 @@
+package simplyrestful.api.framework.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Records the time spent in each phase of a request, and the amount of bytes written in its response, for each
+ * endpoint.
+ *
+ * The phases are:
+ * <ul>
+ * <li>"preMatching": the pre-matching request filters, like the AcceptHeaderModifier and UriCustomizer.</li>
+ * <li>"requestFilters": matching the request to a resource method and the other request filters.</li>
+ * <li>"resourceMethod": the resource method, including the CRUD methods it calls.</li>
+ * <li>"writerInterceptors": the writer interceptors, like the JsonFieldsFilterInterceptor, excluding the
+ * serialization they wrap.</li>
+ * <li>"serialization": the serialization of the response body, including any filtering of its fields.</li>
+ * </ul>
+ *
+ * The duration of the entire request is recorded as well, until the response body has been written. All metrics are
+ * recorded in the provided MetricsSink, which is an InMemoryMetricsSink by default.
+ *
+ * The metrics are only recorded if this feature is registered. The Spring Boot auto-configuration registers it if
+ * the property or environment variable "SIMPLYRESTFUL_METRICS_ENABLED" is "true".
+ */
+public class RequestMetricsFeature implements Feature {
+	/**
+	 * The name of the property or environment variable that enables the metrics, if it is "true".
+	 */
+	public static final String CONFIGURATION_PROPERTY_ENABLED = "SIMPLYRESTFUL_METRICS_ENABLED";
+	/**
+	 * The timer for the duration of the entire request, tagged with the endpoint, HTTP method and status code.
+	 */
+	public static final String METRIC_REQUEST = "simplyrestful.request";
+	/**
+	 * The timer for the duration of a phase of the request, tagged with the endpoint, HTTP method and phase.
+	 */
+	public static final String METRIC_REQUEST_PHASE = "simplyrestful.request.phase";
+	/**
+	 * The distribution summary for the amount of bytes written in the response body, tagged with the endpoint and
+	 * HTTP method.
+	 */
+	public static final String METRIC_RESPONSE_BYTES = "simplyrestful.response.bytes";
+	public static final String TAG_ENDPOINT = "endpoint";
+	public static final String TAG_METHOD = "method";
+	public static final String TAG_STATUS = "status";
+	public static final String TAG_PHASE = "phase";
+	public static final String PHASE_PRE_MATCHING = "preMatching";
+	public static final String PHASE_REQUEST_FILTERS = "requestFilters";
+	public static final String PHASE_RESOURCE_METHOD = "resourceMethod";
+	public static final String PHASE_WRITER_INTERCEPTORS = "writerInterceptors";
+	public static final String PHASE_SERIALIZATION = "serialization";
+	/**
+	 * The value of the endpoint tag for requests that did not match any resource method.
+	 */
+	public static final String ENDPOINT_UNMATCHED = "unmatched";
+	private static final String PROPERTY_START = "simplyrestful.metrics.start";
+	private static final String PROPERTY_PRE_MATCHING_END = "simplyrestful.metrics.prematching.end";
+	private static final String PROPERTY_REQUEST_FILTERS_END = "simplyrestful.metrics.requestfilters.end";
+	private static final String PROPERTY_ENDPOINT = "simplyrestful.metrics.endpoint";
+	private static final String PROPERTY_STATUS = "simplyrestful.metrics.status";
+	private static final String PROPERTY_SERIALIZATION_DURATION = "simplyrestful.metrics.serialization.duration";
+
+	private final MetricsSink sink;
+
+	/**
+	 * Create the feature that records the metrics in an InMemoryMetricsSink.
+	 */
+	public RequestMetricsFeature() {
+		this(new InMemoryMetricsSink());
+	}
+
+	/**
+	 * Create the feature that records the metrics in the provided sink.
+	 *
+	 * @param sink is where the metrics are recorded.
+	 */
+	public RequestMetricsFeature(MetricsSink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * @return the sink where the metrics are recorded.
+	 */
+	public MetricsSink getSink() {
+		return sink;
+	}
+
+	/**
+	 * Check whether the metrics are enabled with the "SIMPLYRESTFUL_METRICS_ENABLED" property or environment variable.
+	 *
+	 * @return true if the metrics are enabled, false otherwise.
+	 */
+	public static boolean isEnabled() {
+		String enabled = System.getProperty(CONFIGURATION_PROPERTY_ENABLED);
+		if (enabled == null) {
+			enabled = System.getenv(CONFIGURATION_PROPERTY_ENABLED);
+		}
+		return Boolean.parseBoolean(enabled == null ? null : enabled.strip());
+	}
+
+	@Override
+	public boolean configure(FeatureContext context) {
+		context.register(new RequestStartFilter(), Integer.MIN_VALUE);
+		context.register(new PreMatchingEndFilter(), Integer.MAX_VALUE);
+		context.register(new ResourceMethodFilter(sink), Integer.MAX_VALUE);
+		context.register(new ResponseWriteInterceptor(sink), Integer.MIN_VALUE);
+		context.register(new SerializationInterceptor(), Integer.MAX_VALUE);
+		return true;
+	}
+
+	private static Map<String, String> phaseTags(Map<String, String> endpointTags, String phase) {
+		return Map.of(
+				TAG_ENDPOINT, endpointTags.get(TAG_ENDPOINT),
+				TAG_METHOD, endpointTags.get(TAG_METHOD),
+				TAG_PHASE, phase);
+	}
+
+	private static Map<String, String> requestTags(Map<String, String> endpointTags, int status) {
+		return Map.of(
+				TAG_ENDPOINT, endpointTags.get(TAG_ENDPOINT),
+				TAG_METHOD, endpointTags.get(TAG_METHOD),
+				TAG_STATUS, String.valueOf(status));
+	}
+
+	private static void recordPhase(MetricsSink sink, Map<String, String> endpointTags, String phase, Object start, long end) {
+		if (start instanceof Long startNanos) {
+			sink.recordTime(METRIC_REQUEST_PHASE, phaseTags(endpointTags, phase), end - startNanos);
+		}
+	}
+
+	/**
+	 * Runs before all other pre-matching request filters.
+	 */
+	@PreMatching
+	static final class RequestStartFilter implements ContainerRequestFilter {
+		@Override
+		public void filter(ContainerRequestContext requestContext) {
+			requestContext.setProperty(PROPERTY_START, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Runs after all other pre-matching request filters.
+	 */
+	@PreMatching
+	static final class PreMatchingEndFilter implements ContainerRequestFilter {
+		@Override
+		public void filter(ContainerRequestContext requestContext) {
+			requestContext.setProperty(PROPERTY_PRE_MATCHING_END, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Runs after all other request filters and before all other response filters, so it surrounds the resource method.
+	 */
+	static final class ResourceMethodFilter implements ContainerRequestFilter, ContainerResponseFilter {
+		private final MetricsSink sink;
+		@Context
+		private ResourceInfo resourceInfo;
+
+		ResourceMethodFilter(MetricsSink sink) {
+			this.sink = sink;
+		}
+
+		@Override
+		public void filter(ContainerRequestContext requestContext) {
+			requestContext.setProperty(PROPERTY_REQUEST_FILTERS_END, System.nanoTime());
+		}
+
+		@Override
+		public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+			long now = System.nanoTime();
+			Map<String, String> endpointTags = Map.of(
+					TAG_ENDPOINT, endpoint(),
+					TAG_METHOD, requestContext.getMethod());
+			Object start = requestContext.getProperty(PROPERTY_START);
+			Object preMatchingEnd = requestContext.getProperty(PROPERTY_PRE_MATCHING_END);
+			Object requestFiltersEnd = requestContext.getProperty(PROPERTY_REQUEST_FILTERS_END);
+			recordPhase(sink, endpointTags, PHASE_PRE_MATCHING, start, preMatchingEnd instanceof Long end ? end : now);
+			if (preMatchingEnd instanceof Long) {
+				recordPhase(sink, endpointTags, PHASE_REQUEST_FILTERS, preMatchingEnd, requestFiltersEnd instanceof Long end ? end : now);
+			}
+			if (requestFiltersEnd instanceof Long) {
+				recordPhase(sink, endpointTags, PHASE_RESOURCE_METHOD, requestFiltersEnd, now);
+			}
+			if (responseContext.hasEntity()) {
+				requestContext.setProperty(PROPERTY_ENDPOINT, endpointTags);
+				requestContext.setProperty(PROPERTY_STATUS, responseContext.getStatus());
+			}
+			else if (start instanceof Long startNanos) {
+				sink.recordTime(METRIC_REQUEST, requestTags(endpointTags, responseContext.getStatus()), now - startNanos);
+			}
+		}
+
+		private String endpoint() {
+			Class<?> resourceClass = resourceInfo == null ? null : resourceInfo.getResourceClass();
+			Method resourceMethod = resourceInfo == null ? null : resourceInfo.getResourceMethod();
+			if (resourceClass == null || resourceMethod == null) {
+				return ENDPOINT_UNMATCHED;
+			}
+			return resourceClass.getSimpleName() + "#" + resourceMethod.getName();
+		}
+	}
+
+	/**
+	 * Surrounds all other writer interceptors, so it measures writing the entire response body.
+	 */
+	static final class ResponseWriteInterceptor implements WriterInterceptor {
+		private final MetricsSink sink;
+
+		ResponseWriteInterceptor(MetricsSink sink) {
+			this.sink = sink;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+			if (!(context.getProperty(PROPERTY_ENDPOINT) instanceof Map<?, ?> endpoint)) {
+				context.proceed();
+				return;
+			}
+			Map<String, String> endpointTags = (Map<String, String>) endpoint;
+			CountingOutputStream countingStream = new CountingOutputStream(context.getOutputStream());
+			context.setOutputStream(countingStream);
+			long start = System.nanoTime();
+			try {
+				context.proceed();
+			}
+			finally {
+				long end = System.nanoTime();
+				if (context.getProperty(PROPERTY_SERIALIZATION_DURATION) instanceof Long serialization) {
+					sink.recordTime(METRIC_REQUEST_PHASE, phaseTags(endpointTags, PHASE_SERIALIZATION), serialization);
+					sink.recordTime(METRIC_REQUEST_PHASE, phaseTags(endpointTags, PHASE_WRITER_INTERCEPTORS), end - start - serialization);
+				}
+				sink.recordAmount(METRIC_RESPONSE_BYTES, endpointTags, countingStream.getCount());
+				if (context.getProperty(PROPERTY_START) instanceof Long requestStart && context.getProperty(PROPERTY_STATUS) instanceof Integer status) {
+					sink.recordTime(METRIC_REQUEST, requestTags(endpointTags, status), end - requestStart);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs inside all other writer interceptors, so it measures only the message body writer.
+	 */
+	static final class SerializationInterceptor implements WriterInterceptor {
+		@Override
+		public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+			long start = System.nanoTime();
+			try {
+				context.proceed();
+			}
+			finally {
+				context.setProperty(PROPERTY_SERIALIZATION_DURATION, System.nanoTime() - start);
+			}
+		}
+	}
+
+	static final class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+}
@@ -10,9 +10,13 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.ContextResolver;
 import jakarta.ws.rs.ext.Provider;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
 
 /**
  * A JAX-RS provider to provide a Jackson ObjectMapper configured as needed by SimplyRESTful.
+ *
+ * The ObjectMapper is configured with the FieldsPropertyFilter, so the JsonFieldsFilterInterceptor can filter the
+ * fields of a response while it is being serialized.
  */
 @Named
 @Provider
@@ -39,6 +43,7 @@ public class ObjectMapperProvider implements ContextResolver<ObjectMapper> {
         jsonObjectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         jsonObjectMapper.disable(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
         jsonObjectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        FieldsPropertyFilter.configure(jsonObjectMapper);
         return jsonObjectMapper;
     }
 }
@@ -0,0 +1,153 @@
+package simplyrestful.api.framework.providers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import jakarta.inject.Named;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+import simplyrestful.api.framework.resources.StreamingApiCollection;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+
+/**
+ * A JAX-RS provider that writes a StreamingApiCollection as JSON while its items are consumed from the stream.
+ *
+ * The fields of the collection are written in the same order and with the same names as Jackson would write them for
+ * the collection, which places the self link, navigation links and total before the items. Each item is then
+ * serialized directly to the response as soon as it is retrieved from the stream, so the page of items does not have
+ * to be kept in memory entirely.
+ *
+ * If the link to the next page is only known once the items have been consumed, because it is determined by retrieving
+ * a single item more than the page size, the items are collected before the link is written. This only happens when the
+ * link to the next page is selected and the collection was not counted.
+ *
+ * The fields are serialized with the ObjectMapper provided by JAX-RS, or the one from the ObjectMapperProvider if none
+ * is provided, and the fields selected with the FieldsPropertyFilter are applied to the collection and its items.
+ */
+@Named
+@Provider
+@Produces(MediaType.WILDCARD)
+public class StreamingApiCollectionWriter implements MessageBodyWriter<StreamingApiCollection<?>> {
+	private static final String PROPERTY_ITEM = "item";
+
+	@Context
+	Providers providers;
+	private volatile CollectionProperties collectionProperties;
+
+	@Override
+	public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return StreamingApiCollection.class.isAssignableFrom(type) && isJson(mediaType);
+	}
+
+	@Override
+	public void writeTo(StreamingApiCollection<?> collection, Class<?> type, Type genericType, Annotation[] annotations,
+			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+		ObjectMapper mapper = findObjectMapper(type, mediaType);
+		ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		boolean includeNulls = isNullIncluded(mapper);
+		boolean itemsWritten = false;
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(entityStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeStartObject();
+			for (BeanPropertyDefinition property : findProperties(mapper, collection.getClass())) {
+				String name = property.getName();
+				if (!FieldsPropertyFilter.isSelected(generator, name)) {
+					continue;
+				}
+				if (PROPERTY_ITEM.equals(property.getInternalName())) {
+					writeItems(generator, writer, name, collection);
+					itemsWritten = true;
+					continue;
+				}
+				Object value = property.getAccessor().getValue(collection);
+				if (value == null && !includeNulls) {
+					continue;
+				}
+				generator.writeFieldName(name);
+				writer.writeValue(generator, value);
+			}
+			generator.writeEndObject();
+		}
+		finally {
+			if (!itemsWritten) {
+				collection.itemStream().close();
+			}
+		}
+	}
+
+	private void writeItems(JsonGenerator generator, ObjectWriter writer, String name, StreamingApiCollection<?> collection) throws IOException {
+		try (Stream<?> items = collection.itemStream()) {
+			generator.writeArrayFieldStart(name);
+			Iterator<?> item = items.iterator();
+			while (item.hasNext()) {
+				writer.writeValue(generator, item.next());
+			}
+			generator.writeEndArray();
+		}
+	}
+
+	/**
+	 * Find the properties that Jackson would serialize for the collection, in the order in which it would serialize
+	 * them. These are only determined again if a different ObjectMapper or type of collection is used.
+	 */
+	private List<BeanPropertyDefinition> findProperties(ObjectMapper mapper, Class<?> collectionType) {
+		CollectionProperties properties = collectionProperties;
+		if (properties == null || properties.mapper() != mapper || properties.collectionType() != collectionType) {
+			SerializationConfig config = mapper.getSerializationConfig();
+			List<BeanPropertyDefinition> definitions = config
+					.introspect(mapper.constructType(collectionType))
+					.findProperties().stream()
+					.filter(property -> property.couldSerialize() && property.getAccessor() != null)
+					.collect(Collectors.toUnmodifiableList());
+			if (config.canOverrideAccessModifiers()) {
+				boolean forceAccess = config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS);
+				definitions.forEach(property -> property.getAccessor().fixAccess(forceAccess));
+			}
+			properties = new CollectionProperties(mapper, collectionType, definitions);
+			collectionProperties = properties;
+		}
+		return properties.definitions();
+	}
+
+	private boolean isNullIncluded(ObjectMapper mapper) {
+		JsonInclude.Include inclusion = mapper.getSerializationConfig().getDefaultPropertyInclusion(StreamingApiCollection.class).getValueInclusion();
+		return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+	}
+
+	private ObjectMapper findObjectMapper(Class<?> type, MediaType mediaType) {
+		ContextResolver<ObjectMapper> mapperResolver = providers == null ? null : providers.getContextResolver(ObjectMapper.class, mediaType);
+		ObjectMapper mapper = mapperResolver == null ? null : mapperResolver.getContext(type);
+		return mapper == null ? new ObjectMapperProvider().getContext(type) : mapper;
+	}
+
+	private record CollectionProperties(ObjectMapper mapper, Class<?> collectionType, List<BeanPropertyDefinition> definitions) {}
+
+	private boolean isJson(MediaType mediaType) {
+		return mediaType != null && (
+				mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE) ||
+				mediaType.getSubtype().endsWith(MediaTypeUtils.MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON));
+	}
+}
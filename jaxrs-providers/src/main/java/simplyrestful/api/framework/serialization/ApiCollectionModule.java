@@ -0,0 +1,36 @@
+package simplyrestful.api.framework.serialization;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import simplyrestful.api.framework.resources.ApiCollection;
+
+/**
+ * A Jackson module for serializing the total amount of resources in an ApiCollection only if the collection was
+ * counted, and vice versa.
+ *
+ * ApiCollection provides the total as an int, which is 0 when the collection was not counted. This module serializes
+ * the underlying value instead, so the total is null when the collection was not counted.
+ */
+public class ApiCollectionModule extends SimpleModule {
+	private static final long serialVersionUID = -4215520432693398017L;
+
+	/**
+	 * Create a new instance of this ApiCollection Jackson module.
+	 */
+	public ApiCollectionModule() {
+		setMixInAnnotation(ApiCollection.class, ApiCollectionMixIn.class);
+	}
+
+	private abstract static class ApiCollectionMixIn {
+		@JsonProperty("total")
+		private Integer total;
+
+		@JsonIgnore
+		public abstract int getTotal();
+
+		@JsonIgnore
+		public abstract void setTotal(int total);
+	}
+}
@@ -0,0 +1,19 @@
+package simplyrestful.api.framework.serialization;
+
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+
+/**
+ * A Jackson annotation introspector that applies the FieldsPropertyFilter to every class.
+ *
+ * This should be used as secondary introspector, so an explicitly configured filter still takes precedence.
+ */
+public class FieldsFilterAnnotationIntrospector extends NopAnnotationIntrospector {
+	private static final long serialVersionUID = 2953104577123094812L;
+
+	@Override
+	public Object findFilterId(Annotated annotated) {
+		return annotated instanceof AnnotatedClass ? FieldsPropertyFilter.FILTER_ID : null;
+	}
+}
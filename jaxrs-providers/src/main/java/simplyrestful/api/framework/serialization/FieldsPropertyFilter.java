@@ -0,0 +1,129 @@
+package simplyrestful.api.framework.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import simplyrestful.api.framework.filters.FieldsSelection;
+
+/**
+ * A Jackson property filter that only serializes the fields that are selected for the current thread.
+ *
+ * This allows filtering the fields while the JSON is being serialized, so fields that are not selected are never
+ * serialized at all. The selection is provided with {@link #select(FieldsSelection)} before serializing and must be
+ * removed again with {@link #clear()} afterwards. If no selection is provided, all fields are serialized.
+ *
+ * The filter is applied to every bean and map that is serialized with an ObjectMapper that is configured with
+ * {@link #configure(ObjectMapper)}, which is already done by the ObjectMapperProvider.
+ */
+public class FieldsPropertyFilter extends SimpleBeanPropertyFilter {
+	/**
+	 * The identifier with which this filter is registered on the ObjectMapper.
+	 */
+	public static final String FILTER_ID = "simplyrestful.fields";
+	private static final ThreadLocal<FieldsSelection> SELECTION = new ThreadLocal<>();
+
+	/**
+	 * Configure the provided ObjectMapper to filter all beans and maps with this filter.
+	 *
+	 * @param mapper is the ObjectMapper that should be configured.
+	 */
+	public static void configure(ObjectMapper mapper) {
+		AnnotationIntrospector serializationIntrospector = mapper.getSerializationConfig().getAnnotationIntrospector();
+		AnnotationIntrospector deserializationIntrospector = mapper.getDeserializationConfig().getAnnotationIntrospector();
+		mapper.setAnnotationIntrospectors(
+				AnnotationIntrospector.pair(serializationIntrospector, new FieldsFilterAnnotationIntrospector()),
+				deserializationIntrospector);
+		mapper.setFilterProvider(new SimpleFilterProvider().addFilter(FILTER_ID, new FieldsPropertyFilter()));
+	}
+
+	/**
+	 * Check whether the provided ObjectMapper is configured to filter with this filter.
+	 *
+	 * @param mapper is the ObjectMapper to check.
+	 * @return true if the ObjectMapper filters the fields according to the selection for the current thread.
+	 */
+	public static boolean isConfigured(ObjectMapper mapper) {
+		FilterProvider filterProvider = mapper.getSerializationConfig().getFilterProvider();
+		return filterProvider != null && filterProvider.findPropertyFilter(FILTER_ID, null) instanceof FieldsPropertyFilter;
+	}
+
+	/**
+	 * Select the fields that should be serialized by the current thread.
+	 *
+	 * @param selection is the selection of fields that should be serialized.
+	 */
+	public static void select(FieldsSelection selection) {
+		SELECTION.set(selection);
+	}
+
+	/**
+	 * Remove the selection of fields for the current thread, so all fields are serialized again.
+	 */
+	public static void clear() {
+		SELECTION.remove();
+	}
+
+	/**
+	 * Check if the field with the provided name is selected for the current thread, in the object that the provided
+	 * generator is currently writing.
+	 *
+	 * This allows serializers that write the fields of an object themselves to apply the same selection.
+	 *
+	 * @param generator is the generator that is currently writing an object.
+	 * @param name is the name of the field.
+	 * @return true if the field is selected, or if no selection is provided.
+	 */
+	public static boolean isSelected(JsonGenerator generator, String name) {
+		FieldsSelection selection = SELECTION.get();
+		return selection == null || isSelected(selection, generator.getOutputContext(), name);
+	}
+
+	@Override
+	public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+		FieldsSelection selection = SELECTION.get();
+		if (selection == null || isSelected(selection, gen.getOutputContext(), writer.getName())) {
+			writer.serializeAsField(pojo, gen, provider);
+		}
+		else if (!gen.canOmitFields()) {
+			writer.serializeAsOmittedField(pojo, gen, provider);
+		}
+	}
+
+	/**
+	 * Check if the field with the provided name is selected, in the object that is currently being written.
+	 *
+	 * @param selection is the selection of fields.
+	 * @param objectContext is the output context of the object that is currently being written.
+	 * @param name is the name of the field.
+	 * @return true if the field is selected.
+	 */
+	private static boolean isSelected(FieldsSelection selection, JsonStreamContext objectContext, String name) {
+		FieldsSelection.Node objectNode = nodeForCurrentValue(selection, objectContext.getParent());
+		return objectNode != null && objectNode.child(name) != null;
+	}
+
+	/**
+	 * Determine the node in the selection for the value that is currently being written in the provided context.
+	 *
+	 * Arrays do not add a level to the selection, so the values inside an array have the same node as the array.
+	 *
+	 * @return the node for the current value, or null if the current value is not selected.
+	 */
+	private static FieldsSelection.Node nodeForCurrentValue(FieldsSelection selection, JsonStreamContext context) {
+		if (context == null || context.inRoot()) {
+			return selection.root();
+		}
+		FieldsSelection.Node containerNode = nodeForCurrentValue(selection, context.getParent());
+		if (containerNode == null || context.inArray()) {
+			return containerNode;
+		}
+		return containerNode.child(context.getCurrentName());
+	}
+}
@@ -0,0 +1,222 @@
+package simplyrestful.api.framework.utils;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache that contains at most a maximum amount of entries.
+ *
+ * When the cache is full, the entries that were added first are evicted first. If the cache is created in access order,
+ * the entries that were least recently used are evicted first instead. Lookups do not require any locking, so this is
+ * suitable for caching values that are looked up on every request. The amount of hits and misses is counted,
+ * which can be used to determine an appropriate maximum size.
+ *
+ * The insertion order is kept in a queue that refers to the cached entries themselves. Entries that are invalidated or
+ * replaced are not removed from this queue immediately, since that would require searching it. Instead, they are
+ * skipped when they reach the front of the queue, so they never cause a newer entry to be evicted, and they are
+ * discarded together once the queue has grown to twice the maximum size. In access order, a lookup replaces the
+ * cached entry with a new entry for the same value at the back of the queue, so the previous one is skipped in the same
+ * way.
+ *
+ * @param <K> is the type of the keys in the cache.
+ * @param <V> is the type of the values in the cache.
+ */
+public final class BoundedCache<K, V> {
+	private final int maximumSize;
+	private final boolean accessOrder;
+	private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+	private final Queue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new cache that evicts the entries in insertion order.
+	 *
+	 * @param maximumSize is the maximum amount of entries in the cache.
+	 * @throws IllegalArgumentException if the maximum size is not positive.
+	 */
+	public BoundedCache(int maximumSize) {
+		this(maximumSize, false);
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maximumSize is the maximum amount of entries in the cache.
+	 * @param accessOrder is true to evict the least recently used entries first, or false to evict the entries that were
+	 * added first.
+	 * @throws IllegalArgumentException if the maximum size is not positive.
+	 */
+	public BoundedCache(int maximumSize, boolean accessOrder) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("The maximum size of the cache must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.accessOrder = accessOrder;
+	}
+
+	/**
+	 * Retrieve the value for the provided key, loading it if it is not yet cached.
+	 *
+	 * The loader may be called more than once for the same key when it is requested concurrently, so it should not
+	 * have any side effects.
+	 *
+	 * @param key is the key for the value.
+	 * @param loader creates the value for the key if it is not cached. It must not return null.
+	 * @return the cached or newly loaded value.
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		Entry<K, V> entry = entries.get(key);
+		if (entry != null) {
+			hits.increment();
+			touch(entry);
+			return entry.value;
+		}
+		misses.increment();
+		Entry<K, V> loaded = new Entry<>(key, loader.apply(key));
+		Entry<K, V> existing = entries.putIfAbsent(key, loaded);
+		if (existing != null) {
+			return existing.value;
+		}
+		enqueue(loaded);
+		return loaded.value;
+	}
+
+	/**
+	 * Retrieve the value for the provided key, if it is cached.
+	 *
+	 * @param key is the key for the value.
+	 * @return the cached value or null if it is not cached.
+	 */
+	public V getIfPresent(K key) {
+		Entry<K, V> entry = entries.get(key);
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		touch(entry);
+		return entry.value;
+	}
+
+	/**
+	 * Add or replace the value for the provided key.
+	 *
+	 * @param key is the key for the value.
+	 * @param value is the value. It must not be null.
+	 */
+	public void put(K key, V value) {
+		Entry<K, V> entry = new Entry<>(key, value);
+		entries.put(key, entry);
+		enqueue(entry);
+	}
+
+	/**
+	 * Remove the value for the provided key from the cache.
+	 *
+	 * @param key is the key for the value.
+	 */
+	public void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Remove all values from the cache. This does not reset the amount of hits and misses.
+	 */
+	public void clear() {
+		entries.clear();
+		while (insertionOrder.poll() != null) {
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return the amount of entries currently in the cache.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the maximum amount of entries in the cache.
+	 */
+	public int maximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the amount of lookups for which the value was cached.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the amount of lookups for which the value was not cached.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Move the entry to the back of the insertion order, if the cache is in access order. This is skipped if the entry
+	 * was invalidated or replaced concurrently.
+	 */
+	private void touch(Entry<K, V> entry) {
+		if (!accessOrder) {
+			return;
+		}
+		Entry<K, V> touched = new Entry<>(entry.key, entry.value);
+		if (entries.replace(entry.key, entry, touched)) {
+			enqueue(touched);
+		}
+	}
+
+	private void enqueue(Entry<K, V> entry) {
+		insertionOrder.add(entry);
+		queued.incrementAndGet();
+		evict();
+	}
+
+	/**
+	 * Evict the entries at the front of the insertion order while the cache is full.
+	 *
+	 * When the insertion order contains many invalidated or replaced entries, they are discarded first, without changing
+	 * the order of the current entries. Since this only happens after the insertion order has grown to twice the maximum
+	 * size, it takes constant time on average.
+	 */
+	private void evict() {
+		if (queued.get() > 2 * maximumSize) {
+			insertionOrder.removeIf(entry -> entries.get(entry.key) != entry);
+			queued.set(insertionOrder.size());
+		}
+		while (entries.size() > maximumSize) {
+			Entry<K, V> eldest = insertionOrder.poll();
+			if (eldest == null) {
+				return;
+			}
+			queued.decrementAndGet();
+			entries.remove(eldest.key, eldest);
+		}
+	}
+
+	/**
+	 * A cached value, which is compared by identity so an entry in the insertion order only matches the cached entry
+	 * if it has not been invalidated or replaced since.
+	 */
+	private static final class Entry<K, V> {
+		private final K key;
+		private final V value;
+
+		Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package simplyrestful.api.framework.utils;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -9,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,23 +25,124 @@ public class MediaTypeUtils {
 
     public static final String MEDIA_TYPE_STRUCTURED_SYNTAX_SUFFIX_JSON = "+json";
     public static final String TYPE_APPLICATION = "application";
+    /**
+     * The media type for newline-delimited JSON, where each line contains a single JSON document.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    /**
+     * The media type for JSON text sequences (RFC 7464), where each JSON document is preceded by a record separator.
+     */
+    public static final String APPLICATION_JSON_SEQ = "application/json-seq";
+    /**
+     * The media type for newline-delimited JSON, shared so it does not have to be parsed again for every request.
+     */
+    public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+    /**
+     * The media type for JSON text sequences, shared so it does not have to be parsed again for every request.
+     */
+    public static final MediaType APPLICATION_JSON_SEQ_TYPE = new MediaType("application", "json-seq");
+    /**
+     * The server-side quality parameter for the streaming variants of a collection, so the collection resource itself
+     * is preferred when the client accepts both.
+     */
+    public static final String QUALITY_SERVER_STREAMING = ";" + MEDIA_TYPE_PARAMETER_QUALITY_SERVER + "=0.1";
+    /**
+     * The media type for newline-delimited JSON as produced by the streaming variant of a collection.
+     */
+    public static final String APPLICATION_NDJSON_STREAMING = APPLICATION_NDJSON + QUALITY_SERVER_STREAMING;
+    /**
+     * The media type for JSON text sequences as produced by the streaming variant of a collection.
+     */
+    public static final String APPLICATION_JSON_SEQ_STREAMING = APPLICATION_JSON_SEQ + QUALITY_SERVER_STREAMING;
+    /**
+     * The media type for server-sent events as produced by the streaming variant of a collection.
+     */
+    public static final String SERVER_SENT_EVENTS_STREAMING = MediaType.SERVER_SENT_EVENTS + QUALITY_SERVER_STREAMING;
+
+    /**
+     * The producible media types for each method of a web resource class, which are only determined once per method.
+     */
+    private static final ClassValue<Map<Method, List<MediaType>>> PRODUCIBLE_MEDIA_TYPES_PER_METHOD = new ClassValue<>() {
+    	@Override
+    	protected Map<Method, List<MediaType>> computeValue(Class<?> resourceClass) {
+    		return new ConcurrentHashMap<>();
+    	}
+    };
+    /**
+     * The producible media types for all methods of a web resource class, which are only determined once per class.
+     */
+    private static final ClassValue<List<MediaType>> PRODUCIBLE_MEDIA_TYPES_PER_CLASS = new ClassValue<>() {
+    	@Override
+    	protected List<MediaType> computeValue(Class<?> resourceClass) {
+    		return Stream.of(resourceClass.getMethods())
+    				.flatMap(method -> getProducibleMediaTypes(resourceClass, method).stream())
+    				.distinct()
+    				.collect(Collectors.toUnmodifiableList());
+    	}
+    };
 
 	public static MediaType addQualityParameters(MediaType mediaType, double q, double qs) {
         return addQSParameter(addQParameter(mediaType, q), qs);
     }
 
+    /**
+     * Add the server-side quality parameter to the provided media type.
+     *
+     * This creates a new media type, so callers on a hot path should use a constant or cache the result.
+     *
+     * @param mediaType is the media type.
+     * @param qs is the server-side quality.
+     * @return the media type with the server-side quality parameter.
+     */
     public static MediaType addQSParameter(MediaType mediaType, double qs) {
-        Map<String, String> newParameters = new HashMap<>(mediaType.getParameters());
-        newParameters.put(MEDIA_TYPE_PARAMETER_QUALITY_SERVER, Double.toString(qs));
-        return new MediaType(mediaType.getType(), mediaType.getSubtype(), newParameters);
+        return withParameter(mediaType, MEDIA_TYPE_PARAMETER_QUALITY_SERVER, Double.toString(qs));
     }
 
+    /**
+     * Add the client-side quality parameter to the provided media type.
+     *
+     * This creates a new media type, so callers on a hot path should use a constant or cache the result.
+     *
+     * @param mediaType is the media type.
+     * @param q is the client-side quality.
+     * @return the media type with the client-side quality parameter.
+     */
     public static MediaType addQParameter(MediaType mediaType, double q) {
+        return withParameter(mediaType, MEDIA_TYPE_PARAMETER_QUALITY_CLIENT, Double.toString(q));
+    }
+
+    /**
+     * Add a parameter to the provided media type, replacing any existing value for that parameter.
+     *
+     * This creates a new media type, so callers on a hot path should use a constant or cache the result.
+     *
+     * @param mediaType is the media type.
+     * @param name is the name of the parameter.
+     * @param value is the value of the parameter.
+     * @return the media type with the parameter.
+     */
+    public static MediaType withParameter(MediaType mediaType, String name, String value) {
         Map<String, String> newParameters = new HashMap<>(mediaType.getParameters());
-        newParameters.put(MEDIA_TYPE_PARAMETER_QUALITY_CLIENT, Double.toString(q));
+        newParameters.put(name, value);
         return new MediaType(mediaType.getType(), mediaType.getSubtype(), newParameters);
     }
 
+    /**
+     * Add a parameter containing another media type to the provided media type, replacing any existing value for that
+     * parameter.
+     *
+     * This can be used to add the "item-type" parameter to the media type of a collection. This creates a new media
+     * type, so callers on a hot path should cache the result.
+     *
+     * @param mediaType is the media type.
+     * @param name is the name of the parameter.
+     * @param value is the media type that should be the value of the parameter.
+     * @return the media type with the parameter.
+     */
+    public static MediaType withParameter(MediaType mediaType, String name, MediaType value) {
+        return withParameter(mediaType, name, value.toString());
+    }
+
     public static Double getQSParameter(MediaType mediaType) {
         String qsParameter = mediaType.getParameters().get(MEDIA_TYPE_PARAMETER_QUALITY_SERVER);
         return qsParameter == null ? 1.0 : Double.valueOf(qsParameter);
@@ -52,12 +153,24 @@ public class MediaTypeUtils {
         return qParameter == null ? 1.0 : Double.valueOf(qParameter);
     }
 
+    /**
+     * Remove the client-side and server-side quality parameters from the provided media type.
+     *
+     * If the media type does not contain any quality parameters, it is returned as-is without allocating anything.
+     * Otherwise, a new media type is created.
+     *
+     * @param selectedMediaType is the media type.
+     * @return the media type without quality parameters.
+     */
     public static MediaType withoutQualityParameters(MediaType selectedMediaType) {
-        Map<String, String> parametersWithoutQAndQS = selectedMediaType.getParameters().entrySet().stream()
+        Map<String, String> parameters = selectedMediaType.getParameters();
+        if (!parameters.containsKey(MEDIA_TYPE_PARAMETER_QUALITY_CLIENT) && !parameters.containsKey(MEDIA_TYPE_PARAMETER_QUALITY_SERVER)) {
+            return selectedMediaType;
+        }
+        Map<String, String> parametersWithoutQAndQS = parameters.entrySet().stream()
         	.filter(entry -> !entry.getKey().equals(MEDIA_TYPE_PARAMETER_QUALITY_CLIENT))
         	.filter(entry -> !entry.getKey().equals(MEDIA_TYPE_PARAMETER_QUALITY_SERVER))
         	.collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-
         return new MediaType(selectedMediaType.getType(), selectedMediaType.getSubtype(), parametersWithoutQAndQS);
     }
 
@@ -65,24 +178,21 @@ public class MediaTypeUtils {
      * Return all producible media types for the entire API.
      *
      * This will check the same annotation inheritance as JAX-RS to accurately determine
-     * which media types can be produced.
+     * which media types can be produced. The producible media types are only determined once for each web resource
+     * class, after which they are served from a cache.
      *
      * @param configuration is the JAX-RS Configuration Context object that contains, among other things, which web
      * resource classes have been registered.
-     * @return the list of media types that can be produced. May be empty but never null.
+     * @return the list of media types that can be produced, which cannot be modified. May be empty but never null.
      * @throws IllegalStateException if multiple implemented interfaces provide @Produces annotations for this method.
      */
     public static List<MediaType> getAllProducibleMediaTypes(Configuration configuration) {
-        List<Class<?>> webResourceClasses = Stream.concat(configuration.getClasses().stream(), configuration.getInstances().stream().map(Object::getClass))
+        return Stream.concat(configuration.getClasses().stream(), configuration.getInstances().stream().map(Object::getClass))
                 .filter(webResourceClass -> webResourceClass.getAnnotation(Path.class) != null)
-                .collect(Collectors.toList());
-        List<MediaType> allProducibleMediaTypes = new ArrayList<>();
-        for (Class<?> webResourceClass : webResourceClasses) {
-            for (Method jaxrsMethod : webResourceClass.getMethods()) {
-                allProducibleMediaTypes.addAll(getProducibleMediaTypes(webResourceClass, jaxrsMethod));
-            }
-        }
-        return allProducibleMediaTypes.stream().distinct().collect(Collectors.toList());
+                .distinct()
+                .flatMap(webResourceClass -> PRODUCIBLE_MEDIA_TYPES_PER_CLASS.get(webResourceClass).stream())
+                .distinct()
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -92,7 +202,7 @@ public class MediaTypeUtils {
      * which media types can be produced.
      *
      * @param resourceInfo is the JAX-RS ResourceInfo Context object that contains to which class and method the request was resolved.
-     * @return the list of media types that can be produced. May be empty but never null.
+     * @return the list of media types that can be produced, which cannot be modified. May be empty but never null.
      * @throws IllegalStateException if multiple implemented interfaces provide @Produces annotations for this method.
      */
     public static List<MediaType> getProducibleMediaTypes(ResourceInfo resourceInfo) {
@@ -106,14 +216,20 @@ public class MediaTypeUtils {
      * Return all producible media types for a specific method.
      *
      * This will check the same annotation inheritance as JAX-RS to accurately determine
-     * which media types can be produced.
+     * which media types can be produced. The producible media types are only determined once for each method of a web
+     * resource class, after which they are served from a cache.
      *
      * @param resourceClass is the web resource class that defines the JAX-RS API.
      * @param method is the method for which we want to discover all producible media types.
-     * @return the list of media types that can be produced. May be empty but never null.
+     * @return the list of media types that can be produced, which cannot be modified. May be empty but never null.
      * @throws IllegalStateException if multiple implemented interfaces provide @Produces annotations for this method.
      */
     public static List<MediaType> getProducibleMediaTypes(Class<?> resourceClass, Method method) {
+        return PRODUCIBLE_MEDIA_TYPES_PER_METHOD.get(resourceClass)
+        		.computeIfAbsent(method, producingMethod -> List.copyOf(findProducibleMediaTypes(resourceClass, producingMethod)));
+    }
+
+    private static List<MediaType> findProducibleMediaTypes(Class<?> resourceClass, Method method) {
         List<MediaType> producibleMediaTypes = getDeclaredProducibleMediaTypesFromMethod(method);
         if(!producibleMediaTypes.isEmpty()) {
             return producibleMediaTypes;
@@ -4,12 +4,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import simplyrestful.api.framework.queryparams.FiqlParseException;
+import simplyrestful.api.framework.queryparams.FiqlParser;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
 import simplyrestful.api.framework.queryparams.SortOrder;
 
 public class QueryParamUtils {
 	public static final String QUERY_PARAM_FIELDS = "fields";
 	public static final String QUERY_PARAM_VALUE_DELIMITER = ",";
 	public static final String FIELDS_VALUE_ALL = "all";
+	/**
+	 * The maximum amount of different FIQL queries for which the parsed query is cached. The least recently used query
+	 * is evicted first.
+	 */
+	public static final int QUERY_CACHE_SIZE = 1024;
+
+	private static final BoundedCache<String, FiqlQuery> PARSED_QUERIES = new BoundedCache<>(QUERY_CACHE_SIZE, true);
+
+    /**
+     * Parse the value of the "query" query parameter as FIQL query.
+     * <p>
+     * The parsed query is cached, so a query that is used repeatedly, e.g. while paging through a filtered
+     * collection, is only parsed once. Queries that could not be parsed are not cached.
+     * </p>
+     * @param query is the FIQL query that should be parsed. It may be null or blank.
+     * @return the parsed query, which is the empty query if no query was provided.
+     * @throws FiqlParseException if the query is not valid FIQL.
+     */
+    public static FiqlQuery parseQuery(String query) {
+    	if (query == null || query.isBlank()) {
+    		return FiqlQuery.EMPTY;
+    	}
+    	return PARSED_QUERIES.get(query, FiqlParser::parse);
+    }
 
     /**
      * Parse sort values as field name and sort order.
@@ -1,8 +1,6 @@
 package simplyrestful.api.framework.utils;
 
 import java.net.URI;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.UUID;
 
 import jakarta.ws.rs.core.UriInfo;
@@ -62,9 +60,86 @@ public interface WebResourceUtils {
 				.build();
 	}
 
+    /**
+     * Parse the UUID from the last segment of the path of the provided URI.
+     *
+     * A UUID in its canonical 36-character form is parsed directly from the raw path, without creating any intermediate
+     * String. Any other last segment is decoded and parsed with {@link UUID#fromString(String)}.
+     *
+     * @param resourceUri is the URI of a resource, of which the last segment of the path is its UUID.
+     * @return the UUID from the last segment of the path of the provided URI.
+     * @throws IllegalArgumentException if the last segment of the path is not a UUID.
+     */
     public static UUID parseUuidFromLastSegmentOfUri(URI resourceUri) {
-    	Path uriPath = Paths.get(resourceUri.getPath());
-    	String lastSegment = uriPath.getName(uriPath.getNameCount() - 1).toString();
-    	return UUID.fromString(lastSegment);
+    	String rawPath = resourceUri.getRawPath();
+    	int end = lastSegmentEnd(rawPath);
+    	int start = rawPath.lastIndexOf('/', end - 1) + 1;
+    	if (end - start == 36) {
+    		UUID uuid = parseCanonicalUuid(rawPath, start);
+    		if (uuid != null) {
+    			return uuid;
+    		}
+    	}
+    	String path = resourceUri.getPath();
+    	int decodedEnd = lastSegmentEnd(path);
+    	return UUID.fromString(path.substring(path.lastIndexOf('/', decodedEnd - 1) + 1, decodedEnd));
+    }
+
+    private static int lastSegmentEnd(String path) {
+    	int end = path.length();
+    	while (end > 1 && path.charAt(end - 1) == '/') {
+    		end--;
+    	}
+    	return end;
+    }
+
+    /**
+     * Parse a UUID in its canonical form, e.g. "123e4567-e89b-12d3-a456-426614174000", starting at the given index.
+     *
+     * @return the UUID, or null if the characters are not a UUID in its canonical form.
+     */
+    private static UUID parseCanonicalUuid(CharSequence value, int start) {
+    	if (value.charAt(start + 8) != '-'
+    			|| value.charAt(start + 13) != '-'
+    			|| value.charAt(start + 18) != '-'
+    			|| value.charAt(start + 23) != '-') {
+    		return null;
+    	}
+    	long timeLow = parseHex(value, start, start + 8);
+    	long timeMid = parseHex(value, start + 9, start + 13);
+    	long timeHigh = parseHex(value, start + 14, start + 18);
+    	long clockSequence = parseHex(value, start + 19, start + 23);
+    	long node = parseHex(value, start + 24, start + 36);
+    	if ((timeLow | timeMid | timeHigh | clockSequence | node) < 0) {
+    		return null;
+    	}
+    	return new UUID(timeLow << 32 | timeMid << 16 | timeHigh, clockSequence << 48 | node);
+    }
+
+    /**
+     * Parse at most 12 hexadecimal digits.
+     *
+     * @return the parsed value, or -1 if any of the characters is not a hexadecimal digit.
+     */
+    private static long parseHex(CharSequence value, int start, int end) {
+    	long result = 0;
+    	for (int i = start; i < end; i++) {
+    		char c = value.charAt(i);
+    		int digit;
+    		if (c >= '0' && c <= '9') {
+    			digit = c - '0';
+    		}
+    		else if (c >= 'a' && c <= 'f') {
+    			digit = c - 'a' + 10;
+    		}
+    		else if (c >= 'A' && c <= 'F') {
+    			digit = c - 'A' + 10;
+    		}
+    		else {
+    			return -1;
+    		}
+    		result = result << 4 | digit;
+    	}
+    	return result;
     }
 }
@@ -0,0 +1,88 @@
+package simplyrestful.api.framework.test.filters;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import simplyrestful.api.framework.filters.AcceptHeaderModifier;
+
+public class AcceptHeaderModifierTest {
+	private static final String TEST_MEDIA_TYPE = "application/x.testresource-v1+json";
+
+	private AcceptHeaderModifier modifier;
+	private HttpHeaders httpHeaders;
+
+	@Path("testresources")
+	public static class TestWebResource {
+		@GET
+		@Produces(TEST_MEDIA_TYPE)
+		public String get() {
+			return "";
+		}
+	}
+
+	@BeforeEach
+	public void createModifier() throws ReflectiveOperationException {
+		Configuration configuration = Mockito.mock(Configuration.class);
+		Mockito.when(configuration.getClasses()).thenReturn(Set.of(TestWebResource.class));
+		Mockito.when(configuration.getInstances()).thenReturn(Set.of());
+		httpHeaders = Mockito.mock(HttpHeaders.class);
+		modifier = new AcceptHeaderModifier();
+		setField("configuration", configuration);
+		setField("httpHeaders", httpHeaders);
+	}
+
+	private void setField(String name, Object value) throws ReflectiveOperationException {
+		Field field = AcceptHeaderModifier.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(modifier, value);
+	}
+
+	private MultivaluedMap<String, String> filter(String acceptHeader, MediaType... acceptableMediaTypes) throws Exception {
+		MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+		headers.putSingle(HttpHeaders.ACCEPT, acceptHeader);
+		ContainerRequestContext requestContext = Mockito.mock(ContainerRequestContext.class);
+		Mockito.when(requestContext.getHeaderString(HttpHeaders.ACCEPT)).thenReturn(acceptHeader);
+		Mockito.when(requestContext.getHeaders()).thenReturn(headers);
+		Mockito.when(httpHeaders.getAcceptableMediaTypes()).thenReturn(List.of(acceptableMediaTypes));
+		modifier.filter(requestContext);
+		return headers;
+	}
+
+	@Test
+	public void filter_shouldAddCustomJsonMediaTypes_whenPlainJsonIsAcceptable() throws Exception {
+		MultivaluedMap<String, String> headers = filter("application/json", MediaType.APPLICATION_JSON_TYPE);
+		Assertions.assertEquals(List.of(MediaType.APPLICATION_JSON, TEST_MEDIA_TYPE), headers.get(HttpHeaders.ACCEPT));
+	}
+
+	@Test
+	public void filter_shouldNotModifyAcceptHeader_whenPlainJsonIsNotAcceptable() throws Exception {
+		MultivaluedMap<String, String> headers = filter("text/plain", MediaType.TEXT_PLAIN_TYPE);
+		Assertions.assertEquals(List.of("text/plain"), headers.get(HttpHeaders.ACCEPT));
+	}
+
+	@Test
+	public void filter_shouldReuseModifiedAcceptHeader_whenSameAcceptHeaderIsReceived() throws Exception {
+		filter("application/json", MediaType.APPLICATION_JSON_TYPE);
+		MultivaluedMap<String, String> headers = filter("application/json", MediaType.APPLICATION_JSON_TYPE);
+		Assertions.assertEquals(List.of(MediaType.APPLICATION_JSON, TEST_MEDIA_TYPE), headers.get(HttpHeaders.ACCEPT));
+		Mockito.verify(httpHeaders, Mockito.times(1)).getAcceptableMediaTypes();
+		Assertions.assertEquals(1, modifier.getAcceptHeaderCache().hits());
+		Assertions.assertEquals(1, modifier.getAcceptHeaderCache().misses());
+		Assertions.assertEquals(1, modifier.getAcceptHeaderCache().size());
+	}
+}
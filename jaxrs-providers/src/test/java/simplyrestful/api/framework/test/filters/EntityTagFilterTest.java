@@ -0,0 +1,217 @@
+package simplyrestful.api.framework.test.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import simplyrestful.api.framework.filters.EntityTagFilter;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+
+public class EntityTagFilterTest {
+	private static final MediaType TEST_MEDIA_TYPE = new MediaType("application", "x.testresource-v1+json");
+
+	private EntityTagFilter filter;
+	private AtomicInteger serializations;
+
+	record TestResource(String name) implements ApiResource {
+		@Override
+		public Link self() {
+			return null;
+		}
+
+		@Override
+		public MediaType customJsonMediaType() {
+			return TEST_MEDIA_TYPE;
+		}
+	}
+
+	/**
+	 * The request and response of a single exchange, sharing the request properties with the writer interceptor.
+	 */
+	private final class Exchange {
+		final Map<String, Object> properties = new HashMap<>();
+		final MultivaluedMap<String, Object> responseHeaders = new MultivaluedHashMap<>();
+		final ContainerRequestContext request = Mockito.mock(ContainerRequestContext.class);
+		final ContainerResponseContext response = Mockito.mock(ContainerResponseContext.class);
+		final Request conditions = Mockito.mock(Request.class);
+		Object entity;
+		int status = 200;
+
+		Exchange(Object entity) {
+			this.entity = entity;
+			UriInfo uriInfo = Mockito.mock(UriInfo.class);
+			Mockito.when(uriInfo.getQueryParameters()).thenReturn(new MultivaluedHashMap<>());
+			Mockito.when(request.getMethod()).thenReturn(HttpMethod.GET);
+			Mockito.when(request.getUriInfo()).thenReturn(uriInfo);
+			Mockito.when(request.getRequest()).thenReturn(conditions);
+			Mockito.when(request.getProperty(ArgumentMatchers.anyString())).then(invocation -> properties.get(invocation.<String>getArgument(0)));
+			Mockito.doAnswer(invocation -> properties.put(invocation.getArgument(0), invocation.getArgument(1))).when(request).setProperty(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+			Mockito.doAnswer(invocation -> properties.remove(invocation.<String>getArgument(0))).when(request).removeProperty(ArgumentMatchers.anyString());
+			Mockito.when(response.getEntity()).then(invocation -> this.entity);
+			Mockito.doAnswer(invocation -> this.entity = invocation.getArgument(0)).when(response).setEntity(ArgumentMatchers.any());
+			Mockito.when(response.getStatus()).then(invocation -> status);
+			Mockito.doAnswer(invocation -> status = invocation.getArgument(0)).when(response).setStatus(ArgumentMatchers.anyInt());
+			Mockito.when(response.getHeaders()).thenReturn(responseHeaders);
+			Mockito.when(response.getMediaType()).thenReturn(TEST_MEDIA_TYPE);
+			Mockito.doReturn(TestResource.class).when(response).getEntityClass();
+			Mockito.when(response.getEntityType()).thenReturn(TestResource.class);
+			Mockito.when(response.getEntityAnnotations()).thenReturn(new Annotation[0]);
+		}
+
+		Exchange withHeader(String name, String value) {
+			Mockito.when(request.getHeaderString(name)).thenReturn(value);
+			return this;
+		}
+
+		Exchange withPreconditionFailing(int failureStatus) {
+			Response failure = Mockito.mock(Response.class);
+			Mockito.when(failure.getStatus()).thenReturn(failureStatus);
+			Response.ResponseBuilder builder = Mockito.mock(Response.ResponseBuilder.class);
+			Mockito.when(builder.build()).thenReturn(failure);
+			Mockito.when(conditions.evaluatePreconditions(ArgumentMatchers.any(EntityTag.class))).thenReturn(builder);
+			return this;
+		}
+
+		/**
+		 * Run the filter and, if the response still has a body, the writer interceptor.
+		 *
+		 * @return the response body that was written.
+		 */
+		byte[] run() throws IOException {
+			filter.filter(request, response);
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			if (entity == null) {
+				return body.toByteArray();
+			}
+			WriterInterceptorContext context = Mockito.mock(WriterInterceptorContext.class);
+			OutputStream[] outputStream = { body };
+			Mockito.when(context.getProperty(ArgumentMatchers.anyString())).then(invocation -> properties.get(invocation.<String>getArgument(0)));
+			Mockito.doAnswer(invocation -> properties.remove(invocation.<String>getArgument(0))).when(context).removeProperty(ArgumentMatchers.anyString());
+			Mockito.when(context.getOutputStream()).then(invocation -> outputStream[0]);
+			Mockito.doAnswer(invocation -> outputStream[0] = invocation.getArgument(0)).when(context).setOutputStream(ArgumentMatchers.any());
+			Mockito.when(context.getHeaders()).thenReturn(responseHeaders);
+			Mockito.doAnswer(invocation -> {
+				write(entity, outputStream[0]);
+				return null;
+			}).when(context).proceed();
+			filter.aroundWriteTo(context);
+			return body.toByteArray();
+		}
+	}
+
+	@BeforeEach
+	public void createFilter() throws ReflectiveOperationException, IOException {
+		serializations = new AtomicInteger();
+		MessageBodyWriter<Object> writer = Mockito.mock();
+		Mockito.doAnswer(invocation -> {
+			write(invocation.getArgument(0), invocation.getArgument(6));
+			return null;
+		}).when(writer).writeTo(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+		Providers providers = Mockito.mock(Providers.class);
+		Mockito.doReturn(writer).when(providers).getMessageBodyWriter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+		filter = new EntityTagFilter();
+		Field providersField = EntityTagFilter.class.getDeclaredField("providers");
+		providersField.setAccessible(true);
+		providersField.set(filter, providers);
+	}
+
+	private void write(Object entity, OutputStream outputStream) throws IOException {
+		serializations.incrementAndGet();
+		outputStream.write(("{\"name\":\"" + ((TestResource) entity).name() + "\"}").getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void filter_shouldSerializeOnce_whenRequestIsNotConditional() throws IOException {
+		Exchange exchange = new Exchange(new TestResource("first"));
+		byte[] body = exchange.run();
+		Assertions.assertEquals("{\"name\":\"first\"}", new String(body, StandardCharsets.UTF_8));
+		Assertions.assertNotNull(exchange.responseHeaders.getFirst(HttpHeaders.ETAG));
+		Assertions.assertEquals(1, serializations.get());
+	}
+
+	@Test
+	public void filter_shouldProvideStableEntityTag_forEqualRepresentations() throws IOException {
+		Exchange first = new Exchange(new TestResource("first"));
+		first.run();
+		Exchange second = new Exchange(new TestResource("first"));
+		second.run();
+		Exchange other = new Exchange(new TestResource("other"));
+		other.run();
+		Object entityTag = first.responseHeaders.getFirst(HttpHeaders.ETAG);
+		Assertions.assertEquals(entityTag, second.responseHeaders.getFirst(HttpHeaders.ETAG));
+		Assertions.assertNotEquals(entityTag, other.responseHeaders.getFirst(HttpHeaders.ETAG));
+	}
+
+	@Test
+	public void filter_shouldComputeSameEntityTag_whenRequestIsConditional() throws IOException {
+		Exchange unconditional = new Exchange(new TestResource("first"));
+		unconditional.run();
+		Exchange conditional = new Exchange(new TestResource("first")).withHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+		byte[] body = conditional.run();
+		Assertions.assertEquals(unconditional.responseHeaders.getFirst(HttpHeaders.ETAG), conditional.responseHeaders.getFirst(HttpHeaders.ETAG));
+		Assertions.assertEquals("{\"name\":\"first\"}", new String(body, StandardCharsets.UTF_8));
+		Assertions.assertEquals(2, serializations.get());
+	}
+
+	@Test
+	public void filter_shouldRespondNotModified_whenIfNoneMatchMatches() throws IOException {
+		Exchange exchange = new Exchange(new TestResource("first"))
+				.withHeader(HttpHeaders.IF_NONE_MATCH, "\"any\"")
+				.withPreconditionFailing(304);
+		byte[] body = exchange.run();
+		Assertions.assertEquals(304, exchange.status);
+		Assertions.assertNull(exchange.entity);
+		Assertions.assertEquals(0, body.length);
+		Assertions.assertNotNull(exchange.responseHeaders.getFirst(HttpHeaders.ETAG));
+		Assertions.assertEquals(1, serializations.get());
+	}
+
+	@Test
+	public void filter_shouldRespondPreconditionFailed_whenIfMatchDoesNotMatch() throws IOException {
+		Exchange exchange = new Exchange(new TestResource("first"))
+				.withHeader(HttpHeaders.IF_MATCH, "\"other\"")
+				.withPreconditionFailing(412);
+		exchange.run();
+		Assertions.assertEquals(412, exchange.status);
+		Assertions.assertNull(exchange.entity);
+	}
+
+	@Test
+	public void filter_shouldNotSerializeAgain_whenSameInstanceIsRetrieved() throws IOException {
+		TestResource resource = new TestResource("first");
+		Exchange first = new Exchange(resource);
+		first.run();
+		Exchange second = new Exchange(resource).withHeader(HttpHeaders.IF_NONE_MATCH, "\"any\"").withPreconditionFailing(304);
+		second.run();
+		Assertions.assertEquals(304, second.status);
+		Assertions.assertEquals(first.responseHeaders.getFirst(HttpHeaders.ETAG), second.responseHeaders.getFirst(HttpHeaders.ETAG));
+		Assertions.assertEquals(1, serializations.get());
+	}
+}
@@ -0,0 +1,123 @@
+package simplyrestful.api.framework.test.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jakarta.rs.base.ProviderBase;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import simplyrestful.api.framework.filters.JsonFieldsFilterInterceptor;
+import simplyrestful.api.framework.outputstream.json.JsonFieldsFilterOutputStream;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
+import simplyrestful.api.framework.utils.QueryParamUtils;
+
+public class JsonFieldsFilterInterceptorTest {
+	private static final MediaType TEST_MEDIA_TYPE = new MediaType("application", "x.testresource-v1+json");
+
+	private JsonFieldsFilterInterceptor interceptor;
+	private Providers providers;
+
+	record TestResource(String name) implements ApiResource {
+		@Override
+		public Link self() {
+			return null;
+		}
+
+		@Override
+		public MediaType customJsonMediaType() {
+			return TEST_MEDIA_TYPE;
+		}
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void createInterceptor() throws ReflectiveOperationException {
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+		MultivaluedHashMap<String, String> queryParameters = new MultivaluedHashMap<>();
+		queryParameters.putSingle(QueryParamUtils.QUERY_PARAM_FIELDS, "name");
+		Mockito.when(uriInfo.getQueryParameters()).thenReturn(queryParameters);
+		ObjectMapper mapper = new ObjectMapper();
+		FieldsPropertyFilter.configure(mapper);
+		ContextResolver<ObjectMapper> mapperResolver = Mockito.mock(ContextResolver.class);
+		Mockito.when(mapperResolver.getContext(ArgumentMatchers.any())).thenReturn(mapper);
+		providers = Mockito.mock(Providers.class);
+		Mockito.when(providers.getContextResolver(ObjectMapper.class, TEST_MEDIA_TYPE)).thenReturn(mapperResolver);
+		interceptor = new JsonFieldsFilterInterceptor();
+		setField("uriInfo", uriInfo);
+		setField("providers", providers);
+	}
+
+	private void setField(String name, Object value) throws ReflectiveOperationException {
+		Field field = JsonFieldsFilterInterceptor.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(interceptor, value);
+	}
+
+	private void withWriter(MessageBodyWriter<?> writer) {
+		Mockito.doReturn(writer).when(providers).getMessageBodyWriter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+	}
+
+	private WriterInterceptorContext write() throws Exception {
+		return write(TEST_MEDIA_TYPE);
+	}
+
+	private WriterInterceptorContext write(MediaType mediaType) throws Exception {
+		WriterInterceptorContext context = Mockito.mock(WriterInterceptorContext.class);
+		Mockito.when(context.getMediaType()).thenReturn(mediaType);
+		Mockito.when(context.getEntity()).thenReturn(new TestResource("test"));
+		Mockito.doReturn(TestResource.class).when(context).getType();
+		Mockito.when(context.getGenericType()).thenReturn(TestResource.class);
+		Mockito.when(context.getAnnotations()).thenReturn(new Annotation[0]);
+		Mockito.when(context.getOutputStream()).thenReturn(new ByteArrayOutputStream());
+		interceptor.aroundWriteTo(context);
+		return context;
+	}
+
+	@Test
+	public void aroundWriteTo_shouldFilterWhileSerializing_whenWrittenByJacksonProvider() throws Exception {
+		withWriter(Mockito.mock(ProviderBase.class));
+		WriterInterceptorContext context = write();
+		Mockito.verify(context, Mockito.never()).setOutputStream(ArgumentMatchers.any());
+		Mockito.verify(context).proceed();
+	}
+
+	@Test
+	public void aroundWriteTo_shouldFilterSerializedJson_whenNotWrittenByJacksonProvider() throws Exception {
+		withWriter(Mockito.mock(MessageBodyWriter.class));
+		WriterInterceptorContext context = write();
+		Mockito.verify(context).setOutputStream(ArgumentMatchers.any(JsonFieldsFilterOutputStream.class));
+	}
+
+	@Test
+	public void aroundWriteTo_shouldResolveProvidersOnce_forSameTypeOfResponseBody() throws Exception {
+		withWriter(Mockito.mock(ProviderBase.class));
+		write();
+		write();
+		Mockito.verify(providers, Mockito.times(1)).getMessageBodyWriter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+	}
+
+	@Test
+	public void aroundWriteTo_shouldResolveProvidersAgain_forSameTypeOfResponseBodyWithOtherMediaType() throws Exception {
+		withWriter(Mockito.mock(ProviderBase.class));
+		WriterInterceptorContext filteredWhileSerializing = write();
+		WriterInterceptorContext filteredAfterSerializing = write(MediaType.APPLICATION_JSON_TYPE);
+		Mockito.verify(filteredWhileSerializing, Mockito.never()).setOutputStream(ArgumentMatchers.any());
+		Mockito.verify(filteredAfterSerializing).setOutputStream(ArgumentMatchers.any(JsonFieldsFilterOutputStream.class));
+		Mockito.verify(providers, Mockito.times(2)).getMessageBodyWriter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+	}
+}
@@ -0,0 +1,54 @@
+package simplyrestful.api.framework.test.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink.MetricSnapshot;
+
+public class InMemoryMetricsSinkTest {
+    private static final String TEST_METRIC = "test.metric";
+    private static final Map<String, String> TEST_TAGS = Map.of("endpoint", "TestWebResource#getAPIResource");
+
+    @Test
+    public void recordTime_shouldSummarizeRecordedValues() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        sink.recordTime(TEST_METRIC, TEST_TAGS, 10);
+        sink.recordTime(TEST_METRIC, TEST_TAGS, 30);
+        MetricSnapshot snapshot = sink.get(TEST_METRIC, TEST_TAGS);
+        Assertions.assertEquals(2, snapshot.count());
+        Assertions.assertEquals(40, snapshot.total());
+        Assertions.assertEquals(30, snapshot.max());
+        Assertions.assertEquals(20.0, snapshot.mean());
+    }
+
+    @Test
+    public void recordAmount_shouldKeepMetricsWithDifferentTagsSeparate() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        sink.recordAmount(TEST_METRIC, TEST_TAGS, 100);
+        sink.recordAmount(TEST_METRIC, Map.of("endpoint", "TestWebResource#listAPIResources"), 200);
+        Assertions.assertEquals(100, sink.get(TEST_METRIC, TEST_TAGS).total());
+        Assertions.assertEquals(2, sink.snapshot().size());
+    }
+
+    @Test
+    public void recordTime_shouldNotBeAffectedByLaterChangesToTheTags() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        Map<String, String> tags = new HashMap<>(TEST_TAGS);
+        sink.recordTime(TEST_METRIC, tags, 10);
+        tags.put("method", "GET");
+        Assertions.assertNotNull(sink.get(TEST_METRIC, TEST_TAGS));
+    }
+
+    @Test
+    public void get_shouldReturnNull_whenNothingWasRecorded() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        Assertions.assertNull(sink.get(TEST_METRIC, TEST_TAGS));
+        sink.recordTime(TEST_METRIC, TEST_TAGS, 10);
+        sink.clear();
+        Assertions.assertNull(sink.get(TEST_METRIC, TEST_TAGS));
+    }
+}
@@ -0,0 +1,108 @@
+package simplyrestful.api.framework.test.metrics;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink;
+import simplyrestful.api.framework.metrics.InMemoryMetricsSink.MetricSnapshot;
+import simplyrestful.api.framework.metrics.RequestMetricsFeature;
+
+public class RequestMetricsFeatureTest {
+    private static final URI BASE_URI = URI.create("http://localhost/");
+    private static final String TEST_ENDPOINT = "TestWebResource#get";
+    private static final String TEST_BODY = "test body";
+
+    private InMemoryMetricsSink sink;
+    private ApplicationHandler handler;
+
+    @Path("test")
+    public static class TestWebResource {
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return TEST_BODY;
+        }
+    }
+
+    @BeforeEach
+    public void createApplication() {
+        sink = new InMemoryMetricsSink();
+        handler = new ApplicationHandler(new ResourceConfig(TestWebResource.class).register(new RequestMetricsFeature(sink)));
+    }
+
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED);
+    }
+
+    private ContainerResponse get(String path) throws InterruptedException, ExecutionException {
+        ContainerRequest request = new ContainerRequest(BASE_URI, BASE_URI.resolve(path), HttpMethod.GET, null, new MapPropertiesDelegate(), handler.getConfiguration());
+        return handler.apply(request).get();
+    }
+
+    private MetricSnapshot phase(String endpoint, String phase) {
+        return sink.get(RequestMetricsFeature.METRIC_REQUEST_PHASE, Map.of(
+                RequestMetricsFeature.TAG_ENDPOINT, endpoint,
+                RequestMetricsFeature.TAG_METHOD, HttpMethod.GET,
+                RequestMetricsFeature.TAG_PHASE, phase));
+    }
+
+    @Test
+    public void feature_shouldRecordEachPhaseOfTheRequest() throws Exception {
+        ContainerResponse response = get("test");
+
+        Assertions.assertEquals(200, response.getStatus());
+        for (String phase : new String[] {
+                RequestMetricsFeature.PHASE_PRE_MATCHING,
+                RequestMetricsFeature.PHASE_REQUEST_FILTERS,
+                RequestMetricsFeature.PHASE_RESOURCE_METHOD,
+                RequestMetricsFeature.PHASE_WRITER_INTERCEPTORS,
+                RequestMetricsFeature.PHASE_SERIALIZATION }) {
+            MetricSnapshot snapshot = phase(TEST_ENDPOINT, phase);
+            Assertions.assertNotNull(snapshot, "The phase " + phase + " should be recorded");
+            Assertions.assertEquals(1, snapshot.count());
+        }
+        MetricSnapshot request = sink.get(RequestMetricsFeature.METRIC_REQUEST, Map.of(
+                RequestMetricsFeature.TAG_ENDPOINT, TEST_ENDPOINT,
+                RequestMetricsFeature.TAG_METHOD, HttpMethod.GET,
+                RequestMetricsFeature.TAG_STATUS, "200"));
+        Assertions.assertEquals(1, request.count());
+        MetricSnapshot bytes = sink.get(RequestMetricsFeature.METRIC_RESPONSE_BYTES, Map.of(
+                RequestMetricsFeature.TAG_ENDPOINT, TEST_ENDPOINT,
+                RequestMetricsFeature.TAG_METHOD, HttpMethod.GET));
+        Assertions.assertEquals(TEST_BODY.length(), bytes.total());
+    }
+
+    @Test
+    public void feature_shouldRecordUnmatchedRequests_withoutResourceMethod() throws Exception {
+        ContainerResponse response = get("unknown");
+
+        Assertions.assertEquals(404, response.getStatus());
+        Assertions.assertNotNull(phase(RequestMetricsFeature.ENDPOINT_UNMATCHED, RequestMetricsFeature.PHASE_PRE_MATCHING));
+        Assertions.assertNull(phase(RequestMetricsFeature.ENDPOINT_UNMATCHED, RequestMetricsFeature.PHASE_RESOURCE_METHOD));
+    }
+
+    @Test
+    public void isEnabled_shouldOnlyBeTrue_whenConfiguredAsTrue() {
+        System.setProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED, "false");
+        Assertions.assertFalse(RequestMetricsFeature.isEnabled());
+        System.setProperty(RequestMetricsFeature.CONFIGURATION_PROPERTY_ENABLED, " true ");
+        Assertions.assertTrue(RequestMetricsFeature.isEnabled());
+    }
+}
@@ -0,0 +1,167 @@
+package simplyrestful.api.framework.test.providers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Providers;
+import simplyrestful.api.framework.filters.FieldsSelection;
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.providers.StreamingApiCollectionWriter;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+import simplyrestful.api.framework.resources.Link;
+import simplyrestful.api.framework.resources.StreamingApiCollection;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
+
+public class StreamingApiCollectionWriterTest {
+	private static final Link SELF_LINK = new Link("http://localhost/resources?pageStart=1&pageSize=1", null);
+	private static final Link FIRST_LINK = new Link("http://localhost/resources?pageStart=0&pageSize=1", null);
+	private static final Link NEXT_LINK = new Link("http://localhost/resources?pageStart=2&pageSize=1", null);
+	private static final List<TestResource> TEST_RESOURCES = List.of(
+			new TestResource(new Link("http://localhost/resources/1", null), "first"),
+			new TestResource(new Link("http://localhost/resources/2", null), "second"));
+
+	private final ObjectMapper mapper = new ObjectMapperProvider().getContext(ApiCollection.class);
+	private final StreamingApiCollectionWriter writer = new StreamingApiCollectionWriter();
+
+	@AfterEach
+	public void clearSelection() {
+		FieldsPropertyFilter.clear();
+	}
+
+	@Test
+	public void isWriteable_shouldOnlyAcceptStreamingApiCollectionAsJson() {
+		MediaType collectionType = new MediaType("application", "x.simplyrestful-collection-v1+json");
+		Assertions.assertTrue(writer.isWriteable(StreamingApiCollection.class, null, null, collectionType));
+		Assertions.assertTrue(writer.isWriteable(StreamingApiCollection.class, null, null, MediaType.APPLICATION_JSON_TYPE));
+		Assertions.assertFalse(writer.isWriteable(StreamingApiCollection.class, null, null, MediaType.APPLICATION_XML_TYPE));
+		Assertions.assertFalse(writer.isWriteable(ApiCollection.class, null, null, collectionType));
+	}
+
+	@Test
+	public void writeTo_shouldWriteSameJsonAsApiCollection() throws IOException {
+		ApiCollection<TestResource> collection = new ApiCollection<>();
+		collection.setSelf(SELF_LINK);
+		collection.setTotal(TEST_RESOURCES.size());
+		collection.setFirst(FIRST_LINK);
+		collection.setNext(NEXT_LINK);
+		collection.setItem(TEST_RESOURCES);
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream());
+		streamingCollection.setSelf(SELF_LINK);
+		streamingCollection.setTotal(TEST_RESOURCES.size());
+		streamingCollection.setFirst(FIRST_LINK);
+		streamingCollection.setNext(NEXT_LINK);
+		Assertions.assertEquals(mapper.writeValueAsString(collection), write(streamingCollection));
+	}
+
+	@Test
+	public void writeTo_shouldUsePropertyNamesFromObjectMapper() throws Exception {
+		ObjectMapper upperCamelCaseMapper = new ObjectMapperProvider().getContext(ApiCollection.class)
+				.setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+		Providers providers = Mockito.mock(Providers.class);
+		Mockito.when(providers.getContextResolver(ObjectMapper.class, MediaType.APPLICATION_JSON_TYPE)).thenReturn(type -> upperCamelCaseMapper);
+		Field providersField = StreamingApiCollectionWriter.class.getDeclaredField("providers");
+		providersField.setAccessible(true);
+		providersField.set(writer, providers);
+		ApiCollection<TestResource> collection = new ApiCollection<>();
+		collection.setSelf(SELF_LINK);
+		collection.setNext(NEXT_LINK);
+		collection.setItem(TEST_RESOURCES);
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream());
+		streamingCollection.setSelf(SELF_LINK);
+		streamingCollection.setNext(NEXT_LINK);
+		Assertions.assertEquals(upperCamelCaseMapper.writeValueAsString(collection), write(streamingCollection));
+	}
+
+	@Test
+	public void writeTo_shouldOnlyWriteSelectedFields() throws IOException {
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream());
+		streamingCollection.setSelf(SELF_LINK);
+		streamingCollection.setTotal(TEST_RESOURCES.size());
+		streamingCollection.setFirst(FIRST_LINK);
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("total", "item.self.href")));
+		Assertions.assertEquals(
+				mapper.readTree("{\"total\":2,\"item\":[{\"self\":{\"href\":\"http://localhost/resources/1\"}},{\"self\":{\"href\":\"http://localhost/resources/2\"}}]}"),
+				mapper.readTree(write(streamingCollection)));
+	}
+
+	@Test
+	public void writeTo_shouldWriteNextBeforeItems_whenNextDependsOnItems() throws IOException {
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream());
+		streamingCollection.setSelf(SELF_LINK);
+		streamingCollection.nextIfMoreItems(1, NEXT_LINK);
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("next", "item.description")));
+		String json = write(streamingCollection);
+		Assertions.assertEquals(
+				mapper.readTree("{\"item\":[{\"description\":\"first\"}],\"next\":{\"href\":\"http://localhost/resources?pageStart=2&pageSize=1\",\"type\":null}}"),
+				mapper.readTree(json));
+		Assertions.assertTrue(json.indexOf("\"next\"") < json.indexOf("\"item\""));
+	}
+
+	@Test
+	public void writeTo_shouldDetermineNext_whenItemsAreNotSelected() throws IOException {
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream());
+		streamingCollection.nextIfMoreItems(1, NEXT_LINK);
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("next.href")));
+		Assertions.assertEquals(
+				mapper.readTree("{\"next\":{\"href\":\"http://localhost/resources?pageStart=2&pageSize=1\"}}"),
+				mapper.readTree(write(streamingCollection)));
+	}
+
+	@Test
+	public void writeTo_shouldCloseStream_whenItemsAreNotSelected() throws IOException {
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamingApiCollection<TestResource> streamingCollection = new StreamingApiCollection<>(TEST_RESOURCES.stream().onClose(() -> closed.set(true)));
+		streamingCollection.setSelf(SELF_LINK);
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("self")));
+		write(streamingCollection);
+		Assertions.assertTrue(closed.get());
+	}
+
+	private String write(StreamingApiCollection<?> collection) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		writer.writeTo(collection, collection.getClass(), null, null, MediaType.APPLICATION_JSON_TYPE, null, output);
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	public static class TestResource implements ApiResource {
+		private final Link self;
+		private final String description;
+
+		TestResource(Link self, String description) {
+			this.self = self;
+			this.description = description;
+		}
+
+		public Link getSelf() {
+			return self;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		@Override
+		public Link self() {
+			return self;
+		}
+
+		@Override
+		public MediaType customJsonMediaType() {
+			return new MediaType("application", "x.testresource-v1+json");
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package simplyrestful.api.framework.test.serialization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.resources.ApiCollection;
+import simplyrestful.api.framework.resources.ApiResource;
+
+public class ApiCollectionModuleTest {
+	private final ObjectMapper mapper = new ObjectMapperProvider().getContext(ApiCollection.class);
+
+	@Test
+	public void serialize_shouldSerializeTotal_whenCollectionIsCounted() throws JsonProcessingException {
+		ApiCollection<ApiResource> collection = new ApiCollection<>();
+		collection.setTotal(0);
+		Assertions.assertEquals(0, mapper.readTree(mapper.writeValueAsString(collection)).get("total").intValue());
+	}
+
+	@Test
+	public void serialize_shouldSerializeTotalAsNull_whenCollectionIsNotCounted() throws JsonProcessingException {
+		Assertions.assertTrue(mapper.readTree(mapper.writeValueAsString(new ApiCollection<>())).get("total").isNull());
+	}
+
+	@Test
+	public void deserialize_shouldOnlyProvideTotal_whenCollectionContainsTotal() throws JsonProcessingException {
+		Assertions.assertEquals(5, mapper.readValue("{\"total\":5}", ApiCollection.class).total().getAsInt());
+		Assertions.assertTrue(mapper.readValue("{\"total\":null}", ApiCollection.class).total().isEmpty());
+		Assertions.assertTrue(mapper.readValue("{}", ApiCollection.class).total().isEmpty());
+	}
+}
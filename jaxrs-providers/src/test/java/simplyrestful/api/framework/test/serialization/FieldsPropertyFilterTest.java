@@ -0,0 +1,60 @@
+package simplyrestful.api.framework.test.serialization;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import simplyrestful.api.framework.filters.FieldsSelection;
+import simplyrestful.api.framework.providers.ObjectMapperProvider;
+import simplyrestful.api.framework.serialization.FieldsPropertyFilter;
+
+public class FieldsPropertyFilterTest {
+	public record TestLink(String href, String type) {}
+	public record TestResource(TestLink self, String description, Map<String, String> attributes) {}
+	public record TestCollection(TestLink self, int total, List<TestResource> item) {}
+
+	private static final TestCollection TEST_COLLECTION = new TestCollection(
+			new TestLink("http://localhost/resources", "application/x.collection+json"),
+			2,
+			List.of(
+					new TestResource(new TestLink("http://localhost/resources/1", "application/x.resource+json"), "first", Map.of("name", "one")),
+					new TestResource(new TestLink("http://localhost/resources/2", "application/x.resource+json"), "second", Map.of("name", "two"))));
+
+	private final ObjectMapper mapper = new ObjectMapperProvider().getContext(TestCollection.class);
+
+	@AfterEach
+	public void clearSelection() {
+		FieldsPropertyFilter.clear();
+	}
+
+	@Test
+	public void serialize_shouldSerializeAllFieldsWithoutSelection() throws JsonProcessingException {
+		Assertions.assertTrue(FieldsPropertyFilter.isConfigured(mapper));
+		Assertions.assertEquals(
+				mapper.readTree(new ObjectMapper().writeValueAsString(TEST_COLLECTION)),
+				mapper.readTree(mapper.writeValueAsString(TEST_COLLECTION)));
+	}
+
+	@Test
+	public void serialize_shouldOnlySerializeSelectedFields() throws JsonProcessingException {
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("self", "total", "item.self.href")));
+		Assertions.assertEquals(
+				mapper.readTree("{\"self\":{\"href\":\"http://localhost/resources\",\"type\":\"application/x.collection+json\"},\"total\":2,"
+						+ "\"item\":[{\"self\":{\"href\":\"http://localhost/resources/1\"}},{\"self\":{\"href\":\"http://localhost/resources/2\"}}]}"),
+				mapper.readTree(mapper.writeValueAsString(TEST_COLLECTION)));
+	}
+
+	@Test
+	public void serialize_shouldFilterFieldsInMaps() throws JsonProcessingException {
+		FieldsPropertyFilter.select(FieldsSelection.of(List.of("item.attributes.name")));
+		Assertions.assertEquals(
+				mapper.readTree("{\"item\":[{\"attributes\":{\"name\":\"one\"}},{\"attributes\":{\"name\":\"two\"}}]}"),
+				mapper.readTree(mapper.writeValueAsString(TEST_COLLECTION)));
+	}
+}
@@ -0,0 +1,103 @@
+package simplyrestful.api.framework.test.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.utils.BoundedCache;
+
+public class BoundedCacheTest {
+	@Test
+	public void get_shouldOnlyLoadValueOnce_whenValueIsCached() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+		AtomicInteger loads = new AtomicInteger();
+		Assertions.assertEquals(5, cache.get("value", key -> loads.incrementAndGet() + 4));
+		Assertions.assertEquals(5, cache.get("value", key -> loads.incrementAndGet() + 4));
+		Assertions.assertEquals(1, loads.get());
+		Assertions.assertEquals(1, cache.hits());
+		Assertions.assertEquals(1, cache.misses());
+	}
+
+	@Test
+	public void get_shouldEvictEntryAddedFirst_whenCacheIsFull() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2);
+		cache.get(1, String::valueOf);
+		cache.get(2, String::valueOf);
+		cache.get(3, String::valueOf);
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.getIfPresent(1));
+		Assertions.assertEquals("2", cache.getIfPresent(2));
+		Assertions.assertEquals("3", cache.getIfPresent(3));
+	}
+
+	@Test
+	public void get_shouldEvictLeastRecentlyUsedEntry_whenCacheIsFullInAccessOrder() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2, true);
+		cache.get(1, String::valueOf);
+		cache.get(2, String::valueOf);
+		cache.get(1, String::valueOf);
+		cache.get(3, String::valueOf);
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.getIfPresent(2));
+		Assertions.assertEquals("1", cache.getIfPresent(1));
+		Assertions.assertEquals("3", cache.getIfPresent(3));
+	}
+
+	@Test
+	public void get_shouldKeepSize_whenManyLookupsInAccessOrder() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2, true);
+		cache.get(0, String::valueOf);
+		for (int i = 0; i < 10_000; i++) {
+			cache.get(1, String::valueOf);
+		}
+		cache.get(2, String::valueOf);
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.getIfPresent(0));
+		Assertions.assertEquals("1", cache.getIfPresent(1));
+	}
+
+	@Test
+	public void invalidate_shouldRemoveEntry() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2);
+		cache.put(1, "one");
+		cache.invalidate(1);
+		Assertions.assertNull(cache.getIfPresent(1));
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void put_shouldNotEvictNewerEntry_whenOlderEntryForSameKeyWasInvalidated() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2);
+		cache.put(1, "one");
+		cache.put(2, "two");
+		cache.invalidate(1);
+		cache.put(3, "three");
+		cache.put(1, "new one");
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.getIfPresent(2));
+		Assertions.assertEquals("three", cache.getIfPresent(3));
+		Assertions.assertEquals("new one", cache.getIfPresent(1));
+	}
+
+	@Test
+	public void put_shouldKeepEvictingInInsertionOrder_afterManyInvalidations() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>(2);
+		cache.put(0, "zero");
+		for (int i = 0; i < 10_000; i++) {
+			cache.put(1, "one");
+			cache.invalidate(1);
+		}
+		cache.put(1, "one");
+		cache.put(2, "two");
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.getIfPresent(0));
+		Assertions.assertEquals("one", cache.getIfPresent(1));
+		Assertions.assertEquals("two", cache.getIfPresent(2));
+	}
+
+	@Test
+	public void constructor_shouldThrowIllegalArgumentException_whenMaximumSizeIsNotPositive() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(0));
+	}
+}
@@ -0,0 +1,47 @@
+package simplyrestful.api.framework.test.utils;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.core.MediaType;
+import simplyrestful.api.framework.utils.MediaTypeUtils;
+
+public class MediaTypeUtilsTest {
+	private static final MediaType TEST_MEDIA_TYPE = new MediaType("application", "x.testresource-v1+json");
+
+	@Test
+	public void withoutQualityParameters_shouldReturnSameInstance_whenMediaTypeHasNoQualityParameters() {
+		Assertions.assertSame(TEST_MEDIA_TYPE, MediaTypeUtils.withoutQualityParameters(TEST_MEDIA_TYPE));
+	}
+
+	@Test
+	public void withoutQualityParameters_shouldRemoveOnlyQualityParameters() {
+		MediaType withQuality = new MediaType("application", "x.testresource-v1+json",
+				Map.of(MediaTypeUtils.MEDIA_TYPE_PARAMETER_QUALITY_CLIENT, "0.5", MediaTypeUtils.MEDIA_TYPE_PARAMETER_QUALITY_SERVER, "0.9", "version", "1"));
+		Assertions.assertEquals(Map.of("version", "1"), MediaTypeUtils.withoutQualityParameters(withQuality).getParameters());
+	}
+
+	@Test
+	public void addQParameter_shouldAddClientSideQuality() {
+		MediaType withQuality = MediaTypeUtils.addQParameter(TEST_MEDIA_TYPE, 0.5);
+		Assertions.assertEquals("0.5", withQuality.getParameters().get(MediaTypeUtils.MEDIA_TYPE_PARAMETER_QUALITY_CLIENT));
+		Assertions.assertEquals(1.0, MediaTypeUtils.getQSParameter(withQuality));
+	}
+
+	@Test
+	public void streamingMediaTypes_shouldHaveLowServerSideQuality() {
+		Assertions.assertEquals(0.1, MediaTypeUtils.getQSParameter(MediaType.valueOf(MediaTypeUtils.APPLICATION_NDJSON_STREAMING)));
+		Assertions.assertEquals(0.1, MediaTypeUtils.getQSParameter(MediaType.valueOf(MediaTypeUtils.APPLICATION_JSON_SEQ_STREAMING)));
+		Assertions.assertEquals(0.1, MediaTypeUtils.getQSParameter(MediaType.valueOf(MediaTypeUtils.SERVER_SENT_EVENTS_STREAMING)));
+	}
+
+	@Test
+	public void withParameter_shouldReplaceExistingValue() {
+		MediaType withParameter = MediaTypeUtils.withParameter(TEST_MEDIA_TYPE, "version", "1");
+		MediaType withReplacedParameter = MediaTypeUtils.withParameter(withParameter, "version", "2");
+		Assertions.assertEquals(Map.of("version", "2"), withReplacedParameter.getParameters());
+		Assertions.assertEquals(Map.of(), TEST_MEDIA_TYPE.getParameters());
+	}
+}
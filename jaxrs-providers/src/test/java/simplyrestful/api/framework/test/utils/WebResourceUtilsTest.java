@@ -0,0 +1,63 @@
+package simplyrestful.api.framework.test.utils;
+
+import java.net.URI;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import simplyrestful.api.framework.utils.WebResourceUtils;
+
+public class WebResourceUtilsTest {
+    private static final UUID TEST_UUID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldParseCanonicalUuid() {
+        Assertions.assertEquals(TEST_UUID, WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/123e4567-e89b-12d3-a456-426614174000")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldParseUppercaseUuid() {
+        Assertions.assertEquals(TEST_UUID, WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/123E4567-E89B-12D3-A456-426614174000")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldIgnoreTrailingSlash() {
+        Assertions.assertEquals(TEST_UUID, WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/123e4567-e89b-12d3-a456-426614174000/")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldIgnoreQueryAndFragment() {
+        Assertions.assertEquals(TEST_UUID, WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/123e4567-e89b-12d3-a456-426614174000?fields=self#top")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldParseRelativeUri() {
+        Assertions.assertEquals(TEST_UUID, WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("123e4567-e89b-12d3-a456-426614174000")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldParseNonCanonicalUuid() {
+        Assertions.assertEquals(UUID.fromString("1-2-3-4-5"), WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/1-2-3-4-5")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldThrowIllegalArgumentException_withInvalidHexDigit() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources/123e4567-e89b-12d3-a456-42661417400g")));
+    }
+
+    @Test
+    public void parseUuidFromLastSegmentOfUri_shouldThrowIllegalArgumentException_withoutUuidSegment() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/resources")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WebResourceUtils.parseUuidFromLastSegmentOfUri(
+                URI.create("http://localhost/")));
+    }
+}
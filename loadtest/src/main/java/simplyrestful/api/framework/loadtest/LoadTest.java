@@ -0,0 +1,162 @@
+package simplyrestful.api.framework.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.jersey.nomapping.JerseyNoMappingApplication;
+import simplyrestful.api.framework.loadtest.ScenarioStatistics.ScenarioResult;
+
+/**
+ * Run a load test against the example API, which is started in the same process on a random port, and report the
+ * throughput and latency percentiles of each scenario.
+ *
+ * Any arguments are passed to the Spring Boot application, so the server can be configured as well, e.g.
+ * "--server.tomcat.threads.max=50". The load test itself is configured with the properties described in
+ * {@link LoadTestConfiguration}.
+ */
+public class LoadTest {
+	private static final double MICROS_PER_MILLI = 1000.0;
+	private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+	private final LoadTestConfiguration configuration;
+	private final LoadTestClient client;
+	private final Scenario[] weightedScenarios;
+	private final Map<Scenario, ScenarioStatistics> statistics = new EnumMap<>(Scenario.class);
+	private volatile boolean running;
+
+	public LoadTest(LoadTestConfiguration configuration, URI baseUri) {
+		this.configuration = configuration;
+		this.client = new LoadTestClient(configuration.httpVersion(), baseUri);
+		List<Scenario> scenarios = new ArrayList<>();
+		configuration.mix().forEach((scenario, weight) -> {
+			statistics.put(scenario, new ScenarioStatistics(scenario));
+			for (int i = 0; i < weight; i++) {
+				scenarios.add(scenario);
+			}
+		});
+		this.weightedScenarios = scenarios.toArray(new Scenario[0]);
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		LoadTestConfiguration configuration = LoadTestConfiguration.fromEnvironment();
+		ConfigurableApplicationContext server = configuration.baseUri() == null ? startExampleApi(configuration, args) : null;
+		try {
+			URI baseUri = server == null ? configuration.baseUri() : URI.create("http://localhost:" + ((WebServerApplicationContext) server).getWebServer().getPort() + "/");
+			List<ScenarioResult> results = new LoadTest(configuration, baseUri).run();
+			report(configuration, results, System.out);
+		}
+		finally {
+			if (server != null) {
+				server.close();
+			}
+		}
+	}
+
+	/**
+	 * Send requests with the configured concurrency and mix of scenarios, first for the warmup and then for the
+	 * measurement.
+	 *
+	 * @return the result of each scenario during the measurement.
+	 * @throws IOException if the existing resources could not be retrieved from the API.
+	 * @throws InterruptedException if interrupted while the load test is running.
+	 */
+	public List<ScenarioResult> run() throws IOException, InterruptedException {
+		client.discoverResources();
+		running = true;
+		ExecutorService workers = Executors.newFixedThreadPool(configuration.concurrency());
+		try {
+			for (int i = 0; i < configuration.concurrency(); i++) {
+				workers.execute(this::sendRequests);
+			}
+			Thread.sleep(configuration.warmup().toMillis());
+			statistics.values().forEach(ScenarioStatistics::interval);
+			Thread.sleep(configuration.duration().toMillis());
+			List<ScenarioResult> results = new ArrayList<>();
+			statistics.values().forEach(scenarioStatistics -> results.add(scenarioStatistics.interval()));
+			return results;
+		}
+		finally {
+			running = false;
+			workers.shutdown();
+			workers.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+
+	private void sendRequests() {
+		while (running) {
+			Scenario scenario = weightedScenarios[ThreadLocalRandom.current().nextInt(weightedScenarios.length)];
+			long start = System.nanoTime();
+			boolean successful;
+			try {
+				successful = client.send(scenario);
+			}
+			catch (IOException e) {
+				successful = false;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			statistics.get(scenario).record(System.nanoTime() - start, successful);
+		}
+	}
+
+	private static ConfigurableApplicationContext startExampleApi(LoadTestConfiguration configuration, String[] args) {
+		List<String> arguments = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--spring.main.banner-mode=off",
+				"--logging.level.root=WARN"));
+		if (configuration.httpVersion() == HttpClient.Version.HTTP_2) {
+			arguments.add("--server.http2.enabled=true");
+		}
+		arguments.addAll(List.of(args));
+		return SpringApplication.run(JerseyNoMappingApplication.class, arguments.toArray(new String[0]));
+	}
+
+	/**
+	 * Print the throughput and latency percentiles of each scenario, and of all scenarios combined.
+	 *
+	 * @param configuration is the configuration of the load test.
+	 * @param results is the result of each scenario.
+	 * @param output is where the report is printed.
+	 */
+	public static void report(LoadTestConfiguration configuration, List<ScenarioResult> results, PrintStream output) {
+		output.printf(Locale.ROOT, "Load test with %d concurrent clients using %s for %d seconds%n",
+				configuration.concurrency(), configuration.httpVersion(), configuration.duration().toSeconds());
+		output.printf(Locale.ROOT, "%-18s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+				"Scenario", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+		Histogram total = new Histogram(3);
+		long totalErrors = 0;
+		for (ScenarioResult result : results) {
+			reportLine(result.scenario().name(), result.latencies(), result.errors(), configuration.duration(), output);
+			total.add(result.latencies());
+			totalErrors += result.errors();
+		}
+		reportLine("TOTAL", total, totalErrors, configuration.duration(), output);
+	}
+
+	private static void reportLine(String name, Histogram latencies, long errors, Duration duration, PrintStream output) {
+		output.printf(Locale.ROOT, "%-18s %10d %8d %10.1f", name, latencies.getTotalCount(), errors,
+				latencies.getTotalCount() / (duration.toMillis() / 1000.0));
+		for (double percentile : PERCENTILES) {
+			output.printf(Locale.ROOT, " %10.2f", latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+		}
+		output.printf(Locale.ROOT, " %10.2f%n", latencies.getMaxValue() / MICROS_PER_MILLI);
+	}
+}
@@ -0,0 +1,111 @@
+package simplyrestful.api.framework.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import example.jersey.nomapping.resources.ExampleResourceRecord;
+import simplyrestful.api.framework.resources.ApiCollection;
+
+/**
+ * Sends the request for each scenario to the example API.
+ */
+public class LoadTestClient {
+	public static final String RESOURCES_PATH = "resources";
+	private static final String MEDIA_TYPE_EVENT_STREAM = "text/event-stream";
+	private static final int MAX_KNOWN_RESOURCES = 10_000;
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+	private static final String POST_BODY = "{\"description\":\"Resource created during the load test\","
+			+ "\"complexAttribute\":{\"name\":\"complex attribute of a load test resource\"},"
+			+ "\"dateTime\":\"2024-01-01T00:00:00Z\"}";
+	private final HttpClient client;
+	private final URI resourcesUri;
+	private final List<URI> resourceUris = new CopyOnWriteArrayList<>();
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	public LoadTestClient(HttpClient.Version httpVersion, URI baseUri) {
+		this.client = HttpClient.newBuilder()
+				.version(httpVersion)
+				.connectTimeout(TIMEOUT)
+				.build();
+		this.resourcesUri = baseUri.resolve(RESOURCES_PATH);
+	}
+
+	/**
+	 * Retrieve the URIs of the resources that already exist, so they can be used to retrieve single resources.
+	 *
+	 * @throws IOException if the collection could not be retrieved.
+	 * @throws InterruptedException if interrupted while retrieving the collection.
+	 */
+	public void discoverResources() throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(resourcesUri + "?pageSize=1000&fields=item.self"))
+				.timeout(TIMEOUT)
+				.header("Accept", ApiCollection.MEDIA_TYPE_JSON)
+				.GET()
+				.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IOException("Could not retrieve the collection of resources, status code " + response.statusCode());
+		}
+		for (JsonNode item : mapper.readTree(response.body()).path("item")) {
+			resourceUris.add(URI.create(item.path("self").path("href").asText()));
+		}
+		if (resourceUris.isEmpty()) {
+			throw new IOException("The API does not contain any resources to retrieve");
+		}
+	}
+
+	/**
+	 * Send the request for the provided scenario and read the entire response.
+	 *
+	 * @param scenario is the scenario for which the request should be sent.
+	 * @return true if the response has a successful status code, false otherwise.
+	 * @throws IOException if the request could not be sent or the response could not be read.
+	 * @throws InterruptedException if interrupted while waiting for the response.
+	 */
+	public boolean send(Scenario scenario) throws IOException, InterruptedException {
+		HttpResponse<Void> response = client.send(createRequest(scenario), HttpResponse.BodyHandlers.discarding());
+		if (scenario == Scenario.POST && resourceUris.size() < MAX_KNOWN_RESOURCES) {
+			response.headers().firstValue("Location").map(URI::create).ifPresent(resourceUris::add);
+		}
+		return response.statusCode() >= 200 && response.statusCode() < 300;
+	}
+
+	private HttpRequest createRequest(Scenario scenario) {
+		HttpRequest.Builder request = switch (scenario) {
+			case COLLECTION -> collection("");
+			case COLLECTION_FIELDS -> collection("&fields=self,total,item.self,item.description");
+			case COLLECTION_SORT -> collection("&sort=description:desc");
+			case COLLECTION_QUERY -> collection("&query=description==*resource*");
+			case SINGLE -> HttpRequest.newBuilder(randomResourceUri())
+					.header("Accept", ExampleResourceRecord.EXAMPLE_MEDIA_TYPE_JSON)
+					.GET();
+			case POST -> HttpRequest.newBuilder(resourcesUri)
+					.header("Content-Type", ExampleResourceRecord.EXAMPLE_MEDIA_TYPE_JSON)
+					.POST(HttpRequest.BodyPublishers.ofString(POST_BODY));
+			case SSE -> HttpRequest.newBuilder(resourcesUri)
+					.header("Accept", MEDIA_TYPE_EVENT_STREAM)
+					.GET();
+		};
+		return request.timeout(TIMEOUT).build();
+	}
+
+	private HttpRequest.Builder collection(String queryParameters) {
+		return HttpRequest.newBuilder(URI.create(resourcesUri + "?pageStart=0&pageSize=10" + queryParameters))
+				.header("Accept", ApiCollection.MEDIA_TYPE_JSON)
+				.GET();
+	}
+
+	private URI randomResourceUri() {
+		return resourceUris.get(ThreadLocalRandom.current().nextInt(resourceUris.size()));
+	}
+}
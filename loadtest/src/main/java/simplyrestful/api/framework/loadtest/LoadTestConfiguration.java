@@ -0,0 +1,122 @@
+package simplyrestful.api.framework.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The configuration of a load test run.
+ *
+ * Each value is read from the system property or, if that is not set, the environment variable with the
+ * corresponding name.
+ *
+ * @param duration is how long the requests are measured.
+ * @param warmup is how long requests are sent before they are measured.
+ * @param concurrency is the amount of clients that concurrently send requests.
+ * @param httpVersion is the HTTP version that the clients use.
+ * @param mix is the relative weight of each scenario in the requests that are sent.
+ * @param baseUri is the base URI of an API that is already running, or null if the example API should be started.
+ */
+public record LoadTestConfiguration(
+		Duration duration,
+		Duration warmup,
+		int concurrency,
+		HttpClient.Version httpVersion,
+		Map<Scenario, Integer> mix,
+		URI baseUri) {
+	/**
+	 * The name of the property or environment variable that contains the amount of seconds the requests are measured.
+	 */
+	public static final String CONFIGURATION_PROPERTY_DURATION = "SIMPLYRESTFUL_LOADTEST_DURATION";
+	/**
+	 * The name of the property or environment variable that contains the amount of seconds requests are sent before
+	 * they are measured.
+	 */
+	public static final String CONFIGURATION_PROPERTY_WARMUP = "SIMPLYRESTFUL_LOADTEST_WARMUP";
+	/**
+	 * The name of the property or environment variable that contains the amount of clients that concurrently send
+	 * requests.
+	 */
+	public static final String CONFIGURATION_PROPERTY_CONCURRENCY = "SIMPLYRESTFUL_LOADTEST_CONCURRENCY";
+	/**
+	 * The name of the property or environment variable that contains the HTTP version, either "HTTP_1_1" or "HTTP_2".
+	 */
+	public static final String CONFIGURATION_PROPERTY_HTTP_VERSION = "SIMPLYRESTFUL_LOADTEST_HTTP_VERSION";
+	/**
+	 * The name of the property or environment variable that contains the mix of scenarios, as a comma-separated list
+	 * of scenario names with their relative weight, e.g. "COLLECTION=6,SINGLE=3,POST=1".
+	 */
+	public static final String CONFIGURATION_PROPERTY_MIX = "SIMPLYRESTFUL_LOADTEST_MIX";
+	/**
+	 * The name of the property or environment variable that contains the base URI of an API that is already running.
+	 */
+	public static final String CONFIGURATION_PROPERTY_BASE_URI = "SIMPLYRESTFUL_LOADTEST_BASE_URI";
+	/**
+	 * The mix of scenarios that is used if it is not configured.
+	 *
+	 * Server-sent events are not included by default, since the example API deliberately slows down streaming.
+	 */
+	public static final String DEFAULT_MIX = "COLLECTION=30,COLLECTION_FIELDS=15,COLLECTION_SORT=10,COLLECTION_QUERY=10,SINGLE=30,POST=5";
+	private static final String MIX_DELIMITER = ",";
+	private static final String MIX_WEIGHT_SEPARATOR = "=";
+
+	public LoadTestConfiguration {
+		if (concurrency <= 0) {
+			throw new IllegalArgumentException("The concurrency must be positive");
+		}
+		if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("The mix must contain at least one scenario with a positive weight");
+		}
+		mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+	}
+
+	/**
+	 * Read the configuration from the system properties and environment variables.
+	 *
+	 * @return the configuration of the load test.
+	 */
+	public static LoadTestConfiguration fromEnvironment() {
+		String baseUri = getValue(CONFIGURATION_PROPERTY_BASE_URI, null);
+		return new LoadTestConfiguration(
+				Duration.ofSeconds(Long.parseLong(getValue(CONFIGURATION_PROPERTY_DURATION, "30"))),
+				Duration.ofSeconds(Long.parseLong(getValue(CONFIGURATION_PROPERTY_WARMUP, "10"))),
+				Integer.parseInt(getValue(CONFIGURATION_PROPERTY_CONCURRENCY, "16")),
+				HttpClient.Version.valueOf(getValue(CONFIGURATION_PROPERTY_HTTP_VERSION, HttpClient.Version.HTTP_1_1.name()).toUpperCase(Locale.ROOT)),
+				parseMix(getValue(CONFIGURATION_PROPERTY_MIX, DEFAULT_MIX)),
+				baseUri == null ? null : URI.create(baseUri));
+	}
+
+	/**
+	 * Parse the mix of scenarios.
+	 *
+	 * @param mix is a comma-separated list of scenario names with their relative weight, e.g. "COLLECTION=6,SINGLE=3".
+	 * @return the relative weight of each scenario in the mix.
+	 */
+	public static Map<Scenario, Integer> parseMix(String mix) {
+		Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+		for (String entry : mix.split(MIX_DELIMITER)) {
+			if (entry.isBlank()) {
+				continue;
+			}
+			String[] scenarioWithWeight = entry.split(MIX_WEIGHT_SEPARATOR, 2);
+			int weight = scenarioWithWeight.length == 2 ? Integer.parseInt(scenarioWithWeight[1].strip()) : 1;
+			if (weight < 0) {
+				throw new IllegalArgumentException("The weight of a scenario in the mix can not be negative");
+			}
+			weights.put(Scenario.valueOf(scenarioWithWeight[0].strip().toUpperCase(Locale.ROOT)), weight);
+		}
+		return weights;
+	}
+
+	private static String getValue(String name, String defaultValue) {
+		String value = System.getProperty(name);
+		if (value == null) {
+			value = System.getenv(name);
+		}
+		return value == null || value.isBlank() ? defaultValue : value.strip();
+	}
+}
@@ -0,0 +1,35 @@
+package simplyrestful.api.framework.loadtest;
+
+/**
+ * The types of requests that the load test can send to the API.
+ */
+public enum Scenario {
+	/**
+	 * Retrieve a page of the collection with the default fields.
+	 */
+	COLLECTION,
+	/**
+	 * Retrieve a page of the collection with only a few fields of each resource.
+	 */
+	COLLECTION_FIELDS,
+	/**
+	 * Retrieve a page of the collection, sorted on a field of the resources.
+	 */
+	COLLECTION_SORT,
+	/**
+	 * Retrieve a page of the collection, filtered with a FIQL query.
+	 */
+	COLLECTION_QUERY,
+	/**
+	 * Retrieve a single resource.
+	 */
+	SINGLE,
+	/**
+	 * Create a new resource.
+	 */
+	POST,
+	/**
+	 * Retrieve the entire collection as a stream of server-sent events.
+	 */
+	SSE;
+}
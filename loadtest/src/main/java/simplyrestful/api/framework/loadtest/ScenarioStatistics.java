@@ -0,0 +1,57 @@
+package simplyrestful.api.framework.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records the latency of the successful requests and the amount of failed requests for a single scenario.
+ *
+ * The recorded values can be retrieved for an interval, which allows discarding the values that were recorded during
+ * the warmup.
+ */
+public class ScenarioStatistics {
+	private static final int SIGNIFICANT_DIGITS = 3;
+	private final Scenario scenario;
+	private final Recorder latencies = new Recorder(SIGNIFICANT_DIGITS);
+	private final LongAdder errors = new LongAdder();
+
+	public ScenarioStatistics(Scenario scenario) {
+		this.scenario = scenario;
+	}
+
+	/**
+	 * Record the result of a request.
+	 *
+	 * @param latencyNanos is the time between sending the request and receiving the entire response, in nanoseconds.
+	 * @param successful is true if the response has a successful status code, false otherwise.
+	 */
+	public void record(long latencyNanos, boolean successful) {
+		if (successful) {
+			latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+		}
+		else {
+			errors.increment();
+		}
+	}
+
+	/**
+	 * Retrieve the values recorded since the previous interval and start a new interval.
+	 *
+	 * @return the result of this scenario in the interval that has ended.
+	 */
+	public ScenarioResult interval() {
+		return new ScenarioResult(scenario, latencies.getIntervalHistogram(), errors.sumThenReset());
+	}
+
+	/**
+	 * The result of a scenario in a single interval.
+	 *
+	 * @param scenario is the scenario.
+	 * @param latencies is the latency of the successful requests, in microseconds.
+	 * @param errors is the amount of failed requests.
+	 */
+	public record ScenarioResult(Scenario scenario, Histogram latencies, long errors) {}
+}
@@ -0,0 +1,196 @@
+package simplyrestful.api.framework.springdata.paging;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * A page request for keyset (cursor-based) pagination.
+ *
+ * Instead of skipping a number of rows with an offset, the page is found by seeking to the values of the sort keys of
+ * the entity at the boundary of the page. The seek predicate is provided by toSpecification(), which should be combined
+ * with any other Specification used to filter the entities. Since the database can use an index on the sort keys to
+ * find the page, retrieving a page does not get slower the deeper the client pages into the collection.
+ *
+ * The sort must define a total order, so the last sort key should be unique, like the identifier of the entity. For
+ * the page before the boundary entity, the entities are retrieved in reverse order so the page can be limited to the
+ * entities closest to the boundary. Use inSortOrder() to restore the requested order of the retrieved entities.
+ *
+ * Unlike an offset-based Pageable, a page can not be found by its number. The adjacent pages are instead requested with
+ * the sort keys of the first or last entity of the retrieved page, with previous() and next(). The sort keys are
+ * provided by the client in the page cursor, so a page request whose sort keys do not match the sort is rejected with
+ * a BadRequestException when its seek predicate is created. Creating this JAX-RS exception requires a JAX-RS
+ * implementation at runtime.
+ */
+public class KeysetPageRequest {
+    private final int pageSize;
+    private final Sort sort;
+    private final Map<String, String> keys;
+    private final boolean after;
+
+    public KeysetPageRequest(int pageSize, Sort sort) {
+        this(pageSize, sort, Collections.emptyMap(), true);
+    }
+
+    /**
+     * Create a page request for the page adjacent to the entity with the provided sort keys.
+     *
+     * @param pageSize is the size of the page.
+     * @param sort defines how the entities are sorted.
+     * @param keys contains the value of each sort key of the boundary entity, as String. This must contain a value for
+     * each property in the sort, in the same order, and the values must not be null. If it is empty, the first page is
+     * requested.
+     * @param after is true for the page after the boundary entity, false for the page before it.
+     */
+    public KeysetPageRequest(int pageSize, Sort sort, Map<String, String> keys, boolean after) {
+        this.pageSize = pageSize;
+        this.sort = sort == null ? Sort.unsorted() : sort;
+        this.keys = keys == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+        this.after = after;
+    }
+
+    /**
+     * Create the seek predicate that only matches the entities beyond the boundary entity, in the direction of the page.
+     *
+     * @param <E> is the type of the entity.
+     * @return the Specification for the seek predicate, which matches all entities for the first page.
+     */
+    public <E> Specification<E> toSpecification() {
+        return (root, query, builder) -> keys.isEmpty() ? null : seek(root, builder);
+    }
+
+    /**
+     * Restore the requested sort order of the entities retrieved for this page.
+     *
+     * @param <E> is the type of the entity.
+     * @param entities are the entities retrieved with this page request.
+     * @return the entities in the requested sort order.
+     */
+    public <E> List<E> inSortOrder(List<E> entities) {
+        if (after) {
+            return entities;
+        }
+        List<E> reversed = new ArrayList<>(entities);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    public Map<String, String> getKeys() {
+        return keys;
+    }
+
+    public boolean isAfter() {
+        return after;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the sort with which the entities for this page should be retrieved, which is reversed for the page
+     * before the boundary entity.
+     */
+    public Sort getSort() {
+        return after ? sort : reverse(sort);
+    }
+
+    /**
+     * Create a page request for the page after the last entity of the page retrieved with this page request.
+     *
+     * @param lastKeys contains the value of each sort key of the last entity of the retrieved page, in sort order.
+     * @return the page request for the next page.
+     */
+    public KeysetPageRequest next(Map<String, String> lastKeys) {
+        return new KeysetPageRequest(pageSize, sort, lastKeys, true);
+    }
+
+    /**
+     * Create a page request for the page before the first entity of the page retrieved with this page request.
+     *
+     * @param firstKeys contains the value of each sort key of the first entity of the retrieved page, in sort order.
+     * @return the page request for the previous page.
+     */
+    public KeysetPageRequest previous(Map<String, String> firstKeys) {
+        return new KeysetPageRequest(pageSize, sort, firstKeys, false);
+    }
+
+    public KeysetPageRequest first() {
+        return new KeysetPageRequest(pageSize, sort);
+    }
+
+    public boolean hasPrevious() {
+        return !keys.isEmpty();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Predicate seek(Root<?> root, CriteriaBuilder builder) {
+        List<Sort.Order> orders = sort.toList();
+        List<String> properties = orders.stream().map(Sort.Order::getProperty).collect(Collectors.toList());
+        if (!properties.equals(new ArrayList<>(keys.keySet()))) {
+            throw new BadRequestException(String.format("The sort keys %s in the page cursor do not match the sort %s", keys.keySet(), properties));
+        }
+        Predicate seek = null;
+        for (int i = orders.size() - 1; i >= 0; i--) {
+            Sort.Order order = orders.get(i);
+            Path path = toPath(root, order.getProperty());
+            Comparable value = convert(order.getProperty(), path.getJavaType());
+            Predicate beyond = order.isAscending() == after ? builder.greaterThan(path, value) : builder.lessThan(path, value);
+            seek = seek == null ? beyond : builder.or(beyond, builder.and(builder.equal(path, value), seek));
+        }
+        return seek;
+    }
+
+    private static Path<?> toPath(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String name : property.split("\\.")) {
+            path = path.get(name);
+        }
+        return path;
+    }
+
+    private Comparable<?> convert(String property, Class<?> type) {
+        String value = keys.get(property);
+        if (value == null) {
+            throw new BadRequestException(String.format("The sort key \"%s\" does not have a value in the page cursor", property));
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+        ConversionService conversionService = DefaultConversionService.getSharedInstance();
+        try {
+            if (conversionService.canConvert(String.class, type)) {
+                return (Comparable<?>) conversionService.convert(value, type);
+            }
+            Method parse = type.getMethod("parse", CharSequence.class);
+            return (Comparable<?>) parse.invoke(null, value);
+        }
+        catch (ConversionException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new BadRequestException(String.format("The sort key \"%s\" in the page cursor could not be converted to %s", property, type.getName()), e);
+        }
+    }
+
+    private static Sort reverse(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> order.with(order.isAscending() ? Direction.DESC : Direction.ASC))
+                .collect(Collectors.toList()));
+    }
+}
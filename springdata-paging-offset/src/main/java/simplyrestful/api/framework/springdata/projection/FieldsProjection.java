@@ -0,0 +1,336 @@
+package simplyrestful.api.framework.springdata.projection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Metamodel;
+
+/**
+ * Retrieve only the entity attributes that are needed for the fields selected in the "fields" query parameter.
+ *
+ * Each field of the API resource is mapped to the entity attributes that are needed to create it, using the
+ * attribute path like "description" or "complexAttribute.name". When retrieving the entities, only the attributes
+ * needed for the selected fields are queried from the database with a JPA Criteria tuple query. Attributes of
+ * associated entities are retrieved with a left join, which is only added when such an attribute is needed.
+ *
+ * The retrieved entities are detached instances where only the queried attributes are populated. An associated entity
+ * is only created when at least one of its queried attributes is not null. These entities should therefore only be
+ * used to create the API resources for the response, not to update them.
+ *
+ * A FieldsProjection should be fully configured before it is used, after which it can be shared between threads.
+ *
+ * @param <E> is the type of the JPA entity.
+ */
+public class FieldsProjection<E> {
+    /**
+     * The value of the "fields" query parameter that selects all fields.
+     */
+    public static final String FIELDS_VALUE_ALL = "all";
+    /**
+     * The field in the collection resource that contains the API resources.
+     */
+    public static final String FIELDS_COLLECTION_ITEM = "item";
+    /**
+     * The separator between nested fields and between nested entity attributes.
+     */
+    public static final String FIELDS_NESTING_SEPARATOR = ".";
+    /**
+     * The delimiter between multiple fields in a single value of the "fields" query parameter.
+     */
+    public static final String FIELDS_VALUE_DELIMITER = ",";
+
+    private final Class<E> entityClass;
+    private final Map<String, Set<String>> attributePathsForField = new LinkedHashMap<>();
+    private final Set<String> alwaysSelected = new LinkedHashSet<>();
+    private final Map<String, Field[]> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new projection for the provided entity.
+     *
+     * @param entityClass is the class of the JPA entity.
+     */
+    public FieldsProjection(Class<E> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * Map a field of the API resource to the entity attributes that are needed to create it.
+     *
+     * Selecting a nested field, like "field.nested", uses the attributes mapped to its parent field. Selecting a
+     * parent field uses the attributes mapped to all of its nested fields.
+     *
+     * @param field is the name of the field in the API resource.
+     * @param attributePaths are the paths to the entity attributes needed for this field.
+     * @return this projection.
+     */
+    public FieldsProjection<E> map(String field, String... attributePaths) {
+        Set<String> mapped = attributePathsForField.computeIfAbsent(field, key -> new LinkedHashSet<>());
+        for (String attributePath : attributePaths) {
+            accessors(attributePath);
+            mapped.add(attributePath);
+        }
+        return this;
+    }
+
+    /**
+     * Select the provided entity attributes regardless of which fields are selected.
+     *
+     * @param attributePaths are the paths to the entity attributes that should always be retrieved.
+     * @return this projection.
+     */
+    public FieldsProjection<E> alwaysSelect(String... attributePaths) {
+        for (String attributePath : attributePaths) {
+            accessors(attributePath);
+            alwaysSelected.add(attributePath);
+        }
+        return this;
+    }
+
+    /**
+     * Determine the entity attributes that are needed for the selected fields of an API resource.
+     *
+     * @param fields is the list of fields, as provided in the "fields" query parameter for a single API resource.
+     * @return the paths to the needed entity attributes, or an empty Optional if the entire entity is needed.
+     */
+    public Optional<Set<String>> attributePaths(List<String> fields) {
+        List<String> flattened = flatten(fields);
+        if (flattened.isEmpty() || flattened.contains(FIELDS_VALUE_ALL)) {
+            return Optional.empty();
+        }
+        return resolve(flattened);
+    }
+
+    /**
+     * Determine the entity attributes that are needed for the selected fields of the API resources in a collection.
+     *
+     * Only the fields nested in the "item" field of the collection resource are considered, like "item.self".
+     *
+     * @param collectionFields is the list of fields, as provided in the "fields" query parameter for the collection.
+     * @return the paths to the needed entity attributes, or an empty Optional if the entire entity is needed.
+     */
+    public Optional<Set<String>> itemAttributePaths(List<String> collectionFields) {
+        List<String> flattened = flatten(collectionFields);
+        if (flattened.isEmpty() || flattened.contains(FIELDS_VALUE_ALL) || flattened.contains(FIELDS_COLLECTION_ITEM)) {
+            return Optional.empty();
+        }
+        String itemPrefix = FIELDS_COLLECTION_ITEM + FIELDS_NESTING_SEPARATOR;
+        List<String> itemFields = flattened.stream()
+                .filter(field -> field.startsWith(itemPrefix))
+                .map(field -> field.substring(itemPrefix.length()))
+                .collect(Collectors.toList());
+        return resolve(itemFields);
+    }
+
+    /**
+     * Retrieve a page of entities, with only the provided attributes populated.
+     *
+     * @param entityManager is the EntityManager used to query the entities.
+     * @param spec is the Specification that filters the entities, which may be null.
+     * @param pageable defines the page of entities that is retrieved and how the entities are sorted.
+     * @param attributePaths are the paths to the entity attributes that are retrieved.
+     * @return the list of partially populated, detached entities.
+     */
+    public List<E> findAll(EntityManager entityManager, Specification<E> spec, Pageable pageable, Set<String> attributePaths) {
+        List<String> paths = List.copyOf(attributePaths);
+        TypedQuery<Tuple> query = createQuery(entityManager, spec, pageable.getSort(), paths);
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList().stream()
+                .map(tuple -> toEntity(tuple, paths))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve a stream of entities, with only the provided attributes populated.
+     *
+     * @param entityManager is the EntityManager used to query the entities.
+     * @param spec is the Specification that filters the entities, which may be null.
+     * @param sort defines how the entities are sorted.
+     * @param attributePaths are the paths to the entity attributes that are retrieved.
+     * @return the stream of partially populated, detached entities.
+     */
+    public Stream<E> stream(EntityManager entityManager, Specification<E> spec, Sort sort, Set<String> attributePaths) {
+        List<String> paths = List.copyOf(attributePaths);
+        return createQuery(entityManager, spec, sort, paths).getResultStream()
+                .map(tuple -> toEntity(tuple, paths));
+    }
+
+    private Optional<Set<String>> resolve(List<String> fields) {
+        Set<String> paths = new LinkedHashSet<>(alwaysSelected);
+        for (String field : fields) {
+            Set<String> mapped = attributePathsFor(field);
+            if (mapped.isEmpty()) {
+                return Optional.empty();
+            }
+            paths.addAll(mapped);
+        }
+        return paths.isEmpty() ? Optional.empty() : Optional.of(Collections.unmodifiableSet(paths));
+    }
+
+    private Set<String> attributePathsFor(String field) {
+        Set<String> mapped = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<String>> entry : attributePathsForField.entrySet()) {
+            String mappedField = entry.getKey();
+            if (field.equals(mappedField)
+                    || field.startsWith(mappedField + FIELDS_NESTING_SEPARATOR)
+                    || mappedField.startsWith(field + FIELDS_NESTING_SEPARATOR)) {
+                mapped.addAll(entry.getValue());
+            }
+        }
+        return mapped;
+    }
+
+    private TypedQuery<Tuple> createQuery(EntityManager entityManager, Specification<E> spec, Sort sort, List<String> paths) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = builder.createTupleQuery();
+        Root<E> root = criteria.from(entityClass);
+        Metamodel metamodel = entityManager.getMetamodel();
+        Map<String, Path<?>> joined = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String path : paths) {
+            selections.add(toPath(metamodel, root, path, joined));
+        }
+        criteria.multiselect(selections);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, criteria, builder);
+            if (predicate != null) {
+                criteria.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            criteria.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+        return entityManager.createQuery(criteria);
+    }
+
+    private Path<?> toPath(Metamodel metamodel, Root<E> root, String attributePath, Map<String, Path<?>> joined) {
+        String[] names = split(attributePath);
+        Path<?> current = root;
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < names.length - 1; i++) {
+            String name = names[i];
+            Path<?> parent = current;
+            prefix.append(name).append(FIELDS_NESTING_SEPARATOR);
+            current = joined.computeIfAbsent(prefix.toString(), key -> {
+                if (parent instanceof From<?, ?> from && metamodel.managedType(from.getJavaType()).getAttribute(name).isAssociation()) {
+                    return from.join(name, JoinType.LEFT);
+                }
+                return parent.get(name);
+            });
+        }
+        return current.get(names[names.length - 1]);
+    }
+
+    private E toEntity(Tuple tuple, List<String> paths) {
+        E entity = instantiate(entityClass);
+        for (int i = 0; i < paths.size(); i++) {
+            Object value = tuple.get(i);
+            if (value != null) {
+                setAttribute(entity, accessors(paths.get(i)), value);
+            }
+        }
+        return entity;
+    }
+
+    private void setAttribute(Object entity, Field[] fields, Object value) {
+        try {
+            Object current = entity;
+            for (int i = 0; i < fields.length - 1; i++) {
+                Object nested = fields[i].get(current);
+                if (nested == null) {
+                    nested = instantiate(fields[i].getType());
+                    fields[i].set(current, nested);
+                }
+                current = nested;
+            }
+            fields[fields.length - 1].set(current, value);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException("The retrieved attribute could not be set on the entity", e);
+        }
+    }
+
+    private Field[] accessors(String attributePath) {
+        return accessors.computeIfAbsent(attributePath, path -> {
+            String[] names = split(path);
+            Field[] fields = new Field[names.length];
+            Class<?> type = entityClass;
+            for (int i = 0; i < names.length; i++) {
+                fields[i] = findField(type, names[i]);
+                fields[i].setAccessible(true);
+                type = fields[i].getType();
+            }
+            return fields;
+        });
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            }
+            catch (NoSuchFieldException e) {
+                // Look for the field in the superclass.
+            }
+        }
+        throw new IllegalArgumentException(String.format("The attribute \"%s\" does not exist in %s", name, type.getName()));
+    }
+
+    private static <T> T instantiate(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        }
+        catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(String.format("The entity %s could not be created", type.getName()), e);
+        }
+    }
+
+    private static String[] split(String attributePath) {
+        return attributePath.split(Pattern.quote(FIELDS_NESTING_SEPARATOR));
+    }
+
+    private static List<String> flatten(List<String> fields) {
+        if (fields == null) {
+            return List.of();
+        }
+        return fields.stream()
+                .flatMap(field -> Stream.of(field.split(FIELDS_VALUE_DELIMITER)))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
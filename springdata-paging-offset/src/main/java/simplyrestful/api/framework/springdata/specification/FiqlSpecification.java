@@ -0,0 +1,160 @@
+package simplyrestful.api.framework.springdata.specification;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.FiqlExpression;
+import simplyrestful.api.framework.queryparams.FiqlExpression.And;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Comparison;
+import simplyrestful.api.framework.queryparams.FiqlExpression.Or;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+
+/**
+ * A Specification that filters the entities with a parsed FIQL query.
+ *
+ * The predicate is created from the syntax tree of the query, so the query does not have to be parsed again, as it
+ * would be when it is provided to an RSQL library as String. Each selector is the name of an entity attribute, where
+ * the attributes of associated entities can be used with a dotted path, like "complexAttribute.name". The arguments are
+ * converted from String to the type of the attribute. Like RSQL, an argument of "==" or "!=" that contains "*" is
+ * matched as a wildcard pattern for String attributes.
+ *
+ * A selector that is not an attribute of the entity, an argument that can not be converted, or an unsupported operator
+ * are rejected with a BadRequestException when the predicate is created. Creating this JAX-RS exception requires a
+ * JAX-RS implementation at runtime.
+ *
+ * @param <T> is the type of the entity.
+ */
+public final class FiqlSpecification<T> implements Specification<T> {
+    private static final long serialVersionUID = 1L;
+    private static final String WILDCARD = "*";
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final transient FiqlQuery query;
+
+    /**
+     * Create a Specification for the parsed FIQL query.
+     *
+     * @param query is the parsed FIQL query. If it is empty, the Specification does not filter the entities.
+     */
+    public FiqlSpecification(FiqlQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> criteria, CriteriaBuilder builder) {
+        if (query.isEmpty()) {
+            return null;
+        }
+        return toPredicate(query.getExpression(), root, builder);
+    }
+
+    private static Predicate toPredicate(FiqlExpression expression, Root<?> root, CriteriaBuilder builder) {
+        if (expression instanceof And and) {
+            return builder.and(toPredicates(and.operands(), root, builder));
+        }
+        if (expression instanceof Or or) {
+            return builder.or(toPredicates(or.operands(), root, builder));
+        }
+        return toPredicate((Comparison) expression, root, builder);
+    }
+
+    private static Predicate[] toPredicates(List<FiqlExpression> operands, Root<?> root, CriteriaBuilder builder) {
+        return operands.stream()
+                .map(operand -> toPredicate(operand, root, builder))
+                .toArray(Predicate[]::new);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Predicate toPredicate(Comparison comparison, Root<?> root, CriteriaBuilder builder) {
+        Path path = toPath(root, comparison.selector());
+        Class<?> type = path.getJavaType();
+        String operator = comparison.operator();
+        if (isWildcardPattern(comparison, type)) {
+            Predicate like = builder.like(path, toLikePattern(comparison.argument()), LIKE_ESCAPE);
+            return Comparison.EQUAL.equals(operator) ? like : builder.not(like);
+        }
+        List<Comparable> arguments = new ArrayList<>(comparison.arguments().size());
+        for (String argument : comparison.arguments()) {
+            arguments.add(convert(comparison.selector(), argument, type));
+        }
+        Comparable argument = arguments.get(0);
+        switch (operator) {
+            case Comparison.EQUAL:
+                return builder.equal(path, argument);
+            case Comparison.NOT_EQUAL:
+                return builder.notEqual(path, argument);
+            case Comparison.LESS_THAN:
+                return builder.lessThan((Expression<Comparable>) path, argument);
+            case Comparison.LESS_THAN_OR_EQUAL:
+                return builder.lessThanOrEqualTo((Expression<Comparable>) path, argument);
+            case Comparison.GREATER_THAN:
+                return builder.greaterThan((Expression<Comparable>) path, argument);
+            case Comparison.GREATER_THAN_OR_EQUAL:
+                return builder.greaterThanOrEqualTo((Expression<Comparable>) path, argument);
+            case Comparison.IN:
+                return path.in(arguments);
+            case Comparison.NOT_IN:
+                return builder.not(path.in(arguments));
+            default:
+                throw new BadRequestException(String.format("The FIQL operator \"%s\" is not supported", operator));
+        }
+    }
+
+    private static Path<?> toPath(Root<?> root, String selector) {
+        Path<?> path = root;
+        try {
+            for (String name : selector.split("\\.")) {
+                path = path.get(name);
+            }
+        }
+        catch (IllegalArgumentException | IllegalStateException e) {
+            throw new BadRequestException(String.format("The collection can not be filtered on the field \"%s\"", selector), e);
+        }
+        return path;
+    }
+
+    private static boolean isWildcardPattern(Comparison comparison, Class<?> type) {
+        return type == String.class
+                && (Comparison.EQUAL.equals(comparison.operator()) || Comparison.NOT_EQUAL.equals(comparison.operator()))
+                && comparison.argument().contains(WILDCARD);
+    }
+
+    private static String toLikePattern(String argument) {
+        return argument
+                .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_")
+                .replace(WILDCARD, "%");
+    }
+
+    private static Comparable<?> convert(String selector, String argument, Class<?> type) {
+        if (type.isInstance(argument)) {
+            return argument;
+        }
+        ConversionService conversionService = DefaultConversionService.getSharedInstance();
+        try {
+            if (conversionService.canConvert(String.class, type)) {
+                return (Comparable<?>) conversionService.convert(argument, type);
+            }
+            Method parse = type.getMethod("parse", CharSequence.class);
+            return (Comparable<?>) parse.invoke(null, argument);
+        }
+        catch (ConversionException | ClassCastException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new BadRequestException(String.format("The value \"%s\" is not valid for the field \"%s\"", argument, selector), e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package simplyrestful.api.framework.springdata.paging;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.PageCursor;
+
+public class KeysetPageRequestTest {
+    private static final Sort SORT = Sort.by(Order.desc("amount"), Order.asc("id"));
+
+    private Root<Object> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder builder;
+    private Path<Integer> amount;
+    private Path<Long> id;
+
+    @BeforeEach
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void mockCriteria() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        builder = mock(CriteriaBuilder.class);
+        amount = mock(Path.class);
+        id = mock(Path.class);
+        when(root.<Integer>get("amount")).thenReturn(amount);
+        when(root.<Long>get("id")).thenReturn(id);
+        when((Class) amount.getJavaType()).thenReturn(Integer.class);
+        when((Class) id.getJavaType()).thenReturn(Long.class);
+        when(builder.greaterThan(any(Expression.class), any(Comparable.class))).thenReturn(mock(Predicate.class));
+        when(builder.lessThan(any(Expression.class), any(Comparable.class))).thenReturn(mock(Predicate.class));
+        when(builder.equal(any(Expression.class), any(Object.class))).thenReturn(mock(Predicate.class));
+        when(builder.and(any(Expression.class), any(Expression.class))).thenReturn(mock(Predicate.class));
+        when(builder.or(any(Expression.class), any(Expression.class))).thenReturn(mock(Predicate.class));
+    }
+
+    @Test
+    public void toSpecification_shouldSeekToConvertedKeys_whenKeysAreDecodedFromPageCursor() {
+        PageCursor cursor = PageCursor.decode(PageCursor.before(keys("42", "1001")).encode());
+        KeysetPageRequest pageRequest = new KeysetPageRequest(10, SORT, cursor.getKeys(), cursor.isAfter());
+
+        Assertions.assertNotNull(pageRequest.toSpecification().toPredicate(root, query, builder));
+
+        verify(builder).greaterThan(amount, 42);
+        verify(builder).equal(amount, 42);
+        verify(builder).lessThan(id, 1001L);
+        Assertions.assertEquals(Sort.by(Order.asc("amount"), Order.desc("id")), pageRequest.getSort());
+    }
+
+    @Test
+    public void next_shouldRequestPageAfterProvidedKeys_withSameSort() {
+        KeysetPageRequest first = new KeysetPageRequest(10, SORT);
+        KeysetPageRequest next = first.next(keys("42", "1001"));
+        KeysetPageRequest previous = next.previous(keys("50", "7"));
+
+        Assertions.assertFalse(first.hasPrevious());
+        Assertions.assertTrue(next.isAfter());
+        Assertions.assertEquals(keys("42", "1001"), next.getKeys());
+        Assertions.assertEquals(SORT, next.getSort());
+        Assertions.assertFalse(previous.isAfter());
+        Assertions.assertEquals(keys("50", "7"), previous.getKeys());
+        Assertions.assertEquals(10, previous.getPageSize());
+        Assertions.assertTrue(previous.first().getKeys().isEmpty());
+    }
+
+    @Test
+    public void toSpecification_shouldMatchAllEntities_forFirstPage() {
+        Assertions.assertNull(new KeysetPageRequest(10, SORT).toSpecification().toPredicate(root, query, builder));
+    }
+
+    @Test
+    public void toSpecification_shouldThrowBadRequest_whenKeysDoNotMatchSort() {
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("id", "1001");
+        reordered.put("amount", "42");
+        Map<String, String> missing = Map.of("amount", "42");
+
+        assertBadRequest(new KeysetPageRequest(10, SORT, reordered, true));
+        assertBadRequest(new KeysetPageRequest(10, SORT, missing, true));
+        assertBadRequest(new KeysetPageRequest(10, Sort.by("amount"), keys("42", "1001"), true));
+    }
+
+    @Test
+    public void toSpecification_shouldThrowBadRequest_whenKeyIsNull() {
+        assertBadRequest(new KeysetPageRequest(10, SORT, keys(null, "1001"), true));
+    }
+
+    @Test
+    public void toSpecification_shouldThrowBadRequest_whenKeyCanNotBeConverted() {
+        assertBadRequest(new KeysetPageRequest(10, SORT, keys("many", "1001"), true));
+    }
+
+    private void assertBadRequest(KeysetPageRequest pageRequest) {
+        Assertions.assertThrows(BadRequestException.class, () -> pageRequest.toSpecification().toPredicate(root, query, builder));
+    }
+
+    private static Map<String, String> keys(String amount, String id) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("amount", amount);
+        keys.put("id", id);
+        return keys;
+    }
+}
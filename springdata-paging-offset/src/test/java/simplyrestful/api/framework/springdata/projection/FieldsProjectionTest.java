@@ -0,0 +1,176 @@
+package simplyrestful.api.framework.springdata.projection;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+public class FieldsProjectionTest {
+    static class TestEntity {
+        private String uuid;
+        private String description;
+        private TestAssociation complexAttribute;
+    }
+
+    static class TestAssociation {
+        private String name;
+        private String value;
+    }
+
+    private FieldsProjection<TestEntity> createProjection() {
+        return new FieldsProjection<>(TestEntity.class)
+                .map("self", "uuid")
+                .map("description", "description")
+                .map("complexAttribute.name", "complexAttribute.name")
+                .map("complexAttribute.value", "complexAttribute.value");
+    }
+
+    @Test
+    public void attributePaths_shouldMapSelectedFieldsToAttributes() {
+        Optional<Set<String>> paths = createProjection().attributePaths(List.of("self,description"));
+
+        Assertions.assertEquals(Optional.of(Set.of("uuid", "description")), paths);
+    }
+
+    @Test
+    public void attributePaths_shouldIncludeAlwaysSelectedAttributes() {
+        FieldsProjection<TestEntity> projection = createProjection().alwaysSelect("uuid");
+
+        Assertions.assertEquals(Optional.of(Set.of("uuid", "description")), projection.attributePaths(List.of("description")));
+    }
+
+    @Test
+    public void attributePaths_shouldMapParentFieldToAttributesOfAllNestedFields() {
+        Optional<Set<String>> paths = createProjection().attributePaths(List.of("complexAttribute"));
+
+        Assertions.assertEquals(Optional.of(Set.of("complexAttribute.name", "complexAttribute.value")), paths);
+    }
+
+    @Test
+    public void attributePaths_shouldMapNestedFieldToAttributesOfMappedParentField() {
+        FieldsProjection<TestEntity> projection = new FieldsProjection<>(TestEntity.class)
+                .map("complexAttribute", "complexAttribute.name", "complexAttribute.value");
+
+        Assertions.assertEquals(Optional.of(Set.of("complexAttribute.name", "complexAttribute.value")), projection.attributePaths(List.of("complexAttribute.name")));
+    }
+
+    @Test
+    public void attributePaths_shouldReturnEmpty_whenFieldIsNotMapped() {
+        Assertions.assertEquals(Optional.empty(), createProjection().attributePaths(List.of("self", "unknown")));
+    }
+
+    @Test
+    public void attributePaths_shouldReturnEmpty_whenAllFieldsAreSelected() {
+        Assertions.assertEquals(Optional.empty(), createProjection().attributePaths(List.of("all")));
+        Assertions.assertEquals(Optional.empty(), createProjection().attributePaths(List.of()));
+    }
+
+    @Test
+    public void itemAttributePaths_shouldOnlyConsiderFieldsNestedInItem() {
+        FieldsProjection<TestEntity> projection = createProjection();
+
+        Assertions.assertEquals(Optional.of(Set.of("uuid")), projection.itemAttributePaths(List.of("self,first,item.self")));
+        Assertions.assertEquals(Optional.empty(), projection.itemAttributePaths(List.of("self,item")));
+    }
+
+    @Test
+    public void map_shouldThrowIllegalArgumentException_whenAttributeDoesNotExist() {
+        FieldsProjection<TestEntity> projection = new FieldsProjection<>(TestEntity.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> projection.map("unknown", "unknown"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> projection.map("complexAttribute", "complexAttribute.unknown"));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void findAll_shouldJoinAssociation_andPopulateNestedAttributes() {
+        EntityManager entityManager = mock(EntityManager.class);
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        CriteriaQuery<Tuple> criteria = mock(CriteriaQuery.class);
+        Root<TestEntity> root = mock(Root.class);
+        Join<TestEntity, TestAssociation> join = mock(Join.class);
+        Metamodel metamodel = mock(Metamodel.class);
+        ManagedType<TestEntity> managedType = mock(ManagedType.class);
+        Attribute association = mock(Attribute.class);
+        TypedQuery<Tuple> query = mock(TypedQuery.class);
+        Tuple tuple = mock(Tuple.class);
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(entityManager.createQuery(criteria)).thenReturn(query);
+        when(builder.createTupleQuery()).thenReturn(criteria);
+        when(criteria.from(TestEntity.class)).thenReturn(root);
+        when((Class) root.getJavaType()).thenReturn(TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(managedType);
+        when((Attribute) managedType.getAttribute("complexAttribute")).thenReturn(association);
+        when(association.isAssociation()).thenReturn(true);
+        when(root.<TestEntity, TestAssociation>join("complexAttribute", JoinType.LEFT)).thenReturn(join);
+        when(root.get("uuid")).thenReturn(mock(Path.class));
+        when(join.get("name")).thenReturn(mock(Path.class));
+        when(query.getResultList()).thenReturn(List.of(tuple));
+        when(tuple.get(0)).thenReturn("uuid-1");
+        when(tuple.get(1)).thenReturn("name-1");
+
+        List<TestEntity> entities = createProjection().findAll(entityManager, null, PageRequest.of(2, 10), createProjection().attributePaths(List.of("self,complexAttribute.name")).orElseThrow());
+
+        Assertions.assertEquals(1, entities.size());
+        Assertions.assertEquals("uuid-1", entities.get(0).uuid);
+        Assertions.assertNull(entities.get(0).description);
+        Assertions.assertEquals("name-1", entities.get(0).complexAttribute.name);
+        Assertions.assertNull(entities.get(0).complexAttribute.value);
+        verify(query).setFirstResult(20);
+        verify(query).setMaxResults(10);
+        verify(criteria).multiselect(any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void findAll_shouldNotCreateAssociation_whenItsAttributesAreNull() {
+        EntityManager entityManager = mock(EntityManager.class);
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        CriteriaQuery<Tuple> criteria = mock(CriteriaQuery.class);
+        Root<TestEntity> root = mock(Root.class);
+        Join<TestEntity, TestAssociation> join = mock(Join.class);
+        Metamodel metamodel = mock(Metamodel.class);
+        ManagedType<TestEntity> managedType = mock(ManagedType.class);
+        Attribute association = mock(Attribute.class);
+        TypedQuery<Tuple> query = mock(TypedQuery.class);
+        Tuple tuple = mock(Tuple.class);
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(entityManager.createQuery(criteria)).thenReturn(query);
+        when(builder.createTupleQuery()).thenReturn(criteria);
+        when(criteria.from(TestEntity.class)).thenReturn(root);
+        when((Class) root.getJavaType()).thenReturn(TestEntity.class);
+        when(metamodel.managedType(TestEntity.class)).thenReturn(managedType);
+        when((Attribute) managedType.getAttribute("complexAttribute")).thenReturn(association);
+        when(association.isAssociation()).thenReturn(true);
+        when(root.<TestEntity, TestAssociation>join("complexAttribute", JoinType.LEFT)).thenReturn(join);
+        when(join.get("name")).thenReturn(mock(Path.class));
+        when(query.getResultList()).thenReturn(List.of(tuple));
+
+        List<TestEntity> entities = createProjection().findAll(entityManager, null, PageRequest.of(0, 10), Set.of("complexAttribute.name"));
+
+        Assertions.assertNull(entities.get(0).complexAttribute);
+    }
+}
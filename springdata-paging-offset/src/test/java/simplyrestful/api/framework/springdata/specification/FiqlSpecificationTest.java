@@ -0,0 +1,107 @@
+package simplyrestful.api.framework.springdata.specification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.ws.rs.BadRequestException;
+import simplyrestful.api.framework.queryparams.FiqlParser;
+import simplyrestful.api.framework.queryparams.FiqlQuery;
+
+public class FiqlSpecificationTest {
+    private Root<Object> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder builder;
+    private Path<String> name;
+    private Path<Integer> amount;
+    private Path<String> complexName;
+
+    @BeforeEach
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void mockCriteria() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        builder = mock(CriteriaBuilder.class);
+        name = mock(Path.class);
+        amount = mock(Path.class);
+        complexName = mock(Path.class);
+        Path<Object> complexAttribute = mock(Path.class);
+        when(root.<String>get("name")).thenReturn(name);
+        when(root.<Integer>get("amount")).thenReturn(amount);
+        when(root.get("complexAttribute")).thenReturn(complexAttribute);
+        when(root.get("unknown")).thenThrow(new IllegalArgumentException("Unknown attribute"));
+        when(complexAttribute.<String>get("name")).thenReturn(complexName);
+        when((Class) name.getJavaType()).thenReturn(String.class);
+        when((Class) amount.getJavaType()).thenReturn(Integer.class);
+        when((Class) complexName.getJavaType()).thenReturn(String.class);
+        when(builder.equal(any(Expression.class), any(Object.class))).thenReturn(mock(Predicate.class));
+        when(builder.greaterThan(any(Expression.class), any(Comparable.class))).thenReturn(mock(Predicate.class));
+        when(builder.like(any(Expression.class), anyString(), anyChar())).thenReturn(mock(Predicate.class));
+        when(builder.and(any(Predicate[].class))).thenReturn(mock(Predicate.class));
+        when(builder.or(any(Predicate[].class))).thenReturn(mock(Predicate.class));
+        when(amount.in(any(List.class))).thenReturn(mock(Predicate.class));
+    }
+
+    private Predicate toPredicate(String fiql) {
+        FiqlQuery parsed = FiqlParser.parse(fiql);
+        return new FiqlSpecification<>(parsed).toPredicate(root, query, builder);
+    }
+
+    @Test
+    public void toPredicate_shouldMatchAllEntities_whenQueryIsEmpty() {
+        Assertions.assertNull(new FiqlSpecification<>(FiqlQuery.EMPTY).toPredicate(root, query, builder));
+    }
+
+    @Test
+    public void toPredicate_shouldCompareConvertedArguments() {
+        Assertions.assertNotNull(toPredicate("name==test;amount=gt=5"));
+
+        verify(builder).equal(name, "test");
+        verify(builder).greaterThan(amount, 5);
+        verify(builder).and(any(Predicate[].class));
+    }
+
+    @Test
+    public void toPredicate_shouldCombineOperands_withOr() {
+        Assertions.assertNotNull(toPredicate("name==test,amount=in=(1,2)"));
+
+        verify(amount).in(List.of(1, 2));
+        verify(builder).or(any(Predicate[].class));
+    }
+
+    @Test
+    public void toPredicate_shouldUseNestedAttribute_withDottedSelector() {
+        toPredicate("complexAttribute.name==test");
+
+        verify(builder).equal(complexName, "test");
+    }
+
+    @Test
+    public void toPredicate_shouldMatchWildcardPattern_whenStringArgumentContainsWildcard() {
+        toPredicate("name==te*_1");
+
+        verify(builder).like(name, "te%\\_1", '\\');
+    }
+
+    @Test
+    public void toPredicate_shouldThrowBadRequest_whenQueryIsNotValidForEntity() {
+        Assertions.assertThrows(BadRequestException.class, () -> toPredicate("unknown==test"));
+        Assertions.assertThrows(BadRequestException.class, () -> toPredicate("amount==many"));
+        Assertions.assertThrows(BadRequestException.class, () -> toPredicate("amount=custom=5"));
+    }
+}